@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.cpi.CPIParser;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPIFilterValue;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPITagSize;
+import com.pedrozc90.epcs.schemes.cpi.objects.CPI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CPIParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_VARIABLE" })
+    private CPITagSize tagSize;
+
+    private final CPIFilterValue filterValue = CPIFilterValue.of(3);
+    private final String companyPrefix = "9521141";
+    private String componentPartReference;
+    private final String serial = "12345";
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        componentPartReference = (tagSize == CPITagSize.BITS_96) ? "98765" : "5PQ7/Z43";
+        final CPI cpi = encode();
+        rfidTag = cpi.rfidTag();
+        epcTagURI = cpi.epcTagURI();
+        epcPureIdentityURI = cpi.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public CPI decodeRFIDTag() throws EpcParseException {
+        return CPIParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public CPI decodeEpcTagURI() throws EpcParseException {
+        return CPIParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public CPI decodeEpcPureIdentityURI() throws EpcParseException {
+        return CPIParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public CPI encode() throws EpcParseException {
+        return CPIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withComponentPartReference(componentPartReference)
+            .withSerial(serial)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.DecodeResult;
+import com.pedrozc90.epcs.schemes.EpcBatch;
+import com.pedrozc90.epcs.schemes.EpcCache;
+import com.pedrozc90.epcs.schemes.EpcDecoder;
+import com.pedrozc90.epcs.schemes.EpcFields;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.EpcURIWriter;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpcDecoderBenchmark {
+
+    @Param({
+        "3074257BF7194E4000001A85",
+        "311BA1B300CE0A6A83000000",
+        "3274257BF4000200000004D2",
+        "3666C4409047E159B2C2BF100000000000000000000000000000"
+    })
+    private String rfidTag;
+
+    private byte[] bytes;
+    private final byte[] foreign = BitBuffer.fromHex("F45349FB11DF49FA935AB6FF").toBytes();
+    private String[] report;
+    private ByteBuffer records;
+
+    private final EpcFields fields = new EpcFields();
+    private final EpcCache cache = new EpcCache(1024);
+    private final StringBuilder uri = new StringBuilder(128);
+    private final EpcURIWriter writer = EpcURIWriter.tagURI(uri);
+
+    @Setup
+    public void setup() {
+        bytes = BitBuffer.fromHex(rfidTag).toBytes();
+        report = new String[1000];
+        Arrays.fill(report, rfidTag);
+        records = ByteBuffer.allocate(100_000 * bytes.length);
+        for (int i = 0; i < 100_000; i++) {
+            records.put(bytes);
+        }
+        records.flip();
+    }
+
+    @Benchmark
+    public Epc decode() throws EpcParseException {
+        return EpcDecoder.decode(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public DecodeResult tryDecode() {
+        return EpcDecoder.tryDecode(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return EpcDecoder.isValid(rfidTag);
+    }
+
+    @Benchmark
+    public boolean isValidBytes() {
+        return EpcDecoder.isValid(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public DecodeResult tryDecodeForeign() {
+        return EpcDecoder.tryDecode(foreign, 0, foreign.length);
+    }
+
+    @Benchmark
+    public Epc decodeForeign() {
+        try {
+            return EpcDecoder.decode(foreign, 0, foreign.length);
+        } catch (EpcParseException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Epc decodeCached() {
+        return cache.decode(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public EpcScheme decodeFields() throws EpcParseException {
+        return EpcDecoder.decode(bytes, 0, bytes.length, fields);
+    }
+
+    @Benchmark
+    public String decodeTagURI() throws EpcParseException {
+        return EpcDecoder.decode(bytes, 0, bytes.length).epcTagURI();
+    }
+
+    @Benchmark
+    public int writeTagURI() throws EpcParseException {
+        uri.setLength(0);
+        EpcDecoder.decode(bytes, 0, bytes.length, writer);
+        return uri.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public EpcBatch decodeAll() {
+        return EpcDecoder.decodeAll(report);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100_000)
+    public EpcBatch decodeAllRecords() {
+        return EpcDecoder.decodeAll(records, bytes.length);
+    }
+
+}
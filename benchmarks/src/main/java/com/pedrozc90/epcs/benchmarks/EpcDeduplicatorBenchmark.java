@@ -0,0 +1,43 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.schemes.EpcDeduplicator;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpcDeduplicatorBenchmark {
+
+    // about 2% of the reads are distinct tags, as seen at peak on a busy portal
+    private static final int READS = 1000;
+    private static final int TAGS = 20;
+
+    private final byte[][] reads = new byte[READS][];
+    private final EpcDeduplicator dedup = new EpcDeduplicator(Duration.ofSeconds(1));
+    private long timestamp;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < READS; i++) {
+            reads[i] = BitBuffer.fromHex("3074257BF7194E40%08X".formatted(i % TAGS)).toBytes();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int accept() {
+        int accepted = 0;
+        for (byte[] read : reads) {
+            if (dedup.accept(read, 0, read.length, timestamp++)) accepted++;
+        }
+        return accepted;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.schemes.EpcDecoder;
+import com.pedrozc90.epcs.schemes.EpcFilter;
+import com.pedrozc90.epcs.schemes.EpcPattern;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINParser;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpcFilterBenchmark {
+
+    // one read in twenty is ours, the rest are other schemes and other companies
+    private static final String[] TAGS = {
+        "3074257BF7194E4000001A85",
+        "311BA1B300CE0A6A83000000",
+        "3434257BF400000000002694",
+        "3074257BF5194E4000001A85",
+        "F45349FB11DF49FA935AB6FF"
+    };
+    private static final int READS = 1000;
+
+    private final String[] hex = new String[READS];
+    private final byte[][] bytes = new byte[READS][];
+    private final Epc96[] values = new Epc96[READS];
+
+    private final EpcFilter filter = EpcFilter.builder()
+        .withScheme(EpcScheme.SGTIN)
+        .withFilterValue(3)
+        .withCompanyPrefix("0614141")
+        .withReference("812345", "812346")
+        .build();
+
+    private final EpcPattern pattern = parse("urn:epc:idpat:sgtin:0614141.812345.*");
+    private final Pattern regex = Pattern.compile("urn:epc:id:sgtin:0614141\\.812345\\..*");
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < READS; i++) {
+            final String rfidTag = (i % 20 == 0) ? TAGS[0] : TAGS[1 + i % 4];
+            hex[i] = rfidTag;
+            bytes[i] = BitBuffer.fromHex(rfidTag).toBytes();
+            values[i] = Epc96.fromHex(rfidTag);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int filterBytes() {
+        int accepted = 0;
+        for (byte[] read : bytes) {
+            if (filter.matches(read, 0, read.length)) accepted++;
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int filterHex() {
+        int accepted = 0;
+        for (String read : hex) {
+            if (filter.matches(read)) accepted++;
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int decodeAndCompare() {
+        int accepted = 0;
+        for (String read : hex) {
+            try {
+                final SGTIN sgtin = SGTINParser.builder().withRFIDTag(read).build();
+                if ("3".equals(sgtin.filterValue()) && "0614141".equals(sgtin.companyPrefix())
+                    && ("812345".equals(sgtin.extensionDigit() + sgtin.itemReference()))) {
+                    accepted++;
+                }
+            } catch (EpcParseException | IllegalArgumentException e) {
+                // not an sgtin
+            }
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int patternBytes() {
+        int accepted = 0;
+        for (byte[] read : bytes) {
+            if (pattern.matches(read, 0, read.length)) accepted++;
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int patternEpc96() {
+        int accepted = 0;
+        for (Epc96 read : values) {
+            if (pattern.matches(read)) accepted++;
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public int decodeAndRegex() {
+        int accepted = 0;
+        for (String read : hex) {
+            try {
+                if (regex.matcher(EpcDecoder.decode(read).epcPureIdentityURI()).matches()) accepted++;
+            } catch (EpcParseException | IllegalArgumentException e) {
+                // not decodable
+            }
+        }
+        return accepted;
+    }
+
+    /* --- Helpers --- */
+    private static EpcPattern parse(final String uri) {
+        try {
+            return EpcPattern.parse(uri);
+        } catch (EpcParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
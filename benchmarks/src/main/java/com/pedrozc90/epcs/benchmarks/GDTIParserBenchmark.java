@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.gdti.GDTIParser;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIFilterValue;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTITagSize;
+import com.pedrozc90.epcs.schemes.gdti.objects.GDTI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GDTIParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_174" })
+    private GDTITagSize tagSize;
+
+    private final GDTIFilterValue filterValue = GDTIFilterValue.of(3);
+    private final String companyPrefix = "9521141";
+    private final String docType = "12345";
+    private String serial;
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        serial = (tagSize == GDTITagSize.BITS_96) ? "5678" : "ABCDefgh012345678";
+        final GDTI gdti = encode();
+        rfidTag = gdti.rfidTag();
+        epcTagURI = gdti.epcTagURI();
+        epcPureIdentityURI = gdti.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public GDTI decodeRFIDTag() throws EpcParseException {
+        return GDTIParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public GDTI decodeEpcTagURI() throws EpcParseException {
+        return GDTIParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public GDTI decodeEpcPureIdentityURI() throws EpcParseException {
+        return GDTIParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public GDTI encode() throws EpcParseException {
+        return GDTIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withDocType(docType)
+            .withSerial(serial)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
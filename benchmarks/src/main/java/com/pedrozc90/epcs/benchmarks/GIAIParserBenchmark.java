@@ -0,0 +1,73 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.giai.GIAIParser;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIFilterValue;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.giai.objects.GIAI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GIAIParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_202" })
+    private GIAITagSize tagSize;
+
+    private final GIAIFilterValue filterValue = GIAIFilterValue.of(3);
+    private final String companyPrefix = "9521141";
+    private String individualAssetReference;
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        individualAssetReference = (tagSize == GIAITagSize.BITS_96) ? "5678" : "32a/b";
+        final GIAI giai = encode();
+        rfidTag = giai.rfidTag();
+        epcTagURI = giai.epcTagURI();
+        epcPureIdentityURI = giai.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public GIAI decodeRFIDTag() throws EpcParseException {
+        return GIAIParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public GIAI decodeEpcTagURI() throws EpcParseException {
+        return GIAIParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public GIAI decodeEpcPureIdentityURI() throws EpcParseException {
+        return GIAIParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public GIAI encode() throws EpcParseException {
+        return GIAIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withIndividualAssetReference(individualAssetReference)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.grai.GRAIParser;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIFilterValue;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAITagSize;
+import com.pedrozc90.epcs.schemes.grai.objects.GRAI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GRAIParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_170" })
+    private GRAITagSize tagSize;
+
+    private final GRAIFilterValue filterValue = GRAIFilterValue.of(3);
+    private final String companyPrefix = "9521141";
+    private final String assetType = "12345";
+    private String serial;
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        serial = (tagSize == GRAITagSize.BITS_96) ? "5678" : "32a/b";
+        final GRAI grai = encode();
+        rfidTag = grai.rfidTag();
+        epcTagURI = grai.epcTagURI();
+        epcPureIdentityURI = grai.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public GRAI decodeRFIDTag() throws EpcParseException {
+        return GRAIParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public GRAI decodeEpcTagURI() throws EpcParseException {
+        return GRAIParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public GRAI decodeEpcPureIdentityURI() throws EpcParseException {
+        return GRAIParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public GRAI encode() throws EpcParseException {
+        return GRAIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withAssetType(assetType)
+            .withSerial(serial)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
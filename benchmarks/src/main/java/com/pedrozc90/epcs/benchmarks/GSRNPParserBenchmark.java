@@ -0,0 +1,72 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.gsrnp.GSRNPParser;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPFilterValue;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPTagSize;
+import com.pedrozc90.epcs.schemes.gsrnp.objects.GSRNP;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GSRNPParserBenchmark {
+
+    @Param({ "BITS_96" })
+    private GSRNPTagSize tagSize;
+
+    private final GSRNPFilterValue filterValue = GSRNPFilterValue.of(3);
+    private final String companyPrefix = "0614141";
+    private final String serviceReference = "1234567890";
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        final GSRNP gsrnp = encode();
+        rfidTag = gsrnp.rfidTag();
+        epcTagURI = gsrnp.epcTagURI();
+        epcPureIdentityURI = gsrnp.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public GSRNP decodeRFIDTag() throws EpcParseException {
+        return GSRNPParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public GSRNP decodeEpcTagURI() throws EpcParseException {
+        return GSRNPParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public GSRNP decodeEpcPureIdentityURI() throws EpcParseException {
+        return GSRNPParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public GSRNP encode() throws EpcParseException {
+        return GSRNPParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withServiceReference(serviceReference)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
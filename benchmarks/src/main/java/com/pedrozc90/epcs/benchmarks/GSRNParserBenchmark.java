@@ -0,0 +1,72 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.gsrn.GSRNParser;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNFilterValue;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNTagSize;
+import com.pedrozc90.epcs.schemes.gsrn.objects.GSRN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GSRNParserBenchmark {
+
+    @Param({ "BITS_96" })
+    private GSRNTagSize tagSize;
+
+    private final GSRNFilterValue filterValue = GSRNFilterValue.of(3);
+    private final String companyPrefix = "0614141";
+    private final String serviceReference = "1234567890";
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        final GSRN gsrn = encode();
+        rfidTag = gsrn.rfidTag();
+        epcTagURI = gsrn.epcTagURI();
+        epcPureIdentityURI = gsrn.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public GSRN decodeRFIDTag() throws EpcParseException {
+        return GSRNParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public GSRN decodeEpcTagURI() throws EpcParseException {
+        return GSRNParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public GSRN decodeEpcPureIdentityURI() throws EpcParseException {
+        return GSRNParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public GSRN encode() throws EpcParseException {
+        return GSRNParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withServiceReference(serviceReference)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.sgln.SGLNParser;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNFilterValue;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNTagSize;
+import com.pedrozc90.epcs.schemes.sgln.objects.SGLN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SGLNParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_195" })
+    private SGLNTagSize tagSize;
+
+    private final SGLNFilterValue filterValue = SGLNFilterValue.of(3);
+    private final String companyPrefix = "9521141";
+    private final String locationReference = "12345";
+    private String extension;
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        extension = (tagSize == SGLNTagSize.BITS_96) ? "5678" : "32a/b";
+        final SGLN sgln = encode();
+        rfidTag = sgln.rfidTag();
+        epcTagURI = sgln.epcTagURI();
+        epcPureIdentityURI = sgln.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public SGLN decodeRFIDTag() throws EpcParseException {
+        return SGLNParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public SGLN decodeEpcTagURI() throws EpcParseException {
+        return SGLNParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public SGLN decodeEpcPureIdentityURI() throws EpcParseException {
+        return SGLNParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public SGLN encode() throws EpcParseException {
+        return SGLNParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withLocationReference(locationReference)
+            .withExtension(extension)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINCodec;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINEncoder;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINParser;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SGTINParserBenchmark {
+
+    @Param({ "BITS_96", "BITS_198" })
+    private SGTINTagSize tagSize;
+
+    private final SGTINFilterValue filterValue = SGTINFilterValue.of(3);
+    private final SGTINExtensionDigit extensionDigit = SGTINExtensionDigit.EXTENSION_8;
+    private final String companyPrefix = "0614141";
+    private final String itemReference = "12345";
+    private String serial;
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    private SGTINEncoder encoder;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        serial = (tagSize == SGTINTagSize.BITS_96) ? "6789" : "32a/b";
+        final SGTIN sgtin = encode();
+        rfidTag = sgtin.rfidTag();
+        epcTagURI = sgtin.epcTagURI();
+        epcPureIdentityURI = sgtin.epcPureIdentityURI();
+        encoder = SGTINEncoder.of(tagSize, filterValue, companyPrefix, extensionDigit, itemReference);
+    }
+
+    @Benchmark
+    public SGTIN decodeRFIDTag() throws EpcParseException {
+        return SGTINParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public SGTIN decodeEpcTagURI() throws EpcParseException {
+        return SGTINParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public SGTIN decodeEpcPureIdentityURI() throws EpcParseException {
+        return SGTINParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public SGTIN encode() throws EpcParseException {
+        return SGTINParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withExtensionDigit(extensionDigit)
+            .withItemReference(itemReference)
+            .withSerial(serial)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public SGTIN decodeCodec() throws EpcParseException {
+        return SGTINCodec.INSTANCE.decodeHex(rfidTag);
+    }
+
+    @Benchmark
+    public SGTIN encodeCodec() throws EpcParseException {
+        return SGTINCodec.INSTANCE.encode(tagSize, filterValue, companyPrefix, extensionDigit, itemReference, serial);
+    }
+
+    @Benchmark
+    public SGTIN encodeCodecPrimitives() throws EpcParseException {
+        return SGTINCodec.INSTANCE.encode(614141L, 7, 812345L, 6789L, 3, tagSize);
+    }
+
+    @Benchmark
+    public SGTIN encodeTemplate() {
+        return encoder.encode(serial);
+    }
+
+    @Benchmark
+    public String encodeHexTemplate() {
+        return encoder.encodeHex(6789L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void encodeRange(final Blackhole blackhole) {
+        encoder.encodeRange(6789L, 1000, (serial, rfidTag) -> blackhole.consume(rfidTag));
+    }
+
+}
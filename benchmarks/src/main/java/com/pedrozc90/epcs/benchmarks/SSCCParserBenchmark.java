@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.benchmarks;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.sscc.SSCCParser;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCExtensionDigit;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
+import com.pedrozc90.epcs.schemes.sscc.objects.SSCC;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SSCCParserBenchmark {
+
+    @Param({ "BITS_96" })
+    private SSCCTagSize tagSize;
+
+    private final SSCCFilterValue filterValue = SSCCFilterValue.of(3);
+    private final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.EXTENSION_3;
+    private final String companyPrefix = "023356789";
+    private final String serial = "0200002";
+
+    private String rfidTag;
+    private String epcTagURI;
+    private String epcPureIdentityURI;
+
+    @Setup
+    public void setup() throws EpcParseException {
+        final SSCC sscc = encode();
+        rfidTag = sscc.rfidTag();
+        epcTagURI = sscc.epcTagURI();
+        epcPureIdentityURI = sscc.epcPureIdentityURI();
+    }
+
+    @Benchmark
+    public SSCC decodeRFIDTag() throws EpcParseException {
+        return SSCCParser.builder()
+            .withRFIDTag(rfidTag)
+            .build();
+    }
+
+    @Benchmark
+    public SSCC decodeEpcTagURI() throws EpcParseException {
+        return SSCCParser.builder()
+            .withEpcTagURI(epcTagURI)
+            .build();
+    }
+
+    @Benchmark
+    public SSCC decodeEpcPureIdentityURI() throws EpcParseException {
+        return SSCCParser.builder()
+            .withEpcPureIdentityURI(epcPureIdentityURI)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+    @Benchmark
+    public SSCC encode() throws EpcParseException {
+        return SSCCParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withExtensionDigit(extensionDigit)
+            .withSerial(serial)
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.pedrozc90.epcs.exception;
 
+import java.io.Serial;
+
 public class EpcParseException extends Exception {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     public EpcParseException(final Throwable cause, final String message) {
         super(message, cause);
     }
@@ -18,4 +23,24 @@ public class EpcParseException extends Exception {
         this(fmt.formatted(args));
     }
 
+    /**
+     * @param message            - fixed message
+     * @param cause              - cause, {@code null} if none
+     * @param writableStackTrace - false for exceptions allocated once and thrown many times
+     */
+    protected EpcParseException(final String message, final Throwable cause, final boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
+
+    /**
+     * Creates an exception without stack trace or suppressed exceptions, meant to be allocated
+     * once and thrown many times on hot paths.
+     *
+     * @param message - fixed message
+     * @return stackless exception
+     */
+    public static EpcParseException stackless(final String message) {
+        return new EpcParseException(message, null, false);
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.pedrozc90.epcs.objects;
 
+import com.pedrozc90.epcs.utils.BitBuffer;
+
 public interface Epc {
 
     String epcScheme();
@@ -26,4 +28,27 @@ public interface Epc {
 
     String rfidTag();
 
+    /**
+     * @return the RFID tag as raw bytes, in the same layout a reader writes to the EPC bank
+     */
+    default byte[] rfidTagBytes() {
+        return BitBuffer.fromHex(rfidTag()).toBytes();
+    }
+
+    /**
+     * @return number of bits of the RFID tag, padding included
+     */
+    default int bitLength() {
+        return rfidTag().length() * 4;
+    }
+
+    /**
+     * @param offset - index of the first bit
+     * @param length - number of bits (up to 64)
+     * @return bits of the RFID tag, right aligned
+     */
+    default long getBits(final int offset, final int length) {
+        return BitBuffer.fromHex(rfidTag()).getBits(offset, length);
+    }
+
 }
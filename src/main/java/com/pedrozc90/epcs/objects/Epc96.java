@@ -0,0 +1,133 @@
+package com.pedrozc90.epcs.objects;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.EpcDecoder;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.util.Objects;
+
+/**
+ * Raw bits of a 96-bit RFID tag packed into a long and an int.
+ *
+ * <p>It takes 24 bytes on the heap, compares and hashes two primitives, and orders tags by their
+ * unsigned bits, so it suits large in-memory inventories and map keys. The full {@link Epc} is
+ * decoded on demand with {@link #decode()}.</p>
+ *
+ * @param high - first 64 bits of the tag
+ * @param low  - last 32 bits of the tag
+ */
+public record Epc96(long high, int low) implements Comparable<Epc96> {
+
+    public static final int BITS = 96;
+    public static final int BYTES = 12;
+
+    /**
+     * @param bytes  - raw RFID tag bytes
+     * @param offset - index of the first of 12 bytes
+     * @return packed tag bits
+     * @throws IndexOutOfBoundsException if the array holds less than 12 bytes from the offset
+     */
+    public static Epc96 of(final byte[] bytes, final int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, bytes.length);
+        return new Epc96(BitBuffer.getBits(bytes, offset, BYTES, 0, 64), (int) BitBuffer.getBits(bytes, offset, BYTES, 64, 32));
+    }
+
+    /**
+     * @param hex - hexadecimal RFID tag of 24 characters, ex: "3074257BF7194E4000001A85"
+     * @return packed tag bits
+     * @throws IllegalArgumentException if the tag is not 96 bits of hexadecimal
+     */
+    public static Epc96 fromHex(final CharSequence hex) {
+        if (hex.length() != BITS / 4) {
+            throw new IllegalArgumentException("Expected %d hexadecimal characters but got %d".formatted(BITS / 4, hex.length()));
+        }
+        final BitBuffer bits = BitBuffer.fromHex(hex);
+        return new Epc96(bits.getBits(0, 64), (int) bits.getBits(64, 32));
+    }
+
+    /**
+     * @param epc - decoded 96-bit epc
+     * @return packed tag bits
+     * @throws IllegalArgumentException if the epc is not a 96-bit tag
+     */
+    public static Epc96 of(final Epc epc) {
+        if (epc.bitLength() != BITS) {
+            throw new IllegalArgumentException("Expected %d bits but got %d".formatted(BITS, epc.bitLength()));
+        }
+        return new Epc96(epc.getBits(0, 64), (int) epc.getBits(64, 32));
+    }
+
+    /**
+     * @return 8-bit header
+     */
+    public int header() {
+        return (int) (high >>> 56);
+    }
+
+    /**
+     * @return scheme owning the header, {@code null} if the header is not supported
+     */
+    public EpcScheme scheme() {
+        return EpcScheme.of(header());
+    }
+
+    /**
+     * @return decoded epc
+     * @throws EpcParseException if the tag cannot be decoded
+     */
+    public Epc decode() throws EpcParseException {
+        return EpcDecoder.decode(toBitBuffer());
+    }
+
+    /**
+     * @param sink - receives the decoded fields
+     * @return scheme of the decoded tag
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public EpcScheme decode(final EpcFieldSink sink) throws EpcParseException {
+        return EpcDecoder.decode(toBytes(), 0, BYTES, sink);
+    }
+
+    public BitBuffer toBitBuffer() {
+        final BitBuffer bits = new BitBuffer(BITS);
+        bits.putBits(0, 64, high);
+        bits.putBits(64, 32, low);
+        return bits;
+    }
+
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[BYTES];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - (i << 3)));
+        }
+        for (int i = 0; i < 4; i++) {
+            bytes[8 + i] = (byte) (low >>> (24 - (i << 3)));
+        }
+        return bytes;
+    }
+
+    public String toHex() {
+        return toBitBuffer().toHex();
+    }
+
+    @Override
+    public int compareTo(final Epc96 other) {
+        final int result = Long.compareUnsigned(high, other.high);
+        return (result != 0) ? result : Integer.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = high * 0x9E3779B97F4A7C15L + low;
+        h ^= h >>> 31;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+}
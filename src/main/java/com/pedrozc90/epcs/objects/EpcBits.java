@@ -0,0 +1,164 @@
+package com.pedrozc90.epcs.objects;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.EpcDecoder;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Immutable raw bits of an RFID tag of any size, such as sgtin-198, giai-202 or cpi-var.
+ *
+ * <p>It is the general counterpart of {@link Epc96}: equality, hashing and ordering work on the
+ * packed bits, and the full {@link Epc} is decoded on demand with {@link #decode()}.</p>
+ */
+public final class EpcBits implements Comparable<EpcBits> {
+
+    private final long[] words;
+    private final int length;
+
+    private EpcBits(final long[] words, final int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * @param bytes  - raw RFID tag bytes
+     * @param offset - index of the first byte
+     * @param length - number of bytes
+     * @return tag bits
+     */
+    public static EpcBits of(final byte[] bytes, final int offset, final int length) {
+        return of(BitBuffer.fromBytes(bytes, offset, length));
+    }
+
+    /**
+     * @param hex - hexadecimal RFID tag
+     * @return tag bits
+     * @throws IllegalArgumentException if a character is not hexadecimal
+     */
+    public static EpcBits fromHex(final CharSequence hex) {
+        return of(BitBuffer.fromHex(hex));
+    }
+
+    /**
+     * @param epc - decoded epc
+     * @return tag bits
+     */
+    public static EpcBits of(final Epc epc) {
+        final int length = epc.bitLength();
+        final long[] words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < words.length; i++) {
+            final int count = Math.min(64, length - (i << 6));
+            words[i] = epc.getBits(i << 6, count) << (64 - count);
+        }
+        return new EpcBits(words, length);
+    }
+
+    /**
+     * @param bits - tag bits, they are copied
+     * @return tag bits
+     */
+    public static EpcBits of(final BitBuffer bits) {
+        final int length = bits.length();
+        final long[] words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < words.length; i++) {
+            final int count = Math.min(64, length - (i << 6));
+            words[i] = bits.getBits(i << 6, count) << (64 - count);
+        }
+        return new EpcBits(words, length);
+    }
+
+    /**
+     * @return number of bits
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param index - word index, the word holds bits {@code 64 * index} to {@code 64 * index + 63}
+     * @return bits of the word, left aligned, {@code 0} past the end of the tag
+     */
+    public long word(final int index) {
+        return (index >= 0 && index < words.length) ? words[index] : 0L;
+    }
+
+    /**
+     * @return 8-bit header
+     */
+    public int header() {
+        return (length < 8) ? -1 : (int) (words[0] >>> 56);
+    }
+
+    /**
+     * @return scheme owning the header, {@code null} if the header is not supported
+     */
+    public EpcScheme scheme() {
+        return EpcScheme.of(header());
+    }
+
+    /**
+     * @return decoded epc
+     * @throws EpcParseException if the tag cannot be decoded
+     */
+    public Epc decode() throws EpcParseException {
+        return EpcDecoder.decode(toBitBuffer());
+    }
+
+    /**
+     * @return packed 96-bit form, {@code null} if the tag is not 96 bits long
+     */
+    public Epc96 toEpc96() {
+        return (length == Epc96.BITS) ? new Epc96(words[0], (int) (words[1] >>> 32)) : null;
+    }
+
+    public BitBuffer toBitBuffer() {
+        final BitBuffer bits = new BitBuffer(length);
+        for (int i = 0; i < words.length; i++) {
+            final int count = Math.min(64, length - (i << 6));
+            bits.putBits(i << 6, count, words[i] >>> (64 - count));
+        }
+        return bits;
+    }
+
+    public byte[] toBytes() {
+        return toBitBuffer().toBytes();
+    }
+
+    public String toHex() {
+        return toBitBuffer().toHex();
+    }
+
+    /**
+     * Orders by the unsigned bits, a tag that is a prefix of another comes first.
+     */
+    @Override
+    public int compareTo(final EpcBits other) {
+        final int words = Math.min(this.words.length, other.words.length);
+        for (int i = 0; i < words; i++) {
+            final int result = Long.compareUnsigned(this.words[i], other.words[i]);
+            if (result != 0) return result;
+        }
+        return Integer.compare(length, other.length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EpcBits other)) return false;
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+}
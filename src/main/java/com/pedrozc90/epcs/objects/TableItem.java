@@ -1,12 +1,111 @@
 package com.pedrozc90.epcs.objects;
 
+import java.util.Objects;
+
 /**
- * @param partitionValue p = partition
- * @param m              m = company prefix bits
- * @param l              l = company prefix length
- * @param n              n = item reference bits
- * @param digits         digits = item reference length
+ * Row of a partition table, with the bit layout of the fields that follow the partition.
+ *
+ * <p>Offsets and the company prefix mask are computed once when the table is built, so decoders
+ * and filters read them instead of adding up {@code m} and {@code n} on every call.</p>
  */
-public record TableItem(int partitionValue, int m, int l, int n, int digits) {
-    // ignore
+public final class TableItem {
+
+    /**
+     * header (8 bits) + filter value (3 bits) + partition (3 bits)
+     */
+    public static final int COMPANY_PREFIX_OFFSET = 14;
+
+    private final int partitionValue;
+    private final int m;
+    private final int l;
+    private final int n;
+    private final int digits;
+
+    private final int referenceOffset;
+    private final int serialOffset;
+    private final long companyPrefixMask;
+
+    /**
+     * @param partitionValue p = partition
+     * @param m              m = company prefix bits
+     * @param l              l = company prefix length
+     * @param n              n = item reference bits
+     * @param digits         digits = item reference length
+     */
+    public TableItem(final int partitionValue, final int m, final int l, final int n, final int digits) {
+        this.partitionValue = partitionValue;
+        this.m = m;
+        this.l = l;
+        this.n = n;
+        this.digits = digits;
+        this.referenceOffset = COMPANY_PREFIX_OFFSET + m;
+        this.serialOffset = referenceOffset + n;
+        this.companyPrefixMask = (1L << m) - 1;
+    }
+
+    public int partitionValue() {
+        return partitionValue;
+    }
+
+    public int m() {
+        return m;
+    }
+
+    public int l() {
+        return l;
+    }
+
+    public int n() {
+        return n;
+    }
+
+    public int digits() {
+        return digits;
+    }
+
+    /**
+     * @return index of the first bit of the company prefix
+     */
+    public int companyPrefixOffset() {
+        return COMPANY_PREFIX_OFFSET;
+    }
+
+    /**
+     * @return index of the first bit of the field that follows the company prefix (item reference, location reference, ...)
+     */
+    public int referenceOffset() {
+        return referenceOffset;
+    }
+
+    /**
+     * @return index of the first bit after the reference, where the serial (or extension, reserved bits) starts
+     */
+    public int serialOffset() {
+        return serialOffset;
+    }
+
+    /**
+     * @return mask of the lowest {@code m} bits
+     */
+    public long companyPrefixMask() {
+        return companyPrefixMask;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TableItem other)) return false;
+        return partitionValue == other.partitionValue && m == other.m && l == other.l && n == other.n && digits == other.digits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitionValue, m, l, n, digits);
+    }
+
+    @Override
+    public String toString() {
+        return "TableItem[partitionValue=" + partitionValue + ", m=" + m + ", l=" + l + ", n=" + n + ", digits=" + digits + "]";
+    }
+
 }
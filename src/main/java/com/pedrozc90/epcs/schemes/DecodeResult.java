@@ -0,0 +1,111 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+
+/**
+ * Outcome of decoding one RFID tag with {@link EpcDecoder#tryDecode(CharSequence)}.
+ *
+ * <p>Holds either the decoded {@link Epc} or an {@link EpcError} together with the offset of
+ * the first bit that could not be decoded, so malformed or foreign tags are reported without
+ * building an exception. Failures at a fixed offset share one preallocated instance.</p>
+ */
+public final class DecodeResult {
+
+    static final int HEADER_OFFSET = 0;
+    static final int PARTITION_OFFSET = 11;
+
+    private static final DecodeResult EMPTY = new DecodeResult(null, EpcError.EMPTY, HEADER_OFFSET);
+    private static final DecodeResult UNSUPPORTED_HEADER = new DecodeResult(null, EpcError.UNSUPPORTED_HEADER, HEADER_OFFSET);
+    private static final DecodeResult INVALID_PARTITION = new DecodeResult(null, EpcError.INVALID_PARTITION, PARTITION_OFFSET);
+
+    private final Epc epc;
+    private final EpcError error;
+    private final int bitOffset;
+
+    private DecodeResult(final Epc epc, final EpcError error, final int bitOffset) {
+        this.epc = epc;
+        this.error = error;
+        this.bitOffset = bitOffset;
+    }
+
+    static DecodeResult of(final Epc epc) {
+        return new DecodeResult(epc, EpcError.NONE, -1);
+    }
+
+    /**
+     * @param error     - reason the tag could not be decoded
+     * @param bitOffset - offset of the first bit that could not be decoded
+     */
+    static DecodeResult failure(final EpcError error, final int bitOffset) {
+        return switch (error) {
+            case EMPTY -> EMPTY;
+            case UNSUPPORTED_HEADER -> UNSUPPORTED_HEADER;
+            case INVALID_PARTITION -> INVALID_PARTITION;
+            default -> new DecodeResult(null, error, bitOffset);
+        };
+    }
+
+    /**
+     * @param e - failure raised by a codec
+     */
+    static DecodeResult failure(final EpcParseException e) {
+        if (e instanceof EpcDecodeException located) {
+            return failure(located.error(), located.bitOffset());
+        }
+        return failure(EpcError.INVALID_FIELD, -1);
+    }
+
+    /**
+     * @return true if the tag was decoded
+     */
+    public boolean isDecoded() {
+        return error == EpcError.NONE;
+    }
+
+    /**
+     * @return decoded epc, {@code null} if the tag could not be decoded
+     */
+    public Epc epc() {
+        return epc;
+    }
+
+    /**
+     * @return reason the tag could not be decoded, {@link EpcError#NONE} if it was decoded
+     */
+    public EpcError error() {
+        return error;
+    }
+
+    /**
+     * Offset of the first bit that could not be decoded: {@code 0} for an empty tag or an
+     * unsupported header, {@code 11} for an invalid partition, the number of bits available for
+     * a tag that is too short, four times the index of the first non hexadecimal character and
+     * the first bit of the field for a field out of range.
+     *
+     * @return bit offset of the failure, {@code -1} if the tag was decoded or the codec did not locate the failure
+     */
+    public int bitOffset() {
+        return bitOffset;
+    }
+
+    /**
+     * @return decoded epc
+     * @throws EpcParseException preallocated and without stack trace, see {@link EpcError#exception(int)}
+     */
+    public Epc orElseThrow() throws EpcParseException {
+        if (epc == null) {
+            throw error.exception(bitOffset);
+        }
+        return epc;
+    }
+
+    @Override
+    public String toString() {
+        if (epc != null) {
+            return "DecodeResult[" + epc.epcTagURI() + "]";
+        }
+        return "DecodeResult[" + error + " at bit " + bitOffset + "]";
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thread-confined state used to decode many RFID tags in a row.
+ *
+ * <p>The tag bits are written into one buffer that is reused while consecutive tags share a
+ * size, and the scheme is resolved again only when the header changes. Header, size and
+ * partition are checked up front so the common failures are reported as an {@link EpcError}
+ * instead of an exception.</p>
+ */
+final class DecodeScratch {
+
+    private static final int HEADER_BITS = 8;
+    private static final int PARTITION_OFFSET = 11;
+    private static final int PARTITION_BITS = 3;
+    private static final int MAX_PARTITION_VALUE = 6;
+
+    private int header = -1;
+    private EpcScheme scheme;
+    private int tagSize;
+    private BitBuffer bits;
+    private byte[] chars = new byte[64];
+
+    private Epc epc;
+
+    /**
+     * @return epc decoded by the last successful call, {@code null} after a failure
+     */
+    Epc epc() {
+        return epc;
+    }
+
+    EpcError decodeHex(final CharSequence rfidTag) {
+        if (rfidTag == null || rfidTag.isEmpty()) {
+            return fail(EpcError.EMPTY);
+        }
+        final BitBuffer buffer = buffer(rfidTag.length() * 4);
+        if (!buffer.setHex(rfidTag)) {
+            return fail(EpcError.INVALID_HEX);
+        }
+        return decode(buffer);
+    }
+
+    EpcError decodeHex(final ByteBuffer source, final int offset, final int length) {
+        if (length == 0) {
+            return fail(EpcError.EMPTY);
+        }
+        final BitBuffer buffer = buffer(length * 4);
+        if (!buffer.setHex(source, offset, length)) {
+            return fail(EpcError.INVALID_HEX);
+        }
+        return decode(buffer);
+    }
+
+    EpcError decodeBytes(final byte[] rfidTag) {
+        if (rfidTag == null) {
+            return fail(EpcError.EMPTY);
+        }
+        return decodeBytes(rfidTag, 0, rfidTag.length);
+    }
+
+    EpcError decodeBytes(final byte[] rfidTag, final int offset, final int length) {
+        if (length == 0) {
+            return fail(EpcError.EMPTY);
+        }
+        final BitBuffer buffer = buffer(length * 8);
+        buffer.setBytes(rfidTag, offset, length);
+        return decode(buffer);
+    }
+
+    EpcError decodeBytes(final ByteBuffer source, final int offset, final int length) {
+        if (length == 0) {
+            return fail(EpcError.EMPTY);
+        }
+        final BitBuffer buffer = buffer(length * 8);
+        buffer.setBytes(source, offset, length);
+        return decode(buffer);
+    }
+
+    /**
+     * @param source - buffer holding an ASCII EPC Tag URI
+     * @param offset - absolute index of the first character
+     * @param length - number of characters
+     */
+    EpcError decodeEpcTagURI(final ByteBuffer source, final int offset, final int length) {
+        if (length == 0) {
+            return fail(EpcError.EMPTY);
+        }
+        final String uri = text(source, offset, length);
+        final EpcScheme uriScheme = EpcScheme.ofURI(uri);
+        if (uriScheme == null) {
+            return fail(EpcError.INVALID_URI);
+        }
+        try {
+            epc = uriScheme.decodeEpcTagURI(uri);
+            return EpcError.NONE;
+        } catch (EpcParseException | IllegalArgumentException e) {
+            // field lookups and encoders reject values out of range with IllegalArgumentException
+            return fail(EpcError.INVALID_FIELD);
+        }
+    }
+
+    /**
+     * @param source      - buffer holding an ASCII EPC Pure Identity URI
+     * @param offset      - absolute index of the first character
+     * @param length      - number of characters
+     * @param tagSize     - tag size in bits, the URI does not carry it
+     * @param filterValue - filter value, the URI does not carry it
+     */
+    EpcError decodeEpcPureIdentityURI(final ByteBuffer source, final int offset, final int length, final int tagSize, final int filterValue) {
+        if (length == 0) {
+            return fail(EpcError.EMPTY);
+        }
+        final String uri = text(source, offset, length);
+        final EpcScheme uriScheme = EpcScheme.ofURI(uri);
+        if (uriScheme == null) {
+            return fail(EpcError.INVALID_URI);
+        }
+        try {
+            epc = uriScheme.decodeEpcPureIdentityURI(uri, tagSize, filterValue);
+            return EpcError.NONE;
+        } catch (EpcParseException | IllegalArgumentException e) {
+            return fail(EpcError.INVALID_FIELD);
+        }
+    }
+
+    private EpcError decode(final BitBuffer buffer) {
+        if (buffer.length() < PARTITION_OFFSET + PARTITION_BITS) {
+            return fail(EpcError.TOO_SHORT);
+        }
+        final int value = (int) buffer.getBits(0, HEADER_BITS);
+        if (value != header) {
+            header = value;
+            scheme = EpcScheme.of(value);
+            tagSize = EpcScheme.tagSize(value);
+        }
+        if (scheme == null) {
+            return fail(EpcError.UNSUPPORTED_HEADER);
+        }
+        if (buffer.length() < tagSize) {
+            return fail(EpcError.TOO_SHORT);
+        }
+        if (buffer.getBits(PARTITION_OFFSET, PARTITION_BITS) > MAX_PARTITION_VALUE) {
+            return fail(EpcError.INVALID_PARTITION);
+        }
+        try {
+            // parsers re-encode the tag bits, so the scratch buffer is not kept by the result
+            epc = scheme.decode(buffer);
+            return EpcError.NONE;
+        } catch (EpcDecodeException e) {
+            return fail(e.error());
+        } catch (EpcParseException e) {
+            return fail(EpcError.INVALID_FIELD);
+        }
+    }
+
+    private EpcError fail(final EpcError error) {
+        epc = null;
+        return error;
+    }
+
+    private String text(final ByteBuffer source, final int offset, final int length) {
+        if (chars.length < length) {
+            chars = new byte[Math.max(length, chars.length * 2)];
+        }
+        source.get(offset, chars, 0, length);
+        return new String(chars, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private BitBuffer buffer(final int length) {
+        if (bits == null || bits.length() != length) {
+            bits = new BitBuffer(length);
+        }
+        return bits;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+
+/**
+ * Result of decoding a batch of RFID tags with {@link EpcDecoder#decodeAll(String[])}.
+ *
+ * <p>Every slot matches the tag at the same index of the input and holds either the decoded
+ * {@link Epc} or an {@link EpcError}, so one bad tag does not abort the rest of the batch.</p>
+ */
+public final class EpcBatch {
+
+    private final Epc[] results;
+    private final byte[] errors;
+    private int errorCount = -1;
+
+    EpcBatch(final int size) {
+        this.results = new Epc[size];
+        this.errors = new byte[size];
+    }
+
+    /**
+     * Fills one slot, distinct slots may be filled by different threads.
+     */
+    void put(final int index, final EpcError error, final Epc epc) {
+        results[index] = epc;
+        errors[index] = (byte) error.code();
+    }
+
+    /**
+     * @return number of tags in the batch
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * @param index - index of the tag in the input
+     * @return decoded epc, {@code null} if the tag could not be decoded
+     */
+    public Epc get(final int index) {
+        return results[index];
+    }
+
+    /**
+     * @param index - index of the tag in the input
+     * @return reason the tag could not be decoded, {@link EpcError#NONE} if it was decoded
+     */
+    public EpcError error(final int index) {
+        return EpcError.of(errors[index]);
+    }
+
+    /**
+     * @param index - index of the tag in the input
+     * @return true if the tag was decoded
+     */
+    public boolean isDecoded(final int index) {
+        return errors[index] == 0;
+    }
+
+    /**
+     * @return number of tags that could not be decoded
+     */
+    public int errorCount() {
+        if (errorCount < 0) {
+            int count = 0;
+            for (byte error : errors) {
+                if (error != 0) count++;
+            }
+            errorCount = count;
+        }
+        return errorCount;
+    }
+
+}
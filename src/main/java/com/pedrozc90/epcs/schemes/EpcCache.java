@@ -0,0 +1,253 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, thread-safe cache of decoded RFID tags, keyed on the raw tag bits.
+ *
+ * <p>Fixed readers see the same few hundred tags over and over, so the cache hands back the
+ * {@link Epc} decoded the first time instead of decoding every read again. Tags of up to 128 bits
+ * are keyed by two longs and looked up without allocating; longer tags (sgtin-198, giai-202)
+ * use a {@link BitBuffer} as key. Malformed tags are cached as well, so a repeated garbage read
+ * costs a lookup instead of a failed decode.</p>
+ *
+ * <p>Entries live in buckets of 8 ways guarded by striped locks. When a bucket is full, a CLOCK
+ * hand evicts the first way that was not read since the hand last passed over it. Tags are
+ * decoded outside of the lock. The locks are {@link ReentrantLock}s rather than monitors, so
+ * virtual threads waiting on a bucket park without pinning their carrier thread.</p>
+ */
+public final class EpcCache {
+
+    private static final int WAYS = 8;
+    private static final int WAY_MASK = WAYS - 1;
+    private static final int LOCKS = 64;
+    private static final int KEY_BITS = 128;
+
+    private final int bucketMask;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCKS];
+
+    // one slot per way, a length of 0 marks an empty slot
+    private final int[] lengths;
+    private final long[] highs;
+    private final long[] lows;
+    private final BitBuffer[] wideKeys;
+    private final Object[] values;
+    private final boolean[] referenced;
+    private final byte[] hands;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity - maximum number of cached tags, rounded up to a power of two of at least 8
+     */
+    public EpcCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        final int buckets = Math.max(1, Integer.highestOneBit((capacity + WAY_MASK) / WAYS - 1) << 1);
+        this.bucketMask = buckets - 1;
+        this.lengths = new int[buckets * WAYS];
+        this.highs = new long[buckets * WAYS];
+        this.lows = new long[buckets * WAYS];
+        this.wideKeys = new BitBuffer[buckets * WAYS];
+        this.values = new Object[buckets * WAYS];
+        this.referenced = new boolean[buckets * WAYS];
+        this.hands = new byte[buckets];
+        for (int i = 0; i < LOCKS; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param rfidTag - hexadecimal RFID tag, ex: "3074257BF7194E4000001A85"
+     * @return shared decoded epc, {@code null} if the tag is malformed
+     */
+    public Epc decode(final String rfidTag) {
+        if (rfidTag == null || rfidTag.isEmpty()) {
+            return null;
+        }
+        final int length = rfidTag.length() * 4;
+        if (length > KEY_BITS) {
+            final BitBuffer key = new BitBuffer(length);
+            if (!key.setHex(rfidTag)) {
+                return null;
+            }
+            return lookup(length, key.getBits(0, 64), key.getBits(64, 64), key, rfidTag, null, 0);
+        }
+
+        long high = 0L;
+        long low = 0L;
+        for (int i = 0; i < rfidTag.length(); i++) {
+            final int nibble = Character.digit(rfidTag.charAt(i), 16);
+            if (nibble < 0) {
+                return null;
+            }
+            if (i < 16) {
+                high = (high << 4) | nibble;
+            } else {
+                low = (low << 4) | nibble;
+            }
+        }
+        return lookup(length, high, low, null, rfidTag, null, 0);
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return shared decoded epc, {@code null} if the tag is malformed
+     */
+    public Epc decode(final byte[] rfidTag, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, rfidTag.length);
+        if (length == 0) {
+            return null;
+        }
+        final int bits = length * 8;
+        final long high = BitBuffer.getBits(rfidTag, offset, length, 0, Math.min(bits, 64));
+        final long low = (bits > 64) ? BitBuffer.getBits(rfidTag, offset, length, 64, Math.min(bits, KEY_BITS) - 64) : 0L;
+        final BitBuffer wideKey = (bits > KEY_BITS) ? BitBuffer.fromBytes(rfidTag, offset, length) : null;
+        return lookup(bits, high, low, wideKey, null, rfidTag, offset);
+    }
+
+    /**
+     * @return number of lookups answered from the cache, malformed tags included
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that had to decode the tag
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of entries evicted to make room for a new tag
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return maximum number of cached tags
+     */
+    public int capacity() {
+        return lengths.length;
+    }
+
+    /**
+     * Removes every entry, the counters are kept.
+     */
+    public void clear() {
+        for (int bucket = 0; bucket <= bucketMask; bucket++) {
+            final ReentrantLock lock = lock(bucket);
+            lock.lock();
+            try {
+                final int base = bucket * WAYS;
+                Arrays.fill(lengths, base, base + WAYS, 0);
+                Arrays.fill(wideKeys, base, base + WAYS, null);
+                Arrays.fill(values, base, base + WAYS, null);
+                Arrays.fill(referenced, base, base + WAYS, false);
+                hands[bucket] = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /* --- Helpers --- */
+    private Epc lookup(final int length, final long high, final long low, final BitBuffer wideKey,
+                       final String hex, final byte[] bytes, final int offset) {
+        final int bucket = hash(length, high, low, wideKey) & bucketMask;
+        final int base = bucket * WAYS;
+        final ReentrantLock lock = lock(bucket);
+
+        lock.lock();
+        try {
+            final int slot = find(base, length, high, low, wideKey);
+            if (slot >= 0) {
+                referenced[slot] = true;
+                hits.increment();
+                return asEpc(values[slot]);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        final DecodeScratch scratch = new DecodeScratch();
+        final EpcError error = (hex != null) ? scratch.decodeHex(hex) : scratch.decodeBytes(bytes, offset, length >>> 3);
+        final Object value = (error == EpcError.NONE) ? scratch.epc() : error;
+
+        lock.lock();
+        try {
+            // another thread may have decoded the same tag meanwhile, keep the first one
+            final int existing = find(base, length, high, low, wideKey);
+            if (existing >= 0) {
+                return asEpc(values[existing]);
+            }
+            final int slot = victim(bucket, base);
+            lengths[slot] = length;
+            highs[slot] = high;
+            lows[slot] = low;
+            wideKeys[slot] = wideKey;
+            values[slot] = value;
+            referenced[slot] = false;
+        } finally {
+            lock.unlock();
+        }
+        return asEpc(value);
+    }
+
+    private int find(final int base, final int length, final long high, final long low, final BitBuffer wideKey) {
+        for (int slot = base; slot < base + WAYS; slot++) {
+            if (lengths[slot] == length && highs[slot] == high && lows[slot] == low
+                && (wideKey == null || wideKey.equals(wideKeys[slot]))) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int victim(final int bucket, final int base) {
+        for (int slot = base; slot < base + WAYS; slot++) {
+            if (lengths[slot] == 0) return slot;
+        }
+        int hand = hands[bucket];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) & WAY_MASK;
+        }
+        hands[bucket] = (byte) ((hand + 1) & WAY_MASK);
+        evictions.increment();
+        return base + hand;
+    }
+
+    private ReentrantLock lock(final int bucket) {
+        return locks[bucket & (LOCKS - 1)];
+    }
+
+    private static Epc asEpc(final Object value) {
+        return (value instanceof Epc epc) ? epc : null;
+    }
+
+    private static int hash(final int length, final long high, final long low, final BitBuffer wideKey) {
+        long h = high * 0x9E3779B97F4A7C15L + low;
+        h = (h ^ (h >>> 32)) * 0xBF58476D1CE4E5B9L + length;
+        if (wideKey != null) {
+            h = h * 31 + wideKey.hashCode();
+        }
+        return (int) (h ^ (h >>> 29));
+    }
+
+}
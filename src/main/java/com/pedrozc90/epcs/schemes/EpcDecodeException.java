@@ -0,0 +1,38 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+
+import java.io.Serial;
+
+/**
+ * Preallocated failure of an RFID tag, without stack trace, see {@link EpcError#exception(int)}.
+ */
+public final class EpcDecodeException extends EpcParseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final EpcError error;
+    private final int bitOffset;
+
+    EpcDecodeException(final EpcError error, final int bitOffset) {
+        super(error.getMessage(), null, false);
+        this.error = error;
+        this.bitOffset = bitOffset;
+    }
+
+    /**
+     * @return reason the tag could not be decoded
+     */
+    public EpcError error() {
+        return error;
+    }
+
+    /**
+     * @return offset of the first bit that could not be decoded, {@code -1} if unknown
+     */
+    public int bitOffset() {
+        return bitOffset;
+    }
+
+}
@@ -0,0 +1,390 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes RFID tags of any supported scheme.
+ *
+ * <p>The first byte of the tag is read once and dispatched through a 256-entry header table
+ * to the matching scheme, so callers handling mixed traffic do not need to know the scheme
+ * up front or try each parser in turn.</p>
+ *
+ * <p>Malformed tags are raised as preallocated exceptions without stack trace, see
+ * {@link EpcError#exception(int)}. {@link #tryDecode(CharSequence)} and
+ * {@link #isValid(CharSequence)} report them without any exception at all.</p>
+ */
+public final class EpcDecoder {
+
+    private static final int HEADER_BITS = 8;
+    private static final int PARTITION_BITS = 3;
+    private static final int MAX_PARTITION_VALUE = 6;
+
+    private EpcDecoder() {
+    }
+
+    /**
+     * @param rfidTag - hexadecimal RFID tag, ex: "3074257BF7194E4000001A85"
+     * @return decoded epc
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public static Epc decode(final String rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded epc
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public static Epc decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - buffer holding the raw RFID tag bytes, its position is not changed
+     * @return decoded epc
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public static Epc decode(final ByteBuffer rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - packed RFID tag bits
+     * @return decoded epc
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public static Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+        return scheme(rfidTag).decode(rfidTag);
+    }
+
+    /**
+     * Decodes raw RFID tag bytes into a sink instead of building an {@link Epc}.
+     * Reusing one {@link EpcFields} across calls keeps decoding of 96-bit tags free of heap allocation.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @return scheme of the decoded tag
+     * @throws EpcParseException if the header does not belong to a supported scheme, the tag is too short or holds a field the scheme does not allow
+     */
+    public static EpcScheme decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        Objects.checkFromIndexSize(offset, length, rfidTag.length);
+        if (length < 1) {
+            throw EpcError.TOO_SHORT.exception(0);
+        }
+        final EpcScheme scheme = EpcScheme.of(rfidTag[offset] & 0xFF);
+        if (scheme == null) {
+            throw EpcError.UNSUPPORTED_HEADER.exception(DecodeResult.HEADER_OFFSET);
+        }
+        scheme.decode(rfidTag, offset, length, sink);
+        return scheme;
+    }
+
+    /**
+     * Resolves the scheme of an RFID tag without decoding the rest of it.
+     *
+     * @param rfidTag - packed RFID tag bits
+     * @return scheme owning the tag header
+     * @throws EpcParseException if the header does not belong to a supported scheme
+     */
+    public static EpcScheme scheme(final BitBuffer rfidTag) throws EpcParseException {
+        if (rfidTag.length() < HEADER_BITS) {
+            throw EpcError.TOO_SHORT.exception(rfidTag.length());
+        }
+        final EpcScheme scheme = EpcScheme.of((int) rfidTag.getBits(0, HEADER_BITS));
+        if (scheme == null) {
+            throw EpcError.UNSUPPORTED_HEADER.exception(DecodeResult.HEADER_OFFSET);
+        }
+        return scheme;
+    }
+
+    /* --- Validation --- */
+
+    /**
+     * Decodes a hexadecimal RFID tag, reporting a malformed or foreign tag in the result instead of throwing.
+     *
+     * @param rfidTag - hexadecimal RFID tag, ex: "3074257BF7194E4000001A85"
+     * @return decoded epc, or the error and bit offset where decoding stopped
+     */
+    public static DecodeResult tryDecode(final CharSequence rfidTag) {
+        final EpcError error = validate(rfidTag);
+        if (error != EpcError.NONE) {
+            return DecodeResult.failure(error, failedBit(rfidTag, error));
+        }
+        try {
+            return DecodeResult.of(decode(BitBuffer.fromHex(rfidTag)));
+        } catch (EpcParseException e) {
+            return DecodeResult.failure(e);
+        }
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded epc, or the error and bit offset where decoding stopped
+     * @see #tryDecode(CharSequence)
+     */
+    public static DecodeResult tryDecode(final byte[] rfidTag, final int offset, final int length) {
+        final EpcError error = validate(rfidTag, offset, length);
+        if (error != EpcError.NONE) {
+            return DecodeResult.failure(error, length * 8);
+        }
+        try {
+            return DecodeResult.of(decode(BitBuffer.fromBytes(rfidTag, offset, length)));
+        } catch (EpcParseException e) {
+            return DecodeResult.failure(e);
+        }
+    }
+
+    /**
+     * @param rfidTag - hexadecimal RFID tag
+     * @return true if the tag passes {@link #validate(CharSequence)}
+     */
+    public static boolean isValid(final CharSequence rfidTag) {
+        return validate(rfidTag) == EpcError.NONE;
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return true if the tag passes {@link #validate(byte[], int, int)}
+     */
+    public static boolean isValid(final byte[] rfidTag, final int offset, final int length) {
+        return validate(rfidTag, offset, length) == EpcError.NONE;
+    }
+
+    /**
+     * Checks characters, header, size and partition of a hexadecimal RFID tag without decoding
+     * it and without allocating, the same checks {@link #decodeAll(String[])} runs up front.
+     * Fields are not checked, a tag passing it can still fail to decode with {@link EpcError#INVALID_FIELD}.
+     *
+     * @param rfidTag - hexadecimal RFID tag
+     * @return first check that failed, {@link EpcError#NONE} if the tag can be decoded
+     */
+    public static EpcError validate(final CharSequence rfidTag) {
+        if (rfidTag == null || rfidTag.isEmpty()) {
+            return EpcError.EMPTY;
+        }
+        if (firstInvalidHex(rfidTag) >= 0) {
+            return EpcError.INVALID_HEX;
+        }
+        final int bits = rfidTag.length() * 4;
+        if (bits < TableItem.COMPANY_PREFIX_OFFSET) {
+            return EpcError.TOO_SHORT;
+        }
+        final int header = (HexFormat.fromHexDigit(rfidTag.charAt(0)) << 4) | HexFormat.fromHexDigit(rfidTag.charAt(1));
+        // partition bits 11 - 13: last bit of the third character, first two bits of the fourth
+        final int partition = ((HexFormat.fromHexDigit(rfidTag.charAt(2)) & 1) << 2) | (HexFormat.fromHexDigit(rfidTag.charAt(3)) >>> 2);
+        return validate(header, bits, partition);
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return first check that failed, {@link EpcError#NONE} if the tag can be decoded
+     * @see #validate(CharSequence)
+     */
+    public static EpcError validate(final byte[] rfidTag, final int offset, final int length) {
+        if (rfidTag == null || length == 0) {
+            return EpcError.EMPTY;
+        }
+        Objects.checkFromIndexSize(offset, length, rfidTag.length);
+        final int bits = length * 8;
+        if (bits < TableItem.COMPANY_PREFIX_OFFSET) {
+            return EpcError.TOO_SHORT;
+        }
+        final int partition = (int) BitBuffer.getBits(rfidTag, offset, length, DecodeResult.PARTITION_OFFSET, PARTITION_BITS);
+        return validate(rfidTag[offset] & 0xFF, bits, partition);
+    }
+
+    /* --- Helpers --- */
+
+    private static EpcError validate(final int header, final int bits, final int partition) {
+        if (EpcScheme.of(header) == null) {
+            return EpcError.UNSUPPORTED_HEADER;
+        }
+        if (bits < EpcScheme.tagSize(header)) {
+            return EpcError.TOO_SHORT;
+        }
+        if (partition > MAX_PARTITION_VALUE) {
+            return EpcError.INVALID_PARTITION;
+        }
+        return EpcError.NONE;
+    }
+
+    private static int failedBit(final CharSequence rfidTag, final EpcError error) {
+        return switch (error) {
+            case INVALID_HEX -> firstInvalidHex(rfidTag) * 4;
+            case TOO_SHORT -> rfidTag.length() * 4;
+            default -> DecodeResult.HEADER_OFFSET;
+        };
+    }
+
+    private static int firstInvalidHex(final CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!HexFormat.isHexDigit(value.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* --- Batch --- */
+
+    /**
+     * Decodes a batch of hexadecimal RFID tags, as delivered by a reader report.
+     *
+     * <p>A tag that cannot be decoded is recorded as an {@link EpcError} in its slot instead of
+     * aborting the batch. Header, size and partition are checked up front without raising
+     * exceptions; the scheme and the scratch buffer are reused while consecutive tags share
+     * the same header and size.</p>
+     *
+     * @param rfidTags - hexadecimal RFID tags
+     * @return one slot per tag, in input order
+     */
+    public static EpcBatch decodeAll(final String[] rfidTags) {
+        final EpcBatch batch = new EpcBatch(rfidTags.length);
+        final DecodeScratch scratch = new DecodeScratch();
+        for (int i = 0; i < rfidTags.length; i++) {
+            batch.put(i, scratch.decodeHex(rfidTags[i]), scratch.epc());
+        }
+        return batch;
+    }
+
+    /**
+     * @param rfidTags - hexadecimal RFID tags
+     * @return one slot per tag, in input order
+     * @see #decodeAll(String[])
+     */
+    public static EpcBatch decodeAll(final List<String> rfidTags) {
+        final EpcBatch batch = new EpcBatch(rfidTags.size());
+        final DecodeScratch scratch = new DecodeScratch();
+        int index = 0;
+        for (String rfidTag : rfidTags) {
+            batch.put(index++, scratch.decodeHex(rfidTag), scratch.epc());
+        }
+        return batch;
+    }
+
+    /**
+     * @param rfidTags - raw RFID tag bytes, one array per tag
+     * @return one slot per tag, in input order
+     * @see #decodeAll(String[])
+     */
+    public static EpcBatch decodeAll(final byte[][] rfidTags) {
+        final EpcBatch batch = new EpcBatch(rfidTags.length);
+        final DecodeScratch scratch = new DecodeScratch();
+        for (int i = 0; i < rfidTags.length; i++) {
+            batch.put(i, scratch.decodeBytes(rfidTags[i]), scratch.epc());
+        }
+        return batch;
+    }
+
+    /* --- Bulk --- */
+
+    /**
+     * Decodes fixed-width raw RFID tags stored back to back, splitting the work across the
+     * common fork-join pool. Every task decodes a contiguous range of records with its own
+     * scratch state and writes into its own slots, so results come back in input order
+     * without any merge step.
+     *
+     * @param records      - raw RFID tags from position to limit, the buffer is not modified
+     * @param recordLength - number of bytes of every tag, ex: 12 for 96-bit tags
+     * @return one slot per record, in input order
+     * @throws IllegalArgumentException if the remaining bytes are not a multiple of the record length
+     */
+    public static EpcBatch decodeAll(final ByteBuffer records, final int recordLength) {
+        EpcSpliterator.checkRecords(records, recordLength);
+
+        final EpcBatch batch = new EpcBatch(records.remaining() / recordLength);
+        ForkJoinPool.commonPool().invoke(new DecodeTask(records, records.position(), recordLength, batch, 0, batch.size()));
+        return batch;
+    }
+
+    /**
+     * @param records      - raw RFID tags from position to limit, the buffer is not modified
+     * @param recordLength - number of bytes of every tag, ex: 12 for 96-bit tags
+     * @return parallel ordered stream of the decoded tags, records that cannot be decoded are skipped
+     * @see EpcSpliterator#ofRecords(ByteBuffer, int)
+     */
+    public static Stream<Epc> stream(final ByteBuffer records, final int recordLength) {
+        return StreamSupport.stream(EpcSpliterator.ofRecords(records, recordLength), true);
+    }
+
+    /**
+     * @param text - ASCII hexadecimal RFID tags, one per line, from position to limit
+     * @return parallel ordered stream of the decoded tags, lines that cannot be decoded are skipped
+     * @see EpcSpliterator#ofLines(ByteBuffer)
+     */
+    public static Stream<Epc> lines(final ByteBuffer text) {
+        return StreamSupport.stream(EpcSpliterator.ofLines(text), true);
+    }
+
+    /**
+     * Decodes a range of records, forking halves until the range is small enough.
+     *
+     * <p>{@link RecursiveAction} is serializable, but a task only lives inside the pool that runs
+     * it, so the buffer and the batch are transient.</p>
+     */
+    private static final class DecodeTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private static final int THRESHOLD = 1024;
+
+        private final transient ByteBuffer records;
+        private final int base;
+        private final int recordLength;
+        private final transient EpcBatch batch;
+        private final int from;
+        private final int to;
+
+        private DecodeTask(final ByteBuffer records, final int base, final int recordLength, final EpcBatch batch, final int from, final int to) {
+            this.records = records;
+            this.base = base;
+            this.recordLength = recordLength;
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                final DecodeScratch scratch = new DecodeScratch();
+                for (int i = from; i < to; i++) {
+                    batch.put(i, scratch.decodeBytes(records, base + i * recordLength, recordLength), scratch.epc());
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                new DecodeTask(records, base, recordLength, batch, from, middle),
+                new DecodeTask(records, base, recordLength, batch, middle, to)
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Suppresses repeated reads of the same RFID tag within a time window.
+ *
+ * <p>Readers report a tag many times per second while it stays in the field. A read passes the
+ * filter when its tag was not seen during the last {@code window}; every read, passed or not,
+ * refreshes the last-seen time of its tag, so a tag sitting in front of an antenna is reported
+ * once until it has been away for a whole window.</p>
+ *
+ * <p>96-bit tags are kept in an open-addressing table of primitive keys: the first 64 bits in a
+ * {@code long[]}, the last 32 bits in an {@code int[]} and the last-seen times in a
+ * {@code long[]}. Expired entries are reused by new keys and dropped whenever the table is
+ * rebuilt, so expiry cost is amortized over inserts. Tags of other sizes, such as sgtin-198 and
+ * giai-202, fall back to a map keyed by {@link BitBuffer}.</p>
+ *
+ * <p>Instances are not thread-safe, keep one per reader or consumer thread.</p>
+ */
+public final class EpcDeduplicator {
+
+    private static final int KEY_BYTES = 12;
+    private static final int KEY_CHARS = 24;
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long window;
+
+    private long[] highs;
+    private int[] lows;
+    private long[] seen;
+    private int mask;
+    private int used;
+
+    private final Map<BitBuffer, long[]> wide = new HashMap<>();
+    private int wideSweepSize = MIN_CAPACITY;
+
+    /**
+     * @param window - repeats of a tag within this window are suppressed
+     */
+    public EpcDeduplicator(final Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Window must be non-negative: " + window);
+        }
+        this.window = window.toMillis();
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * @param rfidTag   - hexadecimal RFID tag
+     * @param timestamp - time of the read in milliseconds, ex: {@link System#currentTimeMillis()}
+     * @return true if the read passes the filter, malformed hexadecimal always passes
+     */
+    public boolean accept(final String rfidTag, final long timestamp) {
+        if (rfidTag.length() != KEY_CHARS) {
+            final BitBuffer key = new BitBuffer(rfidTag.length() * 4);
+            return !key.setHex(rfidTag) || acceptWide(key, timestamp);
+        }
+        long high = 0L;
+        int low = 0;
+        for (int i = 0; i < KEY_CHARS; i++) {
+            final int nibble = Character.digit(rfidTag.charAt(i), 16);
+            if (nibble < 0) {
+                return true;
+            }
+            if (i < 16) {
+                high = (high << 4) | nibble;
+            } else {
+                low = (low << 4) | nibble;
+            }
+        }
+        return accept(high, low, timestamp);
+    }
+
+    /**
+     * @param rfidTag   - raw RFID tag bytes
+     * @param offset    - index of the first byte
+     * @param length    - number of bytes
+     * @param timestamp - time of the read in milliseconds, ex: {@link System#currentTimeMillis()}
+     * @return true if the read passes the filter
+     */
+    public boolean accept(final byte[] rfidTag, final int offset, final int length, final long timestamp) {
+        Objects.checkFromIndexSize(offset, length, rfidTag.length);
+        if (length != KEY_BYTES) {
+            return acceptWide(BitBuffer.fromBytes(rfidTag, offset, length), timestamp);
+        }
+        final long high = BitBuffer.getBits(rfidTag, offset, length, 0, 64);
+        final int low = (int) BitBuffer.getBits(rfidTag, offset, length, 64, 32);
+        return accept(high, low, timestamp);
+    }
+
+    /**
+     * Decodes a read only if it passes the filter.
+     *
+     * @param rfidTag   - raw RFID tag bytes
+     * @param offset    - index of the first byte
+     * @param length    - number of bytes
+     * @param timestamp - time of the read in milliseconds
+     * @return decoded epc, {@code null} if the read was suppressed
+     * @throws EpcParseException if the read passes the filter but cannot be decoded
+     */
+    public Epc decodeIfNew(final byte[] rfidTag, final int offset, final int length, final long timestamp) throws EpcParseException {
+        return accept(rfidTag, offset, length, timestamp) ? EpcDecoder.decode(rfidTag, offset, length) : null;
+    }
+
+    /**
+     * @return number of tags tracked, expired entries that were not dropped yet included
+     */
+    public int size() {
+        return used + wide.size();
+    }
+
+    /**
+     * Forgets every tag.
+     */
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        wide.clear();
+        wideSweepSize = MIN_CAPACITY;
+    }
+
+    /* --- Helpers --- */
+    private boolean accept(final long high, final int low, final long timestamp) {
+        int reusable = -1;
+        int slot = hash(high, low) & mask;
+        while (seen[slot] != EMPTY) {
+            if (highs[slot] == high && lows[slot] == low) {
+                final boolean passes = expired(seen[slot], timestamp);
+                seen[slot] = Math.max(seen[slot], timestamp);
+                return passes;
+            }
+            if (reusable < 0 && expired(seen[slot], timestamp)) {
+                reusable = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (reusable >= 0) {
+            // an expired entry keeps the probe chain intact, the new key takes its place
+            slot = reusable;
+        } else if ((used + 1) * 2 > highs.length) {
+            rebuild(timestamp);
+            return accept(high, low, timestamp);
+        } else {
+            used++;
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        seen[slot] = timestamp;
+        return true;
+    }
+
+    private boolean acceptWide(final BitBuffer key, final long timestamp) {
+        final long[] entry = wide.get(key);
+        if (entry != null) {
+            final boolean passes = expired(entry[0], timestamp);
+            entry[0] = Math.max(entry[0], timestamp);
+            return passes;
+        }
+        if (wide.size() >= wideSweepSize) {
+            wide.values().removeIf(value -> expired(value[0], timestamp));
+            wideSweepSize = Math.max(MIN_CAPACITY, wide.size() * 2);
+        }
+        wide.put(key, new long[]{ timestamp });
+        return true;
+    }
+
+    /**
+     * Drops expired entries and resizes the table to keep the live ones under a quarter of the capacity.
+     */
+    private void rebuild(final long timestamp) {
+        final long[] oldHighs = highs;
+        final int[] oldLows = lows;
+        final long[] oldSeen = seen;
+
+        int live = 0;
+        for (long value : oldSeen) {
+            if (value != EMPTY && !expired(value, timestamp)) live++;
+        }
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, live * 4 - 1)) << 1));
+
+        for (int i = 0; i < oldSeen.length; i++) {
+            if (oldSeen[i] == EMPTY || expired(oldSeen[i], timestamp)) continue;
+            int slot = hash(oldHighs[i], oldLows[i]) & mask;
+            while (seen[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            highs[slot] = oldHighs[i];
+            lows[slot] = oldLows[i];
+            seen[slot] = oldSeen[i];
+            used++;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        highs = new long[capacity];
+        lows = new int[capacity];
+        seen = new long[capacity];
+        Arrays.fill(seen, EMPTY);
+        mask = capacity - 1;
+        used = 0;
+    }
+
+    private boolean expired(final long lastSeen, final long timestamp) {
+        return timestamp - lastSeen > window;
+    }
+
+    private static int hash(final long high, final int low) {
+        long h = high * 0x9E3779B97F4A7C15L + low;
+        h ^= h >>> 31;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.pedrozc90.epcs.schemes;
+
+/**
+ * Receives the RFID tags produced by {@link EpcTemplate#encodeRange(long, int, EpcEncodeSink)}.
+ */
+@FunctionalInterface
+public interface EpcEncodeSink {
+
+    /**
+     * @param serial  - serial of the tag
+     * @param rfidTag - hexadecimal RFID tag, only valid during the call, use {@code toString()} to keep it
+     */
+    void accept(final long serial, final CharSequence rfidTag);
+
+}
@@ -0,0 +1,76 @@
+package com.pedrozc90.epcs.schemes;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reasons an RFID tag could not be decoded, see {@link EpcBatch#error(int)} and {@link DecodeResult#error()}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EpcError {
+
+    NONE("Decoded"),
+    EMPTY("RFID tag is null or empty"),
+    INVALID_HEX("RFID tag has a non hexadecimal character"),
+    TOO_SHORT("RFID tag is shorter than the size announced by its header"),
+    UNSUPPORTED_HEADER("EPC header is not supported"),
+    INVALID_PARTITION("Partition value is invalid"),
+    INVALID_URI("EPC URI does not name a supported scheme"),
+    INVALID_FIELD("RFID tag has a field out of range for its scheme");
+
+    private static final int LOCATED_BITS = 512;
+
+    private static final EpcError[] _values = values();
+    private static final EpcDecodeException[] _exceptions = new EpcDecodeException[_values.length];
+
+    static {
+        for (EpcError error : _values) {
+            _exceptions[error.ordinal()] = new EpcDecodeException(error, -1);
+        }
+    }
+
+    private final String message;
+    private final AtomicReferenceArray<EpcDecodeException> located = new AtomicReferenceArray<>(LOCATED_BITS);
+
+    /**
+     * @param code - compact error code, as stored by {@link EpcBatch}
+     * @return error matching the code
+     */
+    static EpcError of(final int code) {
+        return _values[code];
+    }
+
+    /**
+     * @return compact error code, {@code 0} when the tag was decoded
+     */
+    public int code() {
+        return ordinal();
+    }
+
+    /**
+     * @return preallocated exception without stack trace carrying the error message, shared by every caller
+     */
+    public EpcDecodeException exception() {
+        return _exceptions[ordinal()];
+    }
+
+    /**
+     * @param bitOffset - offset of the first bit that could not be decoded
+     * @return exception without stack trace, created once per offset and shared by every caller
+     */
+    public EpcDecodeException exception(final int bitOffset) {
+        if (bitOffset < 0 || bitOffset >= LOCATED_BITS) {
+            return new EpcDecodeException(this, bitOffset);
+        }
+        final EpcDecodeException exception = located.get(bitOffset);
+        if (exception != null) {
+            return exception;
+        }
+        located.compareAndSet(bitOffset, null, new EpcDecodeException(this, bitOffset));
+        return located.get(bitOffset);
+    }
+
+}
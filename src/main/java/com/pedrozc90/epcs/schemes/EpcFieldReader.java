@@ -0,0 +1,159 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.Encoding6Bit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+
+/**
+ * Reads the fields of an RFID tag for the codecs, checking them against the scheme first.
+ *
+ * <p>A malformed tag fails with the preallocated {@link EpcDecodeException} of its
+ * {@link EpcError} at the offset of the failing field, so foreign or truncated tags never build
+ * a stack trace or a formatted message.</p>
+ */
+public final class EpcFieldReader {
+
+    private static final int PARTITION_OFFSET = 11;
+    private static final int PARTITION_BITS = 3;
+    private static final int MAX_PARTITION_VALUE = 6;
+    private static final int MAX_DIGITS = 18;
+
+    private EpcFieldReader() {
+    }
+
+    /**
+     * @param buffer - packed RFID tag bits
+     * @param bits   - number of bits the next field needs, counted from the start of the tag
+     * @throws EpcDecodeException {@link EpcError#TOO_SHORT} at the end of the buffer if it holds fewer bits
+     */
+    public static void checkSize(final BitBuffer buffer, final int bits) throws EpcDecodeException {
+        if (buffer.length() < bits) {
+            throw EpcError.TOO_SHORT.exception(buffer.length());
+        }
+    }
+
+    /**
+     * @param buffer - packed RFID tag bits
+     * @return partition value (0 - 6)
+     * @throws EpcDecodeException {@link EpcError#INVALID_PARTITION} if the value has no row in the partition tables
+     */
+    public static int partition(final BitBuffer buffer) throws EpcDecodeException {
+        checkSize(buffer, TableItem.COMPANY_PREFIX_OFFSET);
+        final int value = (int) buffer.getBits(PARTITION_OFFSET, PARTITION_BITS);
+        if (value > MAX_PARTITION_VALUE) {
+            throw EpcError.INVALID_PARTITION.exception(PARTITION_OFFSET);
+        }
+        return value;
+    }
+
+    /**
+     * @param buffer - packed RFID tag bits
+     * @param offset - index of the first bit of the field
+     * @param length - number of bits (up to 64)
+     * @param digits - number of decimal digits, leading zeros included
+     * @return decimal representation with leading zeros
+     * @throws EpcDecodeException {@link EpcError#INVALID_FIELD} at the field if its value needs more digits
+     */
+    public static String decimal(final BitBuffer buffer, final int offset, final int length, final int digits) throws EpcDecodeException {
+        checkSize(buffer, offset + length);
+        final long value = buffer.getBits(offset, length);
+        if (digits <= MAX_DIGITS && Long.compareUnsigned(value, BinaryUtils.powerOfTen(digits)) >= 0) {
+            throw EpcError.INVALID_FIELD.exception(offset);
+        }
+        return BinaryUtils.toDecimal(value, digits);
+    }
+
+    /**
+     * @param buffer - packed RFID tag bits
+     * @param offset - index of the first bit of the field
+     * @param length - number of bits
+     * @param bits   - encoding bits, 6 bits or 7 bits
+     * @return decoded alphanumeric string
+     * @throws EpcDecodeException {@link EpcError#INVALID_FIELD} at the first character outside the character set, or at the field if it is empty
+     */
+    public static String text(final BitBuffer buffer, final int offset, final int length, final int bits) throws EpcDecodeException {
+        checkSize(buffer, offset + length);
+        final int invalid = (bits == 6)
+            ? Encoding6Bit.indexOfInvalid(buffer, offset, length)
+            : Encoding7Bit.indexOfInvalid(buffer, offset, length);
+        if (invalid >= 0) {
+            throw EpcError.INVALID_FIELD.exception(offset + invalid);
+        }
+        final String value = BinaryUtils.decodeString(buffer, offset, length, bits);
+        if (value.isEmpty()) {
+            throw EpcError.INVALID_FIELD.exception(offset);
+        }
+        return value;
+    }
+
+    /**
+     * Copies the bits of a decoded tag, so the epc keeps the bits it was read from instead of
+     * re-encoding its fields. Re-encoding would read a '%' in a text field as an escape sequence.
+     *
+     * @param buffer - packed RFID tag bits, the caller may reuse it
+     * @param bits   - number of bits of the tag
+     * @param length - number of bits of the copy, the bits past the tag are zero
+     * @return independent copy of the tag bits
+     */
+    public static BitBuffer copy(final BitBuffer buffer, final int bits, final int length) {
+        final BitBuffer copy = new BitBuffer(length);
+        for (int i = 0; i < bits; i += 64) {
+            final int count = Math.min(64, bits - i);
+            copy.putBits(i, count, buffer.getBits(i, count));
+        }
+        return copy;
+    }
+
+    /* --- Raw Bytes --- */
+
+    /**
+     * @param length - number of bytes of the RFID tag
+     * @param bits   - number of bits the next field needs, counted from the start of the tag
+     * @throws EpcDecodeException {@link EpcError#TOO_SHORT} at the end of the tag if it holds fewer bits
+     */
+    public static void checkSize(final int length, final int bits) throws EpcDecodeException {
+        if (length * 8 < bits) {
+            throw EpcError.TOO_SHORT.exception(length * 8);
+        }
+    }
+
+    /**
+     * @param bytes  - raw RFID tag bytes
+     * @param offset - index of the first byte
+     * @param length - number of bytes
+     * @return partition value (0 - 6)
+     * @throws EpcDecodeException {@link EpcError#INVALID_PARTITION} if the value has no row in the partition tables
+     */
+    public static int partition(final byte[] bytes, final int offset, final int length) throws EpcDecodeException {
+        checkSize(length, TableItem.COMPANY_PREFIX_OFFSET);
+        final int value = (int) BitBuffer.getBits(bytes, offset, length, PARTITION_OFFSET, PARTITION_BITS);
+        if (value > MAX_PARTITION_VALUE) {
+            throw EpcError.INVALID_PARTITION.exception(PARTITION_OFFSET);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a numeric field without formatting it, see {@link #decimal(BitBuffer, int, int, int)}.
+     *
+     * @param bytes     - raw RFID tag bytes
+     * @param offset    - index of the first byte
+     * @param length    - number of bytes
+     * @param bitOffset - index of the first bit of the field
+     * @param bitCount  - number of bits (up to 64)
+     * @param digits    - number of decimal digits, leading zeros included
+     * @return field value
+     * @throws EpcDecodeException {@link EpcError#INVALID_FIELD} at the field if its value needs more digits
+     */
+    public static long decimalValue(final byte[] bytes, final int offset, final int length, final int bitOffset, final int bitCount, final int digits) throws EpcDecodeException {
+        checkSize(length, bitOffset + bitCount);
+        final long value = BitBuffer.getBits(bytes, offset, length, bitOffset, bitCount);
+        if (digits <= MAX_DIGITS && Long.compareUnsigned(value, BinaryUtils.powerOfTen(digits)) >= 0) {
+            throw EpcError.INVALID_FIELD.exception(bitOffset);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.pedrozc90.epcs.schemes;
+
+/**
+ * Receives the fields of an RFID tag as they are decoded, without building an {@link com.pedrozc90.epcs.objects.Epc}.
+ *
+ * <p>Numeric fields are pushed as primitives together with the number of decimal digits they
+ * occupy, so a 96-bit tag is decoded without any heap allocation. Alphanumeric fields of the
+ * larger tag sizes are pushed as text.</p>
+ *
+ * <p>Fields are pushed in order: {@link #header}, {@link #companyPrefix}, {@link #reference}
+ * and, for schemes that carry one, {@link #serial}. The meaning of the reference and serial
+ * depends on the scheme:</p>
+ * <ul>
+ *     <li>sgtin - indicator/extension digit followed by the item reference, serial</li>
+ *     <li>sscc - extension digit followed by the serial reference, no serial</li>
+ *     <li>sgln - location reference, extension as serial</li>
+ *     <li>grai - asset type, serial</li>
+ *     <li>gdti - document type, serial</li>
+ *     <li>giai - individual asset reference, no serial</li>
+ *     <li>gsrn, gsrnp - service reference, no serial</li>
+ *     <li>cpi - component/part reference, serial</li>
+ * </ul>
+ */
+public interface EpcFieldSink {
+
+    /**
+     * @param scheme         - scheme owning the tag header
+     * @param tagSize        - tag size in bits, {@code 0} for variable length tags (cpi-var)
+     * @param filterValue    - filter value (0 - 7)
+     * @param partitionValue - partition value (0 - 6)
+     */
+    void header(final EpcScheme scheme, final int tagSize, final int filterValue, final int partitionValue);
+
+    /**
+     * @param value  - company prefix
+     * @param digits - number of decimal digits, leading zeros included
+     */
+    void companyPrefix(final long value, final int digits);
+
+    /**
+     * @param value  - numeric reference
+     * @param digits - number of decimal digits, leading zeros included, {@code 0} if the reference has no fixed width
+     */
+    void reference(final long value, final int digits);
+
+    /**
+     * @param value - alphanumeric reference
+     */
+    void reference(final CharSequence value);
+
+    /**
+     * @param value - numeric serial, it has no leading zeros
+     */
+    void serial(final long value);
+
+    /**
+     * @param value - alphanumeric serial
+     */
+    void serial(final CharSequence value);
+
+}
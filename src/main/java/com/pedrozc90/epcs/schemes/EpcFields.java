@@ -0,0 +1,176 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.utils.StringUtils;
+
+/**
+ * Reusable holder of the fields of a decoded RFID tag.
+ *
+ * <p>One instance is meant to be kept per reading thread and passed to
+ * {@link EpcDecoder#decode(byte[], int, int, EpcFieldSink)} over and over: every decode
+ * overwrites the previous fields instead of allocating a new object.
+ * Instances are not thread-safe.</p>
+ */
+public final class EpcFields implements EpcFieldSink {
+
+    private EpcScheme scheme;
+    private int tagSize;
+    private int filterValue;
+    private int partitionValue;
+
+    private long companyPrefix;
+    private int companyPrefixDigits;
+
+    private long reference;
+    private int referenceDigits;
+    private CharSequence referenceText;
+
+    private boolean hasSerial;
+    private long serial;
+    private CharSequence serialText;
+
+    /**
+     * Resets every field, it is called when a new tag header is pushed.
+     */
+    public void clear() {
+        scheme = null;
+        tagSize = 0;
+        filterValue = 0;
+        partitionValue = 0;
+        companyPrefix = 0L;
+        companyPrefixDigits = 0;
+        reference = 0L;
+        referenceDigits = 0;
+        referenceText = null;
+        hasSerial = false;
+        serial = 0L;
+        serialText = null;
+    }
+
+    /* --- Sink --- */
+    @Override
+    public void header(final EpcScheme scheme, final int tagSize, final int filterValue, final int partitionValue) {
+        clear();
+        this.scheme = scheme;
+        this.tagSize = tagSize;
+        this.filterValue = filterValue;
+        this.partitionValue = partitionValue;
+    }
+
+    @Override
+    public void companyPrefix(final long value, final int digits) {
+        this.companyPrefix = value;
+        this.companyPrefixDigits = digits;
+    }
+
+    @Override
+    public void reference(final long value, final int digits) {
+        this.reference = value;
+        this.referenceDigits = digits;
+        this.referenceText = null;
+    }
+
+    @Override
+    public void reference(final CharSequence value) {
+        this.reference = 0L;
+        this.referenceDigits = 0;
+        this.referenceText = value;
+    }
+
+    @Override
+    public void serial(final long value) {
+        this.hasSerial = true;
+        this.serial = value;
+        this.serialText = null;
+    }
+
+    @Override
+    public void serial(final CharSequence value) {
+        this.hasSerial = true;
+        this.serial = 0L;
+        this.serialText = value;
+    }
+
+    /* --- Accessors --- */
+    public EpcScheme scheme() {
+        return scheme;
+    }
+
+    public int tagSize() {
+        return tagSize;
+    }
+
+    public int filterValue() {
+        return filterValue;
+    }
+
+    public int partitionValue() {
+        return partitionValue;
+    }
+
+    public long companyPrefix() {
+        return companyPrefix;
+    }
+
+    public int companyPrefixDigits() {
+        return companyPrefixDigits;
+    }
+
+    /**
+     * @return numeric reference, {@code 0} if the reference is alphanumeric
+     */
+    public long reference() {
+        return reference;
+    }
+
+    public int referenceDigits() {
+        return referenceDigits;
+    }
+
+    /**
+     * @return alphanumeric reference, {@code null} if the reference is numeric
+     */
+    public CharSequence referenceText() {
+        return referenceText;
+    }
+
+    /**
+     * @return true if the scheme carries a serial
+     */
+    public boolean hasSerial() {
+        return hasSerial;
+    }
+
+    /**
+     * @return numeric serial, {@code 0} if the serial is alphanumeric or absent
+     */
+    public long serial() {
+        return serial;
+    }
+
+    /**
+     * @return alphanumeric serial, {@code null} if the serial is numeric or absent
+     */
+    public CharSequence serialText() {
+        return serialText;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EpcFields[")
+            .append(scheme == null ? null : scheme.getValue())
+            .append('-').append(tagSize == 0 ? "var" : Integer.toString(tagSize))
+            .append(':').append(filterValue)
+            .append('.').append(StringUtils.leftPad(Long.toString(companyPrefix), companyPrefixDigits, '0'))
+            .append('.');
+        if (referenceText != null) {
+            sb.append(referenceText);
+        } else {
+            sb.append(StringUtils.leftPad(Long.toString(reference), referenceDigits, '0'));
+        }
+        if (hasSerial) {
+            sb.append('.').append(serialText != null ? serialText : Long.toString(serial));
+        }
+        return sb.append(']').toString();
+    }
+
+}
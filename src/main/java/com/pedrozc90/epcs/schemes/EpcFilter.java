@@ -0,0 +1,375 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.EpcBits;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.cpi.partitionTable.CPIPartitionTable;
+import com.pedrozc90.epcs.schemes.gdti.partitionTable.GDTIPartitionTable;
+import com.pedrozc90.epcs.schemes.giai.partitionTable.GIAIPartitionTable;
+import com.pedrozc90.epcs.schemes.grai.partitionTable.GRAIPartitionTable;
+import com.pedrozc90.epcs.schemes.gsrn.partitionTable.GSRNPartitionTable;
+import com.pedrozc90.epcs.schemes.gsrnp.partitionTable.GSRNPPartitionTable;
+import com.pedrozc90.epcs.schemes.sgln.partitionTable.SGLNPartitionTable;
+import com.pedrozc90.epcs.schemes.sgtin.partitionTable.SGTINPartitionTable;
+import com.pedrozc90.epcs.schemes.sscc.partitionTable.SSCCPartitionTable;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Predicate on raw RFID tag bits, tested without decoding the tag.
+ *
+ * <pre>{@code
+ * final EpcFilter filter = EpcFilter.builder()
+ *     .withScheme(EpcScheme.SGTIN)
+ *     .withFilterValue(3)
+ *     .withCompanyPrefix("0614141")
+ *     .withReference("812345", "812346")
+ *     .build();
+ * final boolean keep = filter.matches("3074257BF7194E4000001A85");
+ * }</pre>
+ *
+ * <p>The criteria are compiled once, per header and partition, into a mask and compare value
+ * over the first 64 bits of the tag (header, partition and a single company prefix), a bit set
+ * of filter values and sorted arrays of company prefixes and references. Testing a tag looks up
+ * the rule of its header and partition, so tags of other schemes, tag sizes or prefix lengths
+ * are rejected after one or two array reads and the remaining ones after a mask compare.</p>
+ *
+ * <p>Criteria of different kinds are combined with AND, values of the same kind with OR. A
+ * company prefix or reference only matches partitions of its own length, as the digits are
+ * part of the encoding ("0614141" never matches "614141"). References are the fields that
+ * follow the company prefix, zero padded to the partition digits: the indicator digit and item
+ * reference of sgtin ("812345"), the extension digit and serial reference of sscc, the location
+ * reference of sgln, the asset type of grai, the document type of gdti and the service
+ * reference of gsrn and gsrnp. The reference of giai and cpi is variable and cannot be filtered.</p>
+ *
+ * <p>Only the first 128 bits of a tag are inspected: a tag that matches may still fail to
+ * decode, ex: a malformed serial. Filters are immutable and can be shared between threads.</p>
+ */
+public final class EpcFilter {
+
+    // partition values 0 - 6, 7 is reserved by every scheme
+    private static final int PARTITIONS = 7;
+    private static final int COMPANY_PREFIX_END = 64 - TableItem.COMPANY_PREFIX_OFFSET;
+
+    // schemes whose reference is a fixed length number
+    private static final Set<EpcScheme> REFERENCE_SCHEMES = EnumSet.of(
+        EpcScheme.GDTI, EpcScheme.GRAI, EpcScheme.GSRN, EpcScheme.GSRNP, EpcScheme.SGLN, EpcScheme.SGTIN, EpcScheme.SSCC
+    );
+
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) HEX_DIGITS['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['A' + i] = (byte) (10 + i);
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    // rules indexed by (header << 3) | partition, null when nothing can match
+    private final Rule[] rules;
+    private final boolean[] headers;
+
+    private EpcFilter(final Rule[] rules) {
+        this.rules = rules;
+        this.headers = new boolean[256];
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i] != null) headers[i >>> 3] = true;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return true if the tag meets the criteria
+     */
+    public boolean matches(final byte[] rfidTag, final int offset, final int length) {
+        if (length < 2 || !headers[rfidTag[offset] & 0xFF]) return false;
+        long high = 0L;
+        long low = 0L;
+        final int count = Math.min(length, 16);
+        for (int i = 0; i < count; i++) {
+            final long b = rfidTag[offset + i] & 0xFFL;
+            if (i < 8) high |= b << (56 - (i << 3));
+            else low |= b << (120 - (i << 3));
+        }
+        return matches(high, low, length << 3);
+    }
+
+    /**
+     * @param rfidTag - hexadecimal RFID tag, ex: "3074257BF7194E4000001A85"
+     * @return true if the tag meets the criteria, false if it does not or is not hexadecimal
+     */
+    public boolean matches(final CharSequence rfidTag) {
+        final int length = rfidTag.length();
+        if (length < 4) return false;
+        final int header = (digit(rfidTag.charAt(0)) << 4) | digit(rfidTag.charAt(1));
+        if (header < 0 || !headers[header]) return false;
+        long high = 0L;
+        long low = 0L;
+        int invalid = 0;
+        final int count = Math.min(length, 32);
+        for (int i = 0; i < count; i++) {
+            final int d = digit(rfidTag.charAt(i));
+            invalid |= d;
+            if (i < 16) high |= (long) (d & 0xF) << (60 - (i << 2));
+            else low |= (long) (d & 0xF) << (124 - (i << 2));
+        }
+        return invalid >= 0 && matches(high, low, length << 2);
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit tag
+     * @return true if the tag meets the criteria
+     */
+    public boolean matches(final Epc96 rfidTag) {
+        return matches(rfidTag.high(), (long) rfidTag.low() << 32, Epc96.BITS);
+    }
+
+    /**
+     * @param rfidTag - tag bits
+     * @return true if the tag meets the criteria
+     */
+    public boolean matches(final EpcBits rfidTag) {
+        return matches(rfidTag.word(0), rfidTag.word(1), rfidTag.length());
+    }
+
+    /**
+     * @param epc - decoded epc
+     * @return true if the tag meets the criteria
+     */
+    public boolean matches(final Epc epc) {
+        return matches(epc.rfidTag());
+    }
+
+    /* --- Helpers --- */
+
+    /**
+     * @param high   - bits 0 to 63 of the tag
+     * @param low    - bits 64 to 127 of the tag, left aligned
+     * @param length - number of bits of the tag
+     */
+    private boolean matches(final long high, final long low, final int length) {
+        final Rule rule = rules[(int) (high >>> 56) << 3 | (int) (high >>> 50) & 7];
+        if (rule == null || length < rule.minLength || (high & rule.mask) != rule.value) return false;
+        if ((rule.filterValues >>> ((int) (high >>> 53) & 7) & 1) == 0) return false;
+        if (rule.companyPrefixes != null
+            && Arrays.binarySearch(rule.companyPrefixes, (high >>> rule.companyPrefixShift) & rule.companyPrefixMask) < 0) {
+            return false;
+        }
+        return rule.references == null
+            || Arrays.binarySearch(rule.references, field(high, low, rule.referenceOffset, rule.referenceLength)) >= 0;
+    }
+
+    private static long field(final long high, final long low, final int offset, final int length) {
+        final int end = offset + length;
+        final long mask = (1L << length) - 1;
+        if (end <= 64) return (high >>> (64 - end)) & mask;
+        if (offset >= 64) return (low >>> (128 - end)) & mask;
+        return ((high << (end - 64)) | (low >>> (128 - end))) & mask;
+    }
+
+    static int digit(final char c) {
+        return (c < 128) ? HEX_DIGITS[c] : -1;
+    }
+
+    static PartitionTable partitionTable(final EpcScheme scheme, final int tagSize) {
+        return switch (scheme) {
+            case CPI -> CPIPartitionTable.getInstance(tagSize);
+            case GDTI -> new GDTIPartitionTable();
+            case GIAI -> GIAIPartitionTable.getInstance(tagSize);
+            case GRAI -> new GRAIPartitionTable();
+            case GSRN -> new GSRNPartitionTable();
+            case GSRNP -> new GSRNPPartitionTable();
+            case SGLN -> new SGLNPartitionTable();
+            case SGTIN -> new SGTINPartitionTable();
+            case SSCC -> new SSCCPartitionTable();
+        };
+    }
+
+    /**
+     * Compiled criteria of one header and partition.
+     *
+     * @param minLength        - bits the tag must hold, the tag size of the header
+     * @param mask             - bits of the first word compared with {@code value}
+     * @param value            - expected header, partition and single company prefix
+     * @param filterValues     - bit set of the accepted filter values
+     * @param companyPrefixes  - sorted accepted company prefixes, {@code null} when folded into the mask or unrestricted
+     * @param companyPrefixShift - distance between the last bit of the company prefix and the end of the first word
+     * @param companyPrefixMask  - mask of the company prefix bits
+     * @param referenceOffset  - index of the first bit of the reference
+     * @param referenceLength  - bit count of the reference
+     * @param references       - sorted accepted references, {@code null} when unrestricted
+     */
+    private record Rule(int minLength, long mask, long value, int filterValues,
+                        long[] companyPrefixes, int companyPrefixShift, long companyPrefixMask,
+                        int referenceOffset, int referenceLength, long[] references) {
+    }
+
+    /* --- Builder --- */
+    public static final class Builder {
+
+        private final Set<EpcScheme> schemes = EnumSet.noneOf(EpcScheme.class);
+        private final Set<Integer> tagSizes = new TreeSet<>();
+        private final Set<String> companyPrefixes = new TreeSet<>();
+        private final Set<String> references = new TreeSet<>();
+        private int filterValues = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * @param schemes - accepted schemes, defaults to every scheme
+         */
+        public Builder withScheme(final EpcScheme... schemes) {
+            this.schemes.addAll(Arrays.asList(schemes));
+            return this;
+        }
+
+        /**
+         * @param tagSizes - accepted tag sizes in bits, ex: 96, defaults to every tag size
+         */
+        public Builder withTagSize(final int... tagSizes) {
+            for (int tagSize : tagSizes) {
+                if (tagSize < 1) {
+                    throw new IllegalArgumentException("Tag size must be positive: " + tagSize);
+                }
+                this.tagSizes.add(tagSize);
+            }
+            return this;
+        }
+
+        /**
+         * @param filterValues - accepted filter values (0 - 7), defaults to every filter value
+         */
+        public Builder withFilterValue(final int... filterValues) {
+            for (int filterValue : filterValues) {
+                if (filterValue < 0 || filterValue > 7) {
+                    throw new IllegalArgumentException("Filter value %d is out of range. Should be between 0 and 7".formatted(filterValue));
+                }
+                this.filterValues |= 1 << filterValue;
+            }
+            return this;
+        }
+
+        /**
+         * @param companyPrefixes - accepted company prefixes, ex: "0614141", defaults to every company prefix
+         */
+        public Builder withCompanyPrefix(final String... companyPrefixes) {
+            for (String companyPrefix : companyPrefixes) {
+                if (companyPrefix.length() < 6 || companyPrefix.length() > 12 || !isDigits(companyPrefix)) {
+                    throw new IllegalArgumentException("Company prefix must be 6 to 12 digits, got: '%s'".formatted(companyPrefix));
+                }
+                this.companyPrefixes.add(companyPrefix);
+            }
+            return this;
+        }
+
+        /**
+         * @param references - accepted references with their leading zeros, ex: "812345", defaults to every reference
+         */
+        public Builder withReference(final String... references) {
+            for (String reference : references) {
+                if (reference.isEmpty() || reference.length() > 18 || !isDigits(reference)) {
+                    throw new IllegalArgumentException("Reference must be 1 to 18 digits, got: '%s'".formatted(reference));
+                }
+                this.references.add(reference);
+            }
+            return this;
+        }
+
+        /**
+         * @return compiled filter
+         * @throws IllegalArgumentException if references are combined with giai or cpi
+         */
+        public EpcFilter build() {
+            final Set<EpcScheme> accepted = EnumSet.allOf(EpcScheme.class);
+            if (!schemes.isEmpty()) accepted.retainAll(schemes);
+            if (!references.isEmpty()) {
+                if (!schemes.isEmpty() && !REFERENCE_SCHEMES.containsAll(schemes)) {
+                    throw new IllegalArgumentException("References cannot be filtered for giai and cpi");
+                }
+                accepted.retainAll(REFERENCE_SCHEMES);
+            }
+
+            final Rule[] rules = new Rule[256 << 3];
+            for (int header = 0; header < 256; header++) {
+                final EpcScheme scheme = EpcScheme.of(header);
+                if (scheme == null || !accepted.contains(scheme)) continue;
+                final int tagSize = EpcScheme.tagSize(header);
+                if (!tagSizes.isEmpty() && !tagSizes.contains(tagSize)) continue;
+
+                final PartitionTable table = partitionTable(scheme, tagSize);
+                for (int partition = 0; partition < PARTITIONS; partition++) {
+                    final TableItem item = table.getPartitionByValue(partition);
+                    if (item != null) {
+                        rules[(header << 3) | partition] = compile(header, tagSize, item);
+                    }
+                }
+            }
+            return new EpcFilter(rules);
+        }
+
+        /* --- Helpers --- */
+        private Rule compile(final int header, final int tagSize, final TableItem item) {
+            final long[] prefixes = values(companyPrefixes, item.l());
+            final long[] refs = values(references, item.digits());
+            if (prefixes != null && prefixes.length == 0 || refs != null && refs.length == 0) {
+                return null;
+            }
+
+            final int shift = COMPANY_PREFIX_END - item.m();
+            long mask = 0xFFL << 56 | 7L << 50;
+            long value = (long) header << 56 | (long) item.partitionValue() << 50;
+            if (prefixes != null && prefixes.length == 1) {
+                mask |= item.companyPrefixMask() << shift;
+                value |= prefixes[0] << shift;
+            }
+
+            return new Rule(
+                (tagSize > 0) ? tagSize : item.referenceOffset(),
+                mask,
+                value,
+                (filterValues == 0) ? 0xFF : filterValues,
+                (prefixes != null && prefixes.length > 1) ? prefixes : null,
+                shift,
+                item.companyPrefixMask(),
+                item.referenceOffset(),
+                item.n(),
+                refs
+            );
+        }
+
+        /**
+         * @return sorted values of the given length, {@code null} when the criteria is not set
+         */
+        private static long[] values(final Set<String> criteria, final int digits) {
+            if (criteria.isEmpty()) return null;
+            return criteria.stream()
+                .filter(value -> value.length() == digits)
+                .mapToLong(Long::parseLong)
+                .sorted()
+                .toArray();
+        }
+
+        private static boolean isDigits(final String value) {
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c < '0' || c > '9') return false;
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Textual representations of an EPC read and written by {@link EpcTranscoder}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EpcFormat {
+
+    RFID_TAG("hex", true) {
+        @Override
+        public String format(final Epc epc) {
+            return epc.rfidTag();
+        }
+    },
+    TAG_URI("tag-uri", true) {
+        @Override
+        public String format(final Epc epc) {
+            return epc.epcTagURI();
+        }
+    },
+    PURE_IDENTITY_URI("pure-uri", true) {
+        @Override
+        public String format(final Epc epc) {
+            return epc.epcPureIdentityURI();
+        }
+    },
+    RAW_URI("raw-uri", false) {
+        @Override
+        public String format(final Epc epc) {
+            return epc.epcRawURI();
+        }
+    },
+    /**
+     * Comma separated scheme, tag size, filter value, partition value and the fields of the
+     * pure identity, ex: "sgtin,96,3,5,0614141,812345,6789". The last field is kept whole, the
+     * alphanumeric serials and references it may hold can contain dots.
+     */
+    FIELDS("fields", false) {
+        @Override
+        public String format(final Epc epc) {
+            final String uri = epc.epcPureIdentityURI();
+            final StringBuilder sb = new StringBuilder(uri.length() + 16)
+                .append(epc.epcScheme()).append(',')
+                .append(epc.tagSize()).append(',')
+                .append(epc.filterValue()).append(',')
+                .append(epc.partitionValue());
+
+            // "urn:epc:id:<scheme>:" is followed by the dot separated fields
+            int start = uri.indexOf(':', PURE_IDENTITY_URI_PREFIX_LENGTH) + 1;
+            for (int i = fieldCount(EpcScheme.ofURI(uri)); i > 1; i--) {
+                final int dot = uri.indexOf('.', start);
+                if (dot < 0) break;
+                appendCsv(sb.append(','), uri, start, dot);
+                start = dot + 1;
+            }
+            appendCsv(sb.append(','), uri, start, uri.length());
+            return sb.toString();
+        }
+    };
+
+    private static final int PURE_IDENTITY_URI_PREFIX_LENGTH = "urn:epc:id:".length();
+
+    private final String value;
+    private final boolean readable;
+
+    /**
+     * @param epc - decoded epc
+     * @return epc in this representation
+     */
+    public abstract String format(final Epc epc);
+
+    /**
+     * @param value - format name, ex: "hex", "tag-uri"
+     * @return matching format
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static EpcFormat of(final String value) {
+        for (EpcFormat row : values()) {
+            if (row.value.equals(value)) return row;
+        }
+        throw new IllegalArgumentException("EPC format '%s' is invalid. Allowed only hex, tag-uri, pure-uri, raw-uri or fields".formatted(value));
+    }
+
+    /**
+     * @return number of dot separated fields of the pure identity URI of the scheme
+     */
+    private static int fieldCount(final EpcScheme scheme) {
+        return switch (scheme) {
+            case GIAI, GSRN, GSRNP, SSCC -> 2;
+            case CPI, GDTI, GRAI, SGLN, SGTIN -> 3;
+        };
+    }
+
+    private static void appendCsv(final StringBuilder sb, final String value, final int start, final int end) {
+        boolean quote = false;
+        for (int i = start; i < end && !quote; i++) {
+            final char c = value.charAt(i);
+            quote = c == ',' || c == '"';
+        }
+        if (!quote) {
+            sb.append(value, start, end);
+            return;
+        }
+        sb.append('"');
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+}
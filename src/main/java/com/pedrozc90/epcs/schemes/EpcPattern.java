@@ -0,0 +1,296 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.EpcBits;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.cpi.objects.CPI;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.util.Objects;
+
+/**
+ * EPC Pattern URI, ex: "urn:epc:idpat:sgtin:0614141.812345.*", matched against raw RFID tag bits.
+ *
+ * <pre>{@code
+ * final EpcPattern pattern = EpcPattern.parse("urn:epc:idpat:sgtin:0614141.812345.*");
+ * final boolean match = pattern.matches(Epc96.fromHex("3074257BF7194E4000001A85"));
+ * }</pre>
+ *
+ * <p>A pattern has the components of the scheme's pure identity URI, where a trailing run of
+ * components may be replaced by "*": "cp.ref.serial", "cp.ref.*", "cp.*.*" or "*.*.*" for
+ * sgtin, sgln, grai, gdti and cpi, and "cp.ref", "cp.*" or "*.*" for sscc, giai, gsrn and gsrnp.
+ * It matches the tags of every tag size and filter value of the scheme.</p>
+ *
+ * <p>Parsing encodes the fixed components once per tag size, through the scheme parser, and
+ * keeps the bits up to the end of the last fixed component as masked words. Matching looks up
+ * the header and compares those words with the tag, with the filter value masked out, so tags
+ * are never decoded nor formatted as URIs. Only the compared bits are read: a tag that matches
+ * may still fail to decode, ex: a malformed serial. Patterns are immutable and can be shared
+ * between threads.</p>
+ */
+public final class EpcPattern {
+
+    public static final String PREFIX = "urn:epc:idpat:";
+
+    // filter value bits (8 - 10) of the first word, ignored by identity patterns
+    private static final long FILTER_VALUE_MASK = 7L << 53;
+
+    private final String uri;
+    private final EpcScheme scheme;
+
+    // compiled pattern of each header, null when the header never matches
+    private final Template[] templates;
+
+    private EpcPattern(final String uri, final EpcScheme scheme, final Template[] templates) {
+        this.uri = uri;
+        this.scheme = scheme;
+        this.templates = templates;
+    }
+
+    /**
+     * @param uri - EPC Pattern URI, ex: "urn:epc:idpat:sgtin:0614141.812345.*"
+     * @return compiled pattern
+     * @throws EpcParseException if the URI is not a pattern of a supported scheme, or its components cannot be encoded
+     */
+    public static EpcPattern parse(final String uri) throws EpcParseException {
+        Objects.requireNonNull(uri, "Epc Pattern URI cannot be null");
+        if (!uri.startsWith(PREFIX)) {
+            throw new EpcParseException("Epc Pattern URI is invalid, expected prefix '%s': '%s'", PREFIX, uri);
+        }
+        final int colon = uri.indexOf(':', PREFIX.length());
+        final EpcScheme scheme = (colon < 0) ? null : scheme(uri.substring(PREFIX.length(), colon));
+        if (scheme == null) {
+            throw new EpcParseException("Epc Pattern URI scheme is not supported: '%s'", uri);
+        }
+
+        final String[] components = uri.substring(colon + 1).split("\\.", -1);
+        if (components.length != components(scheme)) {
+            throw new EpcParseException("Epc Pattern URI of %s must have %d components: '%s'", scheme.getValue(), components(scheme), uri);
+        }
+        int fixed = 0;
+        while (fixed < components.length && !components[fixed].equals("*")) {
+            if (components[fixed].isEmpty() || components[fixed].indexOf('*') >= 0) {
+                throw new EpcParseException("Epc Pattern URI component %d is invalid: '%s'", fixed + 1, uri);
+            }
+            fixed++;
+        }
+        for (int i = fixed; i < components.length; i++) {
+            if (!components[i].equals("*")) {
+                throw new EpcParseException("Epc Pattern URI can only have wildcards after the last fixed component: '%s'", uri);
+            }
+        }
+
+        final Template[] templates = new Template[256];
+        Exception failure = null;
+        for (int header = 0; header < 256; header++) {
+            if (EpcScheme.of(header) != scheme) continue;
+            try {
+                templates[header] = compile(scheme, header, components, fixed);
+            } catch (EpcParseException | IllegalArgumentException e) {
+                // the field parsers reject a value this tag size cannot hold with IllegalArgumentException,
+                // ex: an alphanumeric serial only fits the larger tag size
+                failure = e;
+            }
+        }
+        if (failure != null && isEmpty(templates)) {
+            throw new EpcParseException(failure, "Epc Pattern URI cannot be encoded: '%s'", uri);
+        }
+        return new EpcPattern(uri, scheme, templates);
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return true if the tag matches the pattern
+     */
+    public boolean matches(final byte[] rfidTag, final int offset, final int length) {
+        if (length < 1) return false;
+        final Template template = templates[rfidTag[offset] & 0xFF];
+        if (template == null || (length << 3) < template.minLength) return false;
+        for (int i = 0; i < template.masks.length; i++) {
+            long word = 0L;
+            final int from = i << 3;
+            final int to = Math.min(from + 8, length);
+            for (int j = from; j < to; j++) {
+                word |= (rfidTag[offset + j] & 0xFFL) << (56 - ((j - from) << 3));
+            }
+            if ((word & template.masks[i]) != template.values[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param rfidTag - hexadecimal RFID tag, ex: "3074257BF7194E4000001A85"
+     * @return true if the tag matches the pattern, false if it does not or is not hexadecimal
+     */
+    public boolean matches(final CharSequence rfidTag) {
+        final int length = rfidTag.length();
+        if (length < 2) return false;
+        final int header = (EpcFilter.digit(rfidTag.charAt(0)) << 4) | EpcFilter.digit(rfidTag.charAt(1));
+        final Template template = (header < 0) ? null : templates[header];
+        if (template == null || (length << 2) < template.minLength) return false;
+        for (int i = 0; i < template.masks.length; i++) {
+            long word = 0L;
+            int invalid = 0;
+            final int from = i << 4;
+            final int to = Math.min(from + 16, length);
+            for (int j = from; j < to; j++) {
+                final int d = EpcFilter.digit(rfidTag.charAt(j));
+                invalid |= d;
+                word |= (long) (d & 0xF) << (60 - ((j - from) << 2));
+            }
+            if (invalid < 0 || (word & template.masks[i]) != template.values[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit tag
+     * @return true if the tag matches the pattern
+     */
+    public boolean matches(final Epc96 rfidTag) {
+        final Template template = templates[rfidTag.header()];
+        if (template == null || Epc96.BITS < template.minLength) return false;
+        if ((rfidTag.high() & template.masks[0]) != template.values[0]) return false;
+        return template.masks.length == 1 || (((long) rfidTag.low() << 32) & template.masks[1]) == template.values[1];
+    }
+
+    /**
+     * @param rfidTag - tag bits
+     * @return true if the tag matches the pattern
+     */
+    public boolean matches(final EpcBits rfidTag) {
+        final int header = rfidTag.header();
+        final Template template = (header < 0) ? null : templates[header];
+        if (template == null || rfidTag.length() < template.minLength) return false;
+        for (int i = 0; i < template.masks.length; i++) {
+            if ((rfidTag.word(i) & template.masks[i]) != template.values[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param epc - decoded epc
+     * @return true if the epc matches the pattern
+     */
+    public boolean matches(final Epc epc) {
+        return matches(epc.rfidTag());
+    }
+
+    public EpcScheme scheme() {
+        return scheme;
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EpcPattern other)) return false;
+        return uri.equals(other.uri);
+    }
+
+    @Override
+    public int hashCode() {
+        return uri.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return uri;
+    }
+
+    /* --- Helpers --- */
+
+    /**
+     * Encodes the fixed components with placeholders for the wildcards, and keeps the bits up to
+     * the end of the last fixed component.
+     */
+    private static Template compile(final EpcScheme scheme, final int header, final String[] components, final int fixed) throws EpcParseException {
+        final int tagSize = EpcScheme.tagSize(header);
+        if (fixed == 0) {
+            return template(BitBuffer.fromHex("%02X".formatted(header)), 8, tagSize);
+        }
+
+        final TableItem item = EpcFilter.partitionTable(scheme, tagSize).getPartitionByL(components[0].length());
+        if (item == null) {
+            throw new EpcParseException("Company prefix '%s' has an invalid length", components[0]);
+        }
+
+        final StringBuilder sb = new StringBuilder("urn:epc:id:").append(scheme.getValue()).append(':');
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) sb.append('.');
+            sb.append((i < fixed) ? components[i] : placeholder(scheme, item, i));
+        }
+        final Epc epc = scheme.decodeEpcPureIdentityURI(sb.toString(), tagSize, 0);
+        final BitBuffer bits = BitBuffer.fromHex(epc.rfidTag());
+
+        // cpi-var: 6 bits per reference character plus a 6-bit terminator, then the serial
+        final int end = (tagSize == 0) ? item.referenceOffset() + 6 * ((CPI) epc).componentPartReference().length() + 6 : 0;
+        final int length = switch (fixed) {
+            case 1 -> item.referenceOffset();
+            case 2 -> (components.length == 2) ? tagSize : (tagSize == 0) ? end : item.serialOffset();
+            default -> (tagSize == 0) ? end + 40 : tagSize;
+        };
+        return template(bits, length, tagSize);
+    }
+
+    private static Template template(final BitBuffer bits, final int length, final int tagSize) {
+        final long[] masks = new long[(length + 63) >>> 6];
+        final long[] values = new long[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            final int count = Math.min(64, length - (i << 6));
+            masks[i] = -1L << (64 - count);
+            values[i] = bits.getBits(i << 6, count) << (64 - count);
+        }
+        masks[0] &= ~FILTER_VALUE_MASK;
+        values[0] &= ~FILTER_VALUE_MASK;
+        return new Template(Math.max(tagSize, length), masks, values);
+    }
+
+    /**
+     * @return any valid value of a wildcard component, its bits are not compared
+     */
+    private static String placeholder(final EpcScheme scheme, final TableItem item, final int component) {
+        if (component == 1 && scheme != EpcScheme.GIAI && scheme != EpcScheme.CPI) {
+            return "0".repeat(item.digits());
+        }
+        // cpi-96 does not accept "0" as a serial
+        return "1";
+    }
+
+    private static int components(final EpcScheme scheme) {
+        return switch (scheme) {
+            case GIAI, GSRN, GSRNP, SSCC -> 2;
+            case CPI, GDTI, GRAI, SGLN, SGTIN -> 3;
+        };
+    }
+
+    private static EpcScheme scheme(final String value) {
+        for (EpcScheme scheme : EpcScheme.values()) {
+            if (scheme.getValue().equals(value)) return scheme;
+        }
+        return null;
+    }
+
+    private static boolean isEmpty(final Template[] templates) {
+        for (Template template : templates) {
+            if (template != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param minLength - bits the tag must hold
+     * @param masks     - compared bits of each word, left aligned
+     * @param values    - expected bits of each word
+     */
+    private record Template(int minLength, long[] masks, long[] values) {
+    }
+
+}
@@ -0,0 +1,389 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.cpi.CPICodec;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPIFilterValue;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPIHeader;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPITagSize;
+import com.pedrozc90.epcs.schemes.gdti.GDTICodec;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIFilterValue;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIHeader;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTITagSize;
+import com.pedrozc90.epcs.schemes.giai.GIAICodec;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIFilterValue;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIHeader;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.grai.GRAICodec;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIFilterValue;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIHeader;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAITagSize;
+import com.pedrozc90.epcs.schemes.gsrn.GSRNCodec;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNFilterValue;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNHeader;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNTagSize;
+import com.pedrozc90.epcs.schemes.gsrnp.GSRNPCodec;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPFilterValue;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPHeader;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPTagSize;
+import com.pedrozc90.epcs.schemes.sgln.SGLNCodec;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNFilterValue;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNHeader;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINCodec;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINHeader;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sscc.SSCCCodec;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCHeader;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * EPC schemes supported by the library, indexed by the 8-bit header of their binary encodings.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EpcScheme {
+
+    CPI("cpi") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return CPICodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            CPICodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return CPICodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return CPICodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, CPITagSize.of(tagSize), CPIFilterValue.of(filterValue));
+        }
+    },
+    GDTI("gdti") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return GDTICodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            GDTICodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return GDTICodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return GDTICodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, GDTITagSize.of(tagSize), GDTIFilterValue.of(filterValue));
+        }
+    },
+    GIAI("giai") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return GIAICodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            GIAICodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return GIAICodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return GIAICodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, GIAITagSize.of(tagSize), GIAIFilterValue.of(filterValue));
+        }
+    },
+    GRAI("grai") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return GRAICodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            GRAICodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return GRAICodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return GRAICodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, GRAITagSize.of(tagSize), GRAIFilterValue.of(filterValue));
+        }
+    },
+    GSRN("gsrn") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return GSRNCodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            GSRNCodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return GSRNCodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return GSRNCodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, GSRNTagSize.of(tagSize), GSRNFilterValue.of(filterValue));
+        }
+    },
+    GSRNP("gsrnp") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return GSRNPCodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            GSRNPCodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return GSRNPCodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return GSRNPCodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, GSRNPTagSize.of(tagSize), GSRNPFilterValue.of(filterValue));
+        }
+    },
+    SGLN("sgln") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return SGLNCodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            SGLNCodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return SGLNCodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return SGLNCodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, SGLNTagSize.of(tagSize), SGLNFilterValue.of(filterValue));
+        }
+    },
+    SGTIN("sgtin") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return SGTINCodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            SGTINCodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return SGTINCodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return SGTINCodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, SGTINTagSize.of(tagSize), SGTINFilterValue.of(filterValue));
+        }
+    },
+    SSCC("sscc") {
+        @Override
+        public Epc decode(final BitBuffer rfidTag) throws EpcParseException {
+            return SSCCCodec.INSTANCE.decode(rfidTag);
+        }
+
+        @Override
+        public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+            SSCCCodec.INSTANCE.decode(rfidTag, offset, length, sink);
+        }
+
+        @Override
+        public Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+            return SSCCCodec.INSTANCE.decodeEpcTagURI(epcTagURI);
+        }
+
+        @Override
+        public Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException {
+            return SSCCCodec.INSTANCE.decodeEpcPureIdentityURI(epcPureIdentityURI, SSCCTagSize.of(tagSize), SSCCFilterValue.of(filterValue));
+        }
+    };
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:";
+
+    private static final EpcScheme[] _values = values();
+    private static final EpcScheme[] _table = new EpcScheme[256];
+    private static final int[] _tagSizes = new int[256];
+
+    // "urn:epc:id:<scheme>:" by scheme, "urn:epc:tag:<scheme>-<size>:" by scheme and tag size
+    private static final String[] _pureIdentityURIPrefixes = new String[_values.length];
+    private static final String[][] _tagURIPrefixes = new String[_values.length][256];
+
+    static {
+        for (EpcScheme scheme : _values) {
+            _pureIdentityURIPrefixes[scheme.ordinal()] = PURE_IDENTITY_URI_PREFIX + scheme.value + ':';
+        }
+        for (CPIHeader row : CPIHeader.values()) register(row.getValue(), CPI, row.getTagSize());
+        for (GDTIHeader row : GDTIHeader.values()) register(row.getValue(), GDTI, row.getTagSize());
+        for (GIAIHeader row : GIAIHeader.values()) register(row.getValue(), GIAI, row.getTagSize());
+        for (GRAIHeader row : GRAIHeader.values()) register(row.getValue(), GRAI, row.getTagSize());
+        for (GSRNHeader row : GSRNHeader.values()) register(row.getValue(), GSRN, row.getTagSize());
+        for (GSRNPHeader row : GSRNPHeader.values()) register(row.getValue(), GSRNP, row.getTagSize());
+        for (SGLNHeader row : SGLNHeader.values()) register(row.getValue(), SGLN, row.getTagSize());
+        for (SGTINHeader row : SGTINHeader.values()) register(row.getValue(), SGTIN, row.getTagSize());
+        for (SSCCHeader row : SSCCHeader.values()) register(row.getValue(), SSCC, row.getTagSize());
+    }
+
+    private final String value;
+
+    /**
+     * Decodes an RFID tag whose header belongs to this scheme.
+     *
+     * @param rfidTag - packed tag bits, starting with the header
+     * @return decoded epc
+     */
+    public abstract Epc decode(final BitBuffer rfidTag) throws EpcParseException;
+
+    /**
+     * Decodes raw RFID tag bytes whose header belongs to this scheme into a sink.
+     *
+     * @param rfidTag - raw RFID tag bytes, starting with the header
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public abstract void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException;
+
+    /**
+     * Decodes an EPC Tag URI of this scheme.
+     *
+     * @param epcTagURI - ex: "urn:epc:tag:sgtin-96:3.0614141.812345.6789"
+     * @return decoded epc
+     */
+    public abstract Epc decodeEpcTagURI(final String epcTagURI) throws EpcParseException;
+
+    /**
+     * Decodes an EPC Pure Identity URI of this scheme, which does not carry the tag size and filter value.
+     *
+     * @param epcPureIdentityURI - ex: "urn:epc:id:sgtin:0614141.812345.6789"
+     * @param tagSize            - tag size in bits, ex: 96
+     * @param filterValue        - filter value (0 - 7)
+     * @return decoded epc
+     */
+    public abstract Epc decodeEpcPureIdentityURI(final String epcPureIdentityURI, final int tagSize, final int filterValue) throws EpcParseException;
+
+    /**
+     * @param header - 8-bit header value (0 - 255)
+     * @return scheme owning the header, {@code null} if the header is not supported
+     */
+    public static EpcScheme of(final int header) {
+        if (header < 0 || header >= _table.length) return null;
+        return _table[header];
+    }
+
+    /**
+     * Resolves the scheme named by an EPC Tag URI ("urn:epc:tag:sgtin-96:...") or an
+     * EPC Pure Identity URI ("urn:epc:id:sgtin:...").
+     *
+     * @param uri - EPC Tag URI or EPC Pure Identity URI
+     * @return scheme named by the URI, {@code null} if the URI is not recognized
+     */
+    public static EpcScheme ofURI(final CharSequence uri) {
+        final int start;
+        final char terminator;
+        if (regionMatches(uri, 0, TAG_URI_PREFIX)) {
+            start = TAG_URI_PREFIX.length();
+            terminator = '-';
+        } else if (regionMatches(uri, 0, PURE_IDENTITY_URI_PREFIX)) {
+            start = PURE_IDENTITY_URI_PREFIX.length();
+            terminator = ':';
+        } else {
+            return null;
+        }
+        int end = start;
+        while (end < uri.length() && uri.charAt(end) != terminator) end++;
+        if (end == uri.length()) return null;
+
+        for (EpcScheme scheme : _values) {
+            final String name = scheme.value;
+            if (name.length() == end - start && regionMatches(uri, start, name)) {
+                return scheme;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param header - 8-bit header value (0 - 255)
+     * @return tag size in bits announced by the header, {@code 0} if it is variable (cpi-var) or not supported
+     */
+    public static int tagSize(final int header) {
+        if (header < 0 || header >= _tagSizes.length) return 0;
+        return _tagSizes[header];
+    }
+
+    /**
+     * @return EPC Pure Identity URI prefix, ex: "urn:epc:id:sgtin:"
+     */
+    public String pureIdentityURIPrefix() {
+        return _pureIdentityURIPrefixes[ordinal()];
+    }
+
+    /**
+     * @param tagSize - tag size in bits, {@code 0} for variable length tags (cpi-var)
+     * @return EPC Tag URI prefix, ex: "urn:epc:tag:sgtin-96:", {@code null} if the scheme has no such tag size
+     */
+    public String tagURIPrefix(final int tagSize) {
+        final String[] prefixes = _tagURIPrefixes[ordinal()];
+        if (tagSize < 0 || tagSize >= prefixes.length) return null;
+        return prefixes[tagSize];
+    }
+
+    private static boolean regionMatches(final CharSequence value, final int offset, final String expected) {
+        if (value.length() < offset + expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++) {
+            if (value.charAt(offset + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static void register(final String header, final EpcScheme scheme, final int tagSize) {
+        final int index = Integer.parseInt(header, 2);
+        _table[index] = scheme;
+        _tagSizes[index] = tagSize;
+        _tagURIPrefixes[scheme.ordinal()][tagSize] = TAG_URI_PREFIX + scheme.value + '-' + ((tagSize == 0) ? "var" : tagSize) + ':';
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.schemes.gdti.GDTIEncoder;
+import com.pedrozc90.epcs.schemes.giai.GIAIEncoder;
+import com.pedrozc90.epcs.schemes.grai.GRAIEncoder;
+import com.pedrozc90.epcs.schemes.sgln.SGLNEncoder;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINEncoder;
+import com.pedrozc90.epcs.schemes.sscc.SSCCEncoder;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.Encoding6Bit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs encode and decode requests of many concurrent callers on virtual threads.
+ *
+ * <p>Every request gets its own virtual thread from {@link Executors#newVirtualThreadPerTaskExecutor()}
+ * and is processed as one batch, so a label-print request of a few hundred tags costs one thread
+ * and one scratch buffer instead of one task per tag. A semaphore bounds the number of requests in
+ * flight: callers wait up to the admission timeout for a slot and are rejected with a
+ * {@link RejectedExecutionException} afterwards, which keeps memory bounded when callers outpace
+ * the service.</p>
+ *
+ * <p>Requests are cancelled through the returned {@link Future}: {@code cancel(true)} interrupts
+ * the virtual thread, which stops at the next chunk of {@value #CHUNK_SIZE} tags. The slot is
+ * released when the thread returns, not when the future is cancelled, so a task that ignores
+ * the interrupt keeps counting against the bound.</p>
+ *
+ * <p>The codecs never pin a carrier thread: they do not block, hold no monitors while calling back
+ * into user code, and {@link EpcCache} guards its buckets with {@link java.util.concurrent.locks.ReentrantLock}.
+ * Class initialization is the exception, on Java 21 a virtual thread waiting for another thread to
+ * initialize a class blocks its carrier, so the constructor initializes the codec classes up front
+ * on the calling thread.</p>
+ */
+public final class EpcService implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 256;
+
+    // smallest tag handed to the codecs during warm-up, wide enough for every 96-bit and variable length header
+    private static final int WARM_UP_BITS = 96;
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxRequests;
+    private final long admissionTimeout;
+
+    /**
+     * Creates a service that rejects requests immediately when it is at capacity.
+     *
+     * @param maxRequests - maximum number of requests in flight
+     */
+    public EpcService(final int maxRequests) {
+        this(maxRequests, Duration.ZERO);
+    }
+
+    /**
+     * @param maxRequests      - maximum number of requests in flight
+     * @param admissionTimeout - how long a caller waits for a slot before being rejected
+     */
+    public EpcService(final int maxRequests, final Duration admissionTimeout) {
+        if (maxRequests < 1) {
+            throw new IllegalArgumentException("Max requests must be positive: " + maxRequests);
+        }
+        if (admissionTimeout.isNegative()) {
+            throw new IllegalArgumentException("Admission timeout must be non-negative: " + admissionTimeout);
+        }
+        initialize();
+        this.maxRequests = maxRequests;
+        this.admissionTimeout = admissionTimeout.toNanos();
+        this.permits = new Semaphore(maxRequests, true);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Decodes a batch of hexadecimal RFID tags, see {@link EpcDecoder#decodeAll(String[])}.
+     *
+     * @param rfidTags - hexadecimal RFID tags, copied before the call returns
+     * @return pending batch, one slot per tag in input order
+     * @throws RejectedExecutionException if no slot frees up within the admission timeout
+     */
+    public Future<EpcBatch> decodeAll(final List<String> rfidTags) {
+        final String[] tags = rfidTags.toArray(String[]::new);
+        return submit(() -> {
+            final EpcBatch batch = new EpcBatch(tags.length);
+            final DecodeScratch scratch = new DecodeScratch();
+            for (int i = 0; i < tags.length; i++) {
+                if (i % CHUNK_SIZE == 0) checkCancelled();
+                batch.put(i, scratch.decodeHex(tags[i]), scratch.epc());
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * Encodes a run of serials into hexadecimal RFID tags, see {@link EpcTemplate#encodeRange(long, int, EpcEncodeSink)}.
+     *
+     * @param template - encoder of the fixed fields
+     * @param start    - first serial
+     * @param count    - number of serials
+     * @return pending RFID tags, in serial order
+     * @throws RejectedExecutionException if no slot frees up within the admission timeout
+     */
+    public Future<List<String>> encodeRange(final EpcTemplate<?> template, final long start, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be non-negative: " + count);
+        }
+        return submit(() -> {
+            final List<String> tags = new ArrayList<>(count);
+            for (int done = 0; done < count; done += CHUNK_SIZE) {
+                checkCancelled();
+                template.encodeRange(start + done, Math.min(CHUNK_SIZE, count - done), (serial, rfidTag) -> tags.add(rfidTag.toString()));
+            }
+            return tags;
+        });
+    }
+
+    /**
+     * Runs any work under the same admission bound, ex: decoding and storing a reader report.
+     * Long running tasks should check {@link Thread#isInterrupted()} to honor cancellation.
+     *
+     * @param task - work to run on a virtual thread
+     * @return pending result
+     * @throws RejectedExecutionException if no slot frees up within the admission timeout
+     */
+    public <T> Future<T> submit(final Callable<T> task) {
+        acquire();
+        final FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            public void run() {
+                // a task cancelled before it started still runs here and returns at once
+                try {
+                    super.run();
+                } finally {
+                    permits.release();
+                }
+            }
+        };
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * @return number of requests admitted whose thread has not returned yet
+     */
+    public int inFlight() {
+        return maxRequests - permits.availablePermits();
+    }
+
+    /**
+     * @return maximum number of requests in flight
+     */
+    public int maxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Stops accepting requests and waits for the admitted ones to complete.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /* --- Helpers --- */
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(admissionTimeout, TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("EPC service is at capacity, %d requests in flight".formatted(maxRequests));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for admission", e);
+        }
+    }
+
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("EPC request was cancelled");
+        }
+    }
+
+    /**
+     * Initializes the codec classes on the calling thread, so request threads never wait on a class initializer.
+     *
+     * <p>Every header registered by {@link EpcScheme} is decoded once from a tag of zeros, which
+     * initializes the codec, partition table, enums and epc class of every scheme and tag size, or the
+     * error path for the alphanumeric tags an empty field makes invalid. No decode reaches the
+     * encoders or {@link CheckDigit}, so they are initialized explicitly with the shared utilities,
+     * {@link Encoding6Bit} and {@link Encoding7Bit} initializing their escape tables.</p>
+     */
+    private static void initialize() {
+        for (Class<?> type : List.of(EpcScheme.class, EpcDecoder.class, DecodeScratch.class, EpcError.class,
+            EpcTemplate.class, SGTINEncoder.class, SSCCEncoder.class, SGLNEncoder.class, GRAIEncoder.class,
+            GIAIEncoder.class, GDTIEncoder.class, BitBuffer.class, BinaryUtils.class, StringUtils.class,
+            CheckDigit.class, Encoding6Bit.class, Encoding7Bit.class)) {
+            try {
+                Class.forName(type.getName(), true, type.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        final DecodeScratch scratch = new DecodeScratch();
+        for (int header = 0; header < 256; header++) {
+            final EpcScheme scheme = EpcScheme.of(header);
+            if (scheme == null) continue;
+            final byte[] rfidTag = new byte[(Math.max(EpcScheme.tagSize(header), WARM_UP_BITS) + 7) / 8];
+            rfidTag[0] = (byte) header;
+            if (scratch.decodeBytes(rfidTag) == EpcError.NONE) {
+                scratch.epc().epcTagURI();
+                scratch.epc().epcPureIdentityURI();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splittable source of RFID tags stored back to back in a {@link ByteBuffer}, either as
+ * fixed-width raw records or as newline-delimited hexadecimal text.
+ *
+ * <p>Splits always fall on a record or line boundary, and every split decodes with its own
+ * scratch state, so a parallel stream scales with the number of cores without any locking.
+ * Tags that cannot be decoded are skipped; use {@link EpcDecoder#decodeAll(ByteBuffer, int)}
+ * when the failures must be reported.</p>
+ *
+ * <p>The source buffer is only read through absolute gets, its position and limit are not changed
+ * and it must not be modified while the spliterator is in use.</p>
+ */
+public final class EpcSpliterator implements Spliterator<Epc> {
+
+    // hexadecimal characters of a 96-bit tag plus the line break, only used to estimate sizes
+    private static final int AVERAGE_LINE_LENGTH = 25;
+
+    private final ByteBuffer source;
+    private final int recordLength;
+    private final DecodeScratch scratch = new DecodeScratch();
+
+    private int position;
+    private final int end;
+
+    private EpcSpliterator(final ByteBuffer source, final int position, final int end, final int recordLength) {
+        this.source = source;
+        this.position = position;
+        this.end = end;
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * @param records      - raw RFID tags stored back to back, from position to limit
+     * @param recordLength - number of bytes of every tag, ex: 12 for 96-bit tags
+     * @return spliterator over the records
+     * @throws IllegalArgumentException if the remaining bytes are not a multiple of the record length
+     */
+    public static EpcSpliterator ofRecords(final ByteBuffer records, final int recordLength) {
+        checkRecords(records, recordLength);
+        return new EpcSpliterator(records, records.position(), records.limit(), recordLength);
+    }
+
+    /**
+     * @param text - ASCII hexadecimal RFID tags, one per line, from position to limit.
+     *             Blank lines, surrounding spaces and '\r' line endings are ignored.
+     * @return spliterator over the lines
+     */
+    public static EpcSpliterator ofLines(final ByteBuffer text) {
+        return new EpcSpliterator(text, text.position(), text.limit(), 0);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Epc> action) {
+        return (recordLength > 0) ? advanceRecord(action) : advanceLine(action);
+    }
+
+    @Override
+    public Spliterator<Epc> trySplit() {
+        final int split;
+        if (recordLength > 0) {
+            final int records = (end - position) / recordLength;
+            if (records < 2) {
+                return null;
+            }
+            split = position + (records >>> 1) * recordLength;
+        } else {
+            final int lineBreak = indexOfLineBreak(position + ((end - position) >>> 1));
+            if (lineBreak < 0 || lineBreak + 1 >= end) {
+                return null;
+            }
+            split = lineBreak + 1;
+        }
+        final EpcSpliterator prefix = new EpcSpliterator(source, position, split, recordLength);
+        position = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (end - position) / ((recordLength > 0) ? recordLength : AVERAGE_LINE_LENGTH);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    /* --- Helpers --- */
+    static void checkRecords(final ByteBuffer records, final int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive: " + recordLength);
+        }
+        if (records.remaining() % recordLength != 0) {
+            throw new IllegalArgumentException("Buffer of %d bytes does not hold whole records of %d bytes".formatted(records.remaining(), recordLength));
+        }
+    }
+
+    private boolean advanceRecord(final Consumer<? super Epc> action) {
+        while (position + recordLength <= end) {
+            final EpcError error = scratch.decodeBytes(source, position, recordLength);
+            position += recordLength;
+            if (error == EpcError.NONE) {
+                action.accept(scratch.epc());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean advanceLine(final Consumer<? super Epc> action) {
+        while (position < end) {
+            final int lineBreak = indexOfLineBreak(position);
+            final int lineEnd = (lineBreak < 0) ? end : lineBreak;
+
+            int start = position;
+            int stop = lineEnd;
+            while (start < stop && isBlank(source.get(start))) start++;
+            while (stop > start && isBlank(source.get(stop - 1))) stop--;
+
+            position = (lineBreak < 0) ? end : lineBreak + 1;
+            if (start == stop) {
+                continue;
+            }
+
+            final EpcError error = scratch.decodeHex(source, start, stop - start);
+            if (error == EpcError.NONE) {
+                action.accept(scratch.epc());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOfLineBreak(final int from) {
+        for (int i = from; i < end; i++) {
+            if (source.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+}
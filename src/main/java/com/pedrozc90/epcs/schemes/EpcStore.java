@@ -0,0 +1,373 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * Off-heap store of raw RFID tags with a few attributes per tag.
+ *
+ * <p>Every tag takes one fixed-width slot of direct memory: a hash, the raw tag bytes, the last
+ * seen time, a location id and a status. Slots live in an open-addressing table with linear
+ * probing, split into direct {@link ByteBuffer} pages of at most 1 GiB, so the heap holds only
+ * the page references no matter how many tags are stored. Tags are decoded into {@link Epc}
+ * objects only when asked for, through {@link #decode(long)}.</p>
+ *
+ * <p>Stored tags are addressed by slot index. A slot index stays valid until the tag is removed
+ * or another tag is removed, which may shift entries of the same probe chain. The capacity is
+ * fixed at construction. {@link #close()} drops the pages so the direct memory is released at
+ * the next garbage collection, without waiting for the store itself to become unreachable.
+ * Instances are not thread-safe.</p>
+ *
+ * <p>The table keeps the load factor at or below 3/4 and rounds the number of slots up to a power
+ * of two. A slot takes 32 bytes for 96-bit tags, so 80 million tags need 2^27 slots, 4 GiB of
+ * direct memory. Direct memory is capped by {@code -XX:MaxDirectMemorySize}, which defaults to
+ * the maximum heap size, and the constructor fails with {@link OutOfMemoryError} past the cap, so
+ * large stores need the flag raised, ex: {@code -Xmx1g -XX:MaxDirectMemorySize=5g}.</p>
+ */
+public final class EpcStore implements AutoCloseable {
+
+    private static final int HASH_OFFSET = 0;
+    private static final int TAG_OFFSET = 4;
+    private static final int MAX_PAGE_BYTES = 1 << 30;
+
+    private final int tagBytes;
+    private final int slotSize;
+    private final int lastSeenOffset;
+    private final int locationIdOffset;
+    private final int statusOffset;
+
+    private final long capacity;
+    private final long tableMask;
+    private final int pageShift;
+    private final long pageMask;
+    private final ByteBuffer[] pages;
+
+    private long size;
+    private boolean closed;
+
+    /**
+     * Creates a store of 96-bit tags.
+     *
+     * @param capacity - maximum number of tags
+     */
+    public EpcStore(final long capacity) {
+        this(capacity, 12);
+    }
+
+    /**
+     * @param capacity - maximum number of tags
+     * @param tagBytes - number of bytes of every tag, ex: 12 for 96-bit tags, 26 for giai-202
+     */
+    public EpcStore(final long capacity, final int tagBytes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (tagBytes < 1) {
+            throw new IllegalArgumentException("Tag bytes must be positive: " + tagBytes);
+        }
+        this.tagBytes = tagBytes;
+        this.lastSeenOffset = align(TAG_OFFSET + tagBytes, 8);
+        this.locationIdOffset = lastSeenOffset + 8;
+        this.statusOffset = locationIdOffset + 4;
+        this.slotSize = align(statusOffset + 4, 8);
+
+        // keeps the load factor at or below 3/4
+        final long slots = Math.max(2L, Long.highestOneBit(Math.max(1L, capacity + (capacity + 2) / 3 - 1)) << 1);
+        final int slotShift = 64 - Long.numberOfLeadingZeros(slotSize - 1);
+        this.capacity = capacity;
+        this.tableMask = slots - 1;
+        this.pageShift = Math.min(Long.numberOfTrailingZeros(slots), Integer.numberOfTrailingZeros(MAX_PAGE_BYTES) - slotShift);
+        this.pageMask = (1L << pageShift) - 1;
+
+        this.pages = new ByteBuffer[(int) (slots >>> pageShift)];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = ByteBuffer.allocateDirect((int) ((pageMask + 1) * slotSize)).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Inserts a tag or updates the attributes of a stored one.
+     *
+     * @param tag        - raw RFID tag bytes
+     * @param offset     - index of the first of {@link #tagBytes()} bytes
+     * @param lastSeen   - last seen time, ex: milliseconds since the epoch
+     * @param locationId - application defined location
+     * @param status     - application defined status
+     * @return slot of the tag
+     * @throws IllegalStateException if the tag is new and the store is full
+     */
+    public long put(final byte[] tag, final int offset, final long lastSeen, final int locationId, final int status) {
+        ensureOpen();
+        Objects.checkFromIndexSize(offset, tagBytes, tag.length);
+        final int hash = hash(tag, offset);
+        long slot = hash & tableMask;
+        while (true) {
+            final int stored = page(slot).getInt(position(slot) + HASH_OFFSET);
+            if (stored == 0) {
+                if (size == capacity) {
+                    throw new IllegalStateException("EPC store is full, capacity is %d tags".formatted(capacity));
+                }
+                final ByteBuffer page = page(slot);
+                final int position = position(slot);
+                page.putInt(position + HASH_OFFSET, hash);
+                page.put(position + TAG_OFFSET, tag, offset, tagBytes);
+                size++;
+                break;
+            }
+            if (stored == hash && matches(slot, tag, offset)) {
+                break;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        setLastSeen(slot, lastSeen);
+        setLocationId(slot, locationId);
+        setStatus(slot, status);
+        return slot;
+    }
+
+    /**
+     * @param tag    - raw RFID tag bytes
+     * @param offset - index of the first of {@link #tagBytes()} bytes
+     * @return slot of the tag, {@code -1} if it is not stored
+     */
+    public long find(final byte[] tag, final int offset) {
+        ensureOpen();
+        Objects.checkFromIndexSize(offset, tagBytes, tag.length);
+        final int hash = hash(tag, offset);
+        long slot = hash & tableMask;
+        int stored;
+        while ((stored = page(slot).getInt(position(slot) + HASH_OFFSET)) != 0) {
+            if (stored == hash && matches(slot, tag, offset)) {
+                return slot;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param tag    - raw RFID tag bytes
+     * @param offset - index of the first of {@link #tagBytes()} bytes
+     * @return true if the tag was stored
+     */
+    public boolean remove(final byte[] tag, final int offset) {
+        long hole = find(tag, offset);
+        if (hole < 0) {
+            return false;
+        }
+        // backward shift: pull later entries of the probe chain into the hole
+        long slot = (hole + 1) & tableMask;
+        int stored;
+        while ((stored = page(slot).getInt(position(slot) + HASH_OFFSET)) != 0) {
+            final long home = stored & tableMask;
+            if (((slot - home) & tableMask) >= ((slot - hole) & tableMask)) {
+                copySlot(slot, hole);
+                hole = slot;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        page(hole).putInt(position(hole) + HASH_OFFSET, 0);
+        size--;
+        return true;
+    }
+
+    /* --- Slot Accessors --- */
+    public long lastSeen(final long slot) {
+        ensureOpen();
+        return page(slot).getLong(position(slot) + lastSeenOffset);
+    }
+
+    public void setLastSeen(final long slot, final long lastSeen) {
+        ensureOpen();
+        page(slot).putLong(position(slot) + lastSeenOffset, lastSeen);
+    }
+
+    public int locationId(final long slot) {
+        ensureOpen();
+        return page(slot).getInt(position(slot) + locationIdOffset);
+    }
+
+    public void setLocationId(final long slot, final int locationId) {
+        ensureOpen();
+        page(slot).putInt(position(slot) + locationIdOffset, locationId);
+    }
+
+    public int status(final long slot) {
+        ensureOpen();
+        return page(slot).getInt(position(slot) + statusOffset);
+    }
+
+    public void setStatus(final long slot, final int status) {
+        ensureOpen();
+        page(slot).putInt(position(slot) + statusOffset, status);
+    }
+
+    /**
+     * @param slot   - slot of a stored tag
+     * @param dst    - receives the raw tag bytes
+     * @param offset - index of the first byte to write
+     */
+    public void copyTag(final long slot, final byte[] dst, final int offset) {
+        ensureOpen();
+        page(slot).get(position(slot) + TAG_OFFSET, dst, offset, tagBytes);
+    }
+
+    /**
+     * @param slot - slot of a stored tag
+     * @return decoded epc, built on every call
+     * @throws EpcParseException if the stored tag cannot be decoded
+     */
+    public Epc decode(final long slot) throws EpcParseException {
+        final byte[] tag = new byte[tagBytes];
+        copyTag(slot, tag, 0);
+        return EpcDecoder.decode(tag, 0, tagBytes);
+    }
+
+    /* --- Iteration --- */
+
+    /**
+     * @param action - receives the slot of every stored tag
+     */
+    public void forEach(final LongConsumer action) {
+        ensureOpen();
+        for (long slot = 0; slot <= tableMask; slot++) {
+            if (page(slot).getInt(position(slot) + HASH_OFFSET) != 0) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * @param scheme - scheme of the tags to visit
+     * @param action - receives the slot of every stored tag of the scheme
+     */
+    public void forEach(final EpcScheme scheme, final LongConsumer action) {
+        ensureOpen();
+        for (long slot = 0; slot <= tableMask; slot++) {
+            final ByteBuffer page = page(slot);
+            final int position = position(slot);
+            if (page.getInt(position + HASH_OFFSET) != 0 && EpcScheme.of(page.get(position + TAG_OFFSET) & 0xFF) == scheme) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Visits the tags of one company, decoding every tag into a reused sink.
+     *
+     * <p>Tags that {@link EpcDecoder#decode(byte[], int, int, EpcFieldSink)} rejects are skipped and counted.</p>
+     *
+     * @param companyPrefix - company prefix, ex: 614141
+     * @param digits        - number of digits of the company prefix, ex: 7 for "0614141"
+     * @param action        - receives the slot of every stored tag of the company
+     * @return number of stored tags skipped because they could not be decoded
+     */
+    public long forEachCompanyPrefix(final long companyPrefix, final int digits, final LongConsumer action) {
+        ensureOpen();
+        final byte[] tag = new byte[tagBytes];
+        final EpcFields fields = new EpcFields();
+        long skipped = 0;
+        for (long slot = 0; slot <= tableMask; slot++) {
+            if (page(slot).getInt(position(slot) + HASH_OFFSET) == 0) continue;
+            copyTag(slot, tag, 0);
+            try {
+                EpcDecoder.decode(tag, 0, tagBytes, fields);
+            } catch (EpcParseException e) {
+                skipped++;
+                continue;
+            }
+            if (fields.companyPrefix() == companyPrefix && fields.companyPrefixDigits() == digits) {
+                action.accept(slot);
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * @return number of stored tags
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return maximum number of tags
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of bytes of every tag
+     */
+    public int tagBytes() {
+        return tagBytes;
+    }
+
+    /**
+     * Drops every page and empties the store. The direct memory is released once the garbage
+     * collector reclaims the pages. The store cannot be used afterwards, slot accessors included.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        size = 0;
+        Arrays.fill(pages, null);
+    }
+
+    /* --- Helpers --- */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("EPC store is closed");
+        }
+    }
+
+    private ByteBuffer page(final long slot) {
+        return pages[(int) (slot >>> pageShift)];
+    }
+
+    private int position(final long slot) {
+        return (int) (slot & pageMask) * slotSize;
+    }
+
+    private boolean matches(final long slot, final byte[] tag, final int offset) {
+        final ByteBuffer page = page(slot);
+        final int position = position(slot) + TAG_OFFSET;
+        for (int i = 0; i < tagBytes; i++) {
+            if (page.get(position + i) != tag[offset + i]) return false;
+        }
+        return true;
+    }
+
+    private void copySlot(final long from, final long to) {
+        final ByteBuffer source = page(from);
+        final ByteBuffer target = page(to);
+        final int sourcePosition = position(from);
+        final int targetPosition = position(to);
+        for (int i = 0; i < slotSize; i += 4) {
+            target.putInt(targetPosition + i, source.getInt(sourcePosition + i));
+        }
+    }
+
+    private int hash(final byte[] tag, final int offset) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < tagBytes; i++) {
+            h = (h ^ (tag[offset + i] & 0xFF)) * 0x100000001B3L;
+        }
+        h ^= h >>> 29;
+        final int hash = (int) (h ^ (h >>> 32));
+        // 0 marks an empty slot
+        return (hash == 0) ? 1 : hash;
+    }
+
+    private static int align(final int value, final int alignment) {
+        return (value + alignment - 1) & -alignment;
+    }
+
+}
@@ -0,0 +1,309 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+import java.util.Objects;
+
+/**
+ * Base of the serial encoders, ex: {@link com.pedrozc90.epcs.schemes.sgtin.SGTINEncoder}.
+ *
+ * <p>Commissioning stations encode thousands of tags that differ only in their serial. A template
+ * encodes the header, filter, partition, company prefix and reference once, through the scheme
+ * parser, and keeps both the bits and the hexadecimal characters. Encoding a serial then copies
+ * the template and writes the serial field only; {@link #encodeHex(long)} and
+ * {@link #encodeRange(long, int, EpcEncodeSink)} rewrite just the hexadecimal characters that
+ * overlap the serial field.</p>
+ *
+ * <p>The serial is the last varying field of the scheme: the serial of sgtin, grai and gdti, the
+ * extension of sgln, the individual asset reference of giai and the serial reference of sscc.
+ * Numeric serials are written without parsing or building strings; alphanumeric serials of the
+ * larger tag sizes use the 7-bit string encoding.</p>
+ *
+ * <p>Templates are immutable and can be shared between threads.</p>
+ *
+ * @param <T> - type of the encoded epc
+ */
+public abstract class EpcTemplate<T extends Epc> {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final int MAX_LONG_DIGITS = 19;
+
+    private final BitBuffer template;
+    private final char[] hex;
+    private final int serialOffset;
+    private final int serialLength;
+    private final boolean numeric;
+    private final long maxSerial;
+    private final int maxLength;
+
+    // hexadecimal characters overlapping the serial field, with the template nibble and the field bits of each
+    private final int firstChar;
+    private final int[] nibbles;
+    private final int[] masks;
+
+    /**
+     * Template of a numeric serial.
+     *
+     * @param prototype    - epc encoded with any valid serial
+     * @param serialOffset - index of the first bit of the serial field
+     * @param serialLength - bit count of the serial field (up to 64)
+     * @param maxSerial    - largest serial accepted
+     */
+    protected EpcTemplate(final T prototype, final int serialOffset, final int serialLength, final long maxSerial) {
+        this(prototype, serialOffset, serialLength, true, maxSerial, 0);
+    }
+
+    /**
+     * Template of an alphanumeric serial, the field runs up to the end of the tag.
+     *
+     * @param prototype    - epc encoded with any valid serial
+     * @param serialOffset - index of the first bit of the serial field
+     * @param maxLength    - maximum number of characters of the serial
+     */
+    protected EpcTemplate(final T prototype, final int serialOffset, final int maxLength) {
+        this(prototype, serialOffset, prototype.rfidTag().length() * 4 - serialOffset, false, 0L, maxLength);
+    }
+
+    private EpcTemplate(final T prototype, final int serialOffset, final int serialLength,
+                        final boolean numeric, final long maxSerial, final int maxLength) {
+        this.template = BitBuffer.fromHex(prototype.rfidTag());
+        this.serialOffset = serialOffset;
+        this.serialLength = serialLength;
+        this.numeric = numeric;
+        this.maxSerial = maxSerial;
+        this.maxLength = maxLength;
+        clearSerial(template);
+        this.hex = template.toHex().toCharArray();
+
+        final int end = serialOffset + serialLength;
+        this.firstChar = serialOffset >>> 2;
+        final int chars = ((end + 3) >>> 2) - firstChar;
+        this.nibbles = new int[chars];
+        this.masks = new int[chars];
+        for (int i = 0; i < chars; i++) {
+            final int start = (firstChar + i) << 2;
+            final int from = Math.max(start, serialOffset);
+            final int to = Math.min(start + 4, end);
+            nibbles[i] = (int) template.getBits(start, 4);
+            masks[i] = ((1 << (to - from)) - 1) << (start + 4 - to);
+        }
+    }
+
+    /**
+     * @param serial - serial of the tag
+     * @return encoded epc, sharing the fields of the template
+     * @throws IllegalArgumentException if the serial is out of range
+     */
+    public T encode(final long serial) {
+        if (!numeric) {
+            return encode(Long.toString(serial));
+        }
+        checkSerial(serial);
+        final BitBuffer bits = template.copy();
+        bits.putBits(serialOffset, serialLength, fieldValue(serial));
+        return create(serialText(serial), bits);
+    }
+
+    /**
+     * @param serial - serial of the tag, decimal for numeric serials
+     * @return encoded epc, sharing the fields of the template
+     * @throws IllegalArgumentException if the serial is invalid or out of range
+     */
+    public T encode(final String serial) {
+        Objects.requireNonNull(serial, "Serial cannot be null");
+        if (numeric) {
+            return encode(parseSerial(serial));
+        }
+        checkLength(serial);
+        final BitBuffer bits = template.copy();
+        BinaryUtils.encodeString(bits, serialOffset, serialLength, serial, 7);
+        return create(serial, bits);
+    }
+
+    /**
+     * Encodes a serial straight into a hexadecimal RFID tag, without building the epc.
+     *
+     * @param serial - serial of the tag
+     * @return hexadecimal RFID tag
+     * @throws IllegalArgumentException if the serial is out of range
+     */
+    public String encodeHex(final long serial) {
+        if (!numeric) {
+            return encode(serial).rfidTag();
+        }
+        checkSerial(serial);
+        final char[] out = hex.clone();
+        writeHex(out, fieldValue(serial));
+        return new String(out);
+    }
+
+    /**
+     * Encodes the serials {@code start} to {@code start + count - 1} in order. One character buffer
+     * is reused for the whole range and only the characters of the serial field are rewritten, so
+     * numeric serials are encoded without allocating.
+     *
+     * @param start - first serial
+     * @param count - number of serials
+     * @param sink  - receives every serial with its hexadecimal RFID tag
+     * @throws IllegalArgumentException if a serial of the range is out of range
+     */
+    public void encodeRange(final long start, final int count, final EpcEncodeSink sink) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be non-negative: " + count);
+        }
+        if (count == 0) {
+            return;
+        }
+        final char[] out = hex.clone();
+        final HexView view = new HexView(out);
+
+        if (numeric) {
+            checkSerial(start);
+            checkSerial(start + count - 1);
+            for (long serial = start; serial < start + count; serial++) {
+                writeHex(out, fieldValue(serial));
+                sink.accept(serial, view);
+            }
+            return;
+        }
+
+        if (start < 0) {
+            throw new IllegalArgumentException("Serial must be non-negative: " + start);
+        }
+        checkLength(Long.toString(start + count - 1));
+        final BitBuffer bits = template.copy();
+        for (long serial = start; serial < start + count; serial++) {
+            clearSerial(bits);
+            BinaryUtils.encodeString(bits, serialOffset, serialLength, Long.toString(serial), 7);
+            for (int i = 0; i < nibbles.length; i++) {
+                out[firstChar + i] = HEX[(int) bits.getBits((firstChar + i) << 2, 4)];
+            }
+            sink.accept(serial, view);
+        }
+    }
+
+    /**
+     * @return largest serial accepted, {@code -1} for alphanumeric serials
+     */
+    public long maxSerial() {
+        return numeric ? maxSerial : -1L;
+    }
+
+    /* --- Scheme Hooks --- */
+
+    /**
+     * @param serial - serial text as it appears in the URIs
+     * @param bits   - encoded tag bits, owned by the new epc
+     * @return epc holding the fields of the template and the serial
+     */
+    protected abstract T create(final String serial, final BitBuffer bits);
+
+    /**
+     * @param serial - numeric serial, already range checked
+     * @return value written to the serial field
+     */
+    protected long fieldValue(final long serial) {
+        return serial;
+    }
+
+    /**
+     * @param serial - numeric serial, already range checked
+     * @return serial text as it appears in the URIs
+     */
+    protected String serialText(final long serial) {
+        return Long.toString(serial);
+    }
+
+    /**
+     * Parses a numeric serial, leading zeros are not allowed.
+     *
+     * @param serial - decimal serial
+     * @return serial value
+     * @throws IllegalArgumentException if the serial is not numeric or out of range
+     */
+    protected long parseSerial(final String serial) {
+        if (serial.isEmpty() || serial.length() > MAX_LONG_DIGITS || !isDigits(serial)) {
+            throw new IllegalArgumentException("Serial must be numeric, got: '%s'".formatted(serial));
+        }
+        if (serial.length() > 1 && serial.charAt(0) == '0') {
+            throw new IllegalArgumentException("Serial with leading zeros is not allowed, got: '%s'".formatted(serial));
+        }
+        final long value = Long.parseLong(serial);
+        checkSerial(value);
+        return value;
+    }
+
+    /* --- Helpers --- */
+    protected static boolean isDigits(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private void checkSerial(final long serial) {
+        if (serial < 0 || serial > maxSerial) {
+            throw new IllegalArgumentException("Serial %d is out of range. Should be between 0 and %d".formatted(serial, maxSerial));
+        }
+    }
+
+    private void checkLength(final String serial) {
+        if (serial.isEmpty() || serial.length() > maxLength) {
+            throw new IllegalArgumentException("Serial '%s' is out of range. Should be up to %d alphanumeric characters".formatted(serial, maxLength));
+        }
+    }
+
+    private void clearSerial(final BitBuffer bits) {
+        for (int offset = serialOffset; offset < serialOffset + serialLength; offset += 64) {
+            bits.putBits(offset, Math.min(64, serialOffset + serialLength - offset), 0L);
+        }
+    }
+
+    private void writeHex(final char[] out, final long value) {
+        final int end = serialOffset + serialLength;
+        for (int i = 0; i < nibbles.length; i++) {
+            // distance between the last bit of the field and the last bit of the character
+            final int shift = end - ((firstChar + i + 1) << 2);
+            final int bits = (int) ((shift >= 0) ? value >>> shift : value << -shift);
+            out[firstChar + i] = HEX[(nibbles[i] & ~masks[i]) | (bits & masks[i])];
+        }
+    }
+
+    /**
+     * Read-only view over the reused character buffer of a range.
+     */
+    private static final class HexView implements CharSequence {
+
+        private final char[] chars;
+
+        private HexView(final char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int length() {
+            return chars.length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            Objects.checkFromToIndex(start, end, chars.length);
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars);
+        }
+
+    }
+
+}
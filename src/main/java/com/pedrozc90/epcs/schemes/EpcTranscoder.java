@@ -0,0 +1,560 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Converts line-oriented read logs from one EPC representation into another.
+ *
+ * <p>The input file is memory-mapped region by region, every region ending on a line break,
+ * and the regions are transcoded by a pool of threads. Lines are scanned straight from the
+ * mapped bytes, only the selected column is decoded, and the output of every region is
+ * written through the output channel in input order. One output line is written per input
+ * line; lines that cannot be decoded produce an empty line and are counted as errors.</p>
+ *
+ * <p>Output is written in fixed-size chunks taken from a pool shared by all threads. The chunks
+ * of the oldest region are written as soon as they fill up, while the regions ahead of it wait
+ * once the pool runs out, so output memory is capped by the pool whatever the number of threads.</p>
+ *
+ * <pre>{@code
+ * final EpcTranscoder.Result result = EpcTranscoder.builder()
+ *     .withInputFormat(EpcFormat.RFID_TAG)
+ *     .withOutputFormat(EpcFormat.TAG_URI)
+ *     .withColumn(2, ',')
+ *     .build()
+ *     .transcode(Path.of("reads.csv"), Path.of("reads.txt"));
+ * }</pre>
+ *
+ * <p>Columns are split on the delimiter only, quoted fields are not supported.</p>
+ */
+public final class EpcTranscoder {
+
+    private static final int DEFAULT_REGION_SIZE = 32 * 1024 * 1024;
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final int DEFAULT_CHUNKS = 64;
+    private static final int SCAN_CHUNK = 8 * 1024;
+
+    private final EpcFormat inputFormat;
+    private final EpcFormat outputFormat;
+    private final int column;
+    private final byte delimiter;
+    private final int threads;
+    private final int regionSize;
+    private final int chunkSize;
+    private final int chunks;
+    private final int tagSize;
+    private final int filterValue;
+
+    private EpcTranscoder(final Builder builder) {
+        this.inputFormat = builder.inputFormat;
+        this.outputFormat = builder.outputFormat;
+        this.column = builder.column;
+        this.delimiter = (byte) builder.delimiter;
+        this.threads = builder.threads;
+        this.regionSize = builder.regionSize;
+        this.chunkSize = builder.chunkSize;
+        this.chunks = builder.chunks;
+        this.tagSize = builder.tagSize;
+        this.filterValue = builder.filterValue;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param input  - line-oriented read log
+     * @param output - file to write, it is created or truncated
+     * @return number of lines transcoded and of lines that could not be decoded
+     * @throws IOException if a file cannot be read or written
+     */
+    public Result transcode(final Path input, final Path output) throws IOException {
+        long lines = 0;
+        long errors = 0;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            final ChunkPool pool = new ChunkPool(chunkSize, chunks);
+            try {
+                final Deque<Region> pending = new ArrayDeque<>();
+                final long size = in.size();
+                long start = 0;
+                long index = 0;
+                while (start < size || !pending.isEmpty()) {
+                    // keep a bounded window of regions in flight, the oldest one is written first
+                    if (start < size && pending.size() < threads * 2) {
+                        final long end = regionEnd(in, start, size);
+                        final MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                        final Region region = new Region(index++);
+                        region.result = executor.submit(() -> transcode(mapped, region, pool));
+                        pending.add(region);
+                        start = end;
+                        continue;
+                    }
+                    final Region region = pending.poll();
+                    pool.advance(region.index);
+                    // chunks are written as the region fills them, until the end marker
+                    for (Chunk chunk = take(region); chunk != Chunk.END; chunk = take(region)) {
+                        final ByteBuffer bytes = ByteBuffer.wrap(chunk.bytes(), 0, chunk.length());
+                        while (bytes.hasRemaining()) {
+                            out.write(bytes);
+                        }
+                        pool.release(chunk.bytes());
+                    }
+                    final Counts counts = await(region.result);
+                    lines += counts.lines();
+                    errors += counts.errors();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return new Result(lines, errors);
+    }
+
+    /* --- Region --- */
+    private Counts transcode(final ByteBuffer source, final Region region, final ChunkPool pool) throws InterruptedException {
+        final Output output = new Output(region, pool);
+        try {
+            return transcode(source, output);
+        } finally {
+            // the writer waits for the end marker, even when the region failed
+            output.close();
+        }
+    }
+
+    private Counts transcode(final ByteBuffer source, final Output output) throws InterruptedException {
+        final DecodeScratch scratch = new DecodeScratch();
+        final int end = source.limit();
+
+        long lines = 0;
+        long errors = 0;
+        int position = 0;
+        while (position < end) {
+            int lineEnd = position;
+            while (lineEnd < end && source.get(lineEnd) != '\n') lineEnd++;
+
+            int start = position;
+            int stop = lineEnd;
+            if (column >= 0) {
+                // skip to the selected column, a missing column is an empty field
+                for (int i = 0; i < column && start <= stop; i++) {
+                    while (start < stop && source.get(start) != delimiter) start++;
+                    start++;
+                }
+                if (start > stop) {
+                    start = stop;
+                }
+                int field = start;
+                while (field < stop && source.get(field) != delimiter) field++;
+                stop = field;
+            }
+            while (start < stop && isBlank(source.get(start))) start++;
+            while (stop > start && isBlank(source.get(stop - 1))) stop--;
+
+            if (start < stop) {
+                final EpcError error = decode(scratch, source, start, stop - start);
+                if (error == EpcError.NONE) {
+                    output.append(outputFormat.format(scratch.epc()));
+                } else {
+                    errors++;
+                }
+            }
+            output.append('\n');
+            lines++;
+            position = lineEnd + 1;
+        }
+        return new Counts(lines, errors);
+    }
+
+    private EpcError decode(final DecodeScratch scratch, final ByteBuffer source, final int offset, final int length) {
+        return switch (inputFormat) {
+            case RFID_TAG -> scratch.decodeHex(source, offset, length);
+            case TAG_URI -> scratch.decodeEpcTagURI(source, offset, length);
+            case PURE_IDENTITY_URI -> scratch.decodeEpcPureIdentityURI(source, offset, length, tagSize, filterValue);
+            default -> throw new IllegalStateException("Unsupported input format '%s'".formatted(inputFormat));
+        };
+    }
+
+    /* --- Helpers --- */
+
+    /**
+     * @return offset right after the first line break found past {@code start + regionSize}, or the end of the file
+     */
+    private long regionEnd(final FileChannel in, final long start, final long size) throws IOException {
+        long position = start + regionSize;
+        final ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK);
+        while (position < size) {
+            chunk.clear();
+            final int read = in.read(chunk, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (chunk.get(i) == '\n') {
+                    return checkRegion(start, position + i + 1);
+                }
+            }
+            position += read;
+        }
+        return checkRegion(start, size);
+    }
+
+    private static long checkRegion(final long start, final long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Line starting at offset %d is longer than %d bytes".formatted(start, Integer.MAX_VALUE));
+        }
+        return end;
+    }
+
+    private static Chunk take(final Region region) throws InterruptedIOException {
+        try {
+            return region.chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Transcoding was interrupted");
+        }
+    }
+
+    private static Counts await(final Future<Counts> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Transcoding was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) throw cause.getCause();
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static boolean isBlank(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /* --- Object --- */
+
+    /**
+     * @param lines  - number of input lines
+     * @param errors - number of non blank lines that could not be decoded
+     */
+    public record Result(long lines, long errors) {
+        // ignore
+    }
+
+    private record Counts(long lines, long errors) {
+        // ignore
+    }
+
+    /**
+     * @param bytes  - pooled chunk
+     * @param length - number of bytes written into the chunk
+     */
+    private record Chunk(byte[] bytes, int length) {
+
+        private static final Chunk END = new Chunk(new byte[0], 0);
+
+    }
+
+    /**
+     * One region in flight: the chunks it has filled, in order, and its line counts.
+     */
+    private static final class Region {
+
+        private final long index;
+        private final BlockingQueue<Chunk> chunks = new LinkedBlockingQueue<>();
+        private Future<Counts> result;
+
+        private Region(final long index) {
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * Fixed number of output chunks shared by the regions in flight.
+     *
+     * <p>The last free chunk is reserved for the region being written, so the writer can always
+     * make progress while the regions ahead of it wait for chunks to be released.</p>
+     */
+    private static final class ChunkPool {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private final Deque<byte[]> free = new ArrayDeque<>();
+        private final int chunkSize;
+        private int unallocated;
+        private long head;
+
+        private ChunkPool(final int chunkSize, final int chunks) {
+            this.chunkSize = chunkSize;
+            this.unallocated = chunks;
+        }
+
+        private byte[] acquire(final long region) throws InterruptedException {
+            lock.lock();
+            try {
+                while (available() < (region == head ? 1 : 2)) {
+                    released.await();
+                }
+                if (free.isEmpty()) {
+                    unallocated--;
+                    return new byte[chunkSize];
+                }
+                return free.pop();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release(final byte[] chunk) {
+            lock.lock();
+            try {
+                free.push(chunk);
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @param region - index of the region the writer moves on to
+         */
+        private void advance(final long region) {
+            lock.lock();
+            try {
+                head = region;
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int available() {
+            return free.size() + unallocated;
+        }
+
+    }
+
+    /**
+     * ASCII output of one region, handed to the writer one chunk at a time.
+     */
+    private static final class Output {
+
+        private final Region region;
+        private final ChunkPool pool;
+        private byte[] bytes;
+        private int size;
+
+        private Output(final Region region, final ChunkPool pool) {
+            this.region = region;
+            this.pool = pool;
+        }
+
+        private void append(final String value) throws InterruptedException {
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                append(value.charAt(i));
+            }
+        }
+
+        private void append(final char value) throws InterruptedException {
+            if (bytes == null) {
+                bytes = pool.acquire(region.index);
+            }
+            bytes[size++] = (byte) value;
+            if (size == bytes.length) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            region.chunks.add(new Chunk(bytes, size));
+            bytes = null;
+            size = 0;
+        }
+
+        private void close() {
+            if (bytes != null) {
+                flush();
+            }
+            region.chunks.add(Chunk.END);
+        }
+
+    }
+
+    /* --- Builder --- */
+    public static final class Builder {
+
+        private EpcFormat inputFormat = EpcFormat.RFID_TAG;
+        private EpcFormat outputFormat = EpcFormat.TAG_URI;
+        private int column = -1;
+        private char delimiter = ',';
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int regionSize = DEFAULT_REGION_SIZE;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int chunks = DEFAULT_CHUNKS;
+        private int tagSize = 96;
+        private int filterValue = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * @param inputFormat - representation of the input column, {@link EpcFormat#RAW_URI} and {@link EpcFormat#FIELDS} cannot be read
+         */
+        public Builder withInputFormat(final EpcFormat inputFormat) {
+            if (!inputFormat.isReadable()) {
+                throw new IllegalArgumentException("EPC format '%s' cannot be read".formatted(inputFormat.getValue()));
+            }
+            this.inputFormat = inputFormat;
+            return this;
+        }
+
+        public Builder withOutputFormat(final EpcFormat outputFormat) {
+            this.outputFormat = outputFormat;
+            return this;
+        }
+
+        /**
+         * @param column    - zero based index of the column holding the EPC
+         * @param delimiter - column delimiter, ex: ',' or ';'
+         */
+        public Builder withColumn(final int column, final char delimiter) {
+            if (column < 0) {
+                throw new IllegalArgumentException("Column must be non-negative: " + column);
+            }
+            if (delimiter > 0x7F || delimiter == '\n') {
+                throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line break");
+            }
+            this.column = column;
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        public Builder withThreads(final int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Threads must be positive: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param regionSize - approximate number of bytes mapped and transcoded per task
+         */
+        public Builder withRegionSize(final int regionSize) {
+            if (regionSize < 1) {
+                throw new IllegalArgumentException("Region size must be positive: " + regionSize);
+            }
+            this.regionSize = regionSize;
+            return this;
+        }
+
+        /**
+         * Caps the memory holding output that is not written yet to {@code chunkSize * chunks} bytes.
+         *
+         * @param chunkSize - bytes per output chunk, defaults to 1 MiB
+         * @param chunks    - number of chunks shared by all threads, at least 2, defaults to 64
+         */
+        public Builder withOutputBuffers(final int chunkSize, final int chunks) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            if (chunks < 2) {
+                throw new IllegalArgumentException("Chunks must be at least 2: " + chunks);
+            }
+            this.chunkSize = chunkSize;
+            this.chunks = chunks;
+            return this;
+        }
+
+        /**
+         * Tag size and filter value applied to EPC Pure Identity URIs, which do not carry them.
+         *
+         * @param tagSize     - tag size in bits, defaults to 96
+         * @param filterValue - filter value, defaults to 0
+         */
+        public Builder withTagSize(final int tagSize, final int filterValue) {
+            this.tagSize = tagSize;
+            this.filterValue = filterValue;
+            return this;
+        }
+
+        public EpcTranscoder build() {
+            return new EpcTranscoder(this);
+        }
+
+    }
+
+    /* --- Command Line --- */
+
+    /**
+     * Usage: {@code EpcTranscoder [--from hex|tag-uri|pure-uri] [--to hex|tag-uri|pure-uri|raw-uri|fields]
+     * [--column N] [--delimiter C] [--threads N] [--tag-size N] [--filter N] <input> <output>}
+     */
+    public static void main(final String[] args) throws IOException {
+        final Builder builder = builder();
+        int column = -1;
+        char delimiter = ',';
+        int tagSize = 96;
+        int filterValue = 0;
+        Path input = null;
+        Path output = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--from" -> builder.withInputFormat(EpcFormat.of(args[++i]));
+                    case "--to" -> builder.withOutputFormat(EpcFormat.of(args[++i]));
+                    case "--column" -> column = Integer.parseInt(args[++i]);
+                    case "--delimiter" -> delimiter = args[++i].charAt(0);
+                    case "--threads" -> builder.withThreads(Integer.parseInt(args[++i]));
+                    case "--tag-size" -> tagSize = Integer.parseInt(args[++i]);
+                    case "--filter" -> filterValue = Integer.parseInt(args[++i]);
+                    default -> {
+                        if (input == null) input = Path.of(args[i]);
+                        else if (output == null) output = Path.of(args[i]);
+                        else throw new IllegalArgumentException("Unexpected argument '%s'".formatted(args[i]));
+                    }
+                }
+            }
+            if (input == null || output == null) {
+                throw new IllegalArgumentException("Input and output files are required");
+            }
+            if (column >= 0) {
+                builder.withColumn(column, delimiter);
+            }
+            builder.withTagSize(tagSize, filterValue);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: EpcTranscoder [--from hex|tag-uri|pure-uri] [--to hex|tag-uri|pure-uri|raw-uri|fields] "
+                + "[--column N] [--delimiter C] [--threads N] [--tag-size N] [--filter N] <input> <output>");
+            System.exit(2);
+            return;
+        }
+
+        final Result result = builder.build().transcode(input, output);
+        System.out.printf("%d lines, %d errors%n", result.lines(), result.errors());
+    }
+
+}
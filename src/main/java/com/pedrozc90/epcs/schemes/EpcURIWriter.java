@@ -0,0 +1,98 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.Encoding6Bit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+
+import java.util.Objects;
+
+/**
+ * Writes the fields of an RFID tag as an EPC Tag URI or an EPC Pure Identity URI while they are
+ * decoded, appending straight into a caller owned {@link StringBuilder}.
+ *
+ * <pre>{@code
+ * final StringBuilder sb = new StringBuilder(64);
+ * final EpcURIWriter writer = EpcURIWriter.tagURI(sb);
+ * EpcDecoder.decode(rfidTag, 0, rfidTag.length, writer);
+ * // sb: "urn:epc:tag:sgtin-96:3.0614141.812345.6789"
+ * }</pre>
+ *
+ * <p>The prefixes are precomputed per scheme and tag size, numeric fields are written digit by
+ * digit with their leading zeros, and alphanumeric fields are escaped into the builder, so no
+ * intermediate string is built. The builder can be cleared and reused across tags. If decoding
+ * fails, the builder may hold a partial URI. Instances are not thread-safe.</p>
+ */
+public final class EpcURIWriter implements EpcFieldSink {
+
+    private final StringBuilder out;
+    private final boolean tagURI;
+
+    // scheme of the tag being written, cpi references use the 6-bit escapes
+    private EpcScheme scheme;
+
+    private EpcURIWriter(final StringBuilder out, final boolean tagURI) {
+        this.out = Objects.requireNonNull(out, "Output must not be null");
+        this.tagURI = tagURI;
+    }
+
+    /**
+     * @param out - builder the URIs are appended to
+     * @return writer of EPC Tag URIs, ex: "urn:epc:tag:sgtin-96:3.0614141.812345.6789"
+     */
+    public static EpcURIWriter tagURI(final StringBuilder out) {
+        return new EpcURIWriter(out, true);
+    }
+
+    /**
+     * @param out - builder the URIs are appended to
+     * @return writer of EPC Pure Identity URIs, ex: "urn:epc:id:sgtin:0614141.812345.6789"
+     */
+    public static EpcURIWriter pureIdentityURI(final StringBuilder out) {
+        return new EpcURIWriter(out, false);
+    }
+
+    public StringBuilder out() {
+        return out;
+    }
+
+    /* --- Sink --- */
+    @Override
+    public void header(final EpcScheme scheme, final int tagSize, final int filterValue, final int partitionValue) {
+        this.scheme = scheme;
+        if (tagURI) {
+            out.append(scheme.tagURIPrefix(tagSize)).append((char) ('0' + filterValue)).append('.');
+        } else {
+            out.append(scheme.pureIdentityURIPrefix());
+        }
+    }
+
+    @Override
+    public void companyPrefix(final long value, final int digits) {
+        BinaryUtils.appendDecimal(out, value, digits);
+    }
+
+    @Override
+    public void reference(final long value, final int digits) {
+        BinaryUtils.appendDecimal(out.append('.'), value, digits);
+    }
+
+    @Override
+    public void reference(final CharSequence value) {
+        if (scheme == EpcScheme.CPI) {
+            Encoding6Bit.escape(value, out.append('.'));
+        } else {
+            Encoding7Bit.escape(value, out.append('.'));
+        }
+    }
+
+    @Override
+    public void serial(final long value) {
+        BinaryUtils.appendDecimal(out.append('.'), value, 0);
+    }
+
+    @Override
+    public void serial(final CharSequence value) {
+        Encoding7Bit.escape(value, out.append('.'));
+    }
+
+}
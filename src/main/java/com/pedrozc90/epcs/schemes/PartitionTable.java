@@ -8,38 +8,46 @@ public abstract class PartitionTable {
 
     protected final List<TableItem> _list;
 
+    // rows indexed by partition value and by company prefix length
+    private final TableItem[] _byValue;
+    private final TableItem[] _byL;
+
     public PartitionTable(final List<TableItem> _list) {
         this._list = _list;
+
+        int maxValue = 0;
+        int maxL = 0;
+        for (TableItem item : _list) {
+            maxValue = Math.max(maxValue, item.partitionValue());
+            maxL = Math.max(maxL, item.l());
+        }
+
+        this._byValue = new TableItem[maxValue + 1];
+        this._byL = new TableItem[maxL + 1];
+        for (TableItem item : _list) {
+            _byValue[item.partitionValue()] = item;
+            _byL[item.l()] = item;
+        }
     }
 
     /**
      * Get partition by L value.
      *
      * @param value - company prefix digits
-     * @return table item
+     * @return table item, {@code null} if no partition has this length
      */
-    public TableItem getPartitionByL(final Integer value) {
-        for (TableItem item : _list) {
-            if (item.l() == value) {
-                return item;
-            }
-        }
-        return null;
+    public TableItem getPartitionByL(final int value) {
+        return (value >= 0 && value < _byL.length) ? _byL[value] : null;
     }
 
     /**
      * Get partition by value.
      *
      * @param value - partition value
-     * @return table item
+     * @return table item, {@code null} if the partition value is not in the table
      */
-    public TableItem getPartitionByValue(final Integer value) {
-        for (TableItem item : _list) {
-            if (item.partitionValue() == value) {
-                return item;
-            }
-        }
-        return null;
+    public TableItem getPartitionByValue(final int value) {
+        return (value >= 0 && value < _byValue.length) ? _byValue[value] : null;
     }
 
 }
@@ -0,0 +1,383 @@
+package com.pedrozc90.epcs.schemes.cpi;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPIFilterValue;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPIHeader;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPITagSize;
+import com.pedrozc90.epcs.schemes.cpi.objects.CPI;
+import com.pedrozc90.epcs.schemes.cpi.partitionTable.CPIPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.Encoding6Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless CPI codec, shared through {@link #INSTANCE}.
+ */
+public final class CPICodec implements EpcParser<CPI> {
+
+    public static final CPICodec INSTANCE = new CPICodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:cpi-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:cpi:";
+
+    private CPICodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded cpi
+     */
+    public CPI decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = length(data);
+        return toCPI(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded cpi
+     */
+    public CPI decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded cpi
+     */
+    public CPI decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded cpi
+     */
+    public CPI decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public CPI decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toCPI(parseEpcTagURI(epcTagURI));
+    }
+
+    public CPI decodeEpcPureIdentityURI(final String epcPureIdentityURI, final CPITagSize tagSize, final CPIFilterValue filterValue) throws EpcParseException {
+        return toCPI(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public CPI encode(final CPITagSize tagSize,
+                      final CPIFilterValue filterValue,
+                      final String companyPrefix,
+                      final String componentPartReference,
+                      final String serial) throws EpcParseException {
+        return toCPI(parseFields(tagSize, filterValue, companyPrefix, componentPartReference, serial));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final CPIHeader header = CPIHeader.of((int) inputBin.getBits(0, 8));
+        final CPITagSize tagSize = CPITagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+        final CPIPartitionTable partitionTable = CPIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final CPIFilterValue filterValue = CPIFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final int componentPartReferenceOffset = tableItem.referenceOffset();
+
+        final DecodedData decoded = switch (tagSize) {
+            // cpi-96
+            case BITS_96 -> {
+                final String componentPartReference = BinaryUtils.decodeInteger(inputBin, componentPartReferenceOffset, tableItem.n());
+                yield new DecodedData(componentPartReference, tableItem.serialOffset());
+            }
+            // cpi-var
+            case BITS_VARIABLE -> {
+                // find the terminator "000000"
+                int componentPartReferenceLength = 0;
+                while (true) {
+                    EpcFieldReader.checkSize(inputBin, componentPartReferenceOffset + componentPartReferenceLength + 6);
+                    if (inputBin.getBits(componentPartReferenceOffset + componentPartReferenceLength, 6) == 0) break;
+                    componentPartReferenceLength += 6;
+                }
+
+                final String componentPartReference = EpcFieldReader.text(inputBin, componentPartReferenceOffset, componentPartReferenceLength, 6);
+
+                // skip the terminator
+                final int serialOffset = componentPartReferenceOffset + componentPartReferenceLength + 6;
+
+                yield new DecodedData(componentPartReference, serialOffset);
+            }
+        };
+
+        EpcFieldReader.checkSize(inputBin, decoded.serialOffset + tagSize.getSerialBitCount());
+        final String serial = BinaryUtils.decodeInteger(inputBin, decoded.serialOffset, tagSize.getSerialBitCount());
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, decoded.componentPartReference, serial);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link CPI}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final CPITagSize tagSize = CPITagSize.of(CPIHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = CPIPartitionTable.getInstance(tagSize).getPartitionByValue(partitionValue);
+
+        final int componentPartReferenceOffset = tableItem.referenceOffset();
+
+        sink.header(EpcScheme.CPI, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+
+        final int serialOffset = switch (tagSize) {
+            // cpi-96
+            case BITS_96 -> {
+                sink.reference(BitBuffer.getBits(rfidTag, offset, length, componentPartReferenceOffset, tableItem.n()), 0);
+                yield tableItem.serialOffset();
+            }
+            // cpi-var
+            case BITS_VARIABLE -> {
+                // find the terminator "000000"
+                int componentPartReferenceLength = 0;
+                while (true) {
+                    EpcFieldReader.checkSize(length, componentPartReferenceOffset + componentPartReferenceLength + 6);
+                    if (BitBuffer.getBits(rfidTag, offset, length, componentPartReferenceOffset + componentPartReferenceLength, 6) == 0) break;
+                    componentPartReferenceLength += 6;
+                }
+                sink.reference(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), componentPartReferenceOffset, componentPartReferenceLength, 6));
+
+                // skip the terminator
+                yield componentPartReferenceOffset + componentPartReferenceLength + 6;
+            }
+        };
+
+        EpcFieldReader.checkSize(length, serialOffset + tagSize.getSerialBitCount());
+        sink.serial(BitBuffer.getBits(rfidTag, offset, length, serialOffset, tagSize.getSerialBitCount()));
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final boolean variable = scanner.accept("var") && scanner.expect(':');
+        final int size = variable ? 0 : scanner.number(96, 96, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        // the serial follows the last dot
+        final int referenceEnd = scanner.lastIndexOf('.');
+        final int referenceStart = scanner.until(referenceEnd);
+        scanner.expect('.');
+        final String serial = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final CPITagSize tagSize = variable ? CPITagSize.BITS_VARIABLE : CPITagSize.of(size);
+        final CPIFilterValue filterValue = CPIFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String componentPartReference = Encoding6Bit.normalize(epcTagURI, referenceStart, referenceEnd);
+
+        final CPIPartitionTable partitionTable = CPIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateComponentPartReference(tableItem, tagSize, componentPartReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, componentPartReference, serial);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final CPITagSize tagSize, final CPIFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final int referenceEnd = scanner.lastIndexOf('.');
+        final int referenceStart = scanner.until(referenceEnd);
+        scanner.expect('.');
+        final String serial = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String componentPartReference = Encoding6Bit.normalize(epcPureIdentityURI, referenceStart, referenceEnd);
+
+        final CPIPartitionTable partitionTable = CPIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateComponentPartReference(tableItem, tagSize, componentPartReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, componentPartReference, serial);
+    }
+
+    private ParsedData parseFields(final CPITagSize tagSize, final CPIFilterValue filterValue, final String companyPrefix, final String componentPartReference, final String serial) {
+        final CPIPartitionTable partitionTable = CPIPartitionTable.getInstance(tagSize);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateComponentPartReference(tableItem, tagSize, componentPartReference);
+
+        validateSerial(tagSize, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, componentPartReference, serial);
+    }
+
+    /**
+     * @return number of bits of the tag, cpi-var tags grow with the component/part reference
+     */
+    private int length(final ParsedData data) {
+        return data.tableItem.referenceOffset() + componentPartReferenceBits(data) + data.tagSize.getSerialBitCount();
+    }
+
+    private int componentPartReferenceBits(final ParsedData data) {
+        // cpi-96 has a fixed component/part reference, cpi-var is 6 bits per character plus a 6-bit terminator
+        return switch (data.tagSize) {
+            case BITS_96 -> data.tableItem.n();
+            case BITS_VARIABLE -> 6 * data.componentPartReference.length() + 6;
+        };
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        final int componentPartReferenceOffset = data.tableItem.referenceOffset();
+        final int componentPartReferenceBits = componentPartReferenceBits(data);
+        final int serialOffset = componentPartReferenceOffset + componentPartReferenceBits;
+        final int length = length(data);
+
+        // remainder = (int) (Math.ceil((length / 16.0)) * 16) - length;
+        final BitBuffer bin = new BitBuffer(length + remainder(length));
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+
+        switch (data.tagSize) {
+            // cpi-96
+            case BITS_96 -> BinaryUtils.encodeInteger(bin, componentPartReferenceOffset, componentPartReferenceBits, data.componentPartReference);
+            // cpi-var, the 'terminator' is left as zeros
+            case BITS_VARIABLE -> BinaryUtils.encodeString(bin, componentPartReferenceOffset, componentPartReferenceBits, data.componentPartReference, 6);
+        }
+
+        BinaryUtils.encodeInteger(bin, serialOffset, data.tagSize.getSerialBitCount(), data.serial);
+
+        return bin;
+    }
+
+    private CPI toCPI(final ParsedData data) {
+        return toCPI(data, toBinary(data));
+    }
+
+    private CPI toCPI(final ParsedData data, final BitBuffer bits) {
+        final String tagSize = (data.tagSize.getValue() == 0) ? "var" : Integer.toString(data.tagSize.getValue());
+
+        return new CPI(
+            // "cpi",
+            // "AI 8010 + AI 8011",
+            tagSize,
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.componentPartReference,
+            data.serial,
+            bits
+        );
+    }
+
+    /* --- Validation --- */
+    private void validateComponentPartReference(final TableItem tableItem, final CPITagSize tagSize, final String componentPartReference) {
+        if (componentPartReference.length() > tableItem.digits()) {
+            throw new IllegalArgumentException("Component/Part Reference is out of range");
+        }
+
+        switch (tagSize) {
+            case BITS_96 -> {
+                // if (Converter.isNotNumeric(componentPartReference)) {
+                //     throw new IllegalArgumentException("Component/Part Reference is allowed with numerical only");
+                // }
+
+                if (!componentPartReference.matches("\\d+")) {
+                    throw new IllegalArgumentException("CPI-96 Component/Part Reference must be numeric, got: '%s'".formatted(componentPartReference));
+                }
+                if (componentPartReference.length() > 1 && componentPartReference.startsWith("0")) {
+                    throw new IllegalArgumentException("CPI-96 Component/Part Reference with leading zeros is not allowed");
+                }
+            }
+            case BITS_VARIABLE -> {
+                // no validation
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    private void validateSerial(final CPITagSize tagSize, final String serial) {
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!serial.matches("\\d+")) {
+                    throw new IllegalArgumentException("CPI-96 Serial must be numeric, got: '%s'".formatted(serial));
+                }
+                if (serial.length() > 1 && serial.startsWith("0")) {
+                    throw new IllegalArgumentException("CPI-96 Serial with leading zeros is not allowed");
+                }
+                if (Long.parseLong(serial) > tagSize.getSerialMaxValue()) {
+                    throw new IllegalArgumentException("CPI-96 Serial value is out of range. Should be less than or equal %d".formatted(tagSize.getSerialMaxValue()));
+                }
+            }
+            case BITS_VARIABLE -> {
+                if (serial.length() > 1 && serial.startsWith("0")) {
+                    throw new IllegalArgumentException("CPI-var Serial with leading zeros is not allowed");
+                }
+                if (serial.length() > tagSize.getSerialMaxLength()) {
+                    throw new IllegalArgumentException("CPI-var Serial value is out of range. Should be up to %d alphanumeric characters".formatted(tagSize.getSerialMaxLength()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Objects --- */
+    private record ParsedData(
+        TableItem tableItem,
+        CPITagSize tagSize,
+        CPIFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String componentPartReference,
+        String serial
+    ) {
+        // empty
+    }
+
+
+    private record DecodedData(
+        String componentPartReference,
+        int serialOffset
+    ) {
+        // empty
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.cpi.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,12 @@ public enum CPIHeader {
     };
 
     private static final Map<String, CPIHeader> _map = new HashMap<>();
+    private static final CPIHeader[] _table = new CPIHeader[256];
 
     static {
         for (CPIHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -41,4 +44,12 @@ public enum CPIHeader {
         return header;
     }
 
+    public static CPIHeader of(final int value) {
+        final CPIHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("CPI header [%s] is invalid. Allowed only 00111100 or 00111101".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
@@ -1,25 +1,57 @@
 package com.pedrozc90.epcs.schemes.cpi.objects;
 
 import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.Encoding6Bit;
 
-public record CPI(
-    String tagSize,
-    String filterValue,
-    String partitionValue,
-    String prefixLength,
-    String companyPrefix,
-    String componentPartReference,
-    String serial,
-    String epcPureIdentityURI,
-    String epcTagURI,
-    String epcRawURI,
-    String binary,
-    String rfidTag
-) implements Epc {
+/**
+ * Component / Part Identifier (CPI).
+ *
+ * <p>The decoded fields and the encoded tag bits are fixed at construction. The URIs, the binary
+ * string and the hexadecimal RFID tag are built on first access and cached.</p>
+ */
+public final class CPI implements Epc {
 
     public static final String SCHEME = "cpi";
     public static final String IDENTIFIER = "AI 8010 + AI 8011";
 
+    private final String tagSize;
+    private final String filterValue;
+    private final String partitionValue;
+    private final String prefixLength;
+    private final String companyPrefix;
+    private final String componentPartReference;
+    private final String serial;
+    private final BitBuffer bits;
+
+    // lazily built, concurrent first calls may build the same value twice
+    private String epcPureIdentityURI;
+    private String epcTagURI;
+    private String epcRawURI;
+    private String binary;
+    private String rfidTag;
+
+    public CPI(
+        final String tagSize,
+        final String filterValue,
+        final String partitionValue,
+        final String prefixLength,
+        final String companyPrefix,
+        final String componentPartReference,
+        final String serial,
+        final BitBuffer bits
+    ) {
+        this.tagSize = tagSize;
+        this.filterValue = filterValue;
+        this.partitionValue = partitionValue;
+        this.prefixLength = prefixLength;
+        this.companyPrefix = companyPrefix;
+        this.componentPartReference = componentPartReference;
+        this.serial = serial;
+        this.bits = bits;
+    }
+
     @Override
     public String epcScheme() {
         return SCHEME;
@@ -30,4 +62,119 @@ public record CPI(
         return IDENTIFIER;
     }
 
+    @Override
+    public String tagSize() {
+        return tagSize;
+    }
+
+    @Override
+    public String filterValue() {
+        return filterValue;
+    }
+
+    @Override
+    public String partitionValue() {
+        return partitionValue;
+    }
+
+    @Override
+    public String prefixLength() {
+        return prefixLength;
+    }
+
+    @Override
+    public String companyPrefix() {
+        return companyPrefix;
+    }
+
+    public String componentPartReference() {
+        return componentPartReference;
+    }
+
+    public String serial() {
+        return serial;
+    }
+
+    @Override
+    public String epcPureIdentityURI() {
+        String value = epcPureIdentityURI;
+        if (value == null) {
+            value = EpcScheme.CPI.pureIdentityURIPrefix() + companyPrefix + '.' + Encoding6Bit.escape(componentPartReference) + '.' + serial;
+            epcPureIdentityURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String epcTagURI() {
+        String value = epcTagURI;
+        if (value == null) {
+            value = EpcScheme.CPI.tagURIPrefix(EpcScheme.tagSize((int) bits.getBits(0, 8))) + filterValue + '.' + companyPrefix + '.' + Encoding6Bit.escape(componentPartReference) + '.' + serial;
+            epcTagURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String epcRawURI() {
+        String value = epcRawURI;
+        if (value == null) {
+            value = "urn:epc:raw:" + bits.length() + ".x" + rfidTag();
+            epcRawURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String binary() {
+        String value = binary;
+        if (value == null) {
+            value = bits.toBinary();
+            binary = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String rfidTag() {
+        String value = rfidTag;
+        if (value == null) {
+            value = bits.toHex();
+            rfidTag = value;
+        }
+        return value;
+    }
+
+    @Override
+    public byte[] rfidTagBytes() {
+        return bits.toBytes();
+    }
+
+    @Override
+    public int bitLength() {
+        return bits.length();
+    }
+
+    @Override
+    public long getBits(final int offset, final int length) {
+        return bits.getBits(offset, length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CPI other)) return false;
+        return bits.equals(other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return bits.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CPI[" + epcTagURI() + "]";
+    }
+
 }
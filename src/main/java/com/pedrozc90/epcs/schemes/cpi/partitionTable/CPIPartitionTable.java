@@ -4,33 +4,26 @@ import com.pedrozc90.epcs.objects.TableItem;
 import com.pedrozc90.epcs.schemes.PartitionTable;
 import com.pedrozc90.epcs.schemes.cpi.enums.CPITagSize;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class CPIPartitionTable extends PartitionTable {
 
-    private static final Map<Integer, CPIPartitionTable> instances = new HashMap<>();
-
-    static {
-        instances.put(96, new CPIPartitionTable(96));
-        instances.put(0, new CPIPartitionTable(0));
-    }
+    private static final CPIPartitionTable BITS_96 = new CPIPartitionTable(96);
+    private static final CPIPartitionTable BITS_VARIABLE = new CPIPartitionTable(0);
 
     public CPIPartitionTable(final int tagSize) {
         super(createTable(tagSize));
     }
 
     public static CPIPartitionTable getInstance(final int tagSize) {
-        final CPIPartitionTable table = instances.get(tagSize);
-        if (table == null) {
-            return instances.get(0);
-        }
-        return table;
+        return (tagSize == 96) ? BITS_96 : BITS_VARIABLE;
     }
 
     public static CPIPartitionTable getInstance(final CPITagSize tagSize) {
-        return getInstance(tagSize.getValue());
+        return switch (tagSize) {
+            case BITS_96 -> BITS_96;
+            case BITS_VARIABLE -> BITS_VARIABLE;
+        };
     }
 
     private static List<TableItem> createTable(final int tagSize) {
@@ -0,0 +1,300 @@
+package com.pedrozc90.epcs.schemes.gdti;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIFilterValue;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIHeader;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTITagSize;
+import com.pedrozc90.epcs.schemes.gdti.objects.GDTI;
+import com.pedrozc90.epcs.schemes.gdti.partitionTable.GDTIPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless GDTI codec, shared through {@link #INSTANCE}.
+ */
+public final class GDTICodec implements EpcParser<GDTI> {
+
+    public static final GDTICodec INSTANCE = new GDTICodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:gdti-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:gdti:";
+
+    private static final GDTIPartitionTable partitionTable = new GDTIPartitionTable();
+
+    private GDTICodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded gdti
+     */
+    public GDTI decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toGDTI(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded gdti
+     */
+    public GDTI decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded gdti
+     */
+    public GDTI decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded gdti
+     */
+    public GDTI decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public GDTI decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toGDTI(parseEpcTagURI(epcTagURI));
+    }
+
+    public GDTI decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GDTITagSize tagSize, final GDTIFilterValue filterValue) throws EpcParseException {
+        return toGDTI(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public GDTI encode(final GDTITagSize tagSize,
+                       final GDTIFilterValue filterValue,
+                       final String companyPrefix,
+                       final String docType,
+                       final String serial) throws EpcParseException {
+        return toGDTI(parseFields(tagSize, filterValue, companyPrefix, docType, serial));
+    }
+
+    private static ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final GDTIHeader header = GDTIHeader.of((int) inputBin.getBits(0, 8));
+        final GDTITagSize tagSize = GDTITagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final GDTIFilterValue filterValue = GDTIFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final int docTypeOffset = tableItem.referenceOffset();
+        final String docType = EpcFieldReader.decimal(inputBin, docTypeOffset, tableItem.n(), tableItem.digits());
+
+        final int serialOffset = tableItem.serialOffset();
+
+        final String serial = switch (tagSize.getSerialBitCount()) {
+            // gdti-96
+            case 41 -> BinaryUtils.decodeInteger(inputBin, serialOffset, tagSize.getSerialBitCount());
+            // gdti-174
+            case 119 -> EpcFieldReader.text(inputBin, serialOffset, tagSize.getSerialBitCount(), 7);
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        };
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, docType, serial);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link GDTI}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final GDTITagSize tagSize = GDTITagSize.of(GDTIHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        final int docTypeOffset = tableItem.referenceOffset();
+        final int serialOffset = tableItem.serialOffset();
+
+        sink.header(EpcScheme.GDTI, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, docTypeOffset, tableItem.n(), tableItem.digits()), tableItem.digits());
+
+        switch (tagSize) {
+            // gdti-96
+            case BITS_96 -> sink.serial(BitBuffer.getBits(rfidTag, offset, length, serialOffset, tagSize.getSerialBitCount()));
+            // gdti-174
+            case BITS_174 -> sink.serial(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), serialOffset, tagSize.getSerialBitCount(), 7));
+        }
+    }
+
+    private static ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 174, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final String docType = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final GDTITagSize tagSize = GDTITagSize.of(size);
+        final GDTIFilterValue filterValue = GDTIFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String serial = Encoding7Bit.normalize(epcTagURI, serialStart, epcTagURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateDocType(tableItem, docType);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, docType, serial);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final GDTITagSize tagSize, final GDTIFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final String docType = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String serial = Encoding7Bit.normalize(epcPureIdentityURI, serialStart, epcPureIdentityURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateDocType(tableItem, docType);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, docType, serial);
+    }
+
+    private ParsedData parseFields(final GDTITagSize tagSize, final GDTIFilterValue filterValue, final String companyPrefix, final String docType, final String serial) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateDocType(tableItem, docType);
+
+        validateSerial(tagSize, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, docType, serial);
+    }
+
+    private GDTI toGDTI(final ParsedData data) {
+        return toGDTI(data, toBinary(data));
+    }
+
+    private GDTI toGDTI(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.companyPrefix, data.docType);
+
+        return new GDTI(
+            // "gdti",
+            // "AI 253",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.docType,
+            data.serial,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        // remainder = (int) (Math.ceil((tagSize.getValue() / 16.0)) * 16) - tagSize.getValue();
+        final int remainder = remainder(data.tagSize.getValue());
+
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue() + remainder);
+
+        final int docTypeOffset = data.tableItem.referenceOffset();
+        final int serialOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, docTypeOffset, data.tableItem.n(), data.docType);
+
+        // gdti-96
+        if (data.tagSize.getValue() == 96) {
+            BinaryUtils.encodeInteger(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial);
+        }
+        // gdti-174
+        else if (data.tagSize.getValue() == 174) {
+            BinaryUtils.encodeString(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial, 7);
+        }
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private static void validateDocType(final TableItem tableItem, final String docType) {
+        final int docTypeLength = docType.length();
+        if (docTypeLength != tableItem.digits()) {
+            throw new IllegalArgumentException("Document Type \"%s\" has %d length and should have %d length".formatted(docType, docTypeLength, tableItem.digits()));
+        }
+    }
+
+    private void validateSerial(final GDTITagSize tagSize, final String serial) {
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!serial.matches("\\d+")) {
+                    throw new IllegalArgumentException("GDTI-96 Serial must be numeric, got: '%s'".formatted(serial));
+                }
+                if (serial.length() > 1 && serial.startsWith("0")) {
+                    throw new IllegalArgumentException("GDTI-96 Serial with leading zeros is not allowed");
+                }
+                if (Long.parseLong(serial) > tagSize.getSerialMaxValue()) {
+                    throw new IllegalArgumentException("GDTI-96 Serial value is out of range. Should be less than or equal %d".formatted(tagSize.getSerialMaxValue()));
+                }
+            }
+            case BITS_174 -> {
+                if (serial.length() > tagSize.getSerialMaxLength()) {
+                    throw new IllegalArgumentException("GDTI-174 Serial value is out of range. Should be up to %d alphanumeric characters".formatted(tagSize.getSerialMaxLength()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Object --- */
+    private record ParsedData(
+        TableItem tableItem,
+        GDTITagSize tagSize,
+        GDTIFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String docType,
+        String serial
+    ) {
+        // empty
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.pedrozc90.epcs.schemes.gdti;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIFilterValue;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTITagSize;
+import com.pedrozc90.epcs.schemes.gdti.objects.GDTI;
+import com.pedrozc90.epcs.schemes.gdti.partitionTable.GDTIPartitionTable;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+/**
+ * Encodes GDTIs of one document type, varying only the serial.
+ */
+public final class GDTIEncoder extends EpcTemplate<GDTI> {
+
+    private static final GDTIPartitionTable partitionTable = new GDTIPartitionTable();
+
+    private final GDTI prototype;
+
+    private GDTIEncoder(final GDTI prototype, final int serialOffset, final GDTITagSize tagSize) {
+        super(prototype, serialOffset, tagSize.getSerialBitCount(), tagSize.getSerialMaxValue());
+        this.prototype = prototype;
+    }
+
+    private GDTIEncoder(final GDTI prototype, final int serialOffset, final int maxLength) {
+        super(prototype, serialOffset, maxLength);
+        this.prototype = prototype;
+    }
+
+    /**
+     * @param tagSize       - tag size
+     * @param filterValue   - filter value
+     * @param companyPrefix - company prefix, ex: "0614141"
+     * @param docType       - document type, ex: "12345"
+     * @return encoder of the document type
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static GDTIEncoder of(final GDTITagSize tagSize,
+                                 final GDTIFilterValue filterValue,
+                                 final String companyPrefix,
+                                 final String docType) throws EpcParseException {
+        final GDTI prototype = GDTIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withDocType(docType)
+            .withSerial("1")
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        final TableItem tableItem = partitionTable.getPartitionByL(companyPrefix.length());
+        return switch (tagSize) {
+            case BITS_96 -> new GDTIEncoder(prototype, tableItem.serialOffset(), tagSize);
+            case BITS_174 -> new GDTIEncoder(prototype, tableItem.serialOffset(), tagSize.getSerialMaxLength());
+        };
+    }
+
+    @Override
+    protected GDTI create(final String serial, final BitBuffer bits) {
+        return new GDTI(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            prototype.docType(),
+            serial,
+            prototype.checkDigit(),
+            bits
+        );
+    }
+
+}
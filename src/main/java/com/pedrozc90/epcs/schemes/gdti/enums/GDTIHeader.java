@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.gdti.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,12 @@ public enum GDTIHeader {
     };
 
     private static final Map<String, GDTIHeader> _map = new HashMap<>();
+    private static final GDTIHeader[] _table = new GDTIHeader[256];
 
     static {
         for (GDTIHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -41,4 +44,12 @@ public enum GDTIHeader {
         return header;
     }
 
+    public static GDTIHeader of(final int value) {
+        final GDTIHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("GDTI header [%s] is invalid. Allowed only 00101100 or 00111110".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
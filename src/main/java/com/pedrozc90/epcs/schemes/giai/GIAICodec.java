@@ -0,0 +1,272 @@
+package com.pedrozc90.epcs.schemes.giai;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIFilterValue;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIHeader;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.giai.objects.GIAI;
+import com.pedrozc90.epcs.schemes.giai.partitionTable.GIAIPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless GIAI codec, shared through {@link #INSTANCE}.
+ */
+public final class GIAICodec implements EpcParser<GIAI> {
+
+    public static final GIAICodec INSTANCE = new GIAICodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:giai-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:giai:";
+
+    private GIAICodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded giai
+     */
+    public GIAI decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toGIAI(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded giai
+     */
+    public GIAI decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded giai
+     */
+    public GIAI decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded giai
+     */
+    public GIAI decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public GIAI decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toGIAI(parseEpcTagURI(epcTagURI));
+    }
+
+    public GIAI decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GIAITagSize tagSize, final GIAIFilterValue filterValue) throws EpcParseException {
+        return toGIAI(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public GIAI encode(final GIAITagSize tagSize,
+                       final GIAIFilterValue filterValue,
+                       final String companyPrefix,
+                       final String individualAssetReference) throws EpcParseException {
+        return toGIAI(parseFields(tagSize, filterValue, companyPrefix, individualAssetReference));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final GIAIHeader header = GIAIHeader.of((int) inputBin.getBits(0, 8));
+        final GIAITagSize tagSize = GIAITagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final GIAIPartitionTable partitionTable = GIAIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final GIAIFilterValue filterValue = GIAIFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final int individualAssetReferenceOffset = tableItem.referenceOffset();
+
+        final String individualAssetReference = switch (tagSize.getSerialBitCount()) {
+            // giai-96
+            case 38 -> BinaryUtils.decodeInteger(inputBin, individualAssetReferenceOffset, tableItem.n());
+            // giai-202
+            case 112 -> EpcFieldReader.text(inputBin, individualAssetReferenceOffset, tableItem.n(), 7);
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        };
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, individualAssetReference);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link GIAI}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final GIAITagSize tagSize = GIAITagSize.of(GIAIHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = GIAIPartitionTable.getInstance(tagSize).getPartitionByValue(partitionValue);
+
+        final int individualAssetReferenceOffset = tableItem.referenceOffset();
+
+        sink.header(EpcScheme.GIAI, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+
+        switch (tagSize) {
+            // giai-96
+            case BITS_96 -> sink.reference(BitBuffer.getBits(rfidTag, offset, length, individualAssetReferenceOffset, tableItem.n()), 0);
+            // giai-202
+            case BITS_202 -> sink.reference(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), individualAssetReferenceOffset, tableItem.n(), 7));
+        }
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 202, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final int referenceStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final GIAITagSize tagSize = GIAITagSize.of(size);
+        final GIAIFilterValue filterValue = GIAIFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String individualAssetReference = Encoding7Bit.normalize(epcTagURI, referenceStart, epcTagURI.length());
+
+        final GIAIPartitionTable partitionTable = GIAIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateIndividualAssetReference(tableItem, tagSize, individualAssetReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, individualAssetReference);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final GIAITagSize tagSize, final GIAIFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final int referenceStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String individualAssetReference = Encoding7Bit.normalize(epcPureIdentityURI, referenceStart, epcPureIdentityURI.length());
+
+        final GIAIPartitionTable partitionTable = GIAIPartitionTable.getInstance(tagSize);
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, individualAssetReference);
+    }
+
+    private ParsedData parseFields(final GIAITagSize tagSize, final GIAIFilterValue filterValue, final String companyPrefix, final String individualAssetReference) {
+        final GIAIPartitionTable partitionTable = GIAIPartitionTable.getInstance(tagSize);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateIndividualAssetReference(tableItem, tagSize, individualAssetReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, individualAssetReference);
+    }
+
+    private GIAI toGIAI(final ParsedData data) {
+        return toGIAI(data, toBinary(data));
+    }
+
+    private GIAI toGIAI(final ParsedData data, final BitBuffer bits) {
+        return new GIAI(
+            // "giai",
+            // "AI 8004",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.individualAssetReference,
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        // remainder = (int) (Math.ceil((tagSize.getValue() / 16.0)) * 16) - tagSize.getValue();
+        final int remainder = remainder(data.tagSize.getValue());
+
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue() + remainder);
+
+        final int individualAssetReferenceOffset = data.tableItem.referenceOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+
+        if (data.tagSize.getValue() == 96) {
+            BinaryUtils.encodeInteger(bin, individualAssetReferenceOffset, data.tableItem.n() + remainder, data.individualAssetReference);
+        } else if (data.tagSize.getValue() == 202) {
+            BinaryUtils.encodeString(bin, individualAssetReferenceOffset, data.tableItem.n() + remainder, data.individualAssetReference, 7);
+        }
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private void validateIndividualAssetReference(final TableItem tableItem, final GIAITagSize tagSize, final String individualAssetReference) {
+        if (individualAssetReference.length() > tableItem.digits()) {
+            throw new IllegalArgumentException("Individual Asset Reference value is out of range. The length should be %d".formatted(tableItem.digits()));
+        }
+
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!individualAssetReference.matches("\\d+")) {
+                    throw new IllegalArgumentException("GIAI-96 Individual Asset Reference must be numeric, got: '%s'".formatted(individualAssetReference));
+                }
+                if (individualAssetReference.length() > 1 && individualAssetReference.startsWith("0")) {
+                    throw new IllegalArgumentException("GIAI-96 Individual Asset Reference with leading zeros is not allowed");
+                }
+            }
+            case BITS_202 -> {
+                // no validation
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Objects --- */
+    private record ParsedData(
+        TableItem tableItem,
+        GIAITagSize tagSize,
+        GIAIFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String individualAssetReference
+    ) {
+        // empty
+    }
+
+}
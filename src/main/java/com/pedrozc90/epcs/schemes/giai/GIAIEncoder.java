@@ -0,0 +1,81 @@
+package com.pedrozc90.epcs.schemes.giai;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIFilterValue;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.giai.objects.GIAI;
+import com.pedrozc90.epcs.schemes.giai.partitionTable.GIAIPartitionTable;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+/**
+ * Encodes GIAIs of one company, varying only the individual asset reference.
+ *
+ * <p>The largest numeric reference of giai-96 is bound by both the reference bits and the
+ * reference digits of the partition.</p>
+ */
+public final class GIAIEncoder extends EpcTemplate<GIAI> {
+
+    private final GIAI prototype;
+
+    private GIAIEncoder(final GIAI prototype, final TableItem tableItem, final long maxReference) {
+        super(prototype, tableItem.referenceOffset(), tableItem.n(), maxReference);
+        this.prototype = prototype;
+    }
+
+    private GIAIEncoder(final GIAI prototype, final TableItem tableItem) {
+        super(prototype, tableItem.referenceOffset(), tableItem.digits());
+        this.prototype = prototype;
+    }
+
+    /**
+     * @param tagSize       - tag size
+     * @param filterValue   - filter value
+     * @param companyPrefix - company prefix, ex: "0614141"
+     * @return encoder of the company
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static GIAIEncoder of(final GIAITagSize tagSize,
+                                 final GIAIFilterValue filterValue,
+                                 final String companyPrefix) throws EpcParseException {
+        final GIAI prototype = GIAIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withIndividualAssetReference("1")
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        final TableItem tableItem = GIAIPartitionTable.getInstance(tagSize).getPartitionByL(companyPrefix.length());
+        return switch (tagSize) {
+            case BITS_96 -> new GIAIEncoder(prototype, tableItem, maxReference(tableItem));
+            case BITS_202 -> new GIAIEncoder(prototype, tableItem);
+        };
+    }
+
+    @Override
+    protected GIAI create(final String individualAssetReference, final BitBuffer bits) {
+        return new GIAI(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            individualAssetReference,
+            bits
+        );
+    }
+
+    /* --- Helpers --- */
+    private static long maxReference(final TableItem tableItem) {
+        final long maxBits = (1L << tableItem.n()) - 1;
+        long maxDigits = 0L;
+        for (int i = 0; i < tableItem.digits(); i++) {
+            // one more digit exceeds the bits, checked before the long overflows
+            if (maxDigits > (maxBits - 9) / 10) return maxBits;
+            maxDigits = maxDigits * 10 + 9;
+        }
+        return maxDigits;
+    }
+
+}
@@ -22,10 +22,12 @@ public enum GIAIHeader {
     };
 
     private static final Map<String, GIAIHeader> _map = new HashMap<>();
+    private static final GIAIHeader[] _table = new GIAIHeader[256];
 
     static {
         for (GIAIHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -38,4 +40,9 @@ public enum GIAIHeader {
         return _map.get(value);
     }
 
+    public static GIAIHeader of(final int value) {
+        if (value < 0 || value >= _table.length) return null;
+        return _table[value];
+    }
+
 }
@@ -5,33 +5,30 @@ import com.pedrozc90.epcs.schemes.PartitionTable;
 import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class GIAIPartitionTable extends PartitionTable {
 
-    private static final Map<Integer, GIAIPartitionTable> instances = new HashMap<>();
-
-    static {
-        instances.put(96, new GIAIPartitionTable(96));
-        instances.put(202, new GIAIPartitionTable(202));
-    }
+    private static final GIAIPartitionTable BITS_96 = new GIAIPartitionTable(96);
+    private static final GIAIPartitionTable BITS_202 = new GIAIPartitionTable(202);
 
     public GIAIPartitionTable(final int tagSize) {
         super(createTable(tagSize));
     }
 
     public static GIAIPartitionTable getInstance(final int tagSize) {
-        final GIAIPartitionTable table = instances.get(tagSize);
-        if (table == null) {
-            throw new IllegalArgumentException("Unsupported tag size: " + tagSize);
-        }
-        return table;
+        return switch (tagSize) {
+            case 96 -> BITS_96;
+            case 202 -> BITS_202;
+            default -> throw new IllegalArgumentException("Unsupported tag size: " + tagSize);
+        };
     }
 
     public static GIAIPartitionTable getInstance(final GIAITagSize tagSize) {
-        return getInstance(tagSize.getValue());
+        return switch (tagSize) {
+            case BITS_96 -> BITS_96;
+            case BITS_202 -> BITS_202;
+        };
     }
 
     private static List<TableItem> createTable(final int tagSize) {
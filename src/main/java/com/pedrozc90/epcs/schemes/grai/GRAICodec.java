@@ -0,0 +1,304 @@
+package com.pedrozc90.epcs.schemes.grai;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIFilterValue;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIHeader;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAITagSize;
+import com.pedrozc90.epcs.schemes.grai.objects.GRAI;
+import com.pedrozc90.epcs.schemes.grai.partitionTable.GRAIPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless GRAI codec, shared through {@link #INSTANCE}.
+ */
+public final class GRAICodec implements EpcParser<GRAI> {
+
+    public static final GRAICodec INSTANCE = new GRAICodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:grai-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:grai:";
+
+    private static final GRAIPartitionTable partitionTable = new GRAIPartitionTable();
+
+    private GRAICodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded grai
+     */
+    public GRAI decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toGRAI(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded grai
+     */
+    public GRAI decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded grai
+     */
+    public GRAI decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded grai
+     */
+    public GRAI decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public GRAI decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toGRAI(parseEpcTagURI(epcTagURI));
+    }
+
+    public GRAI decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GRAITagSize tagSize, final GRAIFilterValue filterValue) throws EpcParseException {
+        return toGRAI(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public GRAI encode(final GRAITagSize tagSize,
+                       final GRAIFilterValue filterValue,
+                       final String companyPrefix,
+                       final String assetType,
+                       final String serial) throws EpcParseException {
+        return toGRAI(parseFields(tagSize, filterValue, companyPrefix, assetType, serial));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final GRAIHeader header = GRAIHeader.of((int) inputBin.getBits(0, 8));
+        final GRAITagSize tagSize = GRAITagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final GRAIFilterValue filterValue = GRAIFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final int assetTypeOffset = tableItem.referenceOffset();
+        final String assetType = EpcFieldReader.decimal(inputBin, assetTypeOffset, tableItem.n(), tableItem.digits());
+
+        final int serialOffset = tableItem.serialOffset();
+
+        final String serial = switch (tagSize.getSerialBitCount()) {
+            // grai-96
+            case 38 -> BinaryUtils.decodeInteger(inputBin, serialOffset, tagSize.getSerialBitCount());
+            // grai-198
+            case 112 -> EpcFieldReader.text(inputBin, serialOffset, tagSize.getSerialBitCount(), 7);
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        };
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, assetType, serial);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link GRAI}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final GRAITagSize tagSize = GRAITagSize.of(GRAIHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        final int assetTypeOffset = tableItem.referenceOffset();
+        final int serialOffset = tableItem.serialOffset();
+
+        sink.header(EpcScheme.GRAI, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, assetTypeOffset, tableItem.n(), tableItem.digits()), tableItem.digits());
+
+        switch (tagSize) {
+            // grai-96
+            case BITS_96 -> sink.serial(BitBuffer.getBits(rfidTag, offset, length, serialOffset, tagSize.getSerialBitCount()));
+            // grai-170
+            case BITS_170 -> sink.serial(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), serialOffset, tagSize.getSerialBitCount(), 7));
+        }
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 170, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final String assetType = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI '%s' is invalid at offset %d".formatted(epcTagURI, scanner.errorOffset()));
+        }
+
+        final GRAITagSize tagSize = GRAITagSize.of(size);
+        final GRAIFilterValue filterValue = GRAIFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String serial = Encoding7Bit.normalize(epcTagURI, serialStart, epcTagURI.length());
+
+        validateSerial(tagSize, serial);
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateAssetType(tableItem, assetType);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, assetType, serial);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final GRAITagSize tagSize, final GRAIFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final String assetType = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String serial = Encoding7Bit.normalize(epcPureIdentityURI, serialStart, epcPureIdentityURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateAssetType(tableItem, assetType);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, assetType, serial);
+    }
+
+    private ParsedData parseFields(final GRAITagSize tagSize, final GRAIFilterValue filterValue, final String companyPrefix, final String assetType, final String serial) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateAssetType(tableItem, assetType);
+        validateSerial(tagSize, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, assetType, serial);
+    }
+
+    private GRAI toGRAI(final ParsedData data) {
+        return toGRAI(data, toBinary(data));
+    }
+
+    private GRAI toGRAI(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.companyPrefix, data.assetType);
+
+        return new GRAI(
+            // "grai",
+            // "AI 8003",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.assetType,
+            data.serial,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        // remainder = (int) (Math.ceil((tagSize.getValue() / 16.0)) * 16) - tagSize.getValue();
+        final int remainder = remainder(data.tagSize.getValue());
+
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue() + remainder);
+
+        final int assetTypeOffset = data.tableItem.referenceOffset();
+        final int serialOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, assetTypeOffset, data.tableItem.n(), data.assetType);
+
+        // grai-96
+        if (data.tagSize.getValue() == 96) {
+            BinaryUtils.encodeInteger(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial);
+        }
+        // grai-170
+        else if (data.tagSize.getValue() == 170) {
+            BinaryUtils.encodeString(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial, 7);
+        }
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private void validateAssetType(final TableItem tableItem, final String assetType) {
+        if (assetType.length() != tableItem.digits()) {
+            throw new IllegalArgumentException("Asset Type \"%s\" has %d length and should have %d length".formatted(assetType, assetType.length(), tableItem.digits()));
+        }
+    }
+
+    private void validateSerial(final GRAITagSize tagSize, final String serial) {
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!serial.matches("\\d+")) {
+                    throw new IllegalArgumentException("GRAI-96 Serial must be numeric, got: '%s'".formatted(serial));
+                }
+                if (serial.length() > 1 && serial.startsWith("0")) {
+                    throw new IllegalArgumentException("GRAI-96 Serial with leading zeros is not allowed");
+                }
+                if (Long.parseLong(serial) > tagSize.getSerialMaxValue()) {
+                    throw new IllegalArgumentException("GRAI-96 Serial value is out of range. Should be less than or equal %d".formatted(tagSize.getSerialMaxValue()));
+                }
+            }
+            case BITS_170 -> {
+                // GS1 AI 82 character set: alphanumeric + !"#%&'()*+,-./:;<=>?_
+                if (!serial.matches("[\\w!\"#%&'()*+,\\-./:;<=>?]+")) {
+                    throw new IllegalArgumentException("GRAI-170 serial contains invalid characters: '%s'".formatted(serial));
+                }
+                if (serial.length() > tagSize.getSerialMaxLength()) {
+                    throw new IllegalArgumentException("GRAI-170 serial value is out of range. Should be up to %d alphanumeric characters".formatted(tagSize.getSerialMaxLength()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Objects ---*/
+    private record ParsedData(
+        TableItem tableItem,
+        GRAITagSize tagSize,
+        GRAIFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String assetType,
+        String serial
+    ) {
+        // empty
+    }
+
+}
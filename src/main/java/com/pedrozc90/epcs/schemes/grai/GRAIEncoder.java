@@ -0,0 +1,73 @@
+package com.pedrozc90.epcs.schemes.grai;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIFilterValue;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAITagSize;
+import com.pedrozc90.epcs.schemes.grai.objects.GRAI;
+import com.pedrozc90.epcs.schemes.grai.partitionTable.GRAIPartitionTable;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+/**
+ * Encodes GRAIs of one asset type, varying only the serial.
+ */
+public final class GRAIEncoder extends EpcTemplate<GRAI> {
+
+    private static final GRAIPartitionTable partitionTable = new GRAIPartitionTable();
+
+    private final GRAI prototype;
+
+    private GRAIEncoder(final GRAI prototype, final int serialOffset, final GRAITagSize tagSize) {
+        super(prototype, serialOffset, tagSize.getSerialBitCount(), tagSize.getSerialMaxValue());
+        this.prototype = prototype;
+    }
+
+    private GRAIEncoder(final GRAI prototype, final int serialOffset, final int maxLength) {
+        super(prototype, serialOffset, maxLength);
+        this.prototype = prototype;
+    }
+
+    /**
+     * @param tagSize       - tag size
+     * @param filterValue   - filter value
+     * @param companyPrefix - company prefix, ex: "0614141"
+     * @param assetType     - asset type, ex: "12345"
+     * @return encoder of the asset type
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static GRAIEncoder of(final GRAITagSize tagSize,
+                                 final GRAIFilterValue filterValue,
+                                 final String companyPrefix,
+                                 final String assetType) throws EpcParseException {
+        final GRAI prototype = GRAIParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withAssetType(assetType)
+            .withSerial("1")
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        final TableItem tableItem = partitionTable.getPartitionByL(companyPrefix.length());
+        return switch (tagSize) {
+            case BITS_96 -> new GRAIEncoder(prototype, tableItem.serialOffset(), tagSize);
+            case BITS_170 -> new GRAIEncoder(prototype, tableItem.serialOffset(), tagSize.getSerialMaxLength());
+        };
+    }
+
+    @Override
+    protected GRAI create(final String serial, final BitBuffer bits) {
+        return new GRAI(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            prototype.assetType(),
+            serial,
+            prototype.checkDigit(),
+            bits
+        );
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.grai.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,12 @@ public enum GRAIHeader {
     };
 
     private static final Map<String, GRAIHeader> _map = new HashMap<>();
+    private static final GRAIHeader[] _table = new GRAIHeader[256];
 
     static {
         for (GRAIHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -41,4 +44,12 @@ public enum GRAIHeader {
         return header;
     }
 
+    public static GRAIHeader of(final int value) {
+        final GRAIHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("GRAI header [%s] is invalid. Allowed only 00110011 or 00110111".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
@@ -1,26 +1,60 @@
 package com.pedrozc90.epcs.schemes.grai.objects;
 
 import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
 
-public record GRAI(
-    String tagSize,
-    String filterValue,
-    String partitionValue,
-    String prefixLength,
-    String companyPrefix,
-    String assetType,
-    String serial,
-    String checkDigit,
-    String epcPureIdentityURI,
-    String epcTagURI,
-    String epcRawURI,
-    String binary,
-    String rfidTag
-) implements Epc {
+/**
+ * Global Returnable Asset Identifier (GRAI).
+ *
+ * <p>The decoded fields and the encoded tag bits are fixed at construction. The URIs, the binary
+ * string and the hexadecimal RFID tag are built on first access and cached.</p>
+ */
+public final class GRAI implements Epc {
 
     private static final String SCHEME = "grai";
     private static final String IDENTIFIER = "AI 8003";
 
+    private final String tagSize;
+    private final String filterValue;
+    private final String partitionValue;
+    private final String prefixLength;
+    private final String companyPrefix;
+    private final String assetType;
+    private final String serial;
+    private final String checkDigit;
+    private final BitBuffer bits;
+
+    // lazily built, concurrent first calls may build the same value twice
+    private String epcPureIdentityURI;
+    private String epcTagURI;
+    private String epcRawURI;
+    private String binary;
+    private String rfidTag;
+
+    public GRAI(
+        final String tagSize,
+        final String filterValue,
+        final String partitionValue,
+        final String prefixLength,
+        final String companyPrefix,
+        final String assetType,
+        final String serial,
+        final String checkDigit,
+        final BitBuffer bits
+    ) {
+        this.tagSize = tagSize;
+        this.filterValue = filterValue;
+        this.partitionValue = partitionValue;
+        this.prefixLength = prefixLength;
+        this.companyPrefix = companyPrefix;
+        this.assetType = assetType;
+        this.serial = serial;
+        this.checkDigit = checkDigit;
+        this.bits = bits;
+    }
+
     @Override
     public String epcScheme() {
         return SCHEME;
@@ -31,4 +65,123 @@ public record GRAI(
         return IDENTIFIER;
     }
 
+    @Override
+    public String tagSize() {
+        return tagSize;
+    }
+
+    @Override
+    public String filterValue() {
+        return filterValue;
+    }
+
+    @Override
+    public String partitionValue() {
+        return partitionValue;
+    }
+
+    @Override
+    public String prefixLength() {
+        return prefixLength;
+    }
+
+    @Override
+    public String companyPrefix() {
+        return companyPrefix;
+    }
+
+    public String assetType() {
+        return assetType;
+    }
+
+    public String serial() {
+        return serial;
+    }
+
+    public String checkDigit() {
+        return checkDigit;
+    }
+
+    @Override
+    public String epcPureIdentityURI() {
+        String value = epcPureIdentityURI;
+        if (value == null) {
+            value = EpcScheme.GRAI.pureIdentityURIPrefix() + companyPrefix + '.' + assetType + '.' + Encoding7Bit.escape(serial);
+            epcPureIdentityURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String epcTagURI() {
+        String value = epcTagURI;
+        if (value == null) {
+            value = EpcScheme.GRAI.tagURIPrefix(EpcScheme.tagSize((int) bits.getBits(0, 8))) + filterValue + '.' + companyPrefix + '.' + assetType + '.' + Encoding7Bit.escape(serial);
+            epcTagURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String epcRawURI() {
+        String value = epcRawURI;
+        if (value == null) {
+            value = "urn:epc:raw:" + bits.length() + ".x" + rfidTag();
+            epcRawURI = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String binary() {
+        String value = binary;
+        if (value == null) {
+            value = bits.toBinary();
+            binary = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String rfidTag() {
+        String value = rfidTag;
+        if (value == null) {
+            value = bits.toHex();
+            rfidTag = value;
+        }
+        return value;
+    }
+
+    @Override
+    public byte[] rfidTagBytes() {
+        return bits.toBytes();
+    }
+
+    @Override
+    public int bitLength() {
+        return bits.length();
+    }
+
+    @Override
+    public long getBits(final int offset, final int length) {
+        return bits.getBits(offset, length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GRAI other)) return false;
+        return bits.equals(other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return bits.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GRAI[" + epcTagURI() + "]";
+    }
+
 }
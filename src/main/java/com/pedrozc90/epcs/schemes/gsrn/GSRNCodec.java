@@ -0,0 +1,237 @@
+package com.pedrozc90.epcs.schemes.gsrn;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNFilterValue;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNHeader;
+import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNTagSize;
+import com.pedrozc90.epcs.schemes.gsrn.objects.GSRN;
+import com.pedrozc90.epcs.schemes.gsrn.partitionTable.GSRNPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless GSRN codec, shared through {@link #INSTANCE}.
+ */
+public final class GSRNCodec implements EpcParser<GSRN> {
+
+    public static final GSRNCodec INSTANCE = new GSRNCodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:gsrn-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:gsrn:";
+
+    private static final GSRNPartitionTable partitionTable = new GSRNPartitionTable();
+    private static final Integer RESERVED = 0; // 24 zero bits
+
+    private GSRNCodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded gsrn
+     */
+    public GSRN decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toGSRN(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded gsrn
+     */
+    public GSRN decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded gsrn
+     */
+    public GSRN decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded gsrn
+     */
+    public GSRN decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public GSRN decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toGSRN(parseEpcTagURI(epcTagURI));
+    }
+
+    public GSRN decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GSRNTagSize tagSize, final GSRNFilterValue filterValue) throws EpcParseException {
+        return toGSRN(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public GSRN encode(final GSRNTagSize tagSize,
+                       final GSRNFilterValue filterValue,
+                       final String companyPrefix,
+                       final String serviceReference) throws EpcParseException {
+        return toGSRN(parseFields(tagSize, filterValue, companyPrefix, serviceReference));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final GSRNHeader header = GSRNHeader.of((int) inputBin.getBits(0, 8));
+        final GSRNTagSize tagSize = GSRNTagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final GSRNFilterValue filterValue = GSRNFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final String serviceReference = EpcFieldReader.decimal(inputBin, tableItem.referenceOffset(), tableItem.n(), tableItem.digits());
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link GSRN}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final GSRNTagSize tagSize = GSRNTagSize.of(GSRNHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        sink.header(EpcScheme.GSRN, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, tableItem.referenceOffset(), tableItem.n(), tableItem.digits()), tableItem.digits());
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 96, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final String serviceReference = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final GSRNTagSize tagSize = GSRNTagSize.of(size);
+        final GSRNFilterValue filterValue = GSRNFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final GSRNTagSize tagSize, final GSRNFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final String serviceReference = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private ParsedData parseFields(final GSRNTagSize tagSize, final GSRNFilterValue filterValue, final String companyPrefix, final String serviceReference) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private GSRN toGSRN(final ParsedData data) {
+        return toGSRN(data, toBinary(data));
+    }
+
+    private GSRN toGSRN(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.companyPrefix, data.serviceReference);
+
+        return new GSRN(
+            // "gsrn",
+            // "AI 8018",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.serviceReference,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue());
+
+        final int serviceReferenceOffset = data.tableItem.referenceOffset();
+        final int reservedOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, serviceReferenceOffset, data.tableItem.n(), data.serviceReference);
+        BinaryUtils.encodeInteger(bin, reservedOffset, 24, RESERVED);
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private void validateServiceReference(final TableItem tableItem, final String serviceReference) {
+        final int length = serviceReference.length();
+        if (length != tableItem.digits()) {
+            throw new IllegalArgumentException("Service Reference \"%s\" has %d length and should have %d length".formatted(serviceReference, length, tableItem.digits()));
+        }
+    }
+
+    /* --- Objects --- */
+    public record ParsedData(
+        TableItem tableItem,
+        GSRNTagSize tagSize,
+        GSRNFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String serviceReference
+    ) {
+        // ignore
+    }
+
+}
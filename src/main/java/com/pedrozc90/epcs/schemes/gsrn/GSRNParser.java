@@ -1,196 +1,28 @@
 package com.pedrozc90.epcs.schemes.gsrn;
 
 import com.pedrozc90.epcs.exception.EpcParseException;
-import com.pedrozc90.epcs.objects.TableItem;
-import com.pedrozc90.epcs.schemes.EpcParser;
-import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
 import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNFilterValue;
-import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNHeader;
 import com.pedrozc90.epcs.schemes.gsrn.enums.GSRNTagSize;
 import com.pedrozc90.epcs.schemes.gsrn.objects.GSRN;
-import com.pedrozc90.epcs.schemes.gsrn.partitionTable.GSRNPartitionTable;
-import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
 
-public class GSRNParser implements EpcParser<GSRN> {
+public class GSRNParser {
 
-    private static final Pattern TAG_URI_PATTERN = Pattern.compile("^(urn:epc:tag:gsrn-)(96):([0-7])\\.(\\d+)\\.(\\d+)$");
-    private static final Pattern PURE_IDENTITY_URI_PATTERN = Pattern.compile("^(urn:epc:id:gsrn):(\\d+)\\.(\\d+)$");
-
-    private static final GSRNPartitionTable partitionTable = new GSRNPartitionTable();
-    private static final Integer RESERVED = 0; // 24 zero bits
-
-    private final GSRN gsrn;
-
-    public static ChoiceStep builder() throws Exception {
+    public static ChoiceStep builder() {
         return new Steps();
     }
 
-    private GSRNParser(final Steps steps) throws EpcParseException {
-        final ParsedData data = parse(steps);
-        gsrn = toGSRN(data);
-    }
-
-    private ParsedData parse(final Steps steps) throws EpcParseException {
-        if (steps.rfidTag != null) {
-            return decodeRFIDTag(steps.rfidTag);
-        } else if (steps.epcTagURI != null) {
-            return decodeEpcTagURI(steps.epcTagURI);
-        } else if (steps.epcPureIdentityURI != null) {
-            return decodeEpcPureIdentityURI(steps.epcPureIdentityURI, steps.tagSize, steps.filterValue);
-        }
-        return encode(steps);
+    private GSRNParser() {
     }
 
-    private ParsedData decodeRFIDTag(final String rfidTag) {
-        final String inputBin = BinaryUtils.toBinary(rfidTag);
-
-        final String headerBin = inputBin.substring(0, 8);
-        final String filterBin = inputBin.substring(8, 11);
-        final String partitionBin = inputBin.substring(11, 14);
-
-        final GSRNHeader header = GSRNHeader.of(headerBin);
-        final GSRNTagSize tagSize = GSRNTagSize.of(header.getTagSize());
-
-        final TableItem tableItem = partitionTable.getPartitionByValue(Integer.parseInt(partitionBin, 2));
-        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
-
-        final String filterDec = Long.toString(Long.parseLong(filterBin, 2));
-        final GSRNFilterValue filterValue = GSRNFilterValue.of(Integer.parseInt(filterDec));
-
-        final String companyPrefixBin = inputBin.substring(14, 14 + tableItem.m());
-        final String companyPrefix = BinaryUtils.decodeInteger(companyPrefixBin, tableItem.l());
-
-        final String serialWithExtensionBin = inputBin.substring(14 + tableItem.m(), 14 + tableItem.m() + tableItem.n());
-
-        final String serviceReference = BinaryUtils.decodeInteger(serialWithExtensionBin, tableItem.digits());
-
-        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
-    }
-
-    private ParsedData decodeEpcTagURI(final String epcTagURI) {
-        final Matcher matcher = TAG_URI_PATTERN.matcher(epcTagURI);
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException("Epc Tag URI is invalid");
-        }
-
-        final GSRNTagSize tagSize = GSRNTagSize.of(Integer.parseInt(matcher.group(2)));
-        final GSRNFilterValue filterValue = GSRNFilterValue.of(Integer.parseInt(matcher.group(3)));
-        final String companyPrefix = matcher.group(4);
-        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
-        final String serviceReference = matcher.group(5);
-
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-
-        validateServiceReference(tableItem, serviceReference);
-
-        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
-    }
-
-    private ParsedData decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GSRNTagSize tagSize, final GSRNFilterValue filterValue) {
-        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
-        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
-
-        final Matcher matcher = PURE_IDENTITY_URI_PATTERN.matcher(epcPureIdentityURI);
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException("Epc Pure Identity is invalid");
-        }
-
-        final String companyPrefix = matcher.group(2);
-        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
-        final String serviceReference = matcher.group(3);
-
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-
-        validateServiceReference(tableItem, serviceReference);
-
-        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
-    }
-
-    private ParsedData encode(final Steps steps) {
-        final PrefixLength prefixLength = PrefixLength.of(steps.companyPrefix.length());
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-
-        validateServiceReference(tableItem, steps.serviceReference);
-
-        return new ParsedData(tableItem, steps.tagSize, steps.filterValue, prefixLength, steps.companyPrefix, steps.serviceReference);
-    }
-
-    private GSRN toGSRN(final ParsedData data) {
-        final String outputBin = toBinary(data);
-        final String outputHex = BinaryUtils.toHex(outputBin);
-
-        final Integer checkDigit = getCheckDigit(data.companyPrefix, data.serviceReference);
-
-        return new GSRN(
-            // "gsrn",
-            // "AI 8018",
-            Integer.toString(data.tagSize.getValue()),
-            Integer.toString(data.filterValue.getValue()),
-            Integer.toString(data.tableItem.partitionValue()),
-            Integer.toString(data.prefixLength.getValue()),
-            data.companyPrefix,
-            data.serviceReference,
-            Integer.toString(checkDigit),
-            "urn:epc:id:gsrn:%s.%s".formatted(data.companyPrefix, data.serviceReference),
-            "urn:epc:tag:gsrn-%s:%s.%s.%s".formatted(data.tagSize.getValue(), data.filterValue.getValue(), data.companyPrefix, data.serviceReference),
-            "urn:epc:raw:%s.x%s".formatted(data.tagSize.getValue(), outputHex),
-            outputBin,
-            outputHex
-        );
-    }
-
-    private String toBinary(final ParsedData data) {
-        final StringBuilder bin = new StringBuilder();
-
-        bin.append(BinaryUtils.encodeInteger(data.tagSize.getHeader(), 8));
-        bin.append(BinaryUtils.encodeInteger(data.filterValue.getValue(), 3));
-        bin.append(BinaryUtils.encodeInteger(data.tableItem.partitionValue(), 3));
-        bin.append(BinaryUtils.encodeInteger(data.companyPrefix, data.tableItem.m()));
-        bin.append(BinaryUtils.encodeInteger(data.serviceReference, data.tableItem.n()));
-        bin.append(BinaryUtils.encodeInteger(RESERVED, 24));
-
-        return bin.toString();
-    }
-
-    /* --- Validations --- */
-    private Integer getCheckDigit(final String companyPrefix, final String serviceReference) {
-        final String value = companyPrefix + serviceReference;
-
-        final Integer d18 = (10 - ((3
-            * (Character.getNumericValue(value.charAt(0)) + Character.getNumericValue(value.charAt(2))
-            + Character.getNumericValue(value.charAt(4)) + Character.getNumericValue(value.charAt(6))
-            + Character.getNumericValue(value.charAt(8))
-            + Character.getNumericValue(value.charAt(10)) + Character.getNumericValue(value.charAt(12))
-            + Character.getNumericValue(value.charAt(14)) + Character.getNumericValue(value.charAt(16)))
-            + (Character.getNumericValue(value.charAt(1)) + Character.getNumericValue(value.charAt(3))
-            + Character.getNumericValue(value.charAt(5)) + Character.getNumericValue(value.charAt(7))
-            + Character.getNumericValue(value.charAt(9)) + Character.getNumericValue(value.charAt(11))
-            + Character.getNumericValue(value.charAt(13)) + Character.getNumericValue(value.charAt(15))))
-            % 10)) % 10;
-
-        return d18;
-    }
-
-    private void validateServiceReference(final TableItem tableItem, final String serviceReference) {
-        final int length = serviceReference.length();
-        if (length != tableItem.digits()) {
-            throw new IllegalArgumentException("Service Reference \"%s\" has %d length and should have %d length".formatted(serviceReference, length, tableItem.digits()));
-        }
-    }
-
-    /* --- Objects --- */
-    public record ParsedData(
-        TableItem tableItem,
-        GSRNTagSize tagSize,
-        GSRNFilterValue filterValue,
-        PrefixLength prefixLength,
-        String companyPrefix,
-        String serviceReference
-    ) {
-        // ignore
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, see {@link GSRNCodec#decode(byte[], int, int, EpcFieldSink)}.
+     */
+    public static void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        GSRNCodec.INSTANCE.decode(rfidTag, offset, length, sink);
     }
 
     /* --- Builder --- */
@@ -199,6 +31,12 @@ public class GSRNParser implements EpcParser<GSRN> {
 
         BuildStep withRFIDTag(final String rfidTag);
 
+        BuildStep withRFIDTag(final byte[] rfidTag, final int offset, final int length);
+
+        BuildStep withRFIDTag(final ByteBuffer rfidTag);
+
+        BuildStep withRFIDTag(final BitBuffer rfidTag);
+
         BuildStep withEpcTagURI(final String epcTagURI);
 
         TagSizeStep withEpcPureIdentityURI(final String epcPureIdentityURI);
@@ -226,7 +64,7 @@ public class GSRNParser implements EpcParser<GSRN> {
         private GSRNTagSize tagSize;
         private GSRNFilterValue filterValue;
         private String serviceReference;
-        private String rfidTag;
+        private BitBuffer rfidTag;
         private String epcTagURI;
         private String epcPureIdentityURI;
 
@@ -256,6 +94,24 @@ public class GSRNParser implements EpcParser<GSRN> {
 
         @Override
         public BuildStep withRFIDTag(final String rfidTag) {
+            this.rfidTag = BitBuffer.fromHex(rfidTag);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final byte[] rfidTag, final int offset, final int length) {
+            this.rfidTag = BitBuffer.fromBytes(rfidTag, offset, length);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final ByteBuffer rfidTag) {
+            this.rfidTag = BitBuffer.fromBytes(rfidTag);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final BitBuffer rfidTag) {
             this.rfidTag = rfidTag;
             return this;
         }
@@ -274,8 +130,15 @@ public class GSRNParser implements EpcParser<GSRN> {
 
         @Override
         public GSRN build() throws EpcParseException {
-            final GSRNParser parser = new GSRNParser(this);
-            return parser.gsrn;
+            final GSRNCodec codec = GSRNCodec.INSTANCE;
+            if (rfidTag != null) {
+                return codec.decode(rfidTag);
+            } else if (epcTagURI != null) {
+                return codec.decodeEpcTagURI(epcTagURI);
+            } else if (epcPureIdentityURI != null) {
+                return codec.decodeEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue);
+            }
+            return codec.encode(tagSize, filterValue, companyPrefix, serviceReference);
         }
 
     }
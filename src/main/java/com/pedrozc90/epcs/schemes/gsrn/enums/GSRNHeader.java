@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.gsrn.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -17,10 +18,12 @@ public enum GSRNHeader {
     };
 
     private static final Map<String, GSRNHeader> _map = new HashMap<>();
+    private static final GSRNHeader[] _table = new GSRNHeader[256];
 
     static {
         for (GSRNHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -36,4 +39,12 @@ public enum GSRNHeader {
         return header;
     }
 
+    public static GSRNHeader of(final int value) {
+        final GSRNHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("GSRN header [%s] is invalid. Allowed only 00101101".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
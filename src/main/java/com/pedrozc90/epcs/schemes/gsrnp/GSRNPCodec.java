@@ -0,0 +1,237 @@
+package com.pedrozc90.epcs.schemes.gsrnp;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPFilterValue;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPHeader;
+import com.pedrozc90.epcs.schemes.gsrnp.enums.GSRNPTagSize;
+import com.pedrozc90.epcs.schemes.gsrnp.objects.GSRNP;
+import com.pedrozc90.epcs.schemes.gsrnp.partitionTable.GSRNPPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless GSRNP codec, shared through {@link #INSTANCE}.
+ */
+public final class GSRNPCodec implements EpcParser<GSRNP> {
+
+    public static final GSRNPCodec INSTANCE = new GSRNPCodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:gsrnp-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:gsrnp:";
+
+    private static final GSRNPPartitionTable partitionTable = new GSRNPPartitionTable();
+    private static final Integer RESERVED = 0; // 24 zero bits
+
+    private GSRNPCodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded gsrnp
+     */
+    public GSRNP decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toGSRNP(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded gsrnp
+     */
+    public GSRNP decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded gsrnp
+     */
+    public GSRNP decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded gsrnp
+     */
+    public GSRNP decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public GSRNP decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toGSRNP(parseEpcTagURI(epcTagURI));
+    }
+
+    public GSRNP decodeEpcPureIdentityURI(final String epcPureIdentityURI, final GSRNPTagSize tagSize, final GSRNPFilterValue filterValue) throws EpcParseException {
+        return toGSRNP(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public GSRNP encode(final GSRNPTagSize tagSize,
+                        final GSRNPFilterValue filterValue,
+                        final String companyPrefix,
+                        final String serviceReference) throws EpcParseException {
+        return toGSRNP(parseFields(tagSize, filterValue, companyPrefix, serviceReference));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final GSRNPHeader header = GSRNPHeader.of((int) inputBin.getBits(0, 8));
+        final GSRNPTagSize tagSize = GSRNPTagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final GSRNPFilterValue filterValue = GSRNPFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final String serviceReference = EpcFieldReader.decimal(inputBin, tableItem.referenceOffset(), tableItem.n(), tableItem.digits());
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link GSRNP}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final GSRNPTagSize tagSize = GSRNPTagSize.of(GSRNPHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        sink.header(EpcScheme.GSRNP, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, tableItem.referenceOffset(), tableItem.n(), tableItem.digits()), tableItem.digits());
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 96, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final String serviceReference = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final GSRNPTagSize tagSize = GSRNPTagSize.of(size);
+        final GSRNPFilterValue filterValue = GSRNPFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final GSRNPTagSize tagSize, final GSRNPFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final String serviceReference = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private ParsedData parseFields(final GSRNPTagSize tagSize, final GSRNPFilterValue filterValue, final String companyPrefix, final String serviceReference) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateServiceReference(tableItem, serviceReference);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, serviceReference);
+    }
+
+    private GSRNP toGSRNP(final ParsedData data) {
+        return toGSRNP(data, toBinary(data));
+    }
+
+    private GSRNP toGSRNP(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.companyPrefix, data.serviceReference);
+
+        return new GSRNP(
+            // "gsrnp",
+            // "AI 8017",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.serviceReference,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue());
+
+        final int serviceReferenceOffset = data.tableItem.referenceOffset();
+        final int reservedOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, serviceReferenceOffset, data.tableItem.n(), data.serviceReference);
+        BinaryUtils.encodeInteger(bin, reservedOffset, 24, RESERVED);
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private void validateServiceReference(final TableItem tableItem, final String serviceReference) {
+        final int length = serviceReference.length();
+        if (length != tableItem.digits()) {
+            throw new IllegalArgumentException("Service Reference \"%s\" has %d length and should have %d length".formatted(serviceReference, length, tableItem.digits()));
+        }
+    }
+
+    /* --- Objects --- */
+    private record ParsedData(
+        TableItem tableItem,
+        GSRNPTagSize tagSize,
+        GSRNPFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String serviceReference
+    ) {
+        // ignore
+    }
+
+}
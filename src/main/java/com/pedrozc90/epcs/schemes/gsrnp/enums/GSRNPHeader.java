@@ -17,10 +17,12 @@ public enum GSRNPHeader {
     };
 
     private static final Map<String, GSRNPHeader> _map = new HashMap<>();
+    private static final GSRNPHeader[] _table = new GSRNPHeader[256];
 
     static {
         for (GSRNPHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -33,4 +35,9 @@ public enum GSRNPHeader {
         return _map.get(code);
     }
 
+    public static GSRNPHeader of(final int value) {
+        if (value < 0 || value >= _table.length) return null;
+        return _table[value];
+    }
+
 }
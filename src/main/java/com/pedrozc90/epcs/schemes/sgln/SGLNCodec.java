@@ -0,0 +1,299 @@
+package com.pedrozc90.epcs.schemes.sgln;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNFilterValue;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNHeader;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNTagSize;
+import com.pedrozc90.epcs.schemes.sgln.objects.SGLN;
+import com.pedrozc90.epcs.schemes.sgln.partitionTable.SGLNPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless SGLN codec, shared through {@link #INSTANCE}.
+ */
+public final class SGLNCodec implements EpcParser<SGLN> {
+
+    public static final SGLNCodec INSTANCE = new SGLNCodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:sgln-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:sgln:";
+
+    private static final SGLNPartitionTable partitionTable = new SGLNPartitionTable();
+
+    private SGLNCodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded sgln
+     */
+    public SGLN decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toSGLN(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded sgln
+     */
+    public SGLN decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded sgln
+     */
+    public SGLN decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded sgln
+     */
+    public SGLN decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public SGLN decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toSGLN(parseEpcTagURI(epcTagURI));
+    }
+
+    public SGLN decodeEpcPureIdentityURI(final String epcPureIdentityURI, final SGLNTagSize tagSize, final SGLNFilterValue filterValue) throws EpcParseException {
+        return toSGLN(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public SGLN encode(final SGLNTagSize tagSize,
+                       final SGLNFilterValue filterValue,
+                       final String companyPrefix,
+                       final String locationReference,
+                       final String extension) throws EpcParseException {
+        return toSGLN(parseFields(tagSize, filterValue, companyPrefix, locationReference, extension));
+    }
+
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final SGLNTagSize tagSize = SGLNTagSize.of(SGLNHeader.of((int) inputBin.getBits(0, 8)).getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+
+        final SGLNFilterValue filterValue = SGLNFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final int locationReferenceOffset = tableItem.referenceOffset();
+        final String locationReference = EpcFieldReader.decimal(inputBin, locationReferenceOffset, tableItem.n(), tableItem.digits());
+
+        final int extensionOffset = tableItem.serialOffset();
+
+        final String extension = switch (tagSize.getSerialBitCount()) {
+            // sgln-96
+            case 41 -> BinaryUtils.decodeInteger(inputBin, extensionOffset, tagSize.getSerialBitCount());
+            // sgln-195
+            case 140 -> EpcFieldReader.text(inputBin, extensionOffset, tagSize.getSerialBitCount(), 7);
+            default -> throw new IllegalArgumentException("Unsupported operation");
+        };
+
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, locationReference, extension);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link SGLN}.
+     * 96-bit tags are decoded without allocating.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final SGLNTagSize tagSize = SGLNTagSize.of(SGLNHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        final int locationReferenceOffset = tableItem.referenceOffset();
+        final int serialOffset = tableItem.serialOffset();
+
+        sink.header(EpcScheme.SGLN, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, locationReferenceOffset, tableItem.n(), tableItem.digits()), tableItem.digits());
+
+        switch (tagSize) {
+            // sgln-96
+            case BITS_96 -> sink.serial(BitBuffer.getBits(rfidTag, offset, length, serialOffset, tagSize.getSerialBitCount()));
+            // sgln-195
+            case BITS_195 -> sink.serial(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), serialOffset, tagSize.getSerialBitCount(), 7));
+        }
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 195, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final String locationReference = scanner.digits('.');
+        final int extensionStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final SGLNTagSize tagSize = SGLNTagSize.of(size);
+        final SGLNFilterValue filterValue = SGLNFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String extension = Encoding7Bit.normalize(epcTagURI, extensionStart, epcTagURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateLocationReference(tableItem, locationReference);
+
+        validateExtension(tagSize, extension);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, locationReference, extension);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final SGLNTagSize tagSize, final SGLNFilterValue filterValue) {
+        if (tagSize == null) throw new IllegalArgumentException("Tag size must not be null");
+        if (filterValue == null) throw new IllegalArgumentException("Filter value must not be null");
+
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final String locationReference = scanner.digits('.');
+        final int extensionStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final String extension = Encoding7Bit.normalize(epcPureIdentityURI, extensionStart, epcPureIdentityURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateLocationReference(tableItem, locationReference);
+
+        validateExtension(tagSize, extension);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, locationReference, extension);
+    }
+
+    private ParsedData parseFields(final SGLNTagSize tagSize, final SGLNFilterValue filterValue, final String companyPrefix, final String locationReference, final String extension) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateLocationReference(tableItem, locationReference);
+
+        validateExtension(tagSize, extension);
+
+        return new ParsedData(tableItem, tagSize, filterValue, prefixLength, companyPrefix, locationReference, extension);
+    }
+
+    private SGLN toSGLN(final ParsedData data) {
+        return toSGLN(data, toBinary(data));
+    }
+
+    private SGLN toSGLN(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.companyPrefix, data.locationReference);
+
+        return new SGLN(
+            // "sgln",
+            // "AI 254",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.locationReference,
+            data.extension,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        // remainder = (int) (Math.ceil((tagSize.getValue() / 16.0)) * 16) - tagSize.getValue();
+        final int remainder = remainder(data.tagSize.getValue());
+
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue() + remainder);
+
+        final int locationReferenceOffset = data.tableItem.referenceOffset();
+        final int extensionOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, locationReferenceOffset, data.tableItem.n(), data.locationReference);
+
+        // sgln-96
+        if (data.tagSize.getValue() == 96) {
+            BinaryUtils.encodeInteger(bin, extensionOffset, data.tagSize.getSerialBitCount() + remainder, data.extension);
+        }
+        // sgln-195
+        else if (data.tagSize.getValue() == 195) {
+            BinaryUtils.encodeString(bin, extensionOffset, data.tagSize.getSerialBitCount() + remainder, data.extension, 7);
+        }
+
+        return bin;
+    }
+
+    /* --- Validations --- */
+    private void validateLocationReference(final TableItem tableItem, final String locationReference) {
+        if (locationReference.length() != tableItem.digits()) {
+            throw new IllegalArgumentException(String.format("Location Reference \"%s\" has %d length and should have %d length", locationReference, locationReference.length(), tableItem.digits()));
+        }
+    }
+
+    private void validateExtension(final SGLNTagSize tagSize, final String extension) {
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!extension.matches("\\d+")) {
+                    throw new IllegalArgumentException("SGLN-96 extension must be numeric, got: '%s'".formatted(extension));
+                }
+                if (Long.parseLong(extension) > tagSize.getSerialMaxValue()) {
+                    throw new IllegalArgumentException("SGLN-96 Extension value is out of range. Should be less than or equal %d".formatted(tagSize.getSerialMaxValue()));
+                }
+            }
+            case BITS_195 -> {
+                if (extension.length() > tagSize.getSerialMaxLength()) {
+                    throw new IllegalArgumentException("SGLN-195 Extension value is out of range. Should be up to %d alphanumeric characters".formatted(tagSize.getSerialMaxLength()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Objects --- */
+    private record ParsedData(
+        TableItem tableItem,
+        SGLNTagSize tagSize,
+        SGLNFilterValue filterValue,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String locationReference,
+        String extension
+    ) {
+        // empty
+    }
+
+}
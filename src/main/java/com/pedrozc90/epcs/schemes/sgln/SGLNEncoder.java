@@ -0,0 +1,73 @@
+package com.pedrozc90.epcs.schemes.sgln;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNFilterValue;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNTagSize;
+import com.pedrozc90.epcs.schemes.sgln.objects.SGLN;
+import com.pedrozc90.epcs.schemes.sgln.partitionTable.SGLNPartitionTable;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+/**
+ * Encodes SGLNs of one location, varying only the extension.
+ */
+public final class SGLNEncoder extends EpcTemplate<SGLN> {
+
+    private static final SGLNPartitionTable partitionTable = new SGLNPartitionTable();
+
+    private final SGLN prototype;
+
+    private SGLNEncoder(final SGLN prototype, final int extensionOffset, final SGLNTagSize tagSize) {
+        super(prototype, extensionOffset, tagSize.getSerialBitCount(), tagSize.getSerialMaxValue());
+        this.prototype = prototype;
+    }
+
+    private SGLNEncoder(final SGLN prototype, final int extensionOffset, final int maxLength) {
+        super(prototype, extensionOffset, maxLength);
+        this.prototype = prototype;
+    }
+
+    /**
+     * @param tagSize           - tag size
+     * @param filterValue       - filter value
+     * @param companyPrefix     - company prefix, ex: "0614141"
+     * @param locationReference - location reference, ex: "12345"
+     * @return encoder of the location
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static SGLNEncoder of(final SGLNTagSize tagSize,
+                                 final SGLNFilterValue filterValue,
+                                 final String companyPrefix,
+                                 final String locationReference) throws EpcParseException {
+        final SGLN prototype = SGLNParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withLocationReference(locationReference)
+            .withExtension("1")
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        final TableItem tableItem = partitionTable.getPartitionByL(companyPrefix.length());
+        return switch (tagSize) {
+            case BITS_96 -> new SGLNEncoder(prototype, tableItem.serialOffset(), tagSize);
+            case BITS_195 -> new SGLNEncoder(prototype, tableItem.serialOffset(), tagSize.getSerialMaxLength());
+        };
+    }
+
+    @Override
+    protected SGLN create(final String extension, final BitBuffer bits) {
+        return new SGLN(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            prototype.locationReference(),
+            extension,
+            prototype.checkDigit(),
+            bits
+        );
+    }
+
+}
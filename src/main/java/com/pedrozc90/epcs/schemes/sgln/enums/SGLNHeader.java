@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.sgln.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,12 @@ public enum SGLNHeader {
     };
 
     private static final Map<String, SGLNHeader> _map = new HashMap<>();
+    private static final SGLNHeader[] _table = new SGLNHeader[256];
 
     static {
         for (SGLNHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -41,4 +44,12 @@ public enum SGLNHeader {
         return header;
     }
 
+    public static SGLNHeader of(final int value) {
+        final SGLNHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("SGLN header [%s] is invalid. Allowed only 00110010 or 00111001".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
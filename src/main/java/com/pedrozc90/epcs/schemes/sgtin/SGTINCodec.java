@@ -0,0 +1,429 @@
+package com.pedrozc90.epcs.schemes.sgtin;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINHeader;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.schemes.sgtin.partitionTable.SGTINPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.Encoding7Bit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless SGTIN codec, shared through {@link #INSTANCE} and safe to call from any thread.
+ *
+ * <p>Decodes RFID tags and URIs and encodes fields without going through the step builder of
+ * {@link SGTINParser}, which is a thin layer over this class. Hot loops can hold the instance
+ * and call it directly, ex:</p>
+ *
+ * <pre>{@code
+ * final SGTIN sgtin = SGTINCodec.INSTANCE.decodeHex("3074257BF7194E4000001A85");
+ * final SGTIN encoded = SGTINCodec.INSTANCE.encode(614141L, 7, 812345L, 6789L, 3, SGTINTagSize.BITS_96);
+ * final Epc96 packed = SGTINCodec.INSTANCE.encode96(614141L, 7, 812345L, 6789L, 3);
+ * }</pre>
+ */
+public final class SGTINCodec implements EpcParser<SGTIN> {
+
+    public static final SGTINCodec INSTANCE = new SGTINCodec();
+
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:sgtin-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:sgtin:";
+
+    private static final SGTINPartitionTable partitionTable = new SGTINPartitionTable();
+
+    private SGTINCodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded sgtin
+     */
+    public SGTIN decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toSGTIN(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded sgtin
+     */
+    public SGTIN decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded sgtin
+     */
+    public SGTIN decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded sgtin
+     */
+    public SGTIN decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public SGTIN decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toSGTIN(parseEpcTagURI(epcTagURI));
+    }
+
+    public SGTIN decodeEpcPureIdentityURI(final String epcPureIdentityURI, final SGTINTagSize tagSize, final SGTINFilterValue filterValue) throws EpcParseException {
+        return toSGTIN(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public SGTIN encode(final SGTINTagSize tagSize,
+                        final SGTINFilterValue filterValue,
+                        final String companyPrefix,
+                        final SGTINExtensionDigit extensionDigit,
+                        final String itemReference,
+                        final String serial) throws EpcParseException {
+        return toSGTIN(parseFields(tagSize, filterValue, companyPrefix, extensionDigit, itemReference, serial));
+    }
+
+    /**
+     * Encodes a numeric SGTIN from primitive fields, without parsing or validating strings.
+     *
+     * @param companyPrefix - company prefix, ex: 614141 for "0614141"
+     * @param prefixLength  - company prefix digits, 6 to 12
+     * @param itemReference - indicator digit followed by the item reference, {@code 13 - prefixLength} digits, ex: 812345
+     * @param serial        - numeric serial
+     * @param filterValue   - filter value, 0 to 7
+     * @param tagSize       - tag size
+     * @return encoded sgtin
+     * @throws EpcParseException if a field is out of range
+     */
+    public SGTIN encode(final long companyPrefix,
+                        final int prefixLength,
+                        final long itemReference,
+                        final long serial,
+                        final int filterValue,
+                        final SGTINTagSize tagSize) throws EpcParseException {
+        final TableItem tableItem = validateFields(companyPrefix, prefixLength, itemReference, serial, filterValue, tagSize);
+        final String reference = BinaryUtils.toDecimal(itemReference, tableItem.digits());
+
+        final ParsedData data = new ParsedData(
+            tableItem,
+            tagSize,
+            SGTINFilterValue.of(filterValue),
+            SGTINExtensionDigit.of(reference.charAt(0) - '0'),
+            PrefixLength.of(prefixLength),
+            BinaryUtils.toDecimal(companyPrefix, tableItem.l()),
+            reference.substring(1),
+            Long.toString(serial)
+        );
+        return toSGTIN(data);
+    }
+
+    /**
+     * Encodes a SGTIN-96 from primitive fields straight into its packed bits, without building a
+     * {@link SGTIN} or any string. The fields are checked as in
+     * {@link #encode(long, int, long, long, int, SGTINTagSize)}.
+     *
+     * @param companyPrefix - company prefix, ex: 614141 for "0614141"
+     * @param prefixLength  - company prefix digits, 6 to 12
+     * @param itemReference - indicator digit followed by the item reference, {@code 13 - prefixLength} digits, ex: 812345
+     * @param serial        - numeric serial
+     * @param filterValue   - filter value, 0 to 7
+     * @return packed tag bits
+     * @throws EpcParseException if a field is out of range
+     */
+    public Epc96 encode96(final long companyPrefix,
+                          final int prefixLength,
+                          final long itemReference,
+                          final long serial,
+                          final int filterValue) throws EpcParseException {
+        final SGTINTagSize tagSize = SGTINTagSize.BITS_96;
+        final TableItem tableItem = validateFields(companyPrefix, prefixLength, itemReference, serial, filterValue, tagSize);
+
+        // the 38-bit serial takes the last 6 bits of the high word and the whole low word
+        final long high = ((long) tagSize.getHeader() << 56)
+            | ((long) filterValue << 53)
+            | ((long) tableItem.partitionValue() << 50)
+            | (companyPrefix << (64 - TableItem.COMPANY_PREFIX_OFFSET - tableItem.m()))
+            | (itemReference << (64 - tableItem.serialOffset()))
+            | (serial >>> 32);
+        return new Epc96(high, (int) serial);
+    }
+
+    /* --- Rfid Tag --- */
+    private ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final SGTINHeader header = SGTINHeader.of((int) inputBin.getBits(0, 8));
+        final SGTINTagSize tagSize = SGTINTagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final TableItem tableItem = partitionTable.getPartitionByValue(EpcFieldReader.partition(inputBin));
+
+        final SGTINFilterValue filterValue = SGTINFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final int itemReferenceOffset = tableItem.referenceOffset();
+        final int serialOffset = tableItem.serialOffset();
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final String itemReferenceWithExtensionDec = EpcFieldReader.decimal(inputBin, itemReferenceOffset, tableItem.n(), tableItem.digits());
+
+        final String extensionDec = itemReferenceWithExtensionDec.substring(0, 1);
+        final SGTINExtensionDigit extensionDigit = SGTINExtensionDigit.of(Integer.parseInt(extensionDec));
+
+        final String itemReference = itemReferenceWithExtensionDec.substring(1);
+
+        final String serial = switch (tagSize.getSerialBitCount()) {
+            // sgtin-96
+            case 38 -> BinaryUtils.decodeInteger(inputBin, serialOffset, tagSize.getSerialBitCount());
+            // sgtin-198
+            case 140 -> EpcFieldReader.text(inputBin, serialOffset, tagSize.getSerialBitCount(), 7);
+            default -> throw new EpcParseException("Unsupported tag size");
+        };
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, itemReference, serial);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link SGTIN}.
+     * 96-bit tags are decoded without allocating. The reference starts with the indicator/extension digit.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final SGTINTagSize tagSize = SGTINTagSize.of(SGTINHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        final int itemReferenceOffset = tableItem.referenceOffset();
+        final int serialOffset = tableItem.serialOffset();
+
+        sink.header(EpcScheme.SGTIN, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, itemReferenceOffset, tableItem.n(), tableItem.digits()), tableItem.digits());
+
+        switch (tagSize) {
+            // sgtin-96
+            case BITS_96 -> sink.serial(BitBuffer.getBits(rfidTag, offset, length, serialOffset, tagSize.getSerialBitCount()));
+            // sgtin-198
+            case BITS_198 -> sink.serial(EpcFieldReader.text(BitBuffer.fromBytes(rfidTag, offset, length), serialOffset, tagSize.getSerialBitCount(), 7));
+        }
+    }
+
+    /* --- EPc Tag URI --- */
+    private ParsedData parseEpcTagURI(final String epcTagURI) throws EpcParseException {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 198, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final int extension = scanner.digit(0, 8);
+        final String itemReference = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new EpcParseException("Epc Tag URI is invalid at offset %d", scanner.errorOffset());
+        }
+
+        final SGTINTagSize tagSize = SGTINTagSize.of(size);
+        final SGTINFilterValue filterValue = SGTINFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final SGTINExtensionDigit extensionDigit = SGTINExtensionDigit.of(extension);
+        final String serial = Encoding7Bit.normalize(epcTagURI, serialStart, epcTagURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateExtensionDigitAndItemReference(extensionDigit, itemReference, tableItem);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, itemReference, serial);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI,
+                                                final SGTINTagSize tagSize,
+                                                final SGTINFilterValue filterValue) throws EpcParseException {
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final int extension = scanner.digit(0, 8);
+        final String itemReference = scanner.digits('.');
+        final int serialStart = scanner.rest();
+        if (scanner.failed()) {
+            throw new EpcParseException("Epc Pure Identity is invalid at offset %d", scanner.errorOffset());
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final SGTINExtensionDigit extensionDigit = SGTINExtensionDigit.of(extension);
+        final String serial = Encoding7Bit.normalize(epcPureIdentityURI, serialStart, epcPureIdentityURI.length());
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateExtensionDigitAndItemReference(extensionDigit, itemReference, tableItem);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, itemReference, serial);
+    }
+
+    /* --- Company Prefix --- */
+    private ParsedData parseFields(final SGTINTagSize tagSize, final SGTINFilterValue filterValue, final String companyPrefix, final SGTINExtensionDigit extensionDigit, final String itemReference, final String serial) throws EpcParseException {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateExtensionDigitAndItemReference(extensionDigit, itemReference, tableItem);
+
+        validateSerial(tagSize, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, itemReference, serial);
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        // remainder = (int) (Math.ceil((tagSize.getValue() / 16.0)) * 16) - tagSize.getValue();
+        final int remainder = remainder(data.tagSize.getValue());
+
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue() + remainder);
+
+        final int itemReferenceOffset = data.tableItem.referenceOffset();
+        final int serialOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, itemReferenceOffset, data.tableItem.n(), data.extensionDigit.getValue() + data.itemReference);
+
+        // sgtin-96
+        if (data.tagSize.getValue() == 96) {
+            BinaryUtils.encodeInteger(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial);
+        }
+        // sgtin-198
+        else if (data.tagSize.getValue() == 198) {
+            BinaryUtils.encodeString(bin, serialOffset, data.tagSize.getSerialBitCount() + remainder, data.serial, 7);
+        }
+
+        return bin;
+    }
+
+    private SGTIN toSGTIN(final ParsedData data) {
+        return toSGTIN(data, toBinary(data));
+    }
+
+    private SGTIN toSGTIN(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.extensionDigit.getValue(), data.companyPrefix, data.itemReference);
+
+        return new SGTIN(
+            // "sgtin",
+            // "AI 414 + AI 254",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            data.itemReference,
+            Integer.toString(data.extensionDigit.getValue()),
+            data.serial,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    /* --- Validations --- */
+    private TableItem validateFields(final long companyPrefix,
+                                     final int prefixLength,
+                                     final long itemReference,
+                                     final long serial,
+                                     final int filterValue,
+                                     final SGTINTagSize tagSize) throws EpcParseException {
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength);
+        if (tableItem == null) {
+            throw new EpcParseException("Company Prefix length %d should be between 6 and 12", prefixLength);
+        }
+        if (SGTINFilterValue.of(filterValue) == null) {
+            throw new EpcParseException("Filter Value %d should be between 0 and 7", filterValue);
+        }
+        if (tagSize == null) {
+            throw new EpcParseException("Tag Size must not be null");
+        }
+        if (companyPrefix < 0 || companyPrefix >= BinaryUtils.powerOfTen(tableItem.l())) {
+            throw new EpcParseException("Company Prefix %d should have %d digits", companyPrefix, tableItem.l());
+        }
+        if (itemReference < 0 || itemReference >= BinaryUtils.powerOfTen(tableItem.digits())) {
+            throw new EpcParseException("Item Reference %d should have %d digits, the indicator digit included", itemReference, tableItem.digits());
+        }
+        if (serial < 0 || (tagSize == SGTINTagSize.BITS_96 && serial > tagSize.getSerialMaxValue())) {
+            throw new EpcParseException("SGTIN-%d Serial %d is out of range", tagSize.getValue(), serial);
+        }
+        return tableItem;
+    }
+
+    private void validateExtensionDigitAndItemReference(final SGTINExtensionDigit extensionDigit,
+                                                        final String itemReference,
+                                                        final TableItem tableItem) throws EpcParseException {
+        final StringBuilder value = new StringBuilder()
+            .append(extensionDigit.getValue())
+            .append(itemReference);
+
+        if (value.length() != tableItem.digits()) {
+            throw new EpcParseException(
+                "Concatenation between Extension Digit \"%d\" and Item Reference \"%s\" has %d length and should have %d length",
+                extensionDigit.getValue(),
+                itemReference,
+                value.length(),
+                tableItem.digits()
+            );
+        }
+    }
+
+    private void validateSerial(final SGTINTagSize tagSize, final String serial) throws EpcParseException {
+        switch (tagSize) {
+            case BITS_96 -> {
+                if (!serial.matches("\\d+")) {
+                    throw new IllegalArgumentException("SGTIN-96 Serial must be numeric, got: '%s'".formatted(serial));
+                }
+                if (serial.length() > 1 && serial.startsWith("0")) {
+                    throw new EpcParseException("SGTIN-96 Serial with leading zeros is not allowed");
+                }
+                if (Long.parseLong(serial) > tagSize.getSerialMaxValue()) {
+                    throw new EpcParseException("SGTIN-96 Serial value is out of range. Should be less than or equal 274,877,906,943");
+                }
+            }
+            case BITS_198 -> {
+                if (serial.length() > tagSize.getSerialMaxLength()) {
+                    throw new EpcParseException("SGTIN-198 Serial value is out of range. Should be up to 20 alphanumeric characters");
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported tag size '%s'".formatted(tagSize));
+        }
+    }
+
+    /* --- Object --- */
+    private record ParsedData(
+        TableItem tableItem,
+        SGTINTagSize tagSize,
+        SGTINFilterValue filterValue,
+        SGTINExtensionDigit extensionDigit,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String itemReference,
+        String serial
+    ) {
+        // ignore
+    }
+
+}
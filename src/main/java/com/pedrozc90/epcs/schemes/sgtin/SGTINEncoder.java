@@ -0,0 +1,83 @@
+package com.pedrozc90.epcs.schemes.sgtin;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.schemes.sgtin.partitionTable.SGTINPartitionTable;
+import com.pedrozc90.epcs.utils.BitBuffer;
+
+/**
+ * Encodes SGTINs of one trade item, varying only the serial.
+ *
+ * <pre>{@code
+ * final SGTINEncoder encoder = SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+ * final SGTIN sgtin = encoder.encode(6789L);
+ * }</pre>
+ */
+public final class SGTINEncoder extends EpcTemplate<SGTIN> {
+
+    private static final SGTINPartitionTable partitionTable = new SGTINPartitionTable();
+
+    private final SGTIN prototype;
+
+    private SGTINEncoder(final SGTIN prototype, final int serialOffset, final SGTINTagSize tagSize) {
+        super(prototype, serialOffset, tagSize.getSerialBitCount(), tagSize.getSerialMaxValue());
+        this.prototype = prototype;
+    }
+
+    private SGTINEncoder(final SGTIN prototype, final int serialOffset, final int maxLength) {
+        super(prototype, serialOffset, maxLength);
+        this.prototype = prototype;
+    }
+
+    /**
+     * @param tagSize        - tag size
+     * @param filterValue    - filter value
+     * @param companyPrefix  - company prefix, ex: "0614141"
+     * @param extensionDigit - indicator/extension digit
+     * @param itemReference  - item reference, ex: "12345"
+     * @return encoder of the trade item
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static SGTINEncoder of(final SGTINTagSize tagSize,
+                                  final SGTINFilterValue filterValue,
+                                  final String companyPrefix,
+                                  final SGTINExtensionDigit extensionDigit,
+                                  final String itemReference) throws EpcParseException {
+        final SGTIN prototype = SGTINParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withExtensionDigit(extensionDigit)
+            .withItemReference(itemReference)
+            .withSerial("1")
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        final TableItem tableItem = partitionTable.getPartitionByL(companyPrefix.length());
+        return switch (tagSize) {
+            case BITS_96 -> new SGTINEncoder(prototype, tableItem.serialOffset(), tagSize);
+            case BITS_198 -> new SGTINEncoder(prototype, tableItem.serialOffset(), tagSize.getSerialMaxLength());
+        };
+    }
+
+    @Override
+    protected SGTIN create(final String serial, final BitBuffer bits) {
+        return new SGTIN(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            prototype.itemReference(),
+            prototype.extensionDigit(),
+            serial,
+            prototype.checkDigit(),
+            bits
+        );
+    }
+
+}
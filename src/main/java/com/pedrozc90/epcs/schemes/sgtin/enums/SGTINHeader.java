@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.sgtin.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,12 @@ public enum SGTINHeader {
     };
 
     private static final Map<String, SGTINHeader> _map = new HashMap<>();
+    private static final SGTINHeader[] _table = new SGTINHeader[256];
 
     static {
         for (SGTINHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -41,4 +44,12 @@ public enum SGTINHeader {
         return header;
     }
 
+    public static SGTINHeader of(final int value) {
+        final SGTINHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("SGTIN header [%s] is invalid. Allowed only 00110000 or 00110110".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
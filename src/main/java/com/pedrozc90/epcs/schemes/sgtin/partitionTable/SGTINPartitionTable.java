@@ -23,12 +23,4 @@ public class SGTINPartitionTable extends PartitionTable {
         super(createTable());
     }
 
-    @Override
-    public TableItem getPartitionByValue(final Integer index) {
-        if (index < 0 || index >= _list.size()) {
-            throw new IllegalArgumentException("Partition value %d is not within expected range (0 - %d)".formatted(index, _list.size() - 1));
-        }
-        return _list.get(index);
-    }
-
 }
@@ -0,0 +1,251 @@
+package com.pedrozc90.epcs.schemes.sscc;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcFieldReader;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
+import com.pedrozc90.epcs.schemes.EpcParser;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCExtensionDigit;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCHeader;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
+import com.pedrozc90.epcs.schemes.sscc.objects.SSCC;
+import com.pedrozc90.epcs.schemes.sscc.partitionTable.SSCCPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+import com.pedrozc90.epcs.utils.URIScanner;
+
+/**
+ * Stateless SSCC codec, shared through {@link #INSTANCE}.
+ */
+public final class SSCCCodec implements EpcParser<SSCC> {
+
+    public static final SSCCCodec INSTANCE = new SSCCCodec();
+
+    // urn:epc:tag:sscc-96:0.952012.03456789123
+    private static final String TAG_URI_PREFIX = "urn:epc:tag:sscc-";
+    private static final String PURE_IDENTITY_URI_PREFIX = "urn:epc:id:sscc:";
+
+    private static final SSCCPartitionTable partitionTable = new SSCCPartitionTable();
+    private static final Integer RESERVED = 0; // 24 zero bits
+
+    private SSCCCodec() {
+    }
+
+    /**
+     * @param rfidTag - RFID tag bits
+     * @return decoded sscc
+     */
+    public SSCC decode(final BitBuffer rfidTag) throws EpcParseException {
+        final ParsedData data = parseRFIDTag(rfidTag);
+        final int bits = data.tagSize.getValue();
+        return toSSCC(data, EpcFieldReader.copy(rfidTag, bits, bits + remainder(bits)));
+    }
+
+    /**
+     * @param rfidTag - RFID tag in hexadecimal
+     * @return decoded sscc
+     */
+    public SSCC decodeHex(final CharSequence rfidTag) throws EpcParseException {
+        return decode(BitBuffer.fromHex(rfidTag));
+    }
+
+    /**
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @return decoded sscc
+     */
+    public SSCC decode(final byte[] rfidTag, final int offset, final int length) throws EpcParseException {
+        return decode(BitBuffer.fromBytes(rfidTag, offset, length));
+    }
+
+    /**
+     * @param rfidTag - packed 96-bit RFID tag
+     * @return decoded sscc
+     */
+    public SSCC decode(final Epc96 rfidTag) throws EpcParseException {
+        return decode(rfidTag.toBitBuffer());
+    }
+
+    public SSCC decodeEpcTagURI(final String epcTagURI) throws EpcParseException {
+        return toSSCC(parseEpcTagURI(epcTagURI));
+    }
+
+    public SSCC decodeEpcPureIdentityURI(final String epcPureIdentityURI, final SSCCTagSize tagSize, final SSCCFilterValue filterValue) throws EpcParseException {
+        return toSSCC(parseEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue));
+    }
+
+    public SSCC encode(final SSCCTagSize tagSize,
+                       final SSCCFilterValue filterValue,
+                       final String companyPrefix,
+                       final SSCCExtensionDigit extensionDigit,
+                       final String serial) throws EpcParseException {
+        return toSSCC(parseFields(tagSize, filterValue, companyPrefix, extensionDigit, serial));
+    }
+
+    private static ParsedData parseRFIDTag(final BitBuffer inputBin) throws EpcParseException {
+        final SSCCHeader header = SSCCHeader.of((int) inputBin.getBits(0, 8));
+        final SSCCTagSize tagSize = SSCCTagSize.of(header.getTagSize());
+        EpcFieldReader.checkSize(inputBin, tagSize.getValue());
+
+        final int partitionDec = EpcFieldReader.partition(inputBin);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionDec);
+
+        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
+
+        final String companyPrefix = EpcFieldReader.decimal(inputBin, 14, tableItem.m(), tableItem.l());
+
+        final SSCCFilterValue filterValue = SSCCFilterValue.of((int) inputBin.getBits(8, 3));
+
+        final String serialWithExtension = EpcFieldReader.decimal(inputBin, tableItem.referenceOffset(), tableItem.n(), tableItem.digits());
+
+        final String extensionDec = serialWithExtension.substring(0, 1);
+        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(Integer.parseInt(extensionDec));
+
+        final String serial = serialWithExtension.substring(1);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
+    }
+
+    /* --- Field Sink --- */
+
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, without building a {@link SSCC}.
+     * 96-bit tags are decoded without allocating. The reference starts with the extension digit.
+     *
+     * @param rfidTag - raw RFID tag bytes
+     * @param offset  - index of the first byte
+     * @param length  - number of bytes
+     * @param sink    - receives the decoded fields
+     * @throws EpcParseException if the tag is too short or holds a field the scheme does not allow
+     */
+    public void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        final SSCCTagSize tagSize = SSCCTagSize.of(SSCCHeader.of((int) BitBuffer.getBits(rfidTag, offset, length, 0, 8)).getTagSize());
+        EpcFieldReader.checkSize(length, tagSize.getValue());
+        final int filterValue = (int) BitBuffer.getBits(rfidTag, offset, length, 8, 3);
+        final int partitionValue = EpcFieldReader.partition(rfidTag, offset, length);
+        final TableItem tableItem = partitionTable.getPartitionByValue(partitionValue);
+
+        sink.header(EpcScheme.SSCC, tagSize.getValue(), filterValue, partitionValue);
+        sink.companyPrefix(EpcFieldReader.decimalValue(rfidTag, offset, length, 14, tableItem.m(), tableItem.l()), tableItem.l());
+        sink.reference(EpcFieldReader.decimalValue(rfidTag, offset, length, tableItem.referenceOffset(), tableItem.n(), tableItem.digits()), tableItem.digits());
+    }
+
+    private ParsedData parseEpcTagURI(final String epcTagURI) {
+        final URIScanner scanner = new URIScanner(epcTagURI, TAG_URI_PREFIX);
+        final int size = scanner.number(96, 96, ':');
+        final int filter = scanner.digit(0, 7);
+        scanner.expect('.');
+        final String companyPrefix = scanner.digits('.');
+        final int extension = scanner.digit(0, 9);
+        final String serial = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Tag URI is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final SSCCTagSize tagSize = SSCCTagSize.of(size);
+        final SSCCFilterValue filterValue = SSCCFilterValue.of(filter);
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(extension);
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateExtensionDigitAndSerial(tableItem, extensionDigit, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
+    }
+
+    private ParsedData parseEpcPureIdentityURI(final String epcPureIdentityURI, final SSCCTagSize tagSize, final SSCCFilterValue filterValue) {
+        final URIScanner scanner = new URIScanner(epcPureIdentityURI, PURE_IDENTITY_URI_PREFIX);
+        final String companyPrefix = scanner.digits('.');
+        final int extension = scanner.digit(0, 9);
+        final String serial = scanner.digits(URIScanner.END);
+        if (scanner.failed()) {
+            throw new IllegalArgumentException("Epc Pure Identity is invalid at offset %d".formatted(scanner.errorOffset()));
+        }
+
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(extension);
+
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+
+        validateExtensionDigitAndSerial(tableItem, extensionDigit, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
+    }
+
+    private ParsedData parseFields(final SSCCTagSize tagSize, final SSCCFilterValue filterValue, final String companyPrefix, final SSCCExtensionDigit extensionDigit, final String serial) {
+        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
+        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
+        validateExtensionDigitAndSerial(tableItem, extensionDigit, serial);
+
+        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
+    }
+
+    private SSCC toSSCC(final ParsedData data) {
+        return toSSCC(data, toBinary(data));
+    }
+
+    private SSCC toSSCC(final ParsedData data, final BitBuffer bits) {
+        final int checkDigit = CheckDigit.compute(data.extensionDigit.getValue(), data.companyPrefix, data.serial);
+
+        return new SSCC(
+            // "sscc",
+            // "AI 00",
+            Integer.toString(data.tagSize.getValue()),
+            Integer.toString(data.filterValue.getValue()),
+            Integer.toString(data.tableItem.partitionValue()),
+            Integer.toString(data.prefixLength.getValue()),
+            data.companyPrefix,
+            Integer.toString(data.extensionDigit.getValue()),
+            data.serial,
+            Integer.toString(checkDigit),
+            bits
+        );
+    }
+
+    private BitBuffer toBinary(final ParsedData data) {
+        final BitBuffer bin = new BitBuffer(data.tagSize.getValue());
+
+        final int serialOffset = data.tableItem.referenceOffset();
+        final int reservedOffset = data.tableItem.serialOffset();
+
+        BinaryUtils.encodeInteger(bin, 0, 8, data.tagSize.getHeader());
+        BinaryUtils.encodeInteger(bin, 8, 3, data.filterValue.getValue());
+        BinaryUtils.encodeInteger(bin, 11, 3, data.tableItem.partitionValue());
+        BinaryUtils.encodeInteger(bin, 14, data.tableItem.m(), data.companyPrefix);
+        BinaryUtils.encodeInteger(bin, serialOffset, data.tableItem.n(), data.extensionDigit.getValue() + data.serial);
+        BinaryUtils.encodeInteger(bin, reservedOffset, 24, RESERVED);
+
+        return bin;
+    }
+
+    /* --- Validation --- */
+    private void validateExtensionDigitAndSerial(final TableItem tableItem, final SSCCExtensionDigit extensionDigit, final String serial) {
+        final StringBuilder value = new StringBuilder()
+            .append(extensionDigit.getValue())
+            .append(serial);
+        if (value.length() != tableItem.digits()) {
+            throw new IllegalArgumentException(String.format("Concatenation between Extension Digit \"%d\" and Serial \"%s\" has %d length and should have %d length", extensionDigit.getValue(), serial, value.length(), tableItem.digits()));
+        }
+    }
+
+    /* --- Objects --- */
+    private record ParsedData(
+        TableItem tableItem,
+        SSCCTagSize tagSize,
+        SSCCFilterValue filterValue,
+        SSCCExtensionDigit extensionDigit,
+        PrefixLength prefixLength,
+        String companyPrefix,
+        String serial
+    ) {
+        // empty
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.pedrozc90.epcs.schemes.sscc;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.EpcTemplate;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCExtensionDigit;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
+import com.pedrozc90.epcs.schemes.sscc.objects.SSCC;
+import com.pedrozc90.epcs.schemes.sscc.partitionTable.SSCCPartitionTable;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import com.pedrozc90.epcs.utils.CheckDigit;
+
+/**
+ * Encodes SSCCs of one company and extension digit, varying only the serial reference.
+ *
+ * <p>The serial reference has a fixed number of digits, {@code 16 - L} for a company prefix of
+ * {@code L} digits, and is zero-padded in the URIs. The check digit is recomputed for every
+ * serial reference from the weighted sum of the fixed digits.</p>
+ */
+public final class SSCCEncoder extends EpcTemplate<SSCC> {
+
+    private static final SSCCPartitionTable partitionTable = new SSCCPartitionTable();
+
+    private final SSCC prototype;
+    private final int serialDigits;
+    private final long extensionValue;
+    private final int prefixSum;
+
+    private SSCCEncoder(final SSCC prototype, final TableItem tableItem, final long maxSerial) {
+        super(prototype, tableItem.referenceOffset(), tableItem.n(), maxSerial);
+        this.prototype = prototype;
+        this.serialDigits = tableItem.digits() - 1;
+        this.extensionValue = Long.parseLong(prototype.extensionDigit()) * (maxSerial + 1);
+        // the fixed digits are weighed as if followed by the zeros of the serial reference
+        this.prefixSum = CheckDigit.sum(Long.parseLong(prototype.extensionDigit() + prototype.companyPrefix()) * (maxSerial + 1));
+    }
+
+    /**
+     * @param tagSize        - tag size
+     * @param filterValue    - filter value
+     * @param companyPrefix  - company prefix, ex: "0614141"
+     * @param extensionDigit - extension digit
+     * @return encoder of the company
+     * @throws EpcParseException if the fields are invalid
+     */
+    public static SSCCEncoder of(final SSCCTagSize tagSize,
+                                 final SSCCFilterValue filterValue,
+                                 final String companyPrefix,
+                                 final SSCCExtensionDigit extensionDigit) throws EpcParseException {
+        final TableItem tableItem = partitionTable.getPartitionByL(companyPrefix.length());
+        if (tableItem == null) {
+            throw new EpcParseException("Company Prefix \"%s\" has %d length, it should have 6 to 12 digits", companyPrefix, companyPrefix.length());
+        }
+        final int serialDigits = tableItem.digits() - 1;
+
+        final SSCC prototype = SSCCParser.builder()
+            .withCompanyPrefix(companyPrefix)
+            .withExtensionDigit(extensionDigit)
+            .withSerial("0".repeat(serialDigits))
+            .withTagSize(tagSize)
+            .withFilterValue(filterValue)
+            .build();
+
+        return new SSCCEncoder(prototype, tableItem, BinaryUtils.powerOfTen(serialDigits) - 1);
+    }
+
+    @Override
+    protected SSCC create(final String serial, final BitBuffer bits) {
+        // the 17 digits are the extension digit, the company prefix and the serial reference
+        final int sum = prefixSum + CheckDigit.sum(serial, 0, serial.length());
+        return new SSCC(
+            prototype.tagSize(),
+            prototype.filterValue(),
+            prototype.partitionValue(),
+            prototype.prefixLength(),
+            prototype.companyPrefix(),
+            prototype.extensionDigit(),
+            serial,
+            Integer.toString(CheckDigit.fromSum(sum)),
+            bits
+        );
+    }
+
+    @Override
+    protected long fieldValue(final long serial) {
+        return extensionValue + serial;
+    }
+
+    @Override
+    protected String serialText(final long serial) {
+        final String value = Long.toString(serial);
+        return (value.length() < serialDigits) ? "0".repeat(serialDigits - value.length()) + value : value;
+    }
+
+    /**
+     * Parses a serial reference of exactly {@code 16 - L} digits, leading zeros included.
+     */
+    @Override
+    protected long parseSerial(final String serial) {
+        if (serial.length() != serialDigits || !isDigits(serial)) {
+            throw new IllegalArgumentException("Serial \"%s\" should have %d digits".formatted(serial, serialDigits));
+        }
+        return Long.parseLong(serial);
+    }
+
+}
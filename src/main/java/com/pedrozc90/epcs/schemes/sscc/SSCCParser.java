@@ -1,206 +1,29 @@
 package com.pedrozc90.epcs.schemes.sscc;
 
 import com.pedrozc90.epcs.exception.EpcParseException;
-import com.pedrozc90.epcs.objects.TableItem;
-import com.pedrozc90.epcs.schemes.EpcParser;
-import com.pedrozc90.epcs.schemes.PrefixLength;
+import com.pedrozc90.epcs.schemes.EpcFieldSink;
 import com.pedrozc90.epcs.schemes.sscc.enums.SSCCExtensionDigit;
 import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
-import com.pedrozc90.epcs.schemes.sscc.enums.SSCCHeader;
 import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
 import com.pedrozc90.epcs.schemes.sscc.objects.SSCC;
-import com.pedrozc90.epcs.schemes.sscc.partitionTable.SSCCPartitionTable;
-import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
 
-public class SSCCParser implements EpcParser<SSCC> {
+public class SSCCParser {
 
-    // urn:epc:tag:sscc-96:0.952012.03456789123
-    private static final Pattern TAG_URI_PATTERN = Pattern.compile("^(urn:epc:tag:sscc-)(96):([0-7])\\.(\\d+)\\.([0-9])(\\d+)$");
-    private static final Pattern PURE_IDENTITY_URI_PATTERN = Pattern.compile("^(urn:epc:id:sscc):(\\d+)\\.([0-9])(\\d+)$");
-
-    private static final SSCCPartitionTable partitionTable = new SSCCPartitionTable();
-    private static final Integer RESERVED = 0; // 24 zero bits
-
-    private final SSCC sscc;
-
-    public static ChoiceStep builder() throws Exception {
+    public static ChoiceStep builder() {
         return new Steps();
     }
 
-    private SSCCParser(final Steps steps) throws EpcParseException {
-        final ParsedData data = parse(steps);
-        sscc = toSSCC(data);
-    }
-
-    private ParsedData parse(final Steps steps) throws EpcParseException {
-        if (steps.rfidTag != null) {
-            return decodeRFIDTag(steps.rfidTag);
-        } else if (steps.epcTagURI != null) {
-            return decodeEpcTagURI(steps.epcTagURI);
-        } else if (steps.epcPureIdentityURI != null) {
-            return decodeEpcPureIdentityURI(steps.epcPureIdentityURI, steps.tagSize, steps.filterValue);
-        }
-        return parseCompanyPrefix(steps);
+    private SSCCParser() {
     }
 
-    private static ParsedData decodeRFIDTag(final String rfidTag) {
-        final String inputBin = BinaryUtils.toBinary(rfidTag);
-
-        final String headerBin = inputBin.substring(0, 8);
-        final String filterBin = inputBin.substring(8, 11);
-        final String partitionBin = inputBin.substring(11, 14);
-
-        final SSCCHeader header = SSCCHeader.of(headerBin);
-        final SSCCTagSize tagSize = SSCCTagSize.of(header.getTagSize());
-
-        final int partitionDec = Integer.parseInt(partitionBin, 2);
-        final TableItem tableItem = partitionTable.getPartitionByValue(partitionDec);
-
-        final PrefixLength prefixLength = PrefixLength.of(tableItem.l());
-
-        final String companyPrefixBin = inputBin.substring(14, 14 + tableItem.m());
-        final String companyPrefix = BinaryUtils.decodeInteger(companyPrefixBin, tableItem.l());
-
-        final String filterDec = Long.toString(Long.parseLong(filterBin, 2));
-        final SSCCFilterValue filterValue = SSCCFilterValue.of(Integer.parseInt(filterDec));
-
-        final String serialWithExtensionBin = inputBin.substring(14 + tableItem.m(), 14 + tableItem.m() + tableItem.n());
-        final String serialWithExtension = BinaryUtils.decodeInteger(serialWithExtensionBin, tableItem.digits());
-
-        final String extensionDec = serialWithExtension.substring(0, 1);
-        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(Integer.parseInt(extensionDec));
-
-        final String serial = serialWithExtension.substring(1);
-
-        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
-    }
-
-    private ParsedData decodeEpcTagURI(final String epcTagURI) {
-        final Matcher matcher = TAG_URI_PATTERN.matcher(epcTagURI);
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException("Epc Tag URI is invalid");
-        }
-
-        final SSCCTagSize tagSize = SSCCTagSize.of(Integer.parseInt(matcher.group(2)));
-        final SSCCFilterValue filterValue = SSCCFilterValue.of(Integer.parseInt(matcher.group(3)));
-        final String companyPrefix = matcher.group(4);
-        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
-        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(Integer.parseInt(matcher.group(5)));
-        final String serial = matcher.group(6);
-
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-
-        validateExtensionDigitAndSerial(tableItem, extensionDigit, serial);
-
-        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
-    }
-
-    private ParsedData decodeEpcPureIdentityURI(final String epcPureIdentityURI, final SSCCTagSize tagSize, final SSCCFilterValue filterValue) {
-        final Matcher matcher = PURE_IDENTITY_URI_PATTERN.matcher(epcPureIdentityURI);
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException("Epc Pure Identity is invalid");
-        }
-
-        final String companyPrefix = matcher.group(2);
-        final PrefixLength prefixLength = PrefixLength.of(companyPrefix.length());
-        final SSCCExtensionDigit extensionDigit = SSCCExtensionDigit.of(Integer.parseInt(matcher.group(3)));
-        final String serial = matcher.group(4);
-
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-
-        validateExtensionDigitAndSerial(tableItem, extensionDigit, serial);
-
-        return new ParsedData(tableItem, tagSize, filterValue, extensionDigit, prefixLength, companyPrefix, serial);
-    }
-
-    private ParsedData parseCompanyPrefix(final Steps steps) {
-        final PrefixLength prefixLength = PrefixLength.of(steps.companyPrefix.length());
-        final TableItem tableItem = partitionTable.getPartitionByL(prefixLength.getValue());
-        validateExtensionDigitAndSerial(tableItem, steps.extensionDigit, steps.serial);
-
-        return new ParsedData(tableItem, steps.tagSize, steps.filterValue, steps.extensionDigit, prefixLength, steps.companyPrefix, steps.serial);
-    }
-
-    private SSCC toSSCC(final ParsedData data) {
-        final Integer checkDigit = getCheckDigit(data.extensionDigit, data.companyPrefix, data.serial);
-
-        final String outputBin = toBinary(data);
-        final String outputHex = BinaryUtils.toHex(outputBin);
-
-        return new SSCC(
-            // "sscc",
-            // "AI 00",
-            Integer.toString(data.tagSize.getValue()),
-            Integer.toString(data.filterValue.getValue()),
-            Integer.toString(data.tableItem.partitionValue()),
-            Integer.toString(data.prefixLength.getValue()),
-            data.companyPrefix,
-            Integer.toString(data.extensionDigit.getValue()),
-            data.serial,
-            Integer.toString(checkDigit),
-            "urn:epc:id:sscc:%s.%s%s".formatted(data.companyPrefix, data.extensionDigit.getValue(), data.serial),
-            "urn:epc:tag:sscc-%s:%s.%s.%s%s".formatted(data.tagSize.getValue(), data.filterValue.getValue(), data.companyPrefix, data.extensionDigit.getValue(), data.serial),
-            "urn:epc:raw:%s.x%s".formatted(data.tagSize.getValue(), outputHex),
-            outputBin,
-            outputHex
-        );
-    }
-
-    private String toBinary(final ParsedData data) {
-        final StringBuilder bin = new StringBuilder();
-
-        bin.append(BinaryUtils.encodeInteger(data.tagSize.getHeader(), 8));
-        bin.append(BinaryUtils.encodeInteger(data.filterValue.getValue(), 3));
-        bin.append(BinaryUtils.encodeInteger(data.tableItem.partitionValue(), 3));
-        bin.append(BinaryUtils.encodeInteger(data.companyPrefix, data.tableItem.m()));
-        bin.append(BinaryUtils.encodeInteger(data.extensionDigit.getValue() + data.serial, data.tableItem.n()));
-        bin.append(BinaryUtils.encodeInteger(RESERVED, 24));
-
-        return bin.toString();
-    }
-
-    /* --- Validation --- */
-    private Integer getCheckDigit(final SSCCExtensionDigit extensionDigit, final String companyPrefix, final String serial) {
-        final String value = extensionDigit.getValue() + companyPrefix + serial;
-
-        final Integer d18 = (10 - ((3
-            * (Character.getNumericValue(value.charAt(0)) + Character.getNumericValue(value.charAt(2))
-            + Character.getNumericValue(value.charAt(4)) + Character.getNumericValue(value.charAt(6))
-            + Character.getNumericValue(value.charAt(8))
-            + Character.getNumericValue(value.charAt(10)) + Character.getNumericValue(value.charAt(12))
-            + Character.getNumericValue(value.charAt(14)) + Character.getNumericValue(value.charAt(16)))
-            + (Character.getNumericValue(value.charAt(1)) + Character.getNumericValue(value.charAt(3))
-            + Character.getNumericValue(value.charAt(5)) + Character.getNumericValue(value.charAt(7))
-            + Character.getNumericValue(value.charAt(9)) + Character.getNumericValue(value.charAt(11))
-            + Character.getNumericValue(value.charAt(13)) + Character.getNumericValue(value.charAt(15))))
-            % 10)) % 10;
-
-        return d18;
-    }
-
-    private void validateExtensionDigitAndSerial(final TableItem tableItem, final SSCCExtensionDigit extensionDigit, final String serial) {
-        final StringBuilder value = new StringBuilder()
-            .append(extensionDigit.getValue())
-            .append(serial);
-        if (value.length() != tableItem.digits()) {
-            throw new IllegalArgumentException(String.format("Concatenation between Extension Digit \"%d\" and Serial \"%s\" has %d length and should have %d length", extensionDigit.getValue(), serial, value.length(), tableItem.digits()));
-        }
-    }
-
-    /* --- Objects --- */
-    private record ParsedData(
-        TableItem tableItem,
-        SSCCTagSize tagSize,
-        SSCCFilterValue filterValue,
-        SSCCExtensionDigit extensionDigit,
-        PrefixLength prefixLength,
-        String companyPrefix,
-        String serial
-    ) {
-        // empty
+    /**
+     * Decodes raw RFID tag bytes straight into a sink, see {@link SSCCCodec#decode(byte[], int, int, EpcFieldSink)}.
+     */
+    public static void decode(final byte[] rfidTag, final int offset, final int length, final EpcFieldSink sink) throws EpcParseException {
+        SSCCCodec.INSTANCE.decode(rfidTag, offset, length, sink);
     }
 
     /* --- Builder --- */
@@ -209,6 +32,12 @@ public class SSCCParser implements EpcParser<SSCC> {
 
         BuildStep withRFIDTag(final String rfidTag);
 
+        BuildStep withRFIDTag(final byte[] rfidTag, final int offset, final int length);
+
+        BuildStep withRFIDTag(final ByteBuffer rfidTag);
+
+        BuildStep withRFIDTag(final BitBuffer rfidTag);
+
         BuildStep withEpcTagURI(final String epcTagURI);
 
         TagSizeStep withEpcPureIdentityURI(final String epcPureIdentityURI);
@@ -241,7 +70,7 @@ public class SSCCParser implements EpcParser<SSCC> {
         private SSCCTagSize tagSize;
         private SSCCFilterValue filterValue;
         private String serial;
-        private String rfidTag;
+        private BitBuffer rfidTag;
         private String epcTagURI;
         private String epcPureIdentityURI;
 
@@ -277,6 +106,24 @@ public class SSCCParser implements EpcParser<SSCC> {
 
         @Override
         public BuildStep withRFIDTag(final String rfidTag) {
+            this.rfidTag = BitBuffer.fromHex(rfidTag);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final byte[] rfidTag, final int offset, final int length) {
+            this.rfidTag = BitBuffer.fromBytes(rfidTag, offset, length);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final ByteBuffer rfidTag) {
+            this.rfidTag = BitBuffer.fromBytes(rfidTag);
+            return this;
+        }
+
+        @Override
+        public BuildStep withRFIDTag(final BitBuffer rfidTag) {
             this.rfidTag = rfidTag;
             return this;
         }
@@ -295,8 +142,15 @@ public class SSCCParser implements EpcParser<SSCC> {
 
         @Override
         public SSCC build() throws EpcParseException {
-            final SSCCParser parser = new SSCCParser(this);
-            return parser.sscc;
+            final SSCCCodec codec = SSCCCodec.INSTANCE;
+            if (rfidTag != null) {
+                return codec.decode(rfidTag);
+            } else if (epcTagURI != null) {
+                return codec.decodeEpcTagURI(epcTagURI);
+            } else if (epcPureIdentityURI != null) {
+                return codec.decodeEpcPureIdentityURI(epcPureIdentityURI, tagSize, filterValue);
+            }
+            return codec.encode(tagSize, filterValue, companyPrefix, extensionDigit, serial);
         }
 
     }
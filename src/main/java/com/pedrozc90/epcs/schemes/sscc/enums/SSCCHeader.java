@@ -1,5 +1,6 @@
 package com.pedrozc90.epcs.schemes.sscc.enums;
 
+import com.pedrozc90.epcs.utils.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -17,10 +18,12 @@ public enum SSCCHeader {
     };
 
     private static final Map<String, SSCCHeader> _map = new HashMap<>();
+    private static final SSCCHeader[] _table = new SSCCHeader[256];
 
     static {
         for (SSCCHeader row : values()) {
             _map.put(row.value, row);
+            _table[Integer.parseInt(row.value, 2)] = row;
         }
     }
 
@@ -36,4 +39,12 @@ public enum SSCCHeader {
         return header;
     }
 
+    public static SSCCHeader of(final int value) {
+        final SSCCHeader header = (value >= 0 && value < _table.length) ? _table[value] : null;
+        if (header == null) {
+            throw new IllegalArgumentException("SSCC header [%s] is invalid. Allowed only 00110001".formatted(StringUtils.leftPad(Integer.toBinaryString(value), 8, '0')));
+        }
+        return header;
+    }
+
 }
@@ -1,9 +1,23 @@
 package com.pedrozc90.epcs.utils;
 
-import java.math.BigInteger;
+import java.util.Arrays;
 
 public class BinaryUtils {
 
+    private static final int MAX_LONG_DIGITS = 20;
+    private static final long BILLION = 1_000_000_000L;
+    private static final long HIGH_MULTIPLY_LIMIT = Long.divideUnsigned(-1L, 10);
+    private static final long TEN_POW_19 = Long.parseUnsignedLong("10000000000000000000");
+    private static final int MAX_POWER_OF_TEN = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_POWER_OF_TEN + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i <= MAX_POWER_OF_TEN; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
     /**
      * Converts a hexadecimal string into a binary string.
      *
@@ -79,19 +93,22 @@ public class BinaryUtils {
             throw new IllegalArgumentException("Binary string cannot be null or empty");
         }
 
-        // Validate binary string contains only 0s and 1s
+        // Validate binary string contains only 0s and 1s, the value is accumulated in two longs
+        long high = 0L;
+        long low = 0L;
         for (int i = 0; i < binary.length(); i++) {
-            char c = binary.charAt(i);
+            final char c = binary.charAt(i);
             if (c != '0' && c != '1') {
                 throw new IllegalArgumentException("Invalid binary character: '%c' at position %d".formatted(c, i));
             }
+            if (high < 0) {
+                throw new IllegalArgumentException("Binary value wider than %d bits is not supported".formatted(2 * Long.SIZE));
+            }
+            high = (high << 1) | (low >>> 63);
+            low = (low << 1) | (c - '0');
         }
 
-        // Convert binary to decimal (automatically removes leading zeros)
-        final String decimal = new BigInteger(binary, 2).toString();
-
-        // Pad with leading zeros to reach minimum length
-        return StringUtils.leftPad(decimal, minLength, '0');
+        return toDecimal(high, low, minLength);
     }
 
     /**
@@ -109,6 +126,36 @@ public class BinaryUtils {
         return decodeInteger(binary, 0);
     }
 
+    /**
+     * Decodes a range of packed bits to a decimal integer string with preserved leading zeros.
+     *
+     * @param buffer    - packed bits
+     * @param offset    - index of the first bit
+     * @param length    - number of bits (up to 128)
+     * @param minLength - minimum length of output (for leading zeros)
+     * @return decimal representation as string with leading zeros, ex: "0614141"
+     */
+    public static String decodeInteger(final BitBuffer buffer, final int offset, final int length, final int minLength) {
+        if (length <= Long.SIZE) {
+            return toDecimal(buffer.getBits(offset, length), minLength);
+        }
+        // wider fields are read as two longs
+        final int highLength = length - Long.SIZE;
+        return toDecimal(buffer.getBits(offset, highLength), buffer.getBits(offset + highLength, Long.SIZE), minLength);
+    }
+
+    /**
+     * Decodes a range of packed bits to a decimal integer string (GS1 Integer Decoding Method).
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits (up to 64)
+     * @return decimal integer string without leading zeros (unless value is "0")
+     */
+    public static String decodeInteger(final BitBuffer buffer, final int offset, final int length) {
+        return decodeInteger(buffer, offset, length, 0);
+    }
+
     /**
      * Encodes a decimal integer string to a binary string (GS1 Integer Encoding Method).
      *
@@ -131,24 +178,8 @@ public class BinaryUtils {
         //     throw new IllegalArgumentException("Leading zeros are not permitted in integer encoding: '%s'".formatted(value));
         // }
 
-        // Validate: must be numeric
-        if (!value.chars().allMatch(Character::isDigit)) {
-            throw new IllegalArgumentException("Value must be numeric: '%s'".formatted(value));
-        }
-
-        final BigInteger integer = new BigInteger(value);
-
-        // Validate: value must fit in specified bit count
-        final BigInteger maxValue = BigInteger.TWO.pow(bits).subtract(BigInteger.ONE);
-        if (integer.compareTo(maxValue) > 0) {
-            throw new IllegalArgumentException("Value %s exceeds maximum for %d bits (max: %s)".formatted(value, bits, maxValue));
-        }
-
-        // Convert to binary and pad left with zeros
-        final String binary = integer.toString(2);
-        String t = "0".repeat(Math.max(0, bits - binary.length())) + binary;
-        String s = StringUtils.leftPad(binary, bits, '0');
-        return s;
+        final long[] integer = parseDecimal(value, bits);
+        return toBinary(integer[0], integer[1], bits);
     }
 
     /**
@@ -162,7 +193,8 @@ public class BinaryUtils {
         if (value < 0) {
             throw new IllegalArgumentException("Value must be non-negative: " + value);
         }
-        return encodeInteger(String.valueOf(value), bits);
+        checkCapacity(0L, value, bits);
+        return toBinary(0L, value, bits);
     }
 
     /**
@@ -173,10 +205,54 @@ public class BinaryUtils {
      * @return binary string padded to specified bit length
      */
     public static String encodeInteger(final int value, final int bits) {
-        if (value < 0) {
-            throw new IllegalArgumentException("Value must be non-negative: " + value);
+        return encodeInteger((long) value, bits);
+    }
+
+    /**
+     * Encodes a decimal integer string into a range of packed bits (GS1 Integer Encoding Method).
+     *
+     * @param buffer - destination bits, the range is expected to be zero
+     * @param offset - index of the first bit
+     * @param length - bit count of the segment (up to 128)
+     * @param value  - decimal integer string
+     * @throws IllegalArgumentException if value is null, empty, not numeric, or exceeds bit capacity
+     */
+    public static void encodeInteger(final BitBuffer buffer, final int offset, final int length, final String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Value cannot be null or empty");
+        }
+
+        // up to 19 digits always fit in an unsigned long, skip the two-long parse
+        if (value.length() < MAX_LONG_DIGITS) {
+            encodeInteger(buffer, offset, length, parseDecimal(value, 0, value.length()));
+            return;
+        }
+
+        final long[] integer = parseDecimal(value, length);
+        if (length <= Long.SIZE) {
+            buffer.putBits(offset, length, integer[1]);
+        } else {
+            // wider fields are written as two longs
+            final int highLength = length - Long.SIZE;
+            buffer.putBits(offset, highLength, integer[0]);
+            buffer.putBits(offset + highLength, Long.SIZE, integer[1]);
         }
-        return encodeInteger(Integer.toString(value), bits);
+    }
+
+    /**
+     * Encodes an unsigned long integer into a range of packed bits (GS1 Integer Encoding Method).
+     *
+     * @param buffer - destination bits, the range is expected to be zero
+     * @param offset - index of the first bit
+     * @param length - bit count of the segment (up to 64)
+     * @param value  - unsigned integer value
+     * @throws IllegalArgumentException if value exceeds bit capacity
+     */
+    public static void encodeInteger(final BitBuffer buffer, final int offset, final int length, final long value) {
+        if (length < 64 && (value >>> length) != 0) {
+            throw new IllegalArgumentException("Value %s exceeds maximum for %d bits".formatted(Long.toUnsignedString(value), length));
+        }
+        buffer.putBits(offset, length, value);
     }
 
     /**
@@ -195,6 +271,24 @@ public class BinaryUtils {
         };
     }
 
+    /**
+     * Decode a range of packed bits to a alphanumeric string using GS1 String Decoding Method.
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits
+     * @param bits   - encoding bits, 6 bits or 7 bits
+     * @return decoded alphanumeric string
+     * @throws IllegalArgumentException if validation fails
+     */
+    public static String decodeString(final BitBuffer buffer, final int offset, final int length, final int bits) {
+        return switch (bits) {
+            case 6 -> Encoding6Bit.decode(buffer, offset, length);
+            case 7 -> Encoding7Bit.decode(buffer, offset, length);
+            default -> throw new IllegalArgumentException("Unsupported '%d' bit encoding".formatted(bits));
+        };
+    }
+
 //    /**
 //     * Decodes a binary string to an alphanumeric string using GS1 String Decoding Method.
 //     *
@@ -287,6 +381,26 @@ public class BinaryUtils {
         };
     }
 
+    /**
+     * Encodes an alphanumeric string into a range of packed bits using GS1 String Encoding Method.
+     * Bits after the last character are left as zeros.
+     *
+     * @param buffer   - destination bits, the range is expected to be zero
+     * @param offset   - index of the first bit
+     * @param length   - bit count of the segment
+     * @param value    - alphanumeric string
+     * @param encoding - encoding bits, 6 bits or 7 bits
+     * @return number of bits written
+     * @throws IllegalArgumentException if validation fails
+     */
+    public static int encodeString(final BitBuffer buffer, final int offset, final int length, final String value, final int encoding) {
+        return switch (encoding) {
+            case 6 -> Encoding6Bit.encode(buffer, offset, length, value);
+            case 7 -> Encoding7Bit.encode(buffer, offset, length, value);
+            default -> throw new IllegalArgumentException("Unsupported '%d' bit encoding".formatted(encoding));
+        };
+    }
+
 //    /**
 //     * Encodes an alphanumeric string to binary using GS1 String Encoding Method.
 //     *
@@ -365,7 +479,236 @@ public class BinaryUtils {
 //        return binary.toString();
 //    }
 
+    /**
+     * @param digits - number of decimal digits, 0 to 18
+     * @return smallest value with one more digit, ex: 1000 for 3 digits
+     */
+    public static long powerOfTen(final int digits) {
+        return POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * Renders an unsigned long as a decimal string, padded to the left with zeros.
+     *
+     * @param value     - unsigned value
+     * @param minLength - minimum length of output (for leading zeros)
+     * @return decimal representation, ex: "0614141"
+     */
+    public static String toDecimal(final long value, final int minLength) {
+        final char[] out = new char[Math.max(MAX_LONG_DIGITS, minLength)];
+        int pos = out.length;
+
+        long remaining = value;
+        if (remaining < 0) {
+            // above Long.MAX_VALUE, peel the last digit off as unsigned
+            final long quotient = Long.divideUnsigned(remaining, 10);
+            out[--pos] = (char) ('0' + (remaining - quotient * 10));
+            remaining = quotient;
+        }
+        do {
+            out[--pos] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        final int start = Math.min(pos, out.length - minLength);
+        Arrays.fill(out, start, pos, '0');
+        return new String(out, start, out.length - start);
+    }
+
+    /**
+     * Renders an unsigned 128-bit value, given as two longs, as a decimal string padded to the left with zeros.
+     *
+     * @param high      - upper 64 bits
+     * @param low       - lower 64 bits
+     * @param minLength - minimum length of output (for leading zeros)
+     * @return decimal representation
+     */
+    public static String toDecimal(final long high, final long low, final int minLength) {
+        if (high == 0) {
+            return toDecimal(low, minLength);
+        }
+
+        // 2^128 has 39 digits, written in chunks of 9
+        final char[] out = new char[Math.max(45, minLength)];
+        int pos = out.length;
+
+        // four 32-bit limbs, divided by 10^9 until nothing is left
+        final long[] limbs = { high >>> 32, high & 0xFFFFFFFFL, low >>> 32, low & 0xFFFFFFFFL };
+        boolean zero;
+        do {
+            long remainder = 0L;
+            zero = true;
+            for (int i = 0; i < limbs.length; i++) {
+                final long current = (remainder << 32) | limbs[i];
+                limbs[i] = current / BILLION;
+                remainder = current % BILLION;
+                zero &= (limbs[i] == 0);
+            }
+            for (int i = 0; i < 9; i++) {
+                out[--pos] = (char) ('0' + remainder % 10);
+                remainder /= 10;
+            }
+        } while (!zero);
+
+        // drop the zeros of the last chunk, then pad back up to the minimum length
+        while (pos < out.length - 1 && out[pos] == '0') {
+            pos++;
+        }
+        final int start = Math.min(pos, out.length - minLength);
+        Arrays.fill(out, start, pos, '0');
+        return new String(out, start, out.length - start);
+    }
+
+    /**
+     * Appends an unsigned long as decimal digits, padded to the left with zeros, without an
+     * intermediate string.
+     *
+     * @param out       - builder to append to
+     * @param value     - unsigned value
+     * @param minLength - minimum number of digits (for leading zeros)
+     * @return the builder
+     */
+    public static StringBuilder appendDecimal(final StringBuilder out, final long value, final int minLength) {
+        final int start = out.length();
+        final int end = start + Math.max(decimalLength(value), minLength);
+        out.setLength(end);
+
+        int pos = end;
+        long remaining = value;
+        if (remaining < 0) {
+            final long quotient = Long.divideUnsigned(remaining, 10);
+            out.setCharAt(--pos, (char) ('0' + (remaining - quotient * 10)));
+            remaining = quotient;
+        }
+        do {
+            out.setCharAt(--pos, (char) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        while (pos > start) {
+            out.setCharAt(--pos, '0');
+        }
+        return out;
+    }
+
+    /**
+     * Writes an unsigned long as ASCII decimal digits, padded to the left with zeros.
+     *
+     * @param out       - destination, it must have room for the digits
+     * @param offset    - index of the first digit
+     * @param value     - unsigned value
+     * @param minLength - minimum number of digits (for leading zeros)
+     * @return index after the last digit
+     */
+    public static int writeDecimal(final byte[] out, final int offset, final long value, final int minLength) {
+        final int end = offset + Math.max(decimalLength(value), minLength);
+
+        int pos = end;
+        long remaining = value;
+        if (remaining < 0) {
+            final long quotient = Long.divideUnsigned(remaining, 10);
+            out[--pos] = (byte) ('0' + (remaining - quotient * 10));
+            remaining = quotient;
+        }
+        do {
+            out[--pos] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        while (pos > offset) {
+            out[--pos] = '0';
+        }
+        return end;
+    }
+
     /* --- Helpers --- */
+    private static long[] parseDecimal(final String value, final int bits) {
+        final int head = Math.min(value.length(), MAX_LONG_DIGITS - 1);
+        long high = 0L;
+        long low = parseDecimal(value, 0, head);
+        for (int i = head; i < value.length(); i++) {
+            final int digit = digitAt(value, i);
+            // (high, low) * 10 + digit
+            final long carry = Math.unsignedMultiplyHigh(low, 10);
+            final long nextHigh = high * 10 + carry;
+            if (Long.compareUnsigned(high, HIGH_MULTIPLY_LIMIT) > 0 || Long.compareUnsigned(nextHigh, high * 10) < 0) {
+                throw new IllegalArgumentException("Value %s exceeds maximum for %d bits".formatted(value, bits));
+            }
+            final long nextLow = low * 10 + digit;
+            high = (Long.compareUnsigned(nextLow, low * 10) < 0) ? nextHigh + 1 : nextHigh;
+            if (high == 0 && nextHigh != 0) {
+                throw new IllegalArgumentException("Value %s exceeds maximum for %d bits".formatted(value, bits));
+            }
+            low = nextLow;
+        }
+        checkCapacity(high, low, bits, value);
+        return new long[]{ high, low };
+    }
+
+    /**
+     * Parses up to 19 digits, which always fit in an unsigned long.
+     */
+    private static long parseDecimal(final String value, final int start, final int end) {
+        long result = 0L;
+        for (int i = start; i < end; i++) {
+            result = result * 10 + digitAt(value, i);
+        }
+        return result;
+    }
+
+    /**
+     * @return number of decimal digits of an unsigned value, without leading zeros
+     */
+    private static int decimalLength(final long value) {
+        if (value < 0) {
+            return (Long.compareUnsigned(value, TEN_POW_19) >= 0) ? MAX_LONG_DIGITS : MAX_LONG_DIGITS - 1;
+        }
+        int digits = 1;
+        long limit = 10;
+        while (digits < MAX_LONG_DIGITS - 1 && value >= limit) {
+            digits++;
+            limit *= 10;
+        }
+        return digits;
+    }
+
+    private static int digitAt(final String value, final int index) {
+        final int digit = value.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("Value must be numeric: '%s'".formatted(value));
+        }
+        return digit;
+    }
+
+    private static void checkCapacity(final long high, final long low, final int bits) {
+        if (!fits(high, low, bits)) {
+            throw new IllegalArgumentException("Value %s exceeds maximum for %d bits".formatted(toDecimal(high, low, 0), bits));
+        }
+    }
+
+    private static void checkCapacity(final long high, final long low, final int bits, final String value) {
+        if (!fits(high, low, bits)) {
+            throw new IllegalArgumentException("Value %s exceeds maximum for %d bits".formatted(value, bits));
+        }
+    }
+
+    private static boolean fits(final long high, final long low, final int bits) {
+        if (bits >= 2 * Long.SIZE) {
+            return true;
+        } else if (bits >= Long.SIZE) {
+            return (high >>> (bits - Long.SIZE)) == 0;
+        }
+        return high == 0 && (bits == 0 ? low == 0 : (low >>> bits) == 0);
+    }
+
+    private static String toBinary(final long high, final long low, final int bits) {
+        final char[] out = new char[bits];
+        for (int i = 0; i < bits; i++) {
+            final int bit = bits - 1 - i;
+            final long word = (bit < Long.SIZE) ? low : (bit < 2 * Long.SIZE) ? high : 0L;
+            out[i] = (((word >>> (bit & 63)) & 1) != 0) ? '1' : '0';
+        }
+        return new String(out);
+    }
+
     private static int hexCharToValue(final char c) {
         if (c >= '0' && c <= '9') {
             return c - '0';
@@ -0,0 +1,432 @@
+package com.pedrozc90.epcs.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Fixed-length sequence of bits packed into a {@code long[]}.
+ *
+ * <p>Bits are stored MSB-first: bit {@code 0} is the most significant bit of the first
+ * word, which matches the order of an EPC binary string. A 96-bit tag fits in two words
+ * and a 202-bit tag in four, so reading a field is a couple of shifts instead of a
+ * {@code substring} over a string of '0' and '1' characters.</p>
+ */
+public final class BitBuffer {
+
+    private static final int WORD_BITS = 64;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = 63;
+
+    private final long[] words;
+    private final int length;
+
+    /**
+     * Creates an all-zero buffer.
+     *
+     * @param length - number of bits
+     */
+    public BitBuffer(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Bit length must be non-negative: " + length);
+        }
+        this.words = new long[(length + WORD_MASK) >>> WORD_SHIFT];
+        this.length = length;
+    }
+
+    /**
+     * Creates a buffer from a hexadecimal string, 4 bits per character.
+     *
+     * @param hex - hexadecimal string, ex: "3074257BF7194E4000001A85"
+     * @return buffer with {@code hex.length() * 4} bits
+     * @throws IllegalArgumentException if a character is not hexadecimal
+     */
+    public static BitBuffer fromHex(final CharSequence hex) {
+        final int chars = hex.length();
+        final BitBuffer buffer = new BitBuffer(chars * 4);
+        final long[] words = buffer.words;
+        for (int i = 0; i < chars; i++) {
+            final long nibble = hexCharToValue(hex.charAt(i));
+            words[i >>> 4] |= nibble << (60 - ((i & 15) << 2));
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer from raw bytes, 8 bits per byte, as delivered by a reader's EPC bank.
+     *
+     * @param bytes  - source array
+     * @param offset - index of the first byte
+     * @param length - number of bytes
+     * @return buffer with {@code length * 8} bits
+     * @throws IndexOutOfBoundsException if the range exceeds the array
+     */
+    public static BitBuffer fromBytes(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        final BitBuffer buffer = new BitBuffer(length * 8);
+        final long[] words = buffer.words;
+        for (int i = 0; i < length; i++) {
+            final long value = bytes[offset + i] & 0xFF;
+            words[i >>> 3] |= value << (56 - ((i & 7) << 3));
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer from the remaining bytes of a {@link ByteBuffer}.
+     * The position of the source buffer is not changed.
+     *
+     * @param bytes - source buffer
+     * @return buffer with {@code bytes.remaining() * 8} bits
+     */
+    public static BitBuffer fromBytes(final ByteBuffer bytes) {
+        final int offset = bytes.position();
+        final int length = bytes.remaining();
+        final BitBuffer buffer = new BitBuffer(length * 8);
+        final long[] words = buffer.words;
+        for (int i = 0; i < length; i++) {
+            final long value = bytes.get(offset + i) & 0xFF;
+            words[i >>> 3] |= value << (56 - ((i & 7) << 3));
+        }
+        return buffer;
+    }
+
+    /**
+     * @return independent buffer holding the same bits
+     */
+    public BitBuffer copy() {
+        final BitBuffer buffer = new BitBuffer(length);
+        System.arraycopy(words, 0, buffer.words, 0, words.length);
+        return buffer;
+    }
+
+    /**
+     * @return number of bits held by this buffer
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Reads up to 64 bits as an unsigned value.
+     *
+     * @param offset - index of the first bit
+     * @param length - number of bits to read (0 - 64)
+     * @return bits right-aligned in a long
+     * @throws IndexOutOfBoundsException if the range exceeds the buffer
+     */
+    public long getBits(final int offset, final int length) {
+        checkField(offset, length);
+        if (length == 0) {
+            return 0L;
+        }
+
+        final int index = offset >>> WORD_SHIFT;
+        final int shift = offset & WORD_MASK;
+
+        long value = words[index] << shift;
+        if (shift + length > WORD_BITS) {
+            value |= words[index + 1] >>> (WORD_BITS - shift);
+        }
+        return value >>> (WORD_BITS - length);
+    }
+
+    /**
+     * Reads up to 64 bits as an unsigned value straight from raw bytes, without creating a buffer.
+     *
+     * @param bytes     - source array
+     * @param offset    - index of the first byte
+     * @param length    - number of bytes
+     * @param bitOffset - index of the first bit, counted from {@code offset}
+     * @param bitCount  - number of bits to read (0 - 64)
+     * @return bits right-aligned in a long
+     * @throws IndexOutOfBoundsException if the range exceeds the bytes
+     */
+    public static long getBits(final byte[] bytes, final int offset, final int length, final int bitOffset, final int bitCount) {
+        if (bitCount > WORD_BITS) {
+            throw new IllegalArgumentException("Bit count must be between 0 and 64, got: " + bitCount);
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        Objects.checkFromIndexSize(bitOffset, bitCount, length * 8);
+
+        long value = 0L;
+        int bit = bitOffset;
+        int remaining = bitCount;
+        while (remaining > 0) {
+            final int current = bytes[offset + (bit >>> 3)] & 0xFF;
+            final int available = 8 - (bit & 7);
+            final int take = Math.min(available, remaining);
+            value = (value << take) | ((current >>> (available - take)) & ((1 << take) - 1));
+            bit += take;
+            remaining -= take;
+        }
+        return value;
+    }
+
+    /**
+     * Writes the lowest {@code length} bits of {@code value}.
+     *
+     * @param offset - index of the first bit
+     * @param length - number of bits to write (0 - 64)
+     * @param value  - value to write, higher bits are ignored
+     * @throws IndexOutOfBoundsException if the range exceeds the buffer
+     */
+    public void putBits(final int offset, final int length, final long value) {
+        checkField(offset, length);
+        if (length == 0) {
+            return;
+        }
+
+        final long bits = (length == WORD_BITS) ? value : value & ((1L << length) - 1);
+
+        final int index = offset >>> WORD_SHIFT;
+        final int shift = offset & WORD_MASK;
+        final int end = shift + length;
+
+        if (end <= WORD_BITS) {
+            final int lshift = WORD_BITS - end;
+            final long mask = ((length == WORD_BITS) ? -1L : ((1L << length) - 1)) << lshift;
+            words[index] = (words[index] & ~mask) | (bits << lshift);
+        } else {
+            // field crosses a word boundary, shift > 0 here
+            final int high = WORD_BITS - shift;
+            final int low = end - WORD_BITS;
+            words[index] = (words[index] & (-1L << high)) | (bits >>> low);
+            words[index + 1] = (words[index + 1] & (-1L >>> low)) | (bits << (WORD_BITS - low));
+        }
+    }
+
+    /**
+     * Overwrites the whole buffer with a hexadecimal string, so one buffer can be reused
+     * across tags of the same size. Unlike {@link #fromHex(CharSequence)} an invalid
+     * character is reported through the return value instead of an exception.
+     *
+     * @param hex - hexadecimal string holding exactly {@link #length()} bits
+     * @return true if every character was hexadecimal, otherwise the buffer content is undefined
+     * @throws IllegalArgumentException if the string does not hold {@link #length()} bits
+     */
+    public boolean setHex(final CharSequence hex) {
+        final int chars = hex.length();
+        if (chars * 4 != length) {
+            throw new IllegalArgumentException("Expected %d hexadecimal characters but got %d".formatted(length >>> 2, chars));
+        }
+        Arrays.fill(words, 0L);
+        for (int i = 0; i < chars; i++) {
+            final int nibble = hexValue(hex.charAt(i));
+            if (nibble < 0) {
+                return false;
+            }
+            words[i >>> 4] |= (long) nibble << (60 - ((i & 15) << 2));
+        }
+        return true;
+    }
+
+    /**
+     * Overwrites the whole buffer with ASCII hexadecimal characters read from a byte buffer,
+     * such as a line of a memory-mapped text file. The position of the source buffer is not changed.
+     *
+     * @param source - buffer holding ASCII characters
+     * @param offset - absolute index of the first character
+     * @param length - number of characters, it must hold exactly {@link #length()} bits
+     * @return true if every character was hexadecimal, otherwise the buffer content is undefined
+     * @throws IndexOutOfBoundsException if the range exceeds the source limit
+     * @throws IllegalArgumentException  if the characters do not hold {@link #length()} bits
+     */
+    public boolean setHex(final ByteBuffer source, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, source.limit());
+        if (length * 4 != this.length) {
+            throw new IllegalArgumentException("Expected %d hexadecimal characters but got %d".formatted(this.length >>> 2, length));
+        }
+        Arrays.fill(words, 0L);
+        for (int i = 0; i < length; i++) {
+            final int nibble = hexValue((char) (source.get(offset + i) & 0xFF));
+            if (nibble < 0) {
+                return false;
+            }
+            words[i >>> 4] |= (long) nibble << (60 - ((i & 15) << 2));
+        }
+        return true;
+    }
+
+    /**
+     * Overwrites the whole buffer with raw bytes, so one buffer can be reused across tags of the same size.
+     *
+     * @param bytes  - source array
+     * @param offset - index of the first byte
+     * @param length - number of bytes, it must hold exactly {@link #length()} bits
+     * @throws IndexOutOfBoundsException if the range exceeds the array
+     * @throws IllegalArgumentException  if the bytes do not hold {@link #length()} bits
+     */
+    public void setBytes(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length * 8 != this.length) {
+            throw new IllegalArgumentException("Expected %d bytes but got %d".formatted(this.length >>> 3, length));
+        }
+        Arrays.fill(words, 0L);
+        for (int i = 0; i < length; i++) {
+            final long value = bytes[offset + i] & 0xFF;
+            words[i >>> 3] |= value << (56 - ((i & 7) << 3));
+        }
+    }
+
+    /**
+     * Overwrites the whole buffer with raw bytes read from a byte buffer, such as a memory-mapped
+     * file of fixed-width records. The position of the source buffer is not changed.
+     *
+     * @param source - buffer holding raw bytes
+     * @param offset - absolute index of the first byte
+     * @param length - number of bytes, it must hold exactly {@link #length()} bits
+     * @throws IndexOutOfBoundsException if the range exceeds the source limit
+     * @throws IllegalArgumentException  if the bytes do not hold {@link #length()} bits
+     */
+    public void setBytes(final ByteBuffer source, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, source.limit());
+        if (length * 8 != this.length) {
+            throw new IllegalArgumentException("Expected %d bytes but got %d".formatted(this.length >>> 3, length));
+        }
+        Arrays.fill(words, 0L);
+        for (int i = 0; i < length; i++) {
+            final long value = source.get(offset + i) & 0xFF;
+            words[i >>> 3] |= value << (56 - ((i & 7) << 3));
+        }
+    }
+
+    /**
+     * Converts the buffer into a hexadecimal string, 4 bits per character.
+     * A trailing partial nibble is padded to the right with zeros.
+     *
+     * @return upper-case hexadecimal string
+     */
+    public String toHex() {
+        final int chars = (length + 3) >>> 2;
+        final char[] out = new char[chars];
+        for (int i = 0; i < chars; i++) {
+            final int nibble = (int) (words[i >>> 4] >>> (60 - ((i & 15) << 2))) & 0xF;
+            out[i] = valueToHexChar(nibble);
+        }
+        return new String(out);
+    }
+
+    /**
+     * Appends the buffer as upper-case hexadecimal characters, see {@link #toHex()}.
+     *
+     * @param out - builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendHex(final StringBuilder out) {
+        final int chars = (length + 3) >>> 2;
+        out.ensureCapacity(out.length() + chars);
+        for (int i = 0; i < chars; i++) {
+            out.append(valueToHexChar((int) (words[i >>> 4] >>> (60 - ((i & 15) << 2))) & 0xF));
+        }
+        return out;
+    }
+
+    /**
+     * Writes the buffer as upper-case ASCII hexadecimal characters, see {@link #toHex()}.
+     *
+     * @param out    - destination, it must have room for {@code ceil(length / 4)} bytes
+     * @param offset - index of the first character
+     * @return index after the last character
+     */
+    public int writeHex(final byte[] out, final int offset) {
+        final int chars = (length + 3) >>> 2;
+        for (int i = 0; i < chars; i++) {
+            out[offset + i] = (byte) valueToHexChar((int) (words[i >>> 4] >>> (60 - ((i & 15) << 2))) & 0xF);
+        }
+        return offset + chars;
+    }
+
+    /**
+     * Converts the buffer into raw bytes, 8 bits per byte.
+     * A trailing partial byte is padded to the right with zeros.
+     *
+     * @return byte array of {@code ceil(length / 8)} bytes
+     */
+    public byte[] toBytes() {
+        final byte[] out = new byte[(length + 7) >>> 3];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3)));
+        }
+        return out;
+    }
+
+    /**
+     * Converts the buffer into a binary string.
+     *
+     * @return string of '0' and '1' characters
+     */
+    public String toBinary() {
+        return toBinary(0, length);
+    }
+
+    /**
+     * Converts a range of the buffer into a binary string.
+     *
+     * @param offset - index of the first bit
+     * @param length - number of bits
+     * @return string of '0' and '1' characters
+     */
+    public String toBinary(final int offset, final int length) {
+        checkRange(offset, length);
+        final char[] out = new char[length];
+        for (int i = 0; i < length; i++) {
+            final int bit = offset + i;
+            out[i] = ((words[bit >>> WORD_SHIFT] << (bit & WORD_MASK)) < 0) ? '1' : '0';
+        }
+        return new String(out);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBuffer other)) return false;
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+    /* --- Helpers --- */
+    private void checkRange(final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, this.length);
+    }
+
+    private void checkField(final int offset, final int length) {
+        if (length > WORD_BITS) {
+            throw new IllegalArgumentException("Bit count must be between 0 and 64, got: " + length);
+        }
+        checkRange(offset, length);
+    }
+
+    private static int hexCharToValue(final char c) {
+        final int value = hexValue(c);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hexadecimal character: '%c'".formatted(c));
+        }
+        return value;
+    }
+
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    private static char valueToHexChar(final int value) {
+        return (char) ((value < 10) ? ('0' + value) : ('A' + value - 10));
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.pedrozc90.epcs.utils;
+
+/**
+ * GS1 mod-10 check digits of GTIN, SSCC, GLN, GRAI, GDTI and GSRN keys.
+ *
+ * <p>Digits are weighted from the right: the digit next to the check digit weighs 3, the one
+ * before it 1, and so on. Weighing from the right makes the computation independent of the key
+ * length and of leading zeros, so a key can be given as a long, ex: {@code 61414181234} for the
+ * GTIN-14 "00000614141812345", as digit characters or as an array of digit values.</p>
+ *
+ * <p>Longs are consumed two digits at a time through a precomputed table of weighted pair sums,
+ * and composite keys are weighed part by part, so nothing is concatenated or allocated.</p>
+ *
+ * <pre>{@code
+ * CheckDigit.compute(61414181234L);             // 9
+ * CheckDigit.isValid("80614141123458");         // true
+ * CheckDigit.verifyAll(keys, CheckDigit.GTIN_LENGTH, valid);
+ * }</pre>
+ */
+public final class CheckDigit {
+
+    public static final int GLN_LENGTH = 13;
+    public static final int GTIN_LENGTH = 14;
+    public static final int SSCC_LENGTH = 18;
+
+    // weighted sum of the two lowest decimal digits of the index, the units weighing 3
+    private static final int[] PAIR_SUMS = new int[100];
+
+    // weight of a digit by its distance from the check digit, starting at 1
+    private static final int[] WEIGHTS = { 1, 3 };
+
+    static {
+        for (int i = 0; i < PAIR_SUMS.length; i++) {
+            PAIR_SUMS[i] = 3 * (i % 10) + i / 10;
+        }
+    }
+
+    private CheckDigit() {
+    }
+
+    /**
+     * @param value - digits preceding the check digit, ex: 61414181234
+     * @return check digit, 0 to 9
+     */
+    public static int compute(final long value) {
+        return fromSum(sum(value));
+    }
+
+    /**
+     * @param digits - digit characters preceding the check digit, ex: "0614141812345"
+     * @return check digit, 0 to 9
+     */
+    public static int compute(final CharSequence digits) {
+        return fromSum(sum(digits, 0, digits.length()));
+    }
+
+    /**
+     * @param digits - digit values preceding the check digit, each 0 to 9
+     * @param offset - index of the first digit
+     * @param length - number of digits
+     * @return check digit, 0 to 9
+     */
+    public static int compute(final int[] digits, final int offset, final int length) {
+        return fromSum(sum(digits, offset, length));
+    }
+
+    /**
+     * Computes the check digit of a key split in two parts, ex: company prefix and location reference of a GLN.
+     *
+     * @return check digit, 0 to 9
+     */
+    public static int compute(final CharSequence first, final CharSequence second) {
+        final int sum = sum(second, 0, second.length(), 0)
+            + sum(first, 0, first.length(), second.length());
+        return fromSum(sum);
+    }
+
+    /**
+     * Computes the check digit of a key split in a leading digit and two parts,
+     * ex: indicator digit, company prefix and item reference of a GTIN.
+     *
+     * @param leading - leading digit, 0 to 9
+     * @return check digit, 0 to 9
+     */
+    public static int compute(final int leading, final CharSequence first, final CharSequence second) {
+        checkDigitValue(leading);
+        final int shift = first.length() + second.length();
+        final int sum = sum(second, 0, second.length(), 0)
+            + sum(first, 0, first.length(), second.length())
+            + leading * WEIGHTS[(shift + 1) & 1];
+        return fromSum(sum);
+    }
+
+    /**
+     * @param key - complete key, check digit last, ex: 80614141123458
+     * @return true if the last digit is the check digit of the others
+     */
+    public static boolean isValid(final long key) {
+        return key >= 10 && compute(key / 10) == key % 10;
+    }
+
+    /**
+     * @param key - complete key, check digit last, ex: "80614141123458"
+     * @return true if the key has only digits and the last digit is the check digit of the others
+     */
+    public static boolean isValid(final CharSequence key) {
+        final int length = key.length();
+        if (length < 2) return false;
+        final int sum = sumOrNegative(key, 0, length - 1, 0);
+        final int last = key.charAt(length - 1) - '0';
+        return sum >= 0 && last >= 0 && last <= 9 && fromSum(sum) == last;
+    }
+
+    /**
+     * @param key    - complete key, check digit last
+     * @param length - expected number of digits, ex: {@link #GTIN_LENGTH}
+     * @return true if the key has {@code length} digits and the last digit is the check digit of the others
+     */
+    public static boolean isValid(final CharSequence key, final int length) {
+        return key != null && key.length() == length && isValid(key);
+    }
+
+    /**
+     * Computes the check digits of many keys, ex: before appending them to GTIN-14s.
+     *
+     * @param values      - digits preceding the check digit of each key
+     * @param checkDigits - receives the check digit of each key, at least as long as {@code values}
+     */
+    public static void computeAll(final long[] values, final int[] checkDigits) {
+        checkCapacity(values.length, checkDigits.length);
+        for (int i = 0; i < values.length; i++) {
+            checkDigits[i] = compute(values[i]);
+        }
+    }
+
+    /**
+     * Verifies the check digits of many keys.
+     *
+     * @param keys  - complete keys, check digit last
+     * @param valid - receives whether each key is valid, at least as long as {@code keys}
+     * @return number of invalid keys
+     */
+    public static int verifyAll(final long[] keys, final boolean[] valid) {
+        checkCapacity(keys.length, valid.length);
+        int invalid = 0;
+        for (int i = 0; i < keys.length; i++) {
+            valid[i] = isValid(keys[i]);
+            if (!valid[i]) invalid++;
+        }
+        return invalid;
+    }
+
+    /**
+     * Verifies the check digits of many keys of the same kind, ex: the SSCCs of an advance ship notice.
+     *
+     * @param keys   - complete keys, check digit last, null keys are invalid
+     * @param length - expected number of digits, ex: {@link #SSCC_LENGTH}
+     * @param valid  - receives whether each key is valid, at least as long as {@code keys}
+     * @return number of invalid keys
+     */
+    public static int verifyAll(final CharSequence[] keys, final int length, final boolean[] valid) {
+        checkCapacity(keys.length, valid.length);
+        int invalid = 0;
+        for (int i = 0; i < keys.length; i++) {
+            valid[i] = isValid(keys[i], length);
+            if (!valid[i]) invalid++;
+        }
+        return invalid;
+    }
+
+    /**
+     * @param value - digits preceding the check digit
+     * @return weighted sum of the digits
+     */
+    public static int sum(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value %d must not be negative".formatted(value));
+        }
+        int sum = 0;
+        for (long rest = value; rest != 0; rest /= 100) {
+            sum += PAIR_SUMS[(int) (rest % 100)];
+        }
+        return sum;
+    }
+
+    /**
+     * @param digits - digit characters, the last one preceding the check digit
+     * @param start  - index of the first digit
+     * @param end    - index after the last digit
+     * @return weighted sum of the digits
+     */
+    public static int sum(final CharSequence digits, final int start, final int end) {
+        return sum(digits, start, end, 0);
+    }
+
+    /**
+     * @param digits - digit values, each 0 to 9, the last one preceding the check digit
+     * @param offset - index of the first digit
+     * @param length - number of digits
+     * @return weighted sum of the digits
+     */
+    public static int sum(final int[] digits, final int offset, final int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            final int digit = digits[offset + length - 1 - i];
+            checkDigitValue(digit);
+            sum += digit * WEIGHTS[(i + 1) & 1];
+        }
+        return sum;
+    }
+
+    /**
+     * Combines the weighted sums of the parts of a key into its check digit.
+     *
+     * @param sum - weighted sum of the digits preceding the check digit
+     * @return check digit, 0 to 9
+     */
+    public static int fromSum(final int sum) {
+        return (10 - sum % 10) % 10;
+    }
+
+    /* --- Helpers --- */
+    // weighted sum of digits followed by shift other digits before the check digit
+    private static int sum(final CharSequence digits, final int start, final int end, final int shift) {
+        final int sum = sumOrNegative(digits, start, end, shift);
+        if (sum < 0) {
+            throw new IllegalArgumentException("\"%s\" must have only digits".formatted(digits));
+        }
+        return sum;
+    }
+
+    private static int sumOrNegative(final CharSequence digits, final int start, final int end, final int shift) {
+        int sum = 0;
+        for (int i = end - 1, distance = shift + 1; i >= start; i--, distance++) {
+            final int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            sum += digit * WEIGHTS[distance & 1];
+        }
+        return sum;
+    }
+
+    private static void checkDigitValue(final int digit) {
+        if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("Digit %d should be between 0 and 9".formatted(digit));
+        }
+    }
+
+    private static void checkCapacity(final int length, final int capacity) {
+        if (capacity < length) {
+            throw new IllegalArgumentException("Output has %d slots and should have at least %d".formatted(capacity, length));
+        }
+    }
+
+}
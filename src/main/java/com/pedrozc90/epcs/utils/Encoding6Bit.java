@@ -1,8 +1,5 @@
 package com.pedrozc90.epcs.utils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 6-bit character encoding for EPC alphanumeric fields.
  * Based on GS1 EPC Tag Data Standard (Table 1.3.1-1).
@@ -13,11 +10,8 @@ public class Encoding6Bit {
     // All zeros terminator
     private static final String TERMINATOR = "000000";
 
-    /**
-     * Encoding table: Character → 6-bit binary string
-     * Based on GS1 EPC Tag Data Standard
-     */
-    private static final String[] ENCODE_TABLE = new String[128];
+    // Number of 6-bit characters read from the buffer at once (60 bits)
+    private static final int CHARS_PER_WORD = 10;
 
     /**
      * Decoding table: 6-bit value → Character
@@ -25,8 +19,15 @@ public class Encoding6Bit {
      */
     private static final char[] DECODE_TABLE = new char[64];
 
-    private static final Map<Character, String> _escapes = new HashMap<>();
-    private static final Map<String, Character> _tmp = new HashMap<>();
+    /**
+     * Encoding table: Character → 6-bit value, 0 when the character is not supported
+     */
+    private static final int[] CODE_TABLE = new int[128];
+
+    /**
+     * Escape table: Character → escape sequence
+     */
+    private static final EscapeTable ESCAPES = new EscapeTable();
 
     static {
         addMapping('#', 0b100011, "%23"); // 35
@@ -75,23 +76,15 @@ public class Encoding6Bit {
     private static void addMapping(final char character, final int bin, final String escape) {
         // Initialize decode table (6-bit value → character)
         DECODE_TABLE[bin] = character;
-        // Initialize encode table (character → 6-bit binary string)
-        ENCODE_TABLE[character] = to6BitString(bin);
-        if (escape != null) {
-            _escapes.put(character, escape);
-            _tmp.put(escape, character);
-        }
+        // Initialize encode table (character → 6-bit value)
+        CODE_TABLE[character] = bin;
+        ESCAPES.put(character, escape);
     }
 
     private static void addMapping(final char character, final int bin) {
         addMapping(character, bin, null);
     }
 
-    private static String to6BitString(final int v) {
-        // Always 6 chars, left-padded with 0
-        return String.format("%6s", Integer.toBinaryString(v)).replace(' ', '0');
-    }
-
     /**
      * Encodes a string to 6-bit binary representation.
      * Each character becomes 6 bits according to GS1 standard.
@@ -107,25 +100,43 @@ public class Encoding6Bit {
         }
 
         final int length = value.length();
-        final StringBuilder out = new StringBuilder(length * 6);
+        final StringBuilder out = new StringBuilder(Math.max(bits, length * 6));
 
         for (int i = 0; i < length; i++) {
-            char c = value.charAt(i);
-
-            // Convert lowercase to uppercase
-            if (c >= 'a' && c <= 'z') {
-                c = (char) (c - 'a' + 'A');
+            final int code = codeAt(value, i);
+            for (int shift = 5; shift >= 0; shift--) {
+                out.append(((code >>> shift) & 1) != 0 ? '1' : '0');
             }
+        }
 
-            // Get 6-bit encoding
-            if (c >= ENCODE_TABLE.length || ENCODE_TABLE[c] == null) {
-                throw new IllegalArgumentException("Character '%c' (ASCII %d) at position %d cannot be encoded in 6-bit format. Allowed characters: A-Z, 0-9, #, -, /".formatted(value.charAt(i), (int) value.charAt(i), i));
-            }
+        return StringUtils.rightPad(out.toString(), bits, '0');
+    }
+
+    /**
+     * Encodes a string into a range of packed bits, 6 bits per character.
+     *
+     * @param buffer - destination bits, the range is expected to be zero
+     * @param offset - index of the first bit
+     * @param length - bit count of the segment
+     * @param value  - String to encode (e.g., "5PQ7/Z43")
+     * @return number of bits written
+     * @throws IllegalArgumentException if string contains unsupported characters or does not fit
+     */
+    public static int encode(final BitBuffer buffer, final int offset, final int length, final String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Input string cannot be null or empty");
+        }
 
-            out.append(ENCODE_TABLE[c]);
+        final int bits = value.length() * 6;
+        if (bits > length) {
+            throw new IllegalArgumentException("String '%s' requires %d bits but only %d bits available".formatted(value, bits, length));
         }
 
-        return StringUtils.rightPad(out.toString(), bits, '0');
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putBits(offset + i * 6, 6, codeAt(value, i));
+        }
+
+        return bits;
     }
 
     /**
@@ -169,6 +180,58 @@ public class Encoding6Bit {
         return out.toString();
     }
 
+    /**
+     * Decodes a range of packed bits back to characters, 6 bits per character.
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits (must be multiple of 6)
+     * @return Decoded string
+     * @throws IllegalArgumentException if length is invalid or a code is not in the alphabet
+     */
+    public static String decode(final BitBuffer buffer, final int offset, final int length) {
+        if (length % 6 != 0) {
+            throw new IllegalArgumentException("Binary string length must be multiple of 6 for 6-bit decoding. Got: %d bits".formatted(length));
+        }
+
+        final char[] out = new char[length / 6];
+
+        // read up to 10 characters (60 bits) at once
+        for (int i = 0; i < out.length; i += CHARS_PER_WORD) {
+            final int chars = Math.min(CHARS_PER_WORD, out.length - i);
+            final long word = buffer.getBits(offset + i * 6, chars * 6);
+
+            for (int k = 0; k < chars; k++) {
+                final int code = (int) (word >>> ((chars - 1 - k) * 6)) & 0x3F;
+                final char character = DECODE_TABLE[code];
+                if (character == '\0') {
+                    final int position = (i + k) * 6;
+                    throw new IllegalArgumentException("Invalid 6-bit code: %s (decimal %d) at position %d".formatted(buffer.toBinary(offset + position, 6), code, position));
+                }
+                out[i + k] = character;
+            }
+        }
+
+        return new String(out);
+    }
+
+    /**
+     * Finds the first 6-bit code outside the alphabet, without decoding.
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits (must be multiple of 6)
+     * @return bit position of the invalid code relative to {@code offset}, {@code -1} if every code is valid
+     */
+    public static int indexOfInvalid(final BitBuffer buffer, final int offset, final int length) {
+        for (int i = 0; i + 6 <= length; i += 6) {
+            if (DECODE_TABLE[(int) buffer.getBits(offset + i, 6)] == '\0') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Replace special character with their respective escaped string.
      *
@@ -176,16 +239,19 @@ public class Encoding6Bit {
      * @return a string with escaped characters.
      */
     public static String escape(final String value) {
-        final StringBuilder out = new StringBuilder();
-        for (char c : value.toCharArray()) {
-            final String e = _escapes.get(c);
-            if (e == null) {
-                out.append(c);
-            } else {
-                out.append(e);
-            }
-        }
-        return out.toString();
+        return ESCAPES.escape(value);
+    }
+
+    /**
+     * Appends a value with its special characters replaced by escape sequences, copying the runs
+     * of plain characters in bulk.
+     *
+     * @param value - value to escape
+     * @param out   - builder to append to
+     * @return the builder
+     */
+    public static StringBuilder escape(final CharSequence value, final StringBuilder out) {
+        return ESCAPES.escape(value, out);
     }
 
     /**
@@ -195,29 +261,37 @@ public class Encoding6Bit {
      * @return the string with escaped characters replaced.
      */
     public static String normalize(final String value) {
-        final StringBuilder out = new StringBuilder();
+        return normalize(value, 0, value.length());
+    }
 
-        final int length = value.length();
-        for (int i = 0; i < length; i++) {
-            final char c = value.charAt(i);
-            if (c == '%' && i + 2 < length) {
-                final String sub = value.substring(i, i + 3);
-                final Character replace = _tmp.get(sub);
-                if (replace != null) {
-                    out.append(replace);
-                    i += 2;
-                    continue;
-                }
-            }
+    /**
+     * Replaces the escape sequences (ex: '%2F') of a range of characters in a single pass.
+     *
+     * @param value - string holding the range, ex: an EPC URI
+     * @param start - index of the first character
+     * @param end   - index after the last character
+     * @return the range with escaped characters replaced, a plain substring when there is nothing to replace
+     * @throws IllegalArgumentException if a character must be escaped but is not
+     */
+    public static String normalize(final String value, final int start, final int end) {
+        return ESCAPES.normalize(value, start, end);
+    }
 
-            final String s = _escapes.get(c);
-            if (s != null) {
-                throw new IllegalArgumentException("Invalid character '%c'".formatted(c));
-            }
+    /* --- Helpers --- */
+
+    private static int codeAt(final String value, final int index) {
+        char c = value.charAt(index);
 
-            out.append(c);
+        // Convert lowercase to uppercase
+        if (c >= 'a' && c <= 'z') {
+            c = (char) (c - 'a' + 'A');
         }
-        return out.toString();
+
+        if (c >= CODE_TABLE.length || CODE_TABLE[c] == 0) {
+            throw new IllegalArgumentException("Character '%c' (ASCII %d) at position %d cannot be encoded in 6-bit format. Allowed characters: A-Z, 0-9, #, -, /".formatted(value.charAt(index), (int) value.charAt(index), index));
+        }
+
+        return CODE_TABLE[c];
     }
 
 }
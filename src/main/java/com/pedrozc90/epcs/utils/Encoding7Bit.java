@@ -1,25 +1,19 @@
 package com.pedrozc90.epcs.utils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 7-bit encoding/decoding for GS1 EPC Tag Data as per GS1 specification.
  * Uses ISO/IEC 646 (ASCII) character set for alphanumeric serial numbers.
  */
 public class Encoding7Bit {
 
-    // All zeros terminator
-    private static final String TERMINATOR = "0000000";
-
-    // Character to 7-bit binary string mapping (based on GS1 Table A-1)
-    private static final Map<Character, String> CHAR_TO_BINARY = new HashMap<>();
+    // Number of 7-bit characters read from the buffer at once (63 bits)
+    private static final int CHARS_PER_WORD = 9;
 
-    // 7-bit binary string to character mapping
-    private static final Map<String, Character> BINARY_TO_CHAR = new HashMap<>();
+    // 7-bit value to character mapping, index 0-127, the 7-bit value matches the ASCII code
+    private static final char[] DECODE_TABLE = new char[128];
 
-    private static final Map<Character, String> _escapes = new HashMap<>();
-    private static final Map<String, Character> _tmp = new HashMap<>();
+    // Character to escape sequence mapping
+    private static final EscapeTable ESCAPES = new EscapeTable();
 
     static {
         // Initialize the character mapping table based on GS1 specification
@@ -122,12 +116,8 @@ public class Encoding7Bit {
         if (binary.length() != 7) {
             throw new IllegalArgumentException("Binary value must be exactly 7 bits");
         }
-        CHAR_TO_BINARY.put(character, binary);
-        BINARY_TO_CHAR.put(binary, character);
-        if (escape != null) {
-            _escapes.put(character, escape);
-            _tmp.put(escape, character);
-        }
+        DECODE_TABLE[Integer.parseInt(binary, 2)] = character;
+        ESCAPES.put(character, escape);
     }
 
     private static void addMapping(final char character, final String binary) {
@@ -149,39 +139,17 @@ public class Encoding7Bit {
             // return "0".repeat(bits);
         }
 
-        final StringBuilder out = new StringBuilder(value.length() * 7);
+        final StringBuilder out = new StringBuilder(Math.max(bits, value.length() * 7));
 
         final int length = value.length();
 
         int i = 0;
         while (i < length) {
-            final char c = value.charAt(i);
-
-            // check for percent-encoded sequence (%XX)
-            if (c == '%' && i + 2 < length) {
-                final String sub = value.substring(i + 1, i + 3);
-                try {
-                    // parse hex value and convert to character
-                    final int hex = Integer.parseInt(sub, 16);
-                    final char cDecoded = (char) hex;
-
-                    // Encode the decoded character
-                    final String bin = CHAR_TO_BINARY.get(cDecoded);
-                    if (bin == null) {
-                        throw new IllegalArgumentException("Invalid percent-encoded character: %%%s (U+%04X) not in GS1 character set".formatted(sub, hex));
-                    }
-                    out.append(bin);
-                    i += 3; // Skip %XX
-                } catch (NumberFormatException e) {
-                    throw new IllegalArgumentException("Invalid percent encoding: '%s'".formatted(sub));
-                }
-            } else {
-                final String bin = CHAR_TO_BINARY.get(c);
-                if (bin == null) {
-                    throw new IllegalArgumentException("Invalid character: '%c' (not in GS1 character set)".formatted(c));
-                }
-                out.append(bin);
-                i++;
+            final int code = codeAt(value, i);
+            i += (value.charAt(i) == '%' && i + 2 < length) ? 3 : 1;
+
+            for (int shift = 6; shift >= 0; shift--) {
+                out.append(((code >>> shift) & 1) != 0 ? '1' : '0');
             }
         }
 
@@ -193,6 +161,41 @@ public class Encoding7Bit {
         return StringUtils.rightPad(out.toString(), bits, '0');
     }
 
+    /**
+     * Encodes a string into a range of packed bits using 7-bit ASCII encoding (GS1 String Encoding Method).
+     * Bits after the last character are left as zeros.
+     *
+     * @param buffer - destination bits, the range is expected to be zero
+     * @param offset - index of the first bit
+     * @param length - bit count of the segment
+     * @param value  - alphanumeric string (ASCII characters)
+     * @return number of bits written
+     * @throws IllegalArgumentException if a character is not in the GS1 character set or does not fit
+     */
+    public static int encode(final BitBuffer buffer, final int offset, final int length, final String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Input string cannot be null or empty");
+        }
+
+        final int size = value.length();
+
+        int bits = 0;
+        int i = 0;
+        while (i < size) {
+            final int code = codeAt(value, i);
+            i += (value.charAt(i) == '%' && i + 2 < size) ? 3 : 1;
+
+            if (bits + 7 > length) {
+                throw new IllegalArgumentException("String '%s' requires more than the %d bits available".formatted(value, length));
+            }
+
+            buffer.putBits(offset + bits, 7, code);
+            bits += 7;
+        }
+
+        return bits;
+    }
+
     /**
      * Decodes a 7-bit binary string back to the original text.
      * Handles partial segments by treating trailing bits as zeros.
@@ -210,78 +213,168 @@ public class Encoding7Bit {
             return "";
         }
 
-        // Remove trailing zeros (padding)
-        final String trimmed = StringUtils.removeTrailingZeros(value);
-        if (trimmed.isEmpty()) {
-            return "";
-        }
+        final int length = value.length();
+        final char[] out = new char[(length + 6) / 7];
+        int count = 0;
 
-        // Pad to make multiple of 7
-        final int remainder = trimmed.length() % 7;
+        for (int i = 0; i < length; i += 7) {
+            // a trailing partial segment is treated as padded to the right with zeros
+            int code = 0;
+            for (int j = i; j < i + 7; j++) {
+                final char bit = (j < length) ? value.charAt(j) : '0';
+                if (bit != '0' && bit != '1') {
+                    throw new IllegalArgumentException("Invalid 7-bit value: '%s' at position '%d'".formatted(value.substring(i, Math.min(i + 7, length)), i));
+                }
+                code = (code << 1) | (bit - '0');
+            }
 
-        final String padded = (remainder != 0)
-            ? trimmed + "0".repeat(7 - remainder)
-            : trimmed;
+            // stop at the first all-zero segment
+            if (code == 0) {
+                break;
+            }
 
+            final char character = DECODE_TABLE[code];
+            if (character == '\0') {
+                throw new IllegalArgumentException("Invalid 7-bit value: '%s' at position '%d'".formatted(value.substring(i, Math.min(i + 7, length)), i));
+            }
 
-        final StringBuilder out = new StringBuilder();
+            out[count++] = character;
+        }
 
-        final int length = padded.length();
-        for (int i = 0; i < length; i += 7) {
-            final String segment = value.substring(i, i + 7);
-            if (segment.equals(TERMINATOR)) {
-                break;
-            }
+        return new String(out, 0, count);
+    }
 
-            // Look up character
-            final Character character = BINARY_TO_CHAR.get(segment);
-            if (character == null) {
-                throw new IllegalArgumentException("Invalid 7-bit value: '%s' at position '%d'".formatted(segment, i));
+    /**
+     * Decodes a range of packed bits, 7 bits per character.
+     * A trailing partial segment is treated as padded to the right with zeros.
+     * Stops at first all-zero segment (0000000).
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits
+     * @return Decoded string
+     * @throws IllegalArgumentException if a 7-bit value is not in the GS1 character set
+     */
+    public static String decode(final BitBuffer buffer, final int offset, final int length) {
+        final char[] out = new char[(length + 6) / 7];
+        int count = 0;
+
+        int i = 0;
+        while (i < length) {
+            // read up to 9 characters (63 bits) at once, a trailing partial segment is padded with zeros
+            final int chars = Math.min(CHARS_PER_WORD, (length - i + 6) / 7);
+            final int bits = Math.min(chars * 7, length - i);
+            final long word = buffer.getBits(offset + i, bits) << (chars * 7 - bits);
+
+            for (int k = chars - 1; k >= 0; k--) {
+                final int code = (int) (word >>> (k * 7)) & 0x7F;
+                if (code == 0) {
+                    return new String(out, 0, count);
+                }
+
+                final char character = DECODE_TABLE[code];
+                if (character == '\0') {
+                    final int position = i + (chars - 1 - k) * 7;
+                    throw new IllegalArgumentException("Invalid 7-bit value: '%s' at position '%d'".formatted(StringUtils.leftPad(Integer.toBinaryString(code), 7, '0'), position));
+                }
+
+                out[count++] = character;
             }
 
-            out.append(character);
+            i += chars * 7;
         }
 
-        return out.toString();
+        return new String(out, 0, count);
     }
 
-    public static String escape(final String value) {
-        final StringBuilder out = new StringBuilder();
-        for (char c : value.toCharArray()) {
-            final String e = _escapes.get(c);
-            if (e == null) {
-                out.append(c);
-            } else {
-                out.append(e);
+    /**
+     * Finds the first 7-bit value outside the GS1 character set, without decoding.
+     *
+     * @param buffer - packed bits
+     * @param offset - index of the first bit
+     * @param length - number of bits
+     * @return bit position of the invalid value relative to {@code offset}, {@code -1} if every value up to the first all-zero segment is valid
+     */
+    public static int indexOfInvalid(final BitBuffer buffer, final int offset, final int length) {
+        for (int i = 0; i < length; i += 7) {
+            final int bits = Math.min(7, length - i);
+            final int code = (int) buffer.getBits(offset + i, bits) << (7 - bits);
+            if (code == 0) {
+                return -1;
+            }
+            if (DECODE_TABLE[code] == '\0') {
+                return i;
             }
         }
-        return out.toString();
+        return -1;
+    }
+
+    public static String escape(final String value) {
+        return ESCAPES.escape(value);
+    }
+
+    /**
+     * Appends a value with its special characters replaced by escape sequences, copying the runs
+     * of plain characters in bulk.
+     *
+     * @param value - value to escape
+     * @param out   - builder to append to
+     * @return the builder
+     */
+    public static StringBuilder escape(final CharSequence value, final StringBuilder out) {
+        return ESCAPES.escape(value, out);
     }
 
     public static String normalize(final String value) {
-        final StringBuilder out = new StringBuilder();
+        return normalize(value, 0, value.length());
+    }
 
-        final int length = value.length();
-        for (int i = 0; i < length; i++) {
-            final char c = value.charAt(i);
-            if (c == '%' && i + 2 < length) {
-                final String s = value.substring(i, i + 3);
-                final Character replace = _tmp.get(s);
-                if (replace != null) {
-                    out.append(replace);
-                    i += 2;
-                    continue;
-                }
-            }
+    /**
+     * Replaces the escape sequences (ex: '%2F') of a range of characters in a single pass.
+     *
+     * @param value - string holding the range, ex: an EPC URI
+     * @param start - index of the first character
+     * @param end   - index after the last character
+     * @return the range with escaped characters replaced, a plain substring when there is nothing to replace
+     * @throws IllegalArgumentException if a character must be escaped but is not
+     */
+    public static String normalize(final String value, final int start, final int end) {
+        return ESCAPES.normalize(value, start, end);
+    }
+
+    /* --- Helpers --- */
+
+    private static int codeOf(final char c) {
+        // 7-bit values match the ASCII code of the character
+        return (c != 0 && c < DECODE_TABLE.length && DECODE_TABLE[c] == c) ? c : 0;
+    }
 
-            final String s = _escapes.get(c);
-            if (s != null) {
-                throw new IllegalArgumentException("Invalid character '%c'".formatted(c));
+    /**
+     * @return 7-bit value of the character, or of the percent-encoded sequence (%XX), starting at index
+     */
+    private static int codeAt(final String value, final int index) {
+        final char c = value.charAt(index);
+
+        // check for percent-encoded sequence (%XX)
+        if (c == '%' && index + 2 < value.length()) {
+            final int high = EscapeTable.hexValue(value.charAt(index + 1));
+            final int low = EscapeTable.hexValue(value.charAt(index + 2));
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid percent encoding: '%s'".formatted(value.substring(index + 1, index + 3)));
             }
+            final int hex = (high << 4) | low;
+            final int code = codeOf((char) hex);
+            if (code == 0) {
+                throw new IllegalArgumentException("Invalid percent-encoded character: %%%s (U+%04X) not in GS1 character set".formatted(value.substring(index + 1, index + 3), hex));
+            }
+            return code;
+        }
 
-            out.append(c);
+        final int code = codeOf(c);
+        if (code == 0) {
+            throw new IllegalArgumentException("Invalid character: '%c' (not in GS1 character set)".formatted(c));
         }
-        return out.toString();
+        return code;
     }
 
 }
@@ -0,0 +1,121 @@
+package com.pedrozc90.epcs.utils;
+
+/**
+ * Escape sequences of the characters an encoding does not allow as-is in EPC URIs, shared by
+ * {@link Encoding6Bit} and {@link Encoding7Bit}.
+ *
+ * <p>Every sequence is the percent-encoded ASCII code of its character, ex: "%2F" for '/'.</p>
+ */
+final class EscapeTable {
+
+    // Character to escape sequence mapping, index 0-127
+    private final String[] sequences = new String[128];
+
+    void put(final char character, final String sequence) {
+        sequences[character] = sequence;
+    }
+
+    /**
+     * @param value - string to escape
+     * @return the value with its special characters replaced by escape sequences, the value itself when there is nothing to replace
+     */
+    String escape(final String value) {
+        final int first = firstEscaped(value);
+        if (first < 0) return value;
+        return escape(value, first, new StringBuilder(value.length() + 8)).toString();
+    }
+
+    /**
+     * @param value - value to escape
+     * @param out   - builder to append to
+     * @return the builder
+     */
+    StringBuilder escape(final CharSequence value, final StringBuilder out) {
+        return escape(value, firstEscaped(value), out);
+    }
+
+    /**
+     * @param value - string holding the range, ex: an EPC URI
+     * @param start - index of the first character
+     * @param end   - index after the last character
+     * @return the range with escaped characters replaced, a plain substring when there is nothing to replace
+     * @throws IllegalArgumentException if a character must be escaped but is not
+     */
+    String normalize(final String value, final int start, final int end) {
+        StringBuilder out = null;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '%' && i + 2 < end) {
+                final char replace = unescape(value, i);
+                if (replace != '\0') {
+                    if (out == null) out = new StringBuilder(end - start).append(value, start, i);
+                    out.append(replace);
+                    i += 2;
+                    continue;
+                }
+            }
+
+            if (isEscaped(c)) {
+                throw new IllegalArgumentException("Invalid character '%c'".formatted(c));
+            }
+
+            if (out != null) out.append(c);
+        }
+        return (out != null) ? out.toString() : value.substring(start, end);
+    }
+
+    /**
+     * @return value of a hexadecimal digit, {@code -1} if the character is not one
+     */
+    static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /* --- Helpers --- */
+    private boolean isEscaped(final char c) {
+        return c < sequences.length && sequences[c] != null;
+    }
+
+    /**
+     * @return index of the first character that must be escaped, {@code -1} if there is none
+     */
+    private int firstEscaped(final CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isEscaped(value.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    private StringBuilder escape(final CharSequence value, final int first, final StringBuilder out) {
+        final int length = value.length();
+        if (first < 0) return out.append(value, 0, length);
+        int start = 0;
+        for (int i = first; i < length; i++) {
+            final char c = value.charAt(i);
+            if (isEscaped(c)) {
+                out.append(value, start, i).append(sequences[c]);
+                start = i + 1;
+            }
+        }
+        return out.append(value, start, length);
+    }
+
+    /**
+     * @return character escaped by the sequence starting at index, '\0' if it is not a known escape sequence
+     */
+    private char unescape(final String value, final int index) {
+        final int code = (hexValue(value.charAt(index + 1)) << 4) | hexValue(value.charAt(index + 2));
+        if (code >= 0 && code < sequences.length && sequences[code] != null && value.startsWith(sequences[code], index)) {
+            return (char) code;
+        }
+        return '\0';
+    }
+
+}
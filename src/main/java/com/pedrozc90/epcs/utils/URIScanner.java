@@ -0,0 +1,193 @@
+package com.pedrozc90.epcs.utils;
+
+/**
+ * Single-pass cursor over an EPC URI, ex: "urn:epc:tag:sgtin-96:3.0614141.812345.6789".
+ *
+ * <p>The scheme parsers read the components in order: literals are compared in place, numeric
+ * fields are parsed straight to ints while they are validated, and only the components kept by
+ * the parsed epc are copied out as strings. Escaped components are unescaped from the URI
+ * itself, see {@link Encoding7Bit#normalize(String, int, int)}.</p>
+ *
+ * <p>The scanner never throws on malformed input. The first mismatch records its offset, and
+ * every following call returns {@code -1} or {@code null} without moving, so a parser scans all
+ * components, checks {@link #failed()} once and builds the error message only then.</p>
+ */
+public final class URIScanner {
+
+    /**
+     * Separator meaning the component ends the URI.
+     */
+    public static final char END = '\0';
+
+    // digits of the largest value read by number(), keeps it within an int
+    private static final int MAX_NUMBER_DIGITS = 9;
+
+    private final String value;
+    private final int length;
+    private int position;
+    private int errorOffset = -1;
+
+    /**
+     * @param value  - URI to scan
+     * @param prefix - literal the URI must start with, ex: "urn:epc:tag:sgtin-"
+     */
+    public URIScanner(final String value, final String prefix) {
+        this.value = value;
+        this.length = value.length();
+        if (value.startsWith(prefix)) {
+            position = prefix.length();
+        } else {
+            fail(0);
+        }
+    }
+
+    /**
+     * Consumes a literal, ex: the "var" tag size of cpi.
+     *
+     * @return true if the literal was consumed, a mismatch is not a failure
+     */
+    public boolean accept(final String literal) {
+        if (failed() || !value.startsWith(literal, position)) return false;
+        position += literal.length();
+        return true;
+    }
+
+    /**
+     * Consumes a separator.
+     *
+     * @param separator - expected character, or {@link #END}
+     * @return true if the separator was consumed
+     */
+    public boolean expect(final char separator) {
+        if (failed()) return false;
+        if (separator == END) {
+            if (position == length) return true;
+        } else if (position < length && value.charAt(position) == separator) {
+            position++;
+            return true;
+        }
+        fail(position);
+        return false;
+    }
+
+    /**
+     * Consumes a single digit between {@code min} and {@code max}, ex: the filter value.
+     *
+     * @return digit value, {@code -1} on failure
+     */
+    public int digit(final int min, final int max) {
+        if (failed()) return -1;
+        final int digit = (position < length) ? value.charAt(position) - '0' : -1;
+        if (digit < min || digit > max) {
+            fail(position);
+            return -1;
+        }
+        position++;
+        return digit;
+    }
+
+    /**
+     * Consumes a decimal number and its separator, ex: the tag size.
+     *
+     * @param first     - accepted value
+     * @param second    - other accepted value, same as {@code first} when only one is accepted
+     * @param separator - character after the number, or {@link #END}
+     * @return number value, {@code -1} on failure
+     */
+    public int number(final int first, final int second, final char separator) {
+        if (failed()) return -1;
+        final int start = position;
+        final int end = digits(start, MAX_NUMBER_DIGITS);
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (value.charAt(i) - '0');
+        }
+        final boolean leadingZero = end - start > 1 && value.charAt(start) == '0';
+        if (end == start || leadingZero || (number != first && number != second)) {
+            fail(start);
+            return -1;
+        }
+        position = end;
+        return expect(separator) ? number : -1;
+    }
+
+    /**
+     * Consumes a run of one or more digits and its separator, ex: the company prefix.
+     *
+     * @param separator - character after the digits, or {@link #END}
+     * @return digits, {@code null} on failure
+     */
+    public String digits(final char separator) {
+        if (failed()) return null;
+        final int start = position;
+        final int end = digits(start, length);
+        if (end == start) {
+            fail(start);
+            return null;
+        }
+        position = end;
+        return expect(separator) ? value.substring(start, end) : null;
+    }
+
+    /**
+     * Consumes the characters up to, not including, {@code end}.
+     *
+     * @param end - index after the component
+     * @return index of the first character of the component, {@code -1} if the component is empty
+     */
+    public int until(final int end) {
+        if (failed()) return -1;
+        if (end <= position) {
+            fail(position);
+            return -1;
+        }
+        final int start = position;
+        position = end;
+        return start;
+    }
+
+    /**
+     * Consumes the rest of the URI, one or more characters.
+     *
+     * @return index of the first character of the component, {@code -1} if nothing is left
+     */
+    public int rest() {
+        return until(length);
+    }
+
+    /**
+     * @return index of the last occurrence of the character after the cursor, the end of the URI if there is none
+     */
+    public int lastIndexOf(final char c) {
+        final int index = value.lastIndexOf(c);
+        return (index >= position) ? index : length;
+    }
+
+    public boolean failed() {
+        return errorOffset >= 0;
+    }
+
+    /**
+     * @return offset of the first character that does not match, {@code -1} if none
+     */
+    public int errorOffset() {
+        return errorOffset;
+    }
+
+    /* --- Helpers --- */
+    private int digits(final int start, final int limit) {
+        final int max = (int) Math.min((long) start + limit, length);
+        int i = start;
+        while (i < max) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') break;
+            i++;
+        }
+        return i;
+    }
+
+    private void fail(final int offset) {
+        if (errorOffset < 0) errorOffset = offset;
+    }
+
+}
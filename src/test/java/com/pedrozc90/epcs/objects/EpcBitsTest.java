@@ -0,0 +1,87 @@
+package com.pedrozc90.epcs.objects;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.EpcDecoder;
+import com.pedrozc90.epcs.schemes.EpcFields;
+import com.pedrozc90.epcs.schemes.EpcScheme;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcBitsTest {
+
+    @DisplayName("Packed 96-bit tag round trip")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "311BA1B300CE0A6A83000000",
+        "3434257BF400000000002694"
+    })
+    public void epc96(final String rfidTag) throws EpcParseException {
+        final Epc epc = EpcDecoder.decode(rfidTag);
+        final Epc96 value = Epc96.of(epc);
+        assertEquals(rfidTag, value.toHex());
+        assertEquals(rfidTag, value.toString());
+        assertEquals(value, Epc96.fromHex(rfidTag));
+        assertEquals(value, Epc96.of(epc.rfidTagBytes(), 0));
+        assertEquals(value.hashCode(), Epc96.fromHex(rfidTag).hashCode());
+        assertArrayEquals(epc.rfidTagBytes(), value.toBytes());
+        assertEquals(epc, value.decode());
+        assertEquals(epc.epcScheme(), value.scheme().getValue());
+
+        final EpcFields fields = new EpcFields();
+        assertSame(value.scheme(), value.decode(fields));
+
+        assertEquals(value, EpcBits.of(epc).toEpc96());
+    }
+
+    @DisplayName("Tags of any size round trip")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "3876451FD59B2C2BF10000000000000000000000000000000000",
+        "3D76451FD75411DEF6B4CC00000003039000"
+    })
+    public void epcBits(final String rfidTag) throws EpcParseException {
+        final Epc epc = EpcDecoder.decode(rfidTag);
+        final EpcBits value = EpcBits.of(epc);
+        assertEquals(rfidTag.length() * 4, value.length());
+        assertEquals(rfidTag, value.toHex());
+        assertEquals(value, EpcBits.fromHex(rfidTag));
+        assertEquals(value.hashCode(), EpcBits.fromHex(rfidTag).hashCode());
+        assertArrayEquals(epc.rfidTagBytes(), value.toBytes());
+        assertEquals(epc, value.decode());
+        assertEquals(rfidTag.length() == 24, value.toEpc96() != null);
+        if (rfidTag.length() != 24) {
+            assertThrows(IllegalArgumentException.class, () -> Epc96.of(epc));
+        }
+    }
+
+    @DisplayName("Tags are ordered by their unsigned bits")
+    @Test
+    public void ordering() {
+        final List<Epc96> values = new ArrayList<>(List.of(
+            Epc96.fromHex("F074257BF7194E4000001A85"),
+            Epc96.fromHex("3074257BF7194E40FFFFFFFF"),
+            Epc96.fromHex("3074257BF7194E4000001A85")
+        ));
+        Collections.sort(values);
+        assertEquals("3074257BF7194E4000001A85", values.get(0).toHex());
+        assertEquals("3074257BF7194E40FFFFFFFF", values.get(1).toHex());
+        assertEquals("F074257BF7194E4000001A85", values.get(2).toHex());
+
+        assertTrue(EpcBits.fromHex("30").compareTo(EpcBits.fromHex("3000")) < 0);
+        assertTrue(EpcBits.fromHex("3100").compareTo(EpcBits.fromHex("30FF")) > 0);
+        assertThrows(IllegalArgumentException.class, () -> Epc96.fromHex("3074"));
+        assertNull(EpcScheme.of(EpcBits.fromHex("3").header()));
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcCacheTest {
+
+    @DisplayName("Repeated reads return the shared epc")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "3D76451FD75411DEF6B4CC00000003039000"
+    })
+    public void decode(final String rfidTag) throws EpcParseException {
+        final EpcCache cache = new EpcCache(64);
+        final Epc first = cache.decode(rfidTag);
+        assertEquals(EpcDecoder.decode(rfidTag), first);
+
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+        assertSame(first, cache.decode(rfidTag));
+        assertSame(first, cache.decode(bytes, 0, bytes.length));
+        assertEquals(1, cache.missCount());
+        assertEquals(2, cache.hitCount());
+    }
+
+    @DisplayName("Malformed reads are cached without raising exceptions")
+    @Test
+    public void negative() {
+        final EpcCache cache = new EpcCache(64);
+        final byte[] garbage = BitBuffer.fromHex("F45349FB11DF49FA935AB6FF").toBytes();
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.decode(garbage, 0, garbage.length));
+            assertNull(cache.decode("307E257BF7194E4000001A85"));
+            // empty alphanumeric serial
+            assertNull(cache.decode("3674257BF7194E00000000000000000000000000000000000000"));
+        }
+        assertEquals(3, cache.missCount());
+        assertEquals(12, cache.hitCount());
+
+        // not hexadecimal, there are no bits to key on
+        assertNull(cache.decode("3074257BF7194E40000ZZZZZ"));
+        assertNull(cache.decode(""));
+        assertEquals(3, cache.missCount());
+    }
+
+    @DisplayName("Full buckets evict entries that were not read recently")
+    @Test
+    public void eviction() {
+        final EpcCache cache = new EpcCache(8);
+        assertEquals(8, cache.capacity());
+
+        final Epc hot = cache.decode(tag(0));
+        for (int i = 1; i < 100; i++) {
+            assertNotNull(cache.decode(tag(i)));
+            // keeps the reference bit of the hot entry set
+            assertSame(hot, cache.decode(tag(0)));
+        }
+        assertEquals(100, cache.missCount());
+        assertEquals(92, cache.evictionCount());
+
+        cache.clear();
+        assertNotSame(hot, cache.decode(tag(0)));
+    }
+
+    @DisplayName("Concurrent reads of the same tags")
+    @Test
+    public void concurrent() throws Exception {
+        final EpcCache cache = new EpcCache(256);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final Epc epc = cache.decode(tag(i % 300));
+                        assertEquals("urn:epc:id:sgtin:0614141.812345." + (i % 300 + 1), epc.epcPureIdentityURI());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40_000, cache.hitCount() + cache.missCount());
+    }
+
+    private static String tag(final int serial) {
+        return "3074257BF7194E40%08X".formatted(serial + 1);
+    }
+
+}
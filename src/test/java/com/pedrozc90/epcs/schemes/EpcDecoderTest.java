@@ -0,0 +1,356 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcDecoderTest {
+
+    @DisplayName("Decode RFID Tag of any scheme")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @CsvSource(value = {
+        "3C34257BF400181C80000190, cpi, urn:epc:id:cpi:0614141.12345.400",
+        "2C74257BF460720000000190, gdti, urn:epc:id:gdti:0614141.12345.400",
+        "3434257BF400000000002694, giai, urn:epc:id:giai:0614141.9876",
+        "3374257BF4000200000004D2, grai, urn:epc:id:grai:0614141.00008.1234",
+        "2D74257BF4499602D2000000, gsrn, urn:epc:id:gsrn:0614141.1234567890",
+        "2E74257BF4499602D2000000, gsrnp, urn:epc:id:gsrnp:0614141.1234567890",
+        "3274257BF4000200000004D2, sgln, urn:epc:id:sgln:0614141.00001.1234",
+        "3074257BF7194E4000001A85, sgtin, urn:epc:id:sgtin:0614141.812345.6789",
+        "311BA1B300CE0A6A83000000, sscc, urn:epc:id:sscc:952012.03456789123"
+    })
+    public void decode(final String rfidTag, final String expectedScheme, final String expectedEpcPureIdentityURI) throws EpcParseException {
+        final Epc epc = EpcDecoder.decode(rfidTag);
+        assertEquals(expectedScheme, epc.epcScheme());
+        assertEquals(expectedEpcPureIdentityURI, epc.epcPureIdentityURI());
+        assertEquals(rfidTag, epc.rfidTag());
+
+        final byte[] bytes = epc.rfidTagBytes();
+        assertEquals(epc, EpcDecoder.decode(bytes, 0, bytes.length));
+        assertEquals(expectedScheme, EpcDecoder.scheme(BitBuffer.fromHex(rfidTag)).getValue());
+    }
+
+    @DisplayName("Decode RFID Tag bytes into reusable fields")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @CsvSource(value = {
+        "3C34257BF400181C80000190, EpcFields[cpi-96:1.0614141.12345.400]",
+        "2C74257BF460720000000190, EpcFields[gdti-96:3.0614141.12345.400]",
+        "3434257BF400000000002694, EpcFields[giai-96:1.0614141.9876]",
+        "3374257BF4000200000004D2, EpcFields[grai-96:3.0614141.00008.1234]",
+        "2D74257BF4499602D2000000, EpcFields[gsrn-96:3.0614141.1234567890]",
+        "2E74257BF4499602D2000000, EpcFields[gsrnp-96:3.0614141.1234567890]",
+        "3274257BF4000200000004D2, EpcFields[sgln-96:3.0614141.00001.1234]",
+        "3074257BF7194E4000001A85, EpcFields[sgtin-96:3.0614141.812345.6789]",
+        "311BA1B300CE0A6A83000000, EpcFields[sscc-96:0.952012.03456789123]",
+        "3666C4409047E159B2C2BF100000000000000000000000000000, EpcFields[sgtin-198:3.95060001343.05.32a/b]",
+        "3D76451FD75411DEF6B4CC00000003039000, EpcFields[cpi-var:3.9521141.5PQ7/Z43.12345]",
+        "3876451FD59B2C2BF10000000000000000000000000000000000, EpcFields[giai-202:3.9521141.32a/b]"
+    })
+    public void decode_Fields(final String rfidTag, final String expected) throws EpcParseException {
+        final Epc epc = EpcDecoder.decode(rfidTag);
+        final byte[] bytes = epc.rfidTagBytes();
+
+        // the same instance is reused, previous fields must not leak into the next decode
+        final EpcFields fields = new EpcFields();
+        EpcDecoder.decode(BitBuffer.fromHex("3074257BF7194E4000001A85").toBytes(), 0, 12, fields);
+
+        final EpcScheme scheme = EpcDecoder.decode(bytes, 0, bytes.length, fields);
+        assertEquals(expected, fields.toString());
+        assertSame(scheme, fields.scheme());
+        assertEquals(epc.epcScheme(), scheme.getValue());
+        assertEquals(epc.filterValue(), Integer.toString(fields.filterValue()));
+        assertEquals(epc.partitionValue(), Integer.toString(fields.partitionValue()));
+        assertEquals(epc.prefixLength(), Integer.toString(fields.companyPrefixDigits()));
+    }
+
+    @DisplayName("Decode RFID Tag bytes into a sink reads within the given range")
+    @Test
+    public void decode_FieldsWithOffset() throws EpcParseException {
+        final byte[] bytes = { 0x7F, 0x30, 0x74, 0x25, 0x7B, (byte) 0xF7, 0x19, 0x4E, 0x40, 0x00, 0x00, 0x1A, (byte) 0x85, 0x7F };
+        final EpcFields fields = new EpcFields();
+        assertEquals(EpcScheme.SGTIN, EpcDecoder.decode(bytes, 1, 12, fields));
+        assertEquals(96, fields.tagSize());
+        assertEquals(614141L, fields.companyPrefix());
+        assertEquals(812345L, fields.reference());
+        assertEquals(6, fields.referenceDigits());
+        assertTrue(fields.hasSerial());
+        assertEquals(6789L, fields.serial());
+        assertNull(fields.serialText());
+
+        assertThrows(EpcParseException.class, () -> EpcDecoder.decode(bytes, 0, 12, fields));
+        assertSame(EpcError.TOO_SHORT.exception(64), assertThrows(EpcDecodeException.class, () -> EpcDecoder.decode(bytes, 1, 8, fields)));
+        assertThrows(IndexOutOfBoundsException.class, () -> EpcDecoder.decode(bytes, 4, 12, fields));
+    }
+
+    @DisplayName("Decode malformed RFID Tag bytes into a sink raises the error reported by tryDecode")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @CsvSource({
+        "30742570, TOO_SHORT, 32",
+        "307C257BF7194E4000001A85, INVALID_PARTITION, 11",
+        "311C257BF7194E4000001A85, INVALID_PARTITION, 11",
+        "3076625A03194E4000001A85, INVALID_FIELD, 14",
+        "3074257BF7D0900000001A85, INVALID_FIELD, 38",
+        "3674257BF7194E00000000000000000000000000000000000000, INVALID_FIELD, 58",
+        "3666C4409047E159B2C2BF000000000000000000000000000000, INVALID_FIELD, 86",
+        "3D76451FD400000000000000000000000000, INVALID_FIELD, 38"
+    })
+    public void decode_FieldsWhenMalformed(final String rfidTag, final EpcError expected, final int bitOffset) {
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+        final EpcDecodeException e = assertThrows(EpcDecodeException.class, () -> EpcDecoder.decode(bytes, 0, bytes.length, new EpcFields()));
+        assertSame(expected.exception(bitOffset), e);
+
+        final DecodeResult result = EpcDecoder.tryDecode(rfidTag);
+        assertEquals(expected, result.error());
+        assertEquals(bitOffset, result.bitOffset());
+    }
+
+    @DisplayName("Decode returns the scheme object")
+    @Test
+    public void decode_ReturnsSchemeObject() throws EpcParseException {
+        final Epc epc = EpcDecoder.decode("3074257BF7194E4000001A85");
+        final SGTIN sgtin = assertInstanceOf(SGTIN.class, epc);
+        assertEquals("0614141", sgtin.companyPrefix());
+    }
+
+    @DisplayName("Unsupported header raises EpcParseException")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @ValueSource(strings = {
+        "F45349FB11DF49FA935AB6FF",
+        "0074257BF7194E4000001A85",
+        "3"
+    })
+    public void whenUnsupportedHeader_thenExceptionIsRaised(final String rfidTag) {
+        assertThrows(EpcParseException.class, () -> EpcDecoder.decode(rfidTag));
+    }
+
+    @DisplayName("Header failures raise a shared exception without stack trace")
+    @Test
+    public void whenUnsupportedHeader_thenStacklessExceptionIsRaised() {
+        final byte[] bytes = BitBuffer.fromHex("F45349FB11DF49FA935AB6FF").toBytes();
+        final EpcParseException e = assertThrows(EpcParseException.class, () -> EpcDecoder.decode(bytes, 0, bytes.length, new EpcFields()));
+        assertSame(EpcError.UNSUPPORTED_HEADER.exception(0), e);
+        assertEquals(EpcError.UNSUPPORTED_HEADER.getMessage(), e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+
+        final EpcDecodeException tooShort = assertThrows(EpcDecodeException.class, () -> EpcDecoder.decode("3"));
+        assertSame(EpcError.TOO_SHORT.exception(4), tooShort);
+        assertEquals(4, tooShort.bitOffset());
+    }
+
+    @DisplayName("Try to decode RFID Tags, reporting the error and failing bit offset")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @CsvSource(value = {
+        "3074257BF7194E4000001A85, NONE, -1",
+        "'', EMPTY, 0",
+        "3074257BF7194E400000ZZ85, INVALID_HEX, 80",
+        "F45349FB11DF49FA935AB6FF, UNSUPPORTED_HEADER, 0",
+        "3074257BF7194E40, TOO_SHORT, 64",
+        "307, TOO_SHORT, 12",
+        "307E257BF7194E4000001A85, INVALID_PARTITION, 11",
+        "3666C4409047E159B2C2BF100000000000000000000000000000, NONE, -1",
+        "3666C4409047E159B2C2BF1000000000000, TOO_SHORT, 140",
+        "3076625A03194E4000001A85, INVALID_FIELD, 14",
+        "3074257BF7D0900000001A85, INVALID_FIELD, 38",
+        "3666C4409047E159B2C2BF000000000000000000000000000000, INVALID_FIELD, 86",
+        // empty text fields
+        "3674257BF7194E00000000000000000000000000000000000000, INVALID_FIELD, 58",
+        "3666C4409047E140000000000000000000000000000000000000, INVALID_FIELD, 58",
+        "3E74257BF7039A000000000000000000000000000000, INVALID_FIELD, 55",
+        "3876451FD4000000000000000000000000000000000000000000, INVALID_FIELD, 38",
+        "3776451FD40C0E400000000000000000000000000000, INVALID_FIELD, 58",
+        "3976451FD4607200000000000000000000000000000000000000, INVALID_FIELD, 55",
+        "3D76451FD400000000000000000000000000, INVALID_FIELD, 38"
+    })
+    public void tryDecode(final String rfidTag, final EpcError expected, final int bitOffset) throws EpcParseException {
+        final DecodeResult result = EpcDecoder.tryDecode(rfidTag);
+        assertEquals(expected, result.error());
+        assertEquals(bitOffset, result.bitOffset());
+        assertEquals(expected == EpcError.NONE, result.isDecoded());
+        // validation stops at the partition, fields are only checked by decoding
+        final EpcError validated = (expected == EpcError.INVALID_FIELD) ? EpcError.NONE : expected;
+        assertEquals(validated, EpcDecoder.validate(rfidTag));
+        assertEquals(validated == EpcError.NONE, EpcDecoder.isValid(rfidTag));
+
+        if (result.isDecoded()) {
+            assertEquals(EpcDecoder.decode(rfidTag), result.epc());
+            assertEquals(result.epc(), result.orElseThrow());
+        } else {
+            assertNull(result.epc());
+            final EpcDecodeException e = assertThrows(EpcDecodeException.class, result::orElseThrow);
+            assertSame(expected.exception(bitOffset), e);
+            assertEquals(bitOffset, e.bitOffset());
+        }
+    }
+
+    @DisplayName("Try to decode RFID Tag bytes")
+    @Test
+    public void tryDecode_Bytes() {
+        final byte[] bytes = { 0x7F, 0x30, 0x74, 0x25, 0x7B, (byte) 0xF7, 0x19, 0x4E, 0x40, 0x00, 0x00, 0x1A, (byte) 0x85, 0x7F };
+        final DecodeResult result = EpcDecoder.tryDecode(bytes, 1, 12);
+        assertTrue(result.isDecoded());
+        assertEquals("urn:epc:tag:sgtin-96:3.0614141.812345.6789", result.epc().epcTagURI());
+        assertTrue(EpcDecoder.isValid(bytes, 1, 12));
+
+        assertEquals(EpcError.UNSUPPORTED_HEADER, EpcDecoder.validate(bytes, 0, 12));
+        assertEquals(EpcError.TOO_SHORT, EpcDecoder.validate(bytes, 1, 8));
+        assertEquals(64, EpcDecoder.tryDecode(bytes, 1, 8).bitOffset());
+        assertEquals(EpcError.EMPTY, EpcDecoder.validate(bytes, 1, 0));
+        assertEquals(EpcError.EMPTY, EpcDecoder.tryDecode(null, 0, 12).error());
+        assertFalse(EpcDecoder.isValid(bytes, 12, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> EpcDecoder.validate(bytes, 4, 12));
+
+        // preallocated failures are shared
+        assertSame(EpcDecoder.tryDecode(bytes, 0, 12), EpcDecoder.tryDecode("F45349FB11DF49FA935AB6FF"));
+        assertSame(EpcDecoder.tryDecode(null), EpcDecoder.tryDecode(""));
+    }
+
+    @DisplayName("Decode a batch of RFID Tags, recording failures per slot")
+    @Test
+    public void decodeAll() throws EpcParseException {
+        final String[] rfidTags = {
+            "3074257BF7194E4000001A85",
+            "3074257BF7194E4000001A86",
+            null,
+            "3074257BF7194E400000ZZ85",
+            "F45349FB11DF49FA935AB6FF",
+            "3074257BF7194E40",
+            "307E257BF7194E4000001A85",
+            "3666C4409047E159B2C2BF100000000000000000000000000000",
+            "311BA1B300CE0A6A83000000",
+            "3",
+            "3674257BF7194E00000000000000000000000000000000000000"
+        };
+        final EpcError[] expected = {
+            EpcError.NONE,
+            EpcError.NONE,
+            EpcError.EMPTY,
+            EpcError.INVALID_HEX,
+            EpcError.UNSUPPORTED_HEADER,
+            EpcError.TOO_SHORT,
+            EpcError.INVALID_PARTITION,
+            EpcError.NONE,
+            EpcError.NONE,
+            EpcError.TOO_SHORT,
+            EpcError.INVALID_FIELD
+        };
+
+        final EpcBatch batch = EpcDecoder.decodeAll(rfidTags);
+        assertEquals(rfidTags.length, batch.size());
+        assertEquals(7, batch.errorCount());
+        for (int i = 0; i < rfidTags.length; i++) {
+            assertEquals(expected[i], batch.error(i), rfidTags[i]);
+            assertEquals(expected[i] == EpcError.NONE, batch.isDecoded(i));
+            if (batch.isDecoded(i)) {
+                assertEquals(EpcDecoder.decode(rfidTags[i]), batch.get(i));
+            } else {
+                assertNull(batch.get(i));
+            }
+        }
+
+        // the scratch buffer reused by consecutive tags must not leak into the results
+        assertEquals("urn:epc:id:sgtin:0614141.812345.6789", batch.get(0).epcPureIdentityURI());
+        assertEquals("urn:epc:id:sgtin:0614141.812345.6790", batch.get(1).epcPureIdentityURI());
+
+        final EpcBatch fromList = EpcDecoder.decodeAll(Arrays.asList(rfidTags));
+        final byte[][] bytes = new byte[rfidTags.length][];
+        for (int i = 0; i < rfidTags.length; i++) {
+            if (fromList.isDecoded(i)) bytes[i] = fromList.get(i).rfidTagBytes();
+        }
+        final EpcBatch fromBytes = EpcDecoder.decodeAll(bytes);
+        for (int i = 0; i < rfidTags.length; i++) {
+            assertEquals(batch.get(i), fromList.get(i));
+            assertEquals(batch.error(i), fromList.error(i));
+            assertEquals(batch.get(i), fromBytes.get(i));
+        }
+        assertEquals(batch.errorCount(), fromBytes.errorCount());
+    }
+
+    @DisplayName("Decode fixed-width records in parallel, keeping input order")
+    @Test
+    public void decodeAll_Records() throws EpcParseException {
+        final int count = 5000;
+        final byte[] records = new byte[count * 12];
+        final byte[] template = EpcDecoder.decode("3074257BF7194E4000001A85").rfidTagBytes();
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(template, 0, records, i * 12, 12);
+            records[i * 12 + 11] = (byte) i;
+            records[i * 12 + 10] = (byte) (i >>> 8);
+        }
+        // unsupported header in the middle of the buffer
+        records[2500 * 12] = (byte) 0xFF;
+
+        final ByteBuffer buffer = ByteBuffer.wrap(records);
+        final EpcBatch batch = EpcDecoder.decodeAll(buffer, 12);
+        assertEquals(count, batch.size());
+        assertEquals(1, batch.errorCount());
+        assertEquals(EpcError.UNSUPPORTED_HEADER, batch.error(2500));
+        assertEquals("urn:epc:id:sgtin:0614141.812345.4999", batch.get(4999).epcPureIdentityURI());
+        assertEquals(0, buffer.position());
+
+        final List<Epc> streamed = EpcDecoder.stream(buffer, 12).toList();
+        assertEquals(count - 1, streamed.size());
+        for (int i = 0; i < count - 1; i++) {
+            assertEquals(batch.get(i < 2500 ? i : i + 1), streamed.get(i));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> EpcDecoder.decodeAll(ByteBuffer.wrap(records, 0, 100), 12));
+
+        // a malformed alphanumeric record fails its own slot only
+        final ByteBuffer wide = ByteBuffer.allocate(52)
+            .put(BitBuffer.fromHex("3666C4409047E159B2C2BF100000000000000000000000000000").toBytes())
+            .put(BitBuffer.fromHex("3674257BF7194E00000000000000000000000000000000000000").toBytes())
+            .flip();
+        final EpcBatch wideBatch = EpcDecoder.decodeAll(wide, 26);
+        assertEquals(EpcError.NONE, wideBatch.error(0));
+        assertEquals(EpcError.INVALID_FIELD, wideBatch.error(1));
+    }
+
+    @DisplayName("Decode newline-delimited hexadecimal text in parallel, keeping input order")
+    @Test
+    public void lines() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            text.append("3074257BF7194E40").append("%08X".formatted(i)).append(i % 2 == 0 ? "\r\n" : "\n");
+            if (i % 1000 == 0) text.append("\n  \nNOT-A-TAG\n");
+        }
+        text.append("311BA1B300CE0A6A83000000");
+
+        final ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+        final List<Epc> epcs = EpcDecoder.lines(buffer).toList();
+        assertEquals(3001, epcs.size());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals("urn:epc:id:sgtin:0614141.812345." + i, epcs.get(i).epcPureIdentityURI());
+        }
+        assertEquals("sscc", epcs.get(3000).epcScheme());
+        assertEquals(0, buffer.position());
+    }
+
+    @DisplayName("Every header maps to at most one scheme")
+    @Test
+    public void headerTable() {
+        int count = 0;
+        for (int header = 0; header < 256; header++) {
+            if (EpcScheme.of(header) != null) count++;
+        }
+        assertEquals(15, count);
+        assertEquals(EpcScheme.SGTIN, EpcScheme.of(0x30));
+        assertEquals(EpcScheme.SGTIN, EpcScheme.of(0x36));
+        assertEquals(EpcScheme.CPI, EpcScheme.of(0x3D));
+        assertNull(EpcScheme.of(0xFF));
+        assertNull(EpcScheme.of(-1));
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcDeduplicatorTest {
+
+    @DisplayName("Repeats within the window are suppressed")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000"
+    })
+    public void accept(final String rfidTag) {
+        final EpcDeduplicator dedup = new EpcDeduplicator(Duration.ofSeconds(1));
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+
+        assertTrue(dedup.accept(rfidTag, 0));
+        assertFalse(dedup.accept(rfidTag, 500));
+        assertFalse(dedup.accept(bytes, 0, bytes.length, 1400));
+        // last seen at 1400, the tag must be away for a whole window
+        assertFalse(dedup.accept(rfidTag, 2400));
+        assertTrue(dedup.accept(bytes, 0, bytes.length, 3401));
+        assertEquals(1, dedup.size());
+
+        dedup.clear();
+        assertTrue(dedup.accept(rfidTag, 3402));
+    }
+
+    @DisplayName("Decode runs only for reads that pass the filter")
+    @Test
+    public void decodeIfNew() throws EpcParseException {
+        final EpcDeduplicator dedup = new EpcDeduplicator(Duration.ofMillis(100));
+        final byte[] bytes = BitBuffer.fromHex("3074257BF7194E4000001A85").toBytes();
+        assertEquals("urn:epc:id:sgtin:0614141.812345.6789", dedup.decodeIfNew(bytes, 0, bytes.length, 0).epcPureIdentityURI());
+        assertNull(dedup.decodeIfNew(bytes, 0, bytes.length, 50));
+
+        final byte[] garbage = BitBuffer.fromHex("F45349FB11DF49FA935AB6FF").toBytes();
+        assertThrows(EpcParseException.class, () -> dedup.decodeIfNew(garbage, 0, garbage.length, 0));
+        assertNull(dedup.decodeIfNew(garbage, 0, garbage.length, 10));
+    }
+
+    @DisplayName("Expired entries are reused and dropped as the table grows")
+    @Test
+    public void expiry() {
+        final EpcDeduplicator dedup = new EpcDeduplicator(Duration.ofMillis(10));
+        long now = 0;
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(dedup.accept(tag(round * 1000 + i), now));
+                assertFalse(dedup.accept(tag(round * 1000 + i), now));
+            }
+            now += 100;
+        }
+        // only the last rounds can still be tracked, older ones were dropped when rebuilding
+        assertTrue(dedup.size() < 4000, "size = " + dedup.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(dedup.accept(tag(49_000 + i), now - 100));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(dedup.accept(tag(i), now));
+        }
+    }
+
+    private static String tag(final int serial) {
+        return "3074257BF7194E40%08X".formatted(serial);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.EpcBits;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcFilterTest {
+
+    private static final String SGTIN_96 = "3074257BF7194E4000001A85";   // sgtin-96:3.0614141.812345.6789
+    private static final String SGTIN_198 = "3666C4409047E159B2C2BF100000000000000000000000000000";   // sgtin-198:3.95060001343.05.32a%2Fb
+    private static final String SSCC_96 = "311BA1B300CE0A6A83000000";   // sscc-96:0.952012.03456789123
+    private static final String GRAI_96 = "3374257BF4000200000004D2";   // grai-96:3.0614141.00008.1234
+    private static final String GIAI_96 = "3434257BF400000000002694";   // giai-96:1.0614141.9876
+    private static final String CPI_96 = "3C34257BF400181C80000190";    // cpi-96:1.0614141.12345.400
+
+    private static final List<String> TAGS = List.of(SGTIN_96, SGTIN_198, SSCC_96, GRAI_96, GIAI_96, CPI_96);
+
+    @DisplayName("An empty filter accepts every supported tag")
+    @Test
+    public void acceptsAll() {
+        final EpcFilter filter = EpcFilter.builder().build();
+        for (String rfidTag : TAGS) {
+            assertTrue(filter.matches(rfidTag), rfidTag);
+        }
+        assertFalse(filter.matches("F45349FB11DF49FA935AB6FF"));
+    }
+
+    @DisplayName("Criteria of different kinds are combined, values of the same kind are alternatives")
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "prefix                   | 0614141        |      |               | " + SGTIN_96 + " " + GRAI_96 + " " + GIAI_96 + " " + CPI_96,
+        "prefix set               | 0614141 952012 |      |               | " + SGTIN_96 + " " + SSCC_96 + " " + GRAI_96 + " " + GIAI_96 + " " + CPI_96,
+        "prefix of other length   | 614141         |      |               | ",
+        "filter                   |                | 3    |               | " + SGTIN_96 + " " + SGTIN_198 + " " + GRAI_96,
+        "filter set               |                | 0 1  |               | " + SSCC_96 + " " + GIAI_96 + " " + CPI_96,
+        "prefix and filter        | 0614141        | 1    |               | " + GIAI_96 + " " + CPI_96,
+        "reference                |                |      | 812345        | " + SGTIN_96,
+        "reference set            |                |      | 812345 00008  | " + SGTIN_96 + " " + GRAI_96,
+        "reference across words   |                |      | 03456789123   | " + SSCC_96,
+        "reference without zeros  |                |      | 3456789123    | ",
+        "prefix and reference     | 952012         |      | 812345        | "
+    })
+    public void criteria(final String name, final String prefixes, final String filters, final String references, final String expected) {
+        final EpcFilter.Builder builder = EpcFilter.builder();
+        if (prefixes != null) builder.withCompanyPrefix(prefixes.split(" "));
+        if (filters != null) {
+            for (String filter : filters.split(" ")) builder.withFilterValue(Integer.parseInt(filter));
+        }
+        if (references != null) builder.withReference(references.split(" "));
+        final EpcFilter filter = builder.build();
+
+        final List<String> accepted = (expected == null) ? List.of() : List.of(expected.split(" "));
+        for (String rfidTag : TAGS) {
+            assertEquals(accepted.contains(rfidTag), filter.matches(rfidTag), rfidTag);
+        }
+    }
+
+    @DisplayName("Scheme and tag size restrict the headers")
+    @Test
+    public void schemeAndTagSize() {
+        final EpcFilter sgtin = EpcFilter.builder().withScheme(EpcScheme.SGTIN).build();
+        assertTrue(sgtin.matches(SGTIN_96));
+        assertTrue(sgtin.matches(SGTIN_198));
+        assertFalse(sgtin.matches(SSCC_96));
+
+        final EpcFilter sgtin96 = EpcFilter.builder().withScheme(EpcScheme.SGTIN).withTagSize(96).build();
+        assertTrue(sgtin96.matches(SGTIN_96));
+        assertFalse(sgtin96.matches(SGTIN_198));
+
+        final EpcFilter assets = EpcFilter.builder().withScheme(EpcScheme.GRAI, EpcScheme.GIAI).withCompanyPrefix("0614141").build();
+        assertTrue(assets.matches(GRAI_96));
+        assertTrue(assets.matches(GIAI_96));
+        assertFalse(assets.matches(SGTIN_96));
+    }
+
+    @DisplayName("Every representation of a tag gives the same answer")
+    @Test
+    public void representations() {
+        final EpcFilter filter = EpcFilter.builder()
+            .withScheme(EpcScheme.SGTIN, EpcScheme.SSCC)
+            .withCompanyPrefix("0614141", "952012")
+            .withReference("812345", "03456789123")
+            .build();
+        for (String rfidTag : TAGS) {
+            final boolean expected = filter.matches(rfidTag);
+            final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+            final byte[] padded = new byte[bytes.length + 4];
+            System.arraycopy(bytes, 0, padded, 2, bytes.length);
+
+            assertEquals(expected, filter.matches(rfidTag.toLowerCase()), rfidTag);
+            assertEquals(expected, filter.matches(padded, 2, bytes.length), rfidTag);
+            assertEquals(expected, filter.matches(EpcBits.fromHex(rfidTag)), rfidTag);
+            if (rfidTag.length() == 24) {
+                assertEquals(expected, filter.matches(Epc96.fromHex(rfidTag)), rfidTag);
+            }
+        }
+        assertTrue(filter.matches(SGTIN_96));
+        assertTrue(filter.matches(SSCC_96));
+    }
+
+    @DisplayName("Malformed and truncated tags never match")
+    @Test
+    public void malformed() {
+        final EpcFilter filter = EpcFilter.builder().build();
+        assertFalse(filter.matches(""));
+        assertFalse(filter.matches("30"));
+        assertFalse(filter.matches("3074257BF7194E40"));
+        assertFalse(filter.matches("3074257BF7194E4000001AXY"));
+        assertFalse(filter.matches("3074257BF7194E4000001A8é"));
+        assertFalse(filter.matches(SGTIN_198.substring(0, 24)));
+        assertFalse(filter.matches(new byte[]{0x30, 0x74}, 0, 2));
+    }
+
+    @DisplayName("Invalid criteria are rejected")
+    @Test
+    public void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withFilterValue(8));
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withCompanyPrefix("12345"));
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withCompanyPrefix("06141A1"));
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withReference(""));
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withTagSize(0));
+        assertThrows(IllegalArgumentException.class, () -> EpcFilter.builder().withScheme(EpcScheme.GIAI).withReference("9876").build());
+    }
+
+}
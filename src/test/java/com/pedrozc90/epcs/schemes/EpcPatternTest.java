@@ -0,0 +1,155 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.objects.EpcBits;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcPatternTest {
+
+    private static final List<String> TAGS = List.of(
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "311BA1B300CE0A6A83000000",
+        "3374257BF4000200000004D2",
+        "3274257BF4000200000004D2",
+        "2C74257BF460720000000190",
+        "2D74257BF4499602D2000000",
+        "2E74257BF4499602D2000000",
+        "3434257BF400000000002694",
+        "3876451FD59B2C2BF10000000000000000000000000000000000",
+        "3C34257BF400181C80000190",
+        "3D76451FD75411DEF6B4CC00000003039000"
+    );
+
+    @DisplayName("Patterns derived from a tag's pure identity match exactly the tags sharing the fixed components")
+    @Test
+    public void derivedPatterns() throws EpcParseException {
+        for (String rfidTag : TAGS) {
+            final String identity = EpcDecoder.decode(rfidTag).epcPureIdentityURI();
+            final String body = identity.substring("urn:epc:id:".length());
+            final String scheme = body.substring(0, body.indexOf(':'));
+            final String[] components = body.substring(scheme.length() + 1).split("\\.");
+
+            for (int fixed = components.length; fixed >= 0; fixed--) {
+                final StringBuilder sb = new StringBuilder(EpcPattern.PREFIX).append(scheme).append(':');
+                for (int i = 0; i < components.length; i++) {
+                    if (i > 0) sb.append('.');
+                    sb.append((i < fixed) ? components[i] : "*");
+                }
+                final EpcPattern pattern = EpcPattern.parse(sb.toString());
+                for (String other : TAGS) {
+                    final String otherIdentity = EpcDecoder.decode(other).epcPureIdentityURI();
+                    assertEquals(matches(otherIdentity, scheme, components, fixed), pattern.matches(other), pattern + " " + other);
+                    assertRepresentations(pattern, other);
+                }
+            }
+        }
+    }
+
+    @DisplayName("Identity patterns ignore the filter value and the tag size")
+    @Test
+    public void filterValueAndTagSize() throws EpcParseException {
+        final EpcPattern pattern = EpcPattern.parse("urn:epc:idpat:sgtin:0614141.812345.*");
+        for (int filterValue = 0; filterValue < 8; filterValue++) {
+            assertTrue(pattern.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812345.6789", 96, filterValue)));
+            assertTrue(pattern.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812345.A1b2", 198, filterValue)));
+        }
+        assertFalse(pattern.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812346.6789", 96, 3)));
+        assertFalse(pattern.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:061414.0812345.6789", 96, 3)));
+
+        final EpcPattern serial = EpcPattern.parse("urn:epc:idpat:sgtin:0614141.812345.A1b2");
+        assertTrue(serial.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812345.A1b2", 198, 1)));
+        assertFalse(serial.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812345.A1b", 198, 1)));
+        assertFalse(serial.matches(EpcScheme.SGTIN.decodeEpcPureIdentityURI("urn:epc:id:sgtin:0614141.812345.6789", 96, 1)));
+    }
+
+    @DisplayName("Truncated and malformed tags never match")
+    @Test
+    public void malformed() throws EpcParseException {
+        final EpcPattern pattern = EpcPattern.parse("urn:epc:idpat:sgtin:*.*.*");
+        assertTrue(pattern.matches("3074257BF7194E4000001A85"));
+        assertFalse(pattern.matches("3074257BF7194E40"));
+        assertFalse(pattern.matches("3X74257BF7194E4000001A85"));
+        assertFalse(EpcPattern.parse("urn:epc:idpat:sgtin:0614141.812345.6789").matches("3074257BF7194E4000001AXY"));
+        assertFalse(pattern.matches(""));
+        assertFalse(pattern.matches(new byte[0], 0, 0));
+        assertFalse(pattern.matches("311BA1B300CE0A6A83000000"));
+    }
+
+    @DisplayName("Invalid patterns are rejected")
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "urn:epc:id:sgtin:0614141.812345.*",
+        "urn:epc:idpat:sgtn:0614141.812345.*",
+        "urn:epc:idpat:sgtin",
+        "urn:epc:idpat:sgtin:0614141.*",
+        "urn:epc:idpat:sgtin:0614141.*.6789",
+        "urn:epc:idpat:sgtin:*.812345.*",
+        "urn:epc:idpat:sgtin:0614141..*",
+        "urn:epc:idpat:sgtin:0614141.81234*.*",
+        "urn:epc:idpat:sgtin:06141.812345.*",
+        "urn:epc:idpat:sgtin:0614141.81234.*",
+        "urn:epc:idpat:sscc:0614141.*.*",
+        "urn:epc:idpat:giai:0614141.9876.*"
+    })
+    public void invalid(final String uri) {
+        assertThrows(EpcParseException.class, () -> EpcPattern.parse(uri));
+    }
+
+    @DisplayName("Pattern of every scheme")
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "urn:epc:idpat:sscc:952012.*,             311BA1B300CE0A6A83000000",
+        "urn:epc:idpat:sgln:0614141.00001.*,      3274257BF4000200000004D2",
+        "urn:epc:idpat:grai:0614141.00008.1234,   3374257BF4000200000004D2",
+        "urn:epc:idpat:giai:9521141.32a%2Fb,      3876451FD59B2C2BF10000000000000000000000000000000000",
+        "urn:epc:idpat:gdti:0614141.*.*,          2C74257BF460720000000190",
+        "urn:epc:idpat:gsrn:0614141.1234567890,   2D74257BF4499602D2000000",
+        "urn:epc:idpat:gsrnp:*.*,                 2E74257BF4499602D2000000",
+        "urn:epc:idpat:cpi:9521141.5PQ7%2FZ43.*,  3D76451FD75411DEF6B4CC00000003039000"
+    })
+    public void schemes(final String uri, final String rfidTag) throws EpcParseException {
+        final EpcPattern pattern = EpcPattern.parse(uri);
+        assertEquals(uri, pattern.toString());
+        assertEquals(EpcScheme.ofURI(uri.replace("idpat", "id")), pattern.scheme());
+        for (String other : TAGS) {
+            assertEquals(other.equals(rfidTag), pattern.matches(other), other);
+        }
+    }
+
+    /* --- Helpers --- */
+    private static boolean matches(final String identity, final String scheme, final String[] components, final int fixed) {
+        final String prefix = "urn:epc:id:" + scheme + ":";
+        if (!identity.startsWith(prefix)) return false;
+        final String[] other = identity.substring(prefix.length()).split("\\.");
+        for (int i = 0; i < fixed; i++) {
+            if (!other[i].equals(components[i])) return false;
+        }
+        return true;
+    }
+
+    private static void assertRepresentations(final EpcPattern pattern, final String rfidTag) {
+        final boolean expected = pattern.matches(rfidTag);
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+        final byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+
+        assertEquals(expected, pattern.matches(rfidTag.toLowerCase()), rfidTag);
+        assertEquals(expected, pattern.matches(padded, 3, bytes.length), rfidTag);
+        assertEquals(expected, pattern.matches(EpcBits.fromHex(rfidTag)), rfidTag);
+        if (rfidTag.length() == 24) {
+            assertEquals(expected, pattern.matches(Epc96.fromHex(rfidTag)), rfidTag);
+        }
+    }
+
+}
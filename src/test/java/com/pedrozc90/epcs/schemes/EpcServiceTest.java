@@ -0,0 +1,216 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINEncoder;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcServiceTest {
+
+    private static final List<String> TAGS = List.of(
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "3D76451FD75411DEF6B4CC00000003039000",
+        "F45349FB11DF49FA935AB6FF",
+        "3674257BF7194E00000000000000000000000000000000000000",
+        ""
+    );
+
+    @DisplayName("Decode requests match the batch decoder")
+    @Test
+    public void decodeAll() throws Exception {
+        try (EpcService service = new EpcService(4)) {
+            final EpcBatch batch = service.decodeAll(TAGS).get();
+            final EpcBatch expected = EpcDecoder.decodeAll(TAGS);
+            assertEquals(expected.size(), batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                assertEquals(expected.get(i), batch.get(i));
+                assertEquals(expected.error(i), batch.error(i));
+            }
+            assertEquals(3, batch.errorCount());
+        }
+    }
+
+    @DisplayName("Encode requests are batched in chunks and keep the serial order")
+    @Test
+    public void encodeRange() throws Exception {
+        final SGTINEncoder encoder = encoder();
+        try (EpcService service = new EpcService(4)) {
+            final List<String> tags = service.encodeRange(encoder, 100L, 1000).get();
+            assertEquals(1000, tags.size());
+            for (int i = 0; i < tags.size(); i++) {
+                assertEquals(encoder.encodeHex(100L + i), tags.get(i));
+            }
+            assertTrue(service.encodeRange(encoder, 100L, 0).get().isEmpty());
+        }
+    }
+
+    @DisplayName("Requests beyond the bound are rejected")
+    @Test
+    public void admission() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        try (EpcService service = new EpcService(2, Duration.ofMillis(20))) {
+            final Future<Boolean> first = service.submit(() -> release.await(10, TimeUnit.SECONDS));
+            final Future<Boolean> second = service.submit(() -> release.await(10, TimeUnit.SECONDS));
+            assertEquals(2, service.inFlight());
+            assertThrows(RejectedExecutionException.class, () -> service.decodeAll(TAGS));
+
+            release.countDown();
+            assertTrue(first.get());
+            assertTrue(second.get());
+            awaitIdle(service);
+            assertEquals(TAGS.size(), service.decodeAll(TAGS).get().size());
+        }
+    }
+
+    @DisplayName("Cancelled requests stop and release their slot")
+    @Test
+    public void cancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        try (EpcService service = new EpcService(1)) {
+            final Future<Integer> request = service.submit(() -> {
+                started.countDown();
+                int decoded = 0;
+                // a never-ending job, only cancellation stops it
+                while (!Thread.currentThread().isInterrupted()) {
+                    decoded += EpcDecoder.decodeAll(TAGS).size();
+                }
+                return decoded;
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(request.cancel(true));
+            assertTrue(request.isCancelled());
+            assertThrows(CancellationException.class, request::get);
+            awaitIdle(service);
+            assertEquals(0, service.inFlight());
+            assertEquals(TAGS.size(), service.decodeAll(TAGS).get().size());
+        }
+    }
+
+    @DisplayName("Cancelled requests keep their slot until their thread returns")
+    @Test
+    public void cancel_IgnoringInterrupt() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try (EpcService service = new EpcService(1, Duration.ofMillis(20))) {
+            final Future<Boolean> request = service.submit(() -> {
+                started.countDown();
+                // ignores the interrupt raised by cancel
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                return true;
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(request.cancel(true));
+            assertEquals(1, service.inFlight());
+            assertThrows(RejectedExecutionException.class, () -> service.decodeAll(TAGS));
+
+            release.countDown();
+            awaitIdle(service);
+            assertEquals(0, service.inFlight());
+            assertEquals(TAGS.size(), service.decodeAll(TAGS).get().size());
+        }
+    }
+
+    @DisplayName("Codecs never pin carrier threads")
+    @Test
+    public void noPinning(@TempDir final Path dir) throws Exception {
+        // control: parking inside a monitor pins the carrier and is recorded
+        final List<RecordedEvent> control = recordPinning(dir.resolve("control.jfr"), () -> {
+            final Object monitor = new Object();
+            final Thread thread = Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    sleep(50);
+                }
+            });
+            thread.join();
+        });
+        assertFalse(control.isEmpty(), "the recording should detect a pinned virtual thread");
+
+        final SGTINEncoder encoder = encoder();
+        final EpcCache cache = new EpcCache(64);
+        final List<RecordedEvent> events = recordPinning(dir.resolve("codecs.jfr"), () -> {
+            try (EpcService service = new EpcService(64, Duration.ofSeconds(10))) {
+                final List<Future<?>> requests = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    final long start = i * 1000L + 1;
+                    requests.add(service.decodeAll(TAGS));
+                    requests.add(service.encodeRange(encoder, start, 300));
+                    requests.add(service.submit(() -> {
+                        // parks while the codecs are on the stack, contending on the shared cache
+                        encoder.encodeRange(start, 3, (serial, rfidTag) -> sleep(1));
+                        for (String rfidTag : TAGS) {
+                            cache.decode(rfidTag);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> request : requests) {
+                    request.get();
+                }
+            }
+        });
+        assertEquals(List.of(), events.stream().map(event -> event.getStackTrace().toString()).toList());
+    }
+
+    /* --- Helpers --- */
+    private static SGTINEncoder encoder() throws EpcParseException {
+        return SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+    }
+
+    private static List<RecordedEvent> recordPinning(final Path file, final Workload workload) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static void awaitIdle(final EpcService service) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+
+}
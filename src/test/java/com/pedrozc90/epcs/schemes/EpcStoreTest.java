@@ -0,0 +1,142 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcStoreTest {
+
+    @DisplayName("Store, update, find and decode tags")
+    @Test
+    public void put() throws EpcParseException {
+        final EpcStore store = new EpcStore(100);
+        final byte[] sgtin = tag("3074257BF7194E4000001A85");
+
+        final long slot = store.put(sgtin, 0, 1000L, 7, 1);
+        assertEquals(1, store.size());
+        assertEquals(slot, store.find(sgtin, 0));
+        assertEquals(1000L, store.lastSeen(slot));
+        assertEquals(7, store.locationId(slot));
+        assertEquals(1, store.status(slot));
+
+        assertEquals(slot, store.put(sgtin, 0, 2000L, 8, 2));
+        assertEquals(1, store.size());
+        assertEquals(2000L, store.lastSeen(slot));
+        assertEquals(8, store.locationId(slot));
+
+        final byte[] copy = new byte[12];
+        store.copyTag(slot, copy, 0);
+        assertArrayEquals(sgtin, copy);
+        assertEquals("urn:epc:id:sgtin:0614141.812345.6789", store.decode(slot).epcPureIdentityURI());
+
+        assertEquals(-1, store.find(tag("311BA1B300CE0A6A83000000"), 0));
+    }
+
+    @DisplayName("Fill up to capacity, remove and refill")
+    @Test
+    public void remove() {
+        final int capacity = 3000;
+        final EpcStore store = new EpcStore(capacity);
+        for (int i = 0; i < capacity; i++) {
+            store.put(serial(i), 0, i, i % 10, 0);
+        }
+        assertEquals(capacity, store.size());
+        assertThrows(IllegalStateException.class, () -> store.put(serial(capacity), 0, 0, 0, 0));
+
+        for (int i = 0; i < capacity; i += 2) {
+            assertTrue(store.remove(serial(i), 0));
+        }
+        assertFalse(store.remove(serial(0), 0));
+        assertEquals(capacity / 2, store.size());
+
+        // every remaining tag must still be reachable after the backward shifts
+        for (int i = 0; i < capacity; i++) {
+            final long slot = store.find(serial(i), 0);
+            if (i % 2 == 0) {
+                assertEquals(-1, slot);
+            } else {
+                assertEquals(i, store.lastSeen(slot));
+            }
+        }
+        for (int i = 0; i < capacity; i += 2) {
+            store.put(serial(i), 0, i, 0, 0);
+        }
+        assertEquals(capacity, store.size());
+    }
+
+    @DisplayName("Iterate by scheme and by company prefix")
+    @Test
+    public void iterate() {
+        final EpcStore store = new EpcStore(10);
+        store.put(tag("3074257BF7194E4000001A85"), 0, 0, 0, 0);
+        store.put(tag("3074257BF7194E4000001A86"), 0, 0, 0, 0);
+        store.put(tag("311BA1B300CE0A6A83000000"), 0, 0, 0, 0);
+        store.put(tag("3274257BF4000200000004D2"), 0, 0, 0, 0);
+        // unsupported header and partition 7
+        store.put(tag("F074257BF7194E4000001A85"), 0, 0, 0, 0);
+        store.put(tag("303C83F1B7DD441678901234"), 0, 0, 0, 0);
+
+        final List<Long> all = new ArrayList<>();
+        store.forEach(all::add);
+        assertEquals(6, all.size());
+
+        final List<Long> sgtins = new ArrayList<>();
+        store.forEach(EpcScheme.SGTIN, sgtins::add);
+        assertEquals(3, sgtins.size());
+
+        final Set<String> company = new HashSet<>();
+        final long skipped = store.forEachCompanyPrefix(614141L, 7, slot -> {
+            final byte[] bytes = new byte[12];
+            store.copyTag(slot, bytes, 0);
+            company.add(BitBuffer.fromBytes(bytes, 0, 12).toHex());
+        });
+        assertEquals(Set.of("3074257BF7194E4000001A85", "3074257BF7194E4000001A86", "3274257BF4000200000004D2"), company);
+        assertEquals(2, skipped);
+    }
+
+    @DisplayName("Closed store drops its pages")
+    @Test
+    public void close() {
+        final EpcStore store = new EpcStore(10);
+        final byte[] sgtin = tag("3074257BF7194E4000001A85");
+        final long slot = store.put(sgtin, 0, 0, 0, 0);
+
+        store.close();
+        assertEquals(0, store.size());
+        assertThrows(IllegalStateException.class, () -> store.find(sgtin, 0));
+        assertThrows(IllegalStateException.class, () -> store.put(sgtin, 0, 0, 0, 0));
+        assertThrows(IllegalStateException.class, () -> store.forEach(s -> fail()));
+        assertThrows(IllegalStateException.class, () -> store.lastSeen(slot));
+        assertThrows(IllegalStateException.class, () -> store.setStatus(slot, 1));
+        assertThrows(IllegalStateException.class, () -> store.copyTag(slot, new byte[12], 0));
+        assertThrows(IllegalStateException.class, () -> store.decode(slot));
+        store.close();
+    }
+
+    @DisplayName("Tags longer than 96 bits")
+    @Test
+    public void wideTags() throws EpcParseException {
+        final EpcStore store = new EpcStore(4, 26);
+        final byte[] giai = tag("3876451FD59B2C2BF10000000000000000000000000000000000");
+        final long slot = store.put(giai, 0, 5L, 1, 2);
+        assertEquals("urn:epc:id:giai:9521141.32a%2Fb", store.decode(slot).epcPureIdentityURI());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.put(new byte[12], 0, 0, 0, 0));
+    }
+
+    private static byte[] tag(final String hex) {
+        return BitBuffer.fromHex(hex).toBytes();
+    }
+
+    private static byte[] serial(final int serial) {
+        return tag("3074257BF7194E40%08X".formatted(serial + 1));
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.schemes.gdti.GDTIEncoder;
+import com.pedrozc90.epcs.schemes.gdti.GDTIParser;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTIFilterValue;
+import com.pedrozc90.epcs.schemes.gdti.enums.GDTITagSize;
+import com.pedrozc90.epcs.schemes.giai.GIAIEncoder;
+import com.pedrozc90.epcs.schemes.giai.GIAIParser;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAIFilterValue;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.grai.GRAIEncoder;
+import com.pedrozc90.epcs.schemes.grai.GRAIParser;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAIFilterValue;
+import com.pedrozc90.epcs.schemes.grai.enums.GRAITagSize;
+import com.pedrozc90.epcs.schemes.sgln.SGLNEncoder;
+import com.pedrozc90.epcs.schemes.sgln.SGLNParser;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNFilterValue;
+import com.pedrozc90.epcs.schemes.sgln.enums.SGLNTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINEncoder;
+import com.pedrozc90.epcs.schemes.sgtin.SGTINParser;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.schemes.sscc.SSCCEncoder;
+import com.pedrozc90.epcs.schemes.sscc.SSCCParser;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCExtensionDigit;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCFilterValue;
+import com.pedrozc90.epcs.schemes.sscc.enums.SSCCTagSize;
+import com.pedrozc90.epcs.schemes.sscc.objects.SSCC;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcTemplateTest {
+
+    @DisplayName("SGTIN-96 serials match the parser")
+    @ParameterizedTest(name = "[{index}] Serial: {0}")
+    @ValueSource(longs = { 0L, 1L, 6789L, 123_456_789L, 274_877_906_943L })
+    public void sgtin96(final long serial) throws EpcParseException {
+        final SGTINEncoder encoder = SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+        final SGTIN expected = SGTINParser.builder().withRFIDTag(encoder.encodeHex(serial)).build();
+
+        assertEncoded(expected, encoder.encode(serial));
+        assertEquals(expected.serial(), Long.toString(serial));
+        assertEquals("8", expected.extensionDigit());
+        assertEquals("0614141", expected.companyPrefix());
+
+        final SGTIN built = SGTINParser.builder()
+            .withCompanyPrefix("0614141")
+            .withExtensionDigit(SGTINExtensionDigit.EXTENSION_8)
+            .withItemReference("12345")
+            .withSerial(Long.toString(serial))
+            .withTagSize(SGTINTagSize.BITS_96)
+            .withFilterValue(SGTINFilterValue.POS_ITEM_1)
+            .build();
+        assertEncoded(built, encoder.encode(serial));
+        assertEncoded(built, encoder.encode(Long.toString(serial)));
+    }
+
+    @DisplayName("Alphanumeric serials match the parser")
+    @ParameterizedTest(name = "[{index}] Serial: {0}")
+    @ValueSource(strings = { "1", "32a/b", "ABCDEFGHIJ0123456789" })
+    public void sgtin198(final String serial) throws EpcParseException {
+        final SGTINEncoder encoder = SGTINEncoder.of(SGTINTagSize.BITS_198, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_7, "12345");
+        final SGTIN expected = SGTINParser.builder()
+            .withCompanyPrefix("0614141")
+            .withExtensionDigit(SGTINExtensionDigit.EXTENSION_7)
+            .withItemReference("12345")
+            .withSerial(serial)
+            .withTagSize(SGTINTagSize.BITS_198)
+            .withFilterValue(SGTINFilterValue.POS_ITEM_1)
+            .build();
+
+        assertEncoded(expected, encoder.encode(serial));
+        assertEquals(-1L, encoder.maxSerial());
+    }
+
+    @DisplayName("Every scheme matches its parser")
+    @Test
+    public void schemes() throws EpcParseException {
+        final SSCCEncoder sscc = SSCCEncoder.of(SSCCTagSize.BITS_96, SSCCFilterValue.ALL_OTHERS_0, "0614141", SSCCExtensionDigit.EXTENSION_1);
+        assertEncoded(
+            SSCCParser.builder().withCompanyPrefix("0614141").withExtensionDigit(SSCCExtensionDigit.EXTENSION_1).withSerial("234567890")
+                .withTagSize(SSCCTagSize.BITS_96).withFilterValue(SSCCFilterValue.ALL_OTHERS_0).build(),
+            sscc.encode(234_567_890L)
+        );
+
+        final GRAIEncoder grai96 = GRAIEncoder.of(GRAITagSize.BITS_96, GRAIFilterValue.ALL_OTHERS_0, "0614141", "12345");
+        assertEncoded(
+            GRAIParser.builder().withCompanyPrefix("0614141").withAssetType("12345").withSerial("5678")
+                .withTagSize(GRAITagSize.BITS_96).withFilterValue(GRAIFilterValue.ALL_OTHERS_0).build(),
+            grai96.encode(5678L)
+        );
+
+        final GRAIEncoder grai170 = GRAIEncoder.of(GRAITagSize.BITS_170, GRAIFilterValue.ALL_OTHERS_0, "0614141", "12345");
+        assertEncoded(
+            GRAIParser.builder().withCompanyPrefix("0614141").withAssetType("12345").withSerial("5678")
+                .withTagSize(GRAITagSize.BITS_170).withFilterValue(GRAIFilterValue.ALL_OTHERS_0).build(),
+            grai170.encode(5678L)
+        );
+
+        final GIAIEncoder giai96 = GIAIEncoder.of(GIAITagSize.BITS_96, GIAIFilterValue.ALL_OTHERS_0, "0614141");
+        assertEncoded(
+            GIAIParser.builder().withCompanyPrefix("0614141").withIndividualAssetReference("12345678")
+                .withTagSize(GIAITagSize.BITS_96).withFilterValue(GIAIFilterValue.ALL_OTHERS_0).build(),
+            giai96.encode(12_345_678L)
+        );
+
+        final GIAIEncoder giai202 = GIAIEncoder.of(GIAITagSize.BITS_202, GIAIFilterValue.ALL_OTHERS_0, "0614141");
+        assertEncoded(
+            GIAIParser.builder().withCompanyPrefix("0614141").withIndividualAssetReference("12345678")
+                .withTagSize(GIAITagSize.BITS_202).withFilterValue(GIAIFilterValue.ALL_OTHERS_0).build(),
+            giai202.encode("12345678")
+        );
+
+        final SGLNEncoder sgln = SGLNEncoder.of(SGLNTagSize.BITS_96, SGLNFilterValue.ALL_OTHERS_0, "0614141", "12345");
+        assertEncoded(
+            SGLNParser.builder().withCompanyPrefix("0614141").withLocationReference("12345").withExtension("5678")
+                .withTagSize(SGLNTagSize.BITS_96).withFilterValue(SGLNFilterValue.ALL_OTHERS_0).build(),
+            sgln.encode(5678L)
+        );
+
+        final GDTIEncoder gdti = GDTIEncoder.of(GDTITagSize.BITS_96, GDTIFilterValue.ALL_OTHERS_0, "0614141", "12345");
+        assertEncoded(
+            GDTIParser.builder().withCompanyPrefix("0614141").withDocType("12345").withSerial("5678")
+                .withTagSize(GDTITagSize.BITS_96).withFilterValue(GDTIFilterValue.ALL_OTHERS_0).build(),
+            gdti.encode(5678L)
+        );
+    }
+
+    @DisplayName("SSCC serial references are zero-padded and get their own check digit")
+    @Test
+    public void ssccCheckDigit() throws EpcParseException {
+        final SSCCEncoder encoder = SSCCEncoder.of(SSCCTagSize.BITS_96, SSCCFilterValue.ALL_OTHERS_0, "0614141", SSCCExtensionDigit.EXTENSION_1);
+        assertEquals(999_999_999L, encoder.maxSerial());
+        for (long serial : new long[]{ 0L, 7L, 1234L, 999_999_999L }) {
+            final SSCC encoded = encoder.encode(serial);
+            final SSCC expected = SSCCParser.builder().withRFIDTag(encoded.rfidTag()).build();
+            assertEquals(expected.serial(), encoded.serial());
+            assertEquals(expected.checkDigit(), encoded.checkDigit());
+            assertEquals(expected.epcPureIdentityURI(), encoded.epcPureIdentityURI());
+        }
+        assertEquals("000001234", encoder.encode("000001234").serial());
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode("1234"));
+    }
+
+    @DisplayName("Ranges rewrite only the serial characters")
+    @ParameterizedTest(name = "[{index}] Tag Size: {0}")
+    @ValueSource(ints = { 96, 198 })
+    public void encodeRange(final int tagSize) throws EpcParseException {
+        final SGTINEncoder encoder = SGTINEncoder.of(SGTINTagSize.of(tagSize), SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+        final List<String> tags = new ArrayList<>();
+        final List<Long> serials = new ArrayList<>();
+        encoder.encodeRange(998L, 1005, (serial, rfidTag) -> {
+            serials.add(serial);
+            tags.add(rfidTag.toString());
+        });
+
+        assertEquals(1005, tags.size());
+        for (int i = 0; i < tags.size(); i++) {
+            assertEquals(998L + i, serials.get(i));
+            assertEquals(encoder.encodeHex(998L + i), tags.get(i));
+            assertEquals(encoder.encode(998L + i).rfidTag(), tags.get(i));
+        }
+
+        encoder.encodeRange(5L, 0, (serial, rfidTag) -> fail());
+    }
+
+    @DisplayName("Out of range serials are rejected")
+    @Test
+    public void outOfRange() throws EpcParseException {
+        final SGTINEncoder sgtin = SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+        assertThrows(IllegalArgumentException.class, () -> sgtin.encode(-1L));
+        assertThrows(IllegalArgumentException.class, () -> sgtin.encode(274_877_906_944L));
+        assertThrows(IllegalArgumentException.class, () -> sgtin.encode("0123"));
+        assertThrows(IllegalArgumentException.class, () -> sgtin.encode("12a"));
+        assertThrows(IllegalArgumentException.class, () -> sgtin.encodeRange(274_877_906_943L, 2, (serial, rfidTag) -> fail()));
+
+        final SGTINEncoder sgtin198 = SGTINEncoder.of(SGTINTagSize.BITS_198, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+        assertThrows(IllegalArgumentException.class, () -> sgtin198.encode("ABCDEFGHIJ0123456789X"));
+
+        // giai-96 of a 6 digit company prefix, 62 bits but only 19 digits
+        final GIAIEncoder giai = GIAIEncoder.of(GIAITagSize.BITS_96, GIAIFilterValue.ALL_OTHERS_0, "061414");
+        assertEquals((1L << 62) - 1, giai.maxSerial());
+        assertEquals(Long.toString((1L << 62) - 1), giai.encode((1L << 62) - 1).individualAssetReference());
+
+        assertThrows(EpcParseException.class, () -> SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "123456"));
+    }
+
+    /* --- Helpers --- */
+    private static void assertEncoded(final Epc expected, final Epc actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.rfidTag(), actual.rfidTag());
+        assertEquals(expected.epcTagURI(), actual.epcTagURI());
+        assertEquals(expected.epcPureIdentityURI(), actual.epcPureIdentityURI());
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcTranscoderTest {
+
+    @TempDir
+    private Path dir;
+
+    @DisplayName("Transcode a CSV column of RFID Tags across several regions, keeping line order")
+    @ParameterizedTest(name = "[{index}] {1} chunks of {0} bytes, {2} threads")
+    @CsvSource(value = {
+        "1048576, 64, 3",
+        "100, 3, 3",
+        "16, 2, 8"
+    })
+    public void transcode_Column(final int chunkSize, final int chunks, final int threads) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.add("%d;3074257BF7194E40%08X;antenna-1".formatted(i, i + 1));
+            expected.add("urn:epc:tag:sgtin-96:3.0614141.812345." + (i + 1));
+        }
+        lines.set(100, "100;NOT-A-TAG;antenna-1");
+        expected.set(100, "");
+        lines.set(200, "200");
+        expected.set(200, "");
+
+        final Path input = Files.write(dir.resolve("reads.csv"), lines);
+        final Path output = dir.resolve("reads.txt");
+
+        final EpcTranscoder.Result result = EpcTranscoder.builder()
+            .withInputFormat(EpcFormat.RFID_TAG)
+            .withOutputFormat(EpcFormat.TAG_URI)
+            .withColumn(1, ';')
+            .withThreads(threads)
+            .withRegionSize(1000)
+            .withOutputBuffers(chunkSize, chunks)
+            .build()
+            .transcode(input, output);
+
+        assertEquals(500, result.lines());
+        assertEquals(1, result.errors());
+        assertEquals(expected, Files.readAllLines(output));
+    }
+
+    @DisplayName("Transcode between representations")
+    @ParameterizedTest(name = "[{index}] {0} -> {2}")
+    @CsvSource(value = {
+        "hex, 3074257BF7194E4000001A85, pure-uri, urn:epc:id:sgtin:0614141.812345.6789",
+        "hex, 3074257BF7194E4000001A85, fields, 'sgtin,96,3,5,0614141,812345,6789'",
+        "hex, 311BA1B300CE0A6A83000000, raw-uri, urn:epc:raw:96.x311BA1B300CE0A6A83000000",
+        "tag-uri, urn:epc:tag:sscc-96:0.952012.03456789123, hex, 311BA1B300CE0A6A83000000",
+        "pure-uri, urn:epc:id:sgtin:0614141.812345.6789, hex, 3074257BF7194E4000001A85",
+        "pure-uri, urn:epc:id:unknown:0614141.812345.6789, hex, ''"
+    })
+    public void transcode_Format(final String from, final String value, final String to, final String expected) throws IOException {
+        final Path input = Files.writeString(dir.resolve("in.txt"), "  " + value + "\r\n");
+        final Path output = dir.resolve("out.txt");
+
+        EpcTranscoder.builder()
+            .withInputFormat(EpcFormat.of(from))
+            .withOutputFormat(EpcFormat.of(to))
+            .withTagSize(96, 3)
+            .build()
+            .transcode(input, output);
+
+        assertEquals(expected + "\n", Files.readString(output));
+    }
+
+    @DisplayName("Dots in the last field do not split it into columns")
+    @Test
+    public void fields_DottedSerial() throws EpcParseException {
+        final Epc sgtin = EpcScheme.SGTIN.decodeEpcTagURI("urn:epc:tag:sgtin-198:3.0614141.812345.ab.c");
+        assertEquals("sgtin,198,3,5,0614141,812345,ab.c", EpcFormat.FIELDS.format(sgtin));
+
+        final Epc giai = EpcScheme.GIAI.decodeEpcTagURI("urn:epc:tag:giai-202:3.0614141.A.1,2");
+        assertEquals("giai,202,3,5,0614141,\"A.1,2\"", EpcFormat.FIELDS.format(giai));
+    }
+
+    @DisplayName("Resolve the scheme named by a URI")
+    @Test
+    public void schemeOfURI() throws EpcParseException {
+        assertEquals(EpcScheme.SGTIN, EpcScheme.ofURI("urn:epc:tag:sgtin-96:3.0614141.812345.6789"));
+        assertEquals(EpcScheme.GSRNP, EpcScheme.ofURI("urn:epc:id:gsrnp:0614141.1234567890"));
+        assertEquals(EpcScheme.GSRN, EpcScheme.ofURI("urn:epc:id:gsrn:0614141.1234567890"));
+        assertNull(EpcScheme.ofURI("urn:epc:id:sgtin"));
+        assertNull(EpcScheme.ofURI("urn:epc:raw:96.x3074257BF7194E4000001A85"));
+        assertEquals("3074257BF7194E4000001A85", EpcScheme.SGTIN.decodeEpcTagURI("urn:epc:tag:sgtin-96:3.0614141.812345.6789").rfidTag());
+
+        assertThrows(IllegalArgumentException.class, () -> EpcFormat.of("csv"));
+        assertThrows(IllegalArgumentException.class, () -> EpcTranscoder.builder().withInputFormat(EpcFormat.FIELDS));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpcURIWriterTest {
+
+    @DisplayName("Written URIs match the URIs of the decoded epc")
+    @ParameterizedTest(name = "[{index}] RFID: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "311BA1B300CE0A6A83000000",
+        "3374257BF4000200000004D2",
+        "3274257BF4000200000004D2",
+        "2C74257BF460720000000190",
+        "2D74257BF4499602D2000000",
+        "2E74257BF4499602D2000000",
+        "3434257BF400000000002694",
+        "3876451FD59B2C2BF10000000000000000000000000000000000",
+        "3C34257BF400181C80000190",
+        "3D76451FD75411DEF6B4CC00000003039000"
+    })
+    public void matchesEpc(final String rfidTag) throws EpcParseException {
+        final Epc epc = EpcDecoder.decode(rfidTag);
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+
+        final StringBuilder tag = new StringBuilder();
+        EpcDecoder.decode(bytes, 0, bytes.length, EpcURIWriter.tagURI(tag));
+        assertEquals(epc.epcTagURI(), tag.toString());
+
+        final StringBuilder pure = new StringBuilder();
+        EpcDecoder.decode(bytes, 0, bytes.length, EpcURIWriter.pureIdentityURI(pure));
+        assertEquals(epc.epcPureIdentityURI(), pure.toString());
+    }
+
+    @DisplayName("Builder is appended to and reused across tags")
+    @Test
+    public void reuse() throws EpcParseException {
+        final StringBuilder sb = new StringBuilder("uri=");
+        final EpcURIWriter writer = EpcURIWriter.pureIdentityURI(sb);
+        final byte[] sgtin = BitBuffer.fromHex("3074257BF7194E4000001A85").toBytes();
+        final byte[] sscc = BitBuffer.fromHex("311BA1B300CE0A6A83000000").toBytes();
+
+        EpcDecoder.decode(sgtin, 0, sgtin.length, writer);
+        assertEquals("uri=urn:epc:id:sgtin:0614141.812345.6789", sb.toString());
+
+        sb.setLength(0);
+        EpcDecoder.decode(sscc, 0, sscc.length, writer);
+        assertEquals("urn:epc:id:sscc:952012.03456789123", sb.toString());
+        assertSame(sb, writer.out());
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.pedrozc90.epcs.schemes;
+
+import com.pedrozc90.epcs.objects.TableItem;
+import com.pedrozc90.epcs.schemes.cpi.enums.CPITagSize;
+import com.pedrozc90.epcs.schemes.cpi.partitionTable.CPIPartitionTable;
+import com.pedrozc90.epcs.schemes.giai.enums.GIAITagSize;
+import com.pedrozc90.epcs.schemes.giai.partitionTable.GIAIPartitionTable;
+import com.pedrozc90.epcs.schemes.sgtin.partitionTable.SGTINPartitionTable;
+import com.pedrozc90.epcs.schemes.sscc.partitionTable.SSCCPartitionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionTableTest {
+
+    @DisplayName("Partition rows resolve by value and by company prefix length")
+    @ParameterizedTest(name = "[{index}] partition = {0}, l = {1}")
+    @CsvSource(value = {
+        "0, 12, 54, 58",
+        "3, 9, 44, 58",
+        "6, 6, 34, 58"
+    })
+    public void lookup(final int partitionValue, final int l, final int referenceOffset, final int serialOffset) {
+        final SGTINPartitionTable table = new SGTINPartitionTable();
+        final TableItem byValue = table.getPartitionByValue(partitionValue);
+        final TableItem byL = table.getPartitionByL(l);
+        assertSame(byValue, byL);
+        assertEquals(14, byValue.companyPrefixOffset());
+        assertEquals(referenceOffset, byValue.referenceOffset());
+        assertEquals(serialOffset, byValue.serialOffset());
+        assertEquals((1L << byValue.m()) - 1, byValue.companyPrefixMask());
+    }
+
+    @DisplayName("Missing rows")
+    @Test
+    public void missing() {
+        final SSCCPartitionTable table = new SSCCPartitionTable();
+        assertNull(table.getPartitionByValue(7));
+        assertNull(table.getPartitionByValue(-1));
+        assertNull(table.getPartitionByL(5));
+        assertNull(table.getPartitionByL(13));
+        assertNull(new SGTINPartitionTable().getPartitionByValue(7));
+    }
+
+    @DisplayName("Per tag size tables are shared instances")
+    @Test
+    public void instances() {
+        assertSame(CPIPartitionTable.getInstance(96), CPIPartitionTable.getInstance(CPITagSize.BITS_96));
+        assertSame(CPIPartitionTable.getInstance(0), CPIPartitionTable.getInstance(CPITagSize.BITS_VARIABLE));
+        assertSame(GIAIPartitionTable.getInstance(202), GIAIPartitionTable.getInstance(GIAITagSize.BITS_202));
+        assertThrows(IllegalArgumentException.class, () -> GIAIPartitionTable.getInstance(198));
+    }
+
+}
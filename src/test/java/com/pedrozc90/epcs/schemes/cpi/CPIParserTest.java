@@ -9,6 +9,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -183,6 +184,22 @@ public class CPIParserTest {
         assertEquals(expectedBitCount, result.binary().length());
     }
 
+    @DisplayName("Decode RFID Tag bytes")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_RFIDTagBytes(final String rfidTag) throws Exception {
+        final CPI expected = CPIParser.builder().withRFIDTag(rfidTag).build();
+        final byte[] bytes = expected.rfidTagBytes();
+
+        final CPI fromArray = CPIParser.builder().withRFIDTag(bytes, 0, bytes.length).build();
+        assertEquals(expected, fromArray);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final CPI fromBuffer = CPIParser.builder().withRFIDTag(buffer).build();
+        assertEquals(expected, fromBuffer);
+        assertEquals(0, buffer.position());
+    }
+
     @DisplayName("Decode Epc Tag URI")
     @ParameterizedTest(name = "[{index}] EpcTagURI: {1}")
     @MethodSource("provideData")
@@ -9,6 +9,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -160,6 +161,22 @@ public class GDTIParserTest {
         assertEquals(expectedBitCount, result.binary().length());
     }
 
+    @DisplayName("Decode RFID Tag bytes")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_RFIDTagBytes(final String rfidTag) throws Exception {
+        final GDTI expected = GDTIParser.builder().withRFIDTag(rfidTag).build();
+        final byte[] bytes = expected.rfidTagBytes();
+
+        final GDTI fromArray = GDTIParser.builder().withRFIDTag(bytes, 0, bytes.length).build();
+        assertEquals(expected, fromArray);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final GDTI fromBuffer = GDTIParser.builder().withRFIDTag(buffer).build();
+        assertEquals(expected, fromBuffer);
+        assertEquals(0, buffer.position());
+    }
+
     @DisplayName("Decode Epc Tag URI")
     @ParameterizedTest(name = "[{index}] Epc Tag URI: {1}")
     @MethodSource("provideData")
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -87,6 +88,22 @@ public class GRAIParserTest {
         validate(data, result);
     }
 
+    @DisplayName("Decode RFID Tag bytes")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_RFIDTagBytes(final ExpectedData data) throws Exception {
+        final GRAI expected = GRAIParser.builder().withRFIDTag(data.rfidTag()).build();
+        final byte[] bytes = expected.rfidTagBytes();
+
+        final GRAI fromArray = GRAIParser.builder().withRFIDTag(bytes, 0, bytes.length).build();
+        assertEquals(expected, fromArray);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final GRAI fromBuffer = GRAIParser.builder().withRFIDTag(buffer).build();
+        assertEquals(expected, fromBuffer);
+        assertEquals(0, buffer.position());
+    }
+
     @DisplayName("Decode Epc Tag URI")
     @ParameterizedTest(name = "[{index}] Epc Tag URI: {0}")
     @MethodSource("provideData")
@@ -8,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -114,6 +115,22 @@ public class GSRNParserTest {
         assertEquals(expectedBitCount, result.binary().length());
     }
 
+    @DisplayName("Decode RFID Tag bytes")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_RFIDTagBytes(final String rfidTag) throws Exception {
+        final GSRN expected = GSRNParser.builder().withRFIDTag(rfidTag).build();
+        final byte[] bytes = expected.rfidTagBytes();
+
+        final GSRN fromArray = GSRNParser.builder().withRFIDTag(bytes, 0, bytes.length).build();
+        assertEquals(expected, fromArray);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final GSRN fromBuffer = GSRNParser.builder().withRFIDTag(buffer).build();
+        assertEquals(expected, fromBuffer);
+        assertEquals(0, buffer.position());
+    }
+
     @DisplayName("Decode Epc Tag URI")
     @ParameterizedTest(name = "[{index}] Epc Tag URI: {1}")
     @MethodSource("provideData")
@@ -0,0 +1,112 @@
+package com.pedrozc90.epcs.schemes.sgtin;
+
+import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.objects.Epc96;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
+import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
+import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
+import com.pedrozc90.epcs.utils.BinaryUtils;
+import com.pedrozc90.epcs.utils.BitBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SGTINCodecTest {
+
+    private static final SGTINCodec codec = SGTINCodec.INSTANCE;
+
+    @DisplayName("Codec decodes the same SGTIN as the builder")
+    @ParameterizedTest(name = "[{index}] RFID: {0}")
+    @ValueSource(strings = {
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000"
+    })
+    public void decode(final String rfidTag) throws EpcParseException {
+        final SGTIN expected = SGTINParser.builder().withRFIDTag(rfidTag).build();
+        final byte[] bytes = BitBuffer.fromHex(rfidTag).toBytes();
+
+        assertEquals(expected.epcTagURI(), codec.decodeHex(rfidTag).epcTagURI());
+        assertEquals(expected.epcTagURI(), codec.decode(bytes, 0, bytes.length).epcTagURI());
+        assertEquals(rfidTag, codec.decodeEpcTagURI(expected.epcTagURI()).rfidTag());
+        assertEquals(rfidTag, codec.decodeEpcPureIdentityURI(
+            expected.epcPureIdentityURI(),
+            SGTINTagSize.of(Integer.parseInt(expected.tagSize())),
+            SGTINFilterValue.of(Integer.parseInt(expected.filterValue()))
+        ).rfidTag());
+    }
+
+    @DisplayName("Decoded text fields keep their '%' characters and the bits they were read from")
+    @ParameterizedTest(name = "[{index}] RFID: {0}")
+    @CsvSource({
+        "3666C4409047E152C76200000000000000000000000000000000, %G1, urn:epc:tag:sgtin-198:3.95060001343.05.%25G1",
+        "3666C4409047E152B46200000000000000000000000000000000, %41, urn:epc:tag:sgtin-198:3.95060001343.05.%2541"
+    })
+    public void decodePercent(final String rfidTag, final String serial, final String epcTagURI) throws EpcParseException {
+        final SGTIN sgtin = codec.decodeHex(rfidTag);
+        assertEquals(serial, sgtin.serial());
+        assertEquals(rfidTag, sgtin.rfidTag());
+        assertEquals(epcTagURI, sgtin.epcTagURI());
+    }
+
+    @DisplayName("Encode string fields")
+    @Test
+    public void encodeFields() throws EpcParseException {
+        final SGTIN sgtin = codec.encode(SGTINTagSize.BITS_96, SGTINFilterValue.RESERVED_3, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345", "6789");
+        assertEquals("3074257BF7194E4000001A85", sgtin.rfidTag());
+        assertEquals("8", sgtin.checkDigit());
+    }
+
+    @DisplayName("Encode primitive fields")
+    @Test
+    public void encodePrimitives() throws EpcParseException {
+        final SGTIN sgtin = codec.encode(614141L, 7, 812345L, 6789L, 3, SGTINTagSize.BITS_96);
+        assertEquals("3074257BF7194E4000001A85", sgtin.rfidTag());
+        assertEquals("urn:epc:tag:sgtin-96:3.0614141.812345.6789", sgtin.epcTagURI());
+        assertEquals("0614141", sgtin.companyPrefix());
+        assertEquals("8", sgtin.extensionDigit());
+        assertEquals("12345", sgtin.itemReference());
+        assertEquals("8", sgtin.checkDigit());
+
+        // indicator digit 0 is carried by the length of the reference
+        final SGTIN leadingZero = codec.encode(614141L, 7, 12345L, 0L, 1, SGTINTagSize.BITS_198);
+        assertEquals("urn:epc:tag:sgtin-198:1.0614141.012345.0", leadingZero.epcTagURI());
+        assertEquals(leadingZero.rfidTag(), codec.decodeEpcTagURI(leadingZero.epcTagURI()).rfidTag());
+    }
+
+    @DisplayName("Encode primitive fields into packed bits")
+    @Test
+    public void encode96() throws EpcParseException {
+        final Epc96 packed = codec.encode96(614141L, 7, 812345L, 6789L, 3);
+        assertEquals(Epc96.fromHex("3074257BF7194E4000001A85"), packed);
+        assertEquals(codec.encode(614141L, 7, 812345L, 6789L, 3, SGTINTagSize.BITS_96), codec.decode(packed));
+
+        for (int prefixLength = 6; prefixLength <= 12; prefixLength++) {
+            final long companyPrefix = BinaryUtils.powerOfTen(prefixLength) - 1;
+            final long itemReference = BinaryUtils.powerOfTen(13 - prefixLength) - 1;
+            final SGTIN expected = codec.encode(companyPrefix, prefixLength, itemReference, 274_877_906_943L, 7, SGTINTagSize.BITS_96);
+            assertEquals(Epc96.of(expected), codec.encode96(companyPrefix, prefixLength, itemReference, 274_877_906_943L, 7));
+        }
+
+        assertThrows(EpcParseException.class, () -> codec.encode96(10_614_141L, 7, 812345L, 6789L, 3));
+        assertThrows(EpcParseException.class, () -> codec.encode96(614141L, 7, 812345L, 274_877_906_944L, 3));
+    }
+
+    @DisplayName("Primitive fields out of range are rejected")
+    @Test
+    public void encodePrimitivesOutOfRange() {
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 5, 812345L, 6789L, 3, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 7, 812345L, 6789L, 8, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 7, 812345L, 6789L, 3, null));
+        assertThrows(EpcParseException.class, () -> codec.encode(10_614_141L, 7, 812345L, 6789L, 3, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(-1L, 7, 812345L, 6789L, 3, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 7, 1_812_345L, 6789L, 3, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 7, 812345L, 274_877_906_944L, 3, SGTINTagSize.BITS_96));
+        assertThrows(EpcParseException.class, () -> codec.encode(614141L, 7, 812345L, -1L, 3, SGTINTagSize.BITS_198));
+    }
+
+}
@@ -1,17 +1,21 @@
 package com.pedrozc90.epcs.schemes.sgtin;
 
 import com.pedrozc90.epcs.exception.EpcParseException;
+import com.pedrozc90.epcs.schemes.EpcDecodeException;
+import com.pedrozc90.epcs.schemes.EpcError;
 import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINExtensionDigit;
 import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINFilterValue;
 import com.pedrozc90.epcs.schemes.sgtin.enums.SGTINTagSize;
 import com.pedrozc90.epcs.schemes.sgtin.objects.SGTIN;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -160,6 +164,37 @@ public class SGTINParserTest {
         assertEquals(expectedBitCount, result.binary().length());
     }
 
+    @DisplayName("Decode RFID Tag bytes")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_RFIDTagBytes(final String rfidTag) throws EpcParseException {
+        final SGTIN expected = SGTINParser.builder().withRFIDTag(rfidTag).build();
+        final byte[] bytes = expected.rfidTagBytes();
+
+        final SGTIN fromArray = SGTINParser.builder().withRFIDTag(bytes, 0, bytes.length).build();
+        assertEquals(expected, fromArray);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final SGTIN fromBuffer = SGTINParser.builder().withRFIDTag(buffer).build();
+        assertEquals(expected, fromBuffer);
+        assertEquals(0, buffer.position());
+    }
+
+    @DisplayName("Derived representations are computed once")
+    @ParameterizedTest(name = "[{index}] RFID Tag: {0}")
+    @MethodSource("provideData")
+    public void decode_LazyRepresentations(final String rfidTag) throws EpcParseException {
+        final SGTIN sgtin = SGTINParser.builder().withRFIDTag(rfidTag).build();
+        assertSame(sgtin.epcTagURI(), sgtin.epcTagURI());
+        assertSame(sgtin.epcPureIdentityURI(), sgtin.epcPureIdentityURI());
+        assertSame(sgtin.binary(), sgtin.binary());
+        assertSame(sgtin.rfidTag(), sgtin.rfidTag());
+
+        final SGTIN other = SGTINParser.builder().withEpcTagURI(sgtin.epcTagURI()).build();
+        assertEquals(sgtin, other);
+        assertEquals(sgtin.hashCode(), other.hashCode());
+    }
+
     @DisplayName("Decode Epc Tag URI")
     @ParameterizedTest(name = "[{index}] Epc Tag URI: {1}")
     @MethodSource("provideData")
@@ -292,7 +327,6 @@ public class SGTINParserTest {
     @ParameterizedTest(name = "[{index}] Invalid RFID: {0}")
     @ValueSource(strings = {
         "F45349FB11DF49FA935AB6FF",  // Not GS1
-        "303C83F1B7DD441678901234",  // Wrong partition
         "30285471BD5A0A56789G1234"   // Non-hex character
     })
     public void whenInvalidRfidTag_thenExceptionIsRaised(final String invalidRfidTag) {
@@ -302,4 +336,78 @@ public class SGTINParserTest {
         );
     }
 
+    @DisplayName("Fields out of range raise the preallocated exception located at the field")
+    @ParameterizedTest(name = "[{index}] Invalid RFID: {0}")
+    @CsvSource({
+        "303C83F1B7DD441678901234, INVALID_PARTITION, 11",  // partition 7
+        "3076625A03194E4000001A85, INVALID_FIELD, 14",      // company prefix 10000000 > 7 digits
+        "3074257BF7D0900000001A85, INVALID_FIELD, 38",      // item reference 1000000 > 6 digits
+        "3074257BF7194E40, TOO_SHORT, 64"
+    })
+    public void whenFieldOutOfRange_thenLocatedExceptionIsRaised(final String rfidTag, final EpcError error, final int bitOffset) {
+        final EpcDecodeException e = assertThrows(
+            EpcDecodeException.class,
+            () -> SGTINParser.builder().withRFIDTag(rfidTag).build()
+        );
+        assertEquals(error, e.error());
+        assertEquals(bitOffset, e.bitOffset());
+        assertEquals(0, e.getStackTrace().length);
+        assertSame(e, error.exception(bitOffset));
+    }
+
+    @DisplayName("SGTIN-96 serial 0 is accepted, other leading zeros are rejected on every encode path")
+    @Test
+    public void whenSerialIsZero_thenEveryEncodePathAcceptsIt() throws EpcParseException {
+        final SGTIN built = SGTINParser.builder()
+            .withCompanyPrefix("0614141")
+            .withExtensionDigit(SGTINExtensionDigit.EXTENSION_8)
+            .withItemReference("12345")
+            .withSerial("0")
+            .withTagSize(SGTINTagSize.BITS_96)
+            .withFilterValue(SGTINFilterValue.POS_ITEM_1)
+            .build();
+        assertEquals("urn:epc:tag:sgtin-96:1.0614141.812345.0", built.epcTagURI());
+        assertEquals(built, SGTINCodec.INSTANCE.encode(614141L, 7, 812345L, 0L, 1, SGTINTagSize.BITS_96));
+
+        final SGTINEncoder encoder = SGTINEncoder.of(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345");
+        assertEquals(built.rfidTag(), encoder.encode("0").rfidTag());
+        assertEquals(built.rfidTag(), encoder.encodeHex(0L));
+
+        for (final String serial : new String[] { "00", "06789" }) {
+            assertThrows(EpcParseException.class, () -> SGTINCodec.INSTANCE.encode(SGTINTagSize.BITS_96, SGTINFilterValue.POS_ITEM_1, "0614141", SGTINExtensionDigit.EXTENSION_8, "12345", serial));
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(serial));
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Invalid URI: {0}")
+    @CsvSource({
+        "urn:epc:tag:sgtin-97:3.0614141.812345.6789, 18",
+        "urn:epc:tag:sgtin-96:3.0614141.912345.6789, 31",
+        "urn:epc:tag:sgtin-96:3.0614141.812345, 37"
+    })
+    public void whenInvalidEpcTagURI_thenErrorOffsetIsReported(final String epcTagURI, final int offset) {
+        final EpcParseException e = assertThrows(
+            EpcParseException.class,
+            () -> SGTINParser.builder().withEpcTagURI(epcTagURI).build()
+        );
+        assertEquals("Epc Tag URI is invalid at offset %d".formatted(offset), e.getMessage());
+    }
+
+    @DisplayName("Item reference of the wrong length is rejected in URIs")
+    @Test
+    public void whenItemReferenceHasWrongLength_thenExceptionIsRaised() {
+        assertThrows(
+            EpcParseException.class,
+            () -> SGTINParser.builder().withEpcTagURI("urn:epc:tag:sgtin-96:3.0614141.81234.6789").build()
+        );
+        assertThrows(
+            EpcParseException.class,
+            () -> SGTINParser.builder()
+                .withEpcPureIdentityURI("urn:epc:id:sgtin:0614141.8123456.6789")
+                .withTagSize(SGTINTagSize.BITS_96)
+                .withFilterValue(SGTINFilterValue.POS_ITEM_1)
+                .build()
+        );
+    }
+
 }
@@ -1,10 +1,13 @@
 package com.pedrozc90.epcs.utils;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class BinaryUtilsTest {
@@ -125,6 +128,61 @@ public class BinaryUtilsTest {
         assertEquals(Long.toString(number), s);
     }
 
+    @DisplayName("Render unsigned values as zero-padded decimals")
+    @ParameterizedTest(name = "[{index}] value: {0}")
+    @CsvSource(value = {
+        "0, 0, 0, 0",
+        "0, 0, 3, 000",
+        "0, 614141, 7, 0614141",
+        "0, 95060001343, 0, 95060001343",
+        "0, -1, 0, 18446744073709551615",
+        "0, -1, 22, 0018446744073709551615",
+        "1, 0, 0, 18446744073709551616",
+        "-1, -1, 0, 340282366920938463463374607431768211455",
+        "1, 1000000000, 25, 0000018446744074709551616"
+    })
+    public void toDecimal(final long high, final long low, final int minLength, final String expected) {
+        assertEquals(expected, BinaryUtils.toDecimal(high, low, minLength));
+        if (high == 0) {
+            assertEquals(expected, BinaryUtils.toDecimal(low, minLength));
+            assertEquals("x" + expected, BinaryUtils.appendDecimal(new StringBuilder("x"), low, minLength).toString());
+
+            final byte[] out = new byte[expected.length() + 2];
+            assertEquals(expected.length() + 1, BinaryUtils.writeDecimal(out, 1, low, minLength));
+            assertEquals(expected, new String(out, 1, expected.length(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @DisplayName("Integers wider than 64 bits round trip through two longs")
+    @ParameterizedTest(name = "[{index}] value: {0}")
+    @ValueSource(strings = {
+        "18446744073709551615",
+        "18446744073709551616",
+        "99999999999999999999",
+        "340282366920938463463374607431768211455"
+    })
+    public void wideIntegerRoundTrip(final String value) {
+        final String bin = BinaryUtils.encodeInteger(value, 128);
+        assertEquals(128, bin.length());
+        assertEquals(value, BinaryUtils.decodeInteger(bin));
+
+        final BitBuffer buffer = new BitBuffer(140);
+        BinaryUtils.encodeInteger(buffer, 5, 128, value);
+        assertEquals(value, BinaryUtils.decodeInteger(buffer, 5, 128));
+    }
+
+    @DisplayName("Integers that do not fit are rejected")
+    @Test
+    public void integerOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger("8", 3));
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger(8L, 3));
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger("18446744073709551616", 64));
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger("340282366920938463463374607431768211456", 128));
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger("12a", 16));
+        assertThrows(IllegalArgumentException.class, () -> BinaryUtils.encodeInteger(new BitBuffer(8), 0, 3, "8"));
+        assertEquals("111", BinaryUtils.encodeInteger("7", 3));
+    }
+
     @DisplayName("Convert a binary string into a string")
     @ParameterizedTest(name = "[{index}] bin: {0} -> value: {1}")
     @CsvSource(value = {
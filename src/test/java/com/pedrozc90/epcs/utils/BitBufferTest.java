@@ -0,0 +1,127 @@
+package com.pedrozc90.epcs.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitBufferTest {
+
+    @DisplayName("Hex to packed bits and back")
+    @ParameterizedTest(name = "[{index}] Hex = {0}")
+    @ValueSource(strings = {
+        "30",
+        "3F0B",
+        "3074257BF7194E4000001A85",
+        "3666C4409047E159B2C2BF100000000000000000000000000000",
+        "3876451FD59B2C2BF10000000000000000000000000000000000",
+        "3D76451FD75411DEF6B4CC00000003039000"
+    })
+    public void hexRoundTrip(final String hex) {
+        final BitBuffer buffer = BitBuffer.fromHex(hex);
+        assertEquals(hex.length() * 4, buffer.length());
+        assertEquals(hex, buffer.toHex());
+        assertEquals("x" + hex, buffer.appendHex(new StringBuilder("x")).toString());
+        assertEquals(BinaryUtils.toBinary(hex), buffer.toBinary());
+
+        final byte[] out = new byte[hex.length() + 1];
+        assertEquals(out.length, buffer.writeHex(out, 1));
+        assertEquals(hex, new String(out, 1, hex.length(), StandardCharsets.US_ASCII));
+    }
+
+    @DisplayName("Overwrite a reused buffer")
+    @Test
+    public void overwrite() {
+        final BitBuffer buffer = BitBuffer.fromHex("FFFFFFFFFFFFFFFFFFFFFFFF");
+        assertTrue(buffer.setHex("3074257BF7194E4000001A85"));
+        assertEquals("3074257BF7194E4000001A85", buffer.toHex());
+        assertFalse(buffer.setHex("3074257BF7194E4000001AXX"));
+        assertThrows(IllegalArgumentException.class, () -> buffer.setHex("3074"));
+
+        buffer.setBytes(new byte[]{ 0x7F, 0x31, 0x1B, (byte) 0xA1, (byte) 0xB3, 0x00, (byte) 0xCE, 0x0A, 0x6A, (byte) 0x83, 0x00, 0x00, 0x00 }, 1, 12);
+        assertEquals("311BA1B300CE0A6A83000000", buffer.toHex());
+        assertThrows(IllegalArgumentException.class, () -> buffer.setBytes(new byte[13], 0, 13));
+    }
+
+    @DisplayName("Bytes to packed bits and back")
+    @Test
+    public void bytesRoundTrip() {
+        final byte[] bytes = { 0x00, 0x30, 0x74, 0x25, 0x7B, (byte) 0xF7, 0x19, 0x4E, 0x40, 0x00, 0x00, 0x1A, (byte) 0x85, 0x00 };
+
+        final BitBuffer fromArray = BitBuffer.fromBytes(bytes, 1, 12);
+        assertEquals(96, fromArray.length());
+        assertEquals("3074257BF7194E4000001A85", fromArray.toHex());
+
+        final ByteBuffer source = ByteBuffer.wrap(bytes, 1, 12);
+        final BitBuffer fromBuffer = BitBuffer.fromBytes(source);
+        assertEquals("3074257BF7194E4000001A85", fromBuffer.toHex());
+        assertEquals(1, source.position());
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 1, 13), fromArray.toBytes());
+        assertArrayEquals(new byte[]{ 0x30, 0x50 }, BitBuffer.fromHex("305").toBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> BitBuffer.fromBytes(bytes, 4, 12));
+
+        assertEquals(fromArray, fromBuffer);
+        assertEquals(fromArray.hashCode(), fromBuffer.hashCode());
+        assertNotEquals(fromArray, BitBuffer.fromHex("3074257BF7194E4000001A8"));
+
+        for (int offset = 0; offset + 64 <= 96; offset += 13) {
+            for (int length = 0; length <= 64; length += 7) {
+                assertEquals(fromArray.getBits(offset, length), BitBuffer.getBits(bytes, 1, 12, offset, length));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> BitBuffer.getBits(bytes, 1, 12, 90, 7));
+    }
+
+    @DisplayName("Read bit fields, including fields crossing a word boundary")
+    @ParameterizedTest(name = "[{index}] {0} [{1}, {2}] = {3}")
+    @CsvSource(value = {
+        "3074257BF7194E4000001A85, 0, 8, 48",
+        "3074257BF7194E4000001A85, 8, 3, 3",
+        "3074257BF7194E4000001A85, 11, 3, 5",
+        "3074257BF7194E4000001A85, 14, 24, 614141",
+        "3074257BF7194E4000001A85, 38, 20, 812345",
+        "3074257BF7194E4000001A85, 58, 38, 6789",
+        "3066C4409047E140075BCD15, 14, 37, 95060001343",
+        "3066C4409047E140075BCD15, 0, 64, 3487690743022608704"
+    })
+    public void getBits(final String hex, final int offset, final int length, final long expected) {
+        final BitBuffer buffer = BitBuffer.fromHex(hex);
+        assertEquals(expected, buffer.getBits(offset, length));
+    }
+
+    @DisplayName("Write bit fields")
+    @Test
+    public void putBits() {
+        final BitBuffer buffer = new BitBuffer(96);
+        buffer.putBits(0, 8, 48);
+        buffer.putBits(8, 3, 3);
+        buffer.putBits(11, 3, 5);
+        buffer.putBits(14, 24, 614141);
+        buffer.putBits(38, 20, 812345);
+        buffer.putBits(58, 38, 6789);
+        assertEquals("3074257BF7194E4000001A85", buffer.toHex());
+
+        // overwrite a field crossing the word boundary
+        buffer.putBits(58, 38, 0);
+        assertEquals("3074257BF7194E4000000000", buffer.toHex());
+        assertEquals(812345, buffer.getBits(38, 20));
+    }
+
+    @DisplayName("Reading outside the buffer throws")
+    @Test
+    public void outOfRange() {
+        final BitBuffer buffer = BitBuffer.fromHex("3074257BF7194E4000001A85");
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getBits(90, 8));
+        assertThrows(IllegalArgumentException.class, () -> buffer.getBits(0, 65));
+        assertThrows(IllegalArgumentException.class, () -> BitBuffer.fromHex("30G0"));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.pedrozc90.epcs.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckDigitTest {
+
+    @DisplayName("Compute check digit from digits, longs and digit arrays")
+    @ParameterizedTest(name = "[{index}] digits = {0}, check digit = {1}")
+    @CsvSource(value = {
+        "8061414112345, 8",
+        "09520123456789123, 5",
+        "061414100001, 2",
+        "0614141812345, 6",
+        "6141418123450, 4",
+        "0000000000000, 0"
+    })
+    public void compute(final String digits, final int expected) {
+        assertEquals(expected, CheckDigit.compute(digits));
+        assertEquals(expected, CheckDigit.compute(Long.parseLong(digits)));
+
+        final int[] values = new int[digits.length() + 2];
+        for (int i = 0; i < digits.length(); i++) {
+            values[i + 1] = digits.charAt(i) - '0';
+        }
+        assertEquals(expected, CheckDigit.compute(values, 1, digits.length()));
+    }
+
+    @DisplayName("Compute check digit of a key split in parts")
+    @Test
+    public void computeParts() {
+        // sgtin: 0614141.812345, indicator digit 8
+        assertEquals(8, CheckDigit.compute(8, "0614141", "12345"));
+        // sscc: 952012.03456789123, extension digit 0
+        assertEquals(5, CheckDigit.compute(0, "952012", "3456789123"));
+        // sgln: 0614141.00001
+        assertEquals(2, CheckDigit.compute("0614141", "00001"));
+        assertEquals(2, CheckDigit.compute("06141410", "0001"));
+    }
+
+    @DisplayName("Partial sums combine into the check digit")
+    @Test
+    public void sums() {
+        final int sum = CheckDigit.sum(952012L * 10_000_000_000L) + CheckDigit.sum("3456789123", 0, 10);
+        assertEquals(5, CheckDigit.fromSum(sum));
+        assertEquals(0, CheckDigit.sum(0L));
+    }
+
+    @DisplayName("Validate complete keys")
+    @Test
+    public void isValid() {
+        assertTrue(CheckDigit.isValid("80614141123458"));
+        assertTrue(CheckDigit.isValid(80614141123458L));
+        assertTrue(CheckDigit.isValid("80614141123458", CheckDigit.GTIN_LENGTH));
+        assertTrue(CheckDigit.isValid("095201234567891235", CheckDigit.SSCC_LENGTH));
+        assertTrue(CheckDigit.isValid("0614141000012", CheckDigit.GLN_LENGTH));
+
+        assertFalse(CheckDigit.isValid("80614141123457"));
+        assertFalse(CheckDigit.isValid(80614141123457L));
+        assertFalse(CheckDigit.isValid("8061414112345A"));
+        assertFalse(CheckDigit.isValid("806141411-3458"));
+        assertFalse(CheckDigit.isValid("8"));
+        assertFalse(CheckDigit.isValid(-18L));
+        assertFalse(CheckDigit.isValid("80614141123458", CheckDigit.GLN_LENGTH));
+        assertFalse(CheckDigit.isValid(null, CheckDigit.GTIN_LENGTH));
+    }
+
+    @DisplayName("Batch compute and verify")
+    @Test
+    public void batch() {
+        final long[] values = { 8061414112345L, 9520123456789123L, 61414100001L };
+        final int[] checkDigits = new int[values.length];
+        CheckDigit.computeAll(values, checkDigits);
+        assertArrayEquals(new int[]{ 8, 5, 2 }, checkDigits);
+
+        final long[] keys = { 80614141123458L, 95201234567891235L, 614141000013L };
+        final boolean[] valid = new boolean[keys.length];
+        assertEquals(1, CheckDigit.verifyAll(keys, valid));
+        assertArrayEquals(new boolean[]{ true, true, false }, valid);
+
+        final String[] sscc = { "0095201234567891235", "009520123456789123", null };
+        final boolean[] ssccValid = new boolean[sscc.length];
+        final String[] ssccKeys = { "095201234567891235", "095201234567891234", null };
+        assertEquals(2, CheckDigit.verifyAll(ssccKeys, CheckDigit.SSCC_LENGTH, ssccValid));
+        assertArrayEquals(new boolean[]{ true, false, false }, ssccValid);
+        assertEquals(3, CheckDigit.verifyAll(sscc, CheckDigit.SSCC_LENGTH, new boolean[3]));
+    }
+
+    @DisplayName("Reject invalid input")
+    @Test
+    public void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.compute("06141A1"));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.compute(-1L));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.compute(10, "0614141", "12345"));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.compute(new int[]{ 1, 12 }, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.verifyAll(new long[2], new boolean[1]));
+    }
+
+}
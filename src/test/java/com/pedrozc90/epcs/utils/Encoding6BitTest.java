@@ -1,10 +1,13 @@
 package com.pedrozc90.epcs.utils;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class Encoding6BitTest {
 
@@ -20,6 +23,10 @@ public class Encoding6BitTest {
     public void escape(final String value, final String expected) {
         final String result = Encoding6Bit.escape(value);
         assertEquals(expected, result);
+        assertEquals("x" + expected, Encoding6Bit.escape(value, new StringBuilder("x")).toString());
+        if (expected.equals(value)) {
+            assertSame(value, result);
+        }
     }
 
     @DisplayName(value = "Normalize special characters from GS1 6-bit alphabet")
@@ -36,4 +43,34 @@ public class Encoding6BitTest {
         assertEquals(expected, result);
     }
 
+    @DisplayName(value = "Decode packed bits across word boundaries")
+    @ParameterizedTest(name = "[{index}] value = {0}, offset = {1}")
+    @CsvSource(value = {
+        "A, 0",
+        "5PQ7/Z43, 27",
+        "ABCDEFGHIJ, 0",
+        "ABCDEFGHIJK, 3",
+        "0123456789#-/ABCDEFGHIJKLMNOPQRSTUVWXYZ, 61"
+    })
+    public void decodeBuffer(final String value, final int offset) {
+        final int bits = value.length() * 6;
+        final BitBuffer buffer = new BitBuffer(offset + bits);
+        assertEquals(bits, Encoding6Bit.encode(buffer, offset, bits, value));
+        assertEquals(value, Encoding6Bit.decode(buffer, offset, bits));
+
+        final String binary = Encoding6Bit.encode(value, bits);
+        assertEquals(buffer.toBinary(offset, bits), binary);
+        assertEquals(value, Encoding6Bit.decode(binary));
+    }
+
+    @DisplayName(value = "Reject 6-bit values outside the GS1 alphabet")
+    @Test
+    public void decodeInvalid() {
+        final BitBuffer buffer = new BitBuffer(66);
+        Encoding6Bit.encode(buffer, 0, 66, "ABCDEFGHIJK");
+        buffer.putBits(60, 6, 0b111111); // not in the alphabet
+        assertThrows(IllegalArgumentException.class, () -> Encoding6Bit.decode(buffer, 0, 66));
+        assertThrows(IllegalArgumentException.class, () -> Encoding6Bit.encode("A?", 12));
+    }
+
 }
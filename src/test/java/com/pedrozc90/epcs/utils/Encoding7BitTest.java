@@ -1,10 +1,13 @@
 package com.pedrozc90.epcs.utils;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class Encoding7BitTest {
 
@@ -22,6 +25,10 @@ public class Encoding7BitTest {
     public void escape(final String value, final String expected) {
         final String result = Encoding7Bit.escape(value);
         assertEquals(expected, result);
+        assertEquals("x" + expected, Encoding7Bit.escape(value, new StringBuilder("x")).toString());
+        if (expected.equals(value)) {
+            assertSame(value, result);
+        }
     }
 
     @DisplayName(value = "Normalize special characters from GS1 6-bit alphabet")
@@ -40,4 +47,35 @@ public class Encoding7BitTest {
         assertEquals(expected, result);
     }
 
+    @DisplayName(value = "Decode packed bits across word boundaries")
+    @ParameterizedTest(name = "[{index}] value = {0}, offset = {1}, bits = {2}")
+    @CsvSource(value = {
+        "A, 0, 7",
+        "32a/b, 3, 140",
+        "ABCDEFGHI, 0, 63",
+        "ABCDEFGHIJ, 5, 70",
+        "abcdefghijklmnopqrst, 58, 140",
+        "z_Zz_Zz_Zz_Zz_Zz, 13, 112"
+    })
+    public void decodeBuffer(final String value, final int offset, final int bits) {
+        final BitBuffer buffer = new BitBuffer(offset + bits);
+        assertEquals(value.length() * 7, Encoding7Bit.encode(buffer, offset, bits, value));
+        assertEquals(value, Encoding7Bit.decode(buffer, offset, bits));
+
+        final String binary = Encoding7Bit.encode(value, bits);
+        assertEquals(buffer.toBinary(offset, bits), binary);
+        assertEquals(value, Encoding7Bit.decode(binary));
+    }
+
+    @DisplayName(value = "Reject 7-bit values outside the GS1 alphabet")
+    @Test
+    public void decodeInvalid() {
+        final BitBuffer buffer = new BitBuffer(140);
+        Encoding7Bit.encode(buffer, 0, 140, "ABCDEFGHIJ");
+        buffer.putBits(63, 7, 0b1000000); // '@' is not in the alphabet
+        assertThrows(IllegalArgumentException.class, () -> Encoding7Bit.decode(buffer, 0, 140));
+        assertThrows(IllegalArgumentException.class, () -> Encoding7Bit.decode("1000000"));
+        assertThrows(IllegalArgumentException.class, () -> Encoding7Bit.encode("A%G1", 28));
+    }
+
 }
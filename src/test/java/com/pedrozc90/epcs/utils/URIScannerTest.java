@@ -0,0 +1,91 @@
+package com.pedrozc90.epcs.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class URIScannerTest {
+
+    private static final String PREFIX = "urn:epc:tag:sgtin-";
+
+    @DisplayName("Scan every component of a tag uri")
+    @Test
+    public void scan() {
+        final String uri = "urn:epc:tag:sgtin-96:3.0614141.812345.6789";
+        final URIScanner scanner = new URIScanner(uri, PREFIX);
+        assertEquals(96, scanner.number(96, 198, ':'));
+        assertEquals(3, scanner.digit(0, 7));
+        assertTrue(scanner.expect('.'));
+        assertEquals("0614141", scanner.digits('.'));
+        assertEquals(8, scanner.digit(0, 8));
+        assertEquals("12345", scanner.digits('.'));
+        assertEquals(38, scanner.rest());
+        assertFalse(scanner.failed());
+        assertEquals(-1, scanner.errorOffset());
+    }
+
+    @DisplayName("The first mismatch is kept and stops the scan")
+    @ParameterizedTest(name = "[{index}] uri = {0}")
+    @CsvSource(value = {
+        "urn:epc:tag:sgtn-96:3.0614141.812345.6789, 0",
+        "urn:epc:tag:sgtin-97:3.0614141.812345.6789, 18",
+        "urn:epc:tag:sgtin-096:3.0614141.812345.6789, 18",
+        "urn:epc:tag:sgtin-96.3.0614141.812345.6789, 20",
+        "urn:epc:tag:sgtin-96:8.0614141.812345.6789, 21",
+        "urn:epc:tag:sgtin-96:3.061A141.812345.6789, 26",
+        "urn:epc:tag:sgtin-96:3..812345.6789, 23",
+        "urn:epc:tag:sgtin-96:3.0614141.912345.6789, 31",
+        "urn:epc:tag:sgtin-96:3.0614141.8.6789, 32",
+        "urn:epc:tag:sgtin-96:3.0614141.812345., 38",
+        "urn:epc:tag:sgtin-96:3.0614141.812345, 37",
+        "urn:epc:tag:sgtin-96, 20"
+    })
+    public void errorOffset(final String uri, final int offset) {
+        final URIScanner scanner = new URIScanner(uri, PREFIX);
+        scanner.number(96, 198, ':');
+        scanner.digit(0, 7);
+        scanner.expect('.');
+        scanner.digits('.');
+        scanner.digit(0, 8);
+        scanner.digits('.');
+        assertEquals(-1, scanner.rest());
+        assertTrue(scanner.failed());
+        assertEquals(offset, scanner.errorOffset());
+    }
+
+    @DisplayName("Last component after the last separator")
+    @Test
+    public void lastComponent() {
+        final String uri = "urn:epc:id:cpi:0614141.5PQ7%2FZ43.12345";
+        final URIScanner scanner = new URIScanner(uri, "urn:epc:id:cpi:");
+        assertEquals("0614141", scanner.digits('.'));
+        final int end = scanner.lastIndexOf('.');
+        assertEquals(23, scanner.until(end));
+        assertTrue(scanner.expect('.'));
+        assertEquals("12345", scanner.digits(URIScanner.END));
+        assertFalse(scanner.failed());
+        assertEquals("5PQ7/Z43", Encoding6Bit.normalize(uri, 23, end));
+
+        final URIScanner missing = new URIScanner("urn:epc:id:cpi:0614141.12345", "urn:epc:id:cpi:");
+        missing.digits('.');
+        assertEquals(23, missing.until(missing.lastIndexOf('.')));
+        assertFalse(missing.expect('.'));
+        assertEquals(28, missing.errorOffset());
+    }
+
+    @DisplayName("Optional literal")
+    @Test
+    public void accept() {
+        final URIScanner scanner = new URIScanner("urn:epc:tag:cpi-var:0", "urn:epc:tag:cpi-");
+        assertFalse(scanner.accept("96"));
+        assertTrue(scanner.accept("var"));
+        assertTrue(scanner.expect(':'));
+        assertEquals(0, scanner.digit(0, 7));
+        assertTrue(scanner.expect(URIScanner.END));
+        assertFalse(scanner.failed());
+    }
+
+}